@@ -0,0 +1,92 @@
+package io.quarkus.core.benchmarks;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.runtime.configuration.ConfigUtils;
+import io.quarkus.runtime.configuration.IndexedConfigSource;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+
+/**
+ * Compares the lookups of the properties fixed at build time when they are held by a {@link PropertiesConfigSource},
+ * as they used to be, and by an {@link IndexedConfigSource}, both directly and through the run time config built by
+ * {@link ConfigUtils#configBuilder(boolean, boolean)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigLookupBenchmark {
+
+    @Param({ "100", "1000" })
+    int properties;
+
+    private String[] names;
+    private PropertiesConfigSource propertiesSource;
+    private IndexedConfigSource indexedSource;
+    private SmallRyeConfig propertiesConfig;
+    private SmallRyeConfig indexedConfig;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Map<String, String> values = new TreeMap<>();
+        for (int i = 0; i < properties; i++) {
+            values.put("quarkus.extension-" + (i % 50) + ".property-" + i, "value-" + i);
+        }
+        names = values.keySet().toArray(new String[0]);
+        propertiesSource = new PropertiesConfigSource(values, "Build time config", 100);
+        indexedSource = new IndexedConfigSource("Build time config", 100, names,
+                values.values().toArray(new String[0]));
+        propertiesConfig = ConfigUtils.configBuilder(true, false).withSources(propertiesSource).build();
+        indexedConfig = ConfigUtils.configBuilder(true, false).withSources(indexedSource).build();
+    }
+
+    private int nextSlot() {
+        int slot = next;
+        next = slot + 1 == names.length ? 0 : slot + 1;
+        return slot;
+    }
+
+    @Benchmark
+    public String propertiesConfig() {
+        return propertiesConfig.getValue(names[nextSlot()], String.class);
+    }
+
+    @Benchmark
+    public String indexedConfig() {
+        return indexedConfig.getValue(names[nextSlot()], String.class);
+    }
+
+    @Benchmark
+    public String propertiesSource() {
+        return propertiesSource.getValue(names[nextSlot()]);
+    }
+
+    @Benchmark
+    public String indexedSource() {
+        return indexedSource.getValue(names[nextSlot()]);
+    }
+
+    @Benchmark
+    public String indexedSourceSlot() {
+        return indexedSource.getValue(nextSlot());
+    }
+
+}
@@ -1,8 +1,14 @@
 package io.quarkus.builder;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
 
@@ -23,6 +29,8 @@ public final class BuildChain {
     private final List<BuildProvider> providers;
     private final int endStepCount;
     private final ClassLoader classLoader;
+    // the reverse of the dependents of the steps, computed on first use
+    private Map<StepInfo, List<StepInfo>> dependencies;
 
     BuildChain(final int initialSingleCount, final int initialMultiCount, final Set<StepInfo> startSteps,
             final Set<ItemId> consumed, BuildChainBuilder builder, final int endStepCount) {
@@ -123,4 +131,42 @@ public final class BuildChain {
     int getEndStepCount() {
         return endStepCount;
     }
+
+    /**
+     * Get all the steps that the given step depends on, directly or transitively.
+     *
+     * @param stepInfo the step
+     * @return the steps that always complete before the given step
+     */
+    Set<StepInfo> getTransitiveDependencies(StepInfo stepInfo) {
+        final Map<StepInfo, List<StepInfo>> dependencies = getDependencies();
+        final Set<StepInfo> result = new HashSet<>();
+        final Deque<StepInfo> toVisit = new ArrayDeque<>(dependencies.getOrDefault(stepInfo, Collections.emptyList()));
+        while (!toVisit.isEmpty()) {
+            final StepInfo current = toVisit.poll();
+            if (result.add(current)) {
+                toVisit.addAll(dependencies.getOrDefault(current, Collections.emptyList()));
+            }
+        }
+        return result;
+    }
+
+    private synchronized Map<StepInfo, List<StepInfo>> getDependencies() {
+        if (dependencies == null) {
+            final Map<StepInfo, List<StepInfo>> map = new HashMap<>();
+            final Set<StepInfo> visited = new HashSet<>();
+            final Deque<StepInfo> toVisit = new ArrayDeque<>(startSteps);
+            while (!toVisit.isEmpty()) {
+                final StepInfo current = toVisit.poll();
+                if (visited.add(current)) {
+                    for (StepInfo dependent : current.getDependents()) {
+                        map.computeIfAbsent(dependent, x -> new ArrayList<>()).add(current);
+                        toVisit.add(dependent);
+                    }
+                }
+            }
+            dependencies = map;
+        }
+        return dependencies;
+    }
 }
@@ -5,6 +5,7 @@ import static io.quarkus.builder.Execution.*;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executor;
@@ -29,6 +30,9 @@ public final class BuildContext {
     private final Execution execution;
     private final AtomicInteger dependencies;
     private volatile boolean running;
+    // only used when profiling, published to the step thread by the executor
+    private long readyTime;
+    private BuildProfile.StepProfile releasedBy;
 
     BuildContext(ClassLoader classLoader, final StepInfo stepInfo, final Execution execution) {
         this.classLoader = classLoader;
@@ -217,6 +221,20 @@ public final class BuildContext {
         execution.setErrorReported();
     }
 
+    /**
+     * Get the names of all the build steps that this step depends on, directly or transitively, i.e. the steps that
+     * always complete before this step starts. The name of a step is the result of its {@code toString()} method.
+     *
+     * @return the names of the build steps this step depends on (not {@code null})
+     */
+    public Set<String> getDependencyNames() {
+        final Set<String> names = new HashSet<>();
+        for (StepInfo dependency : execution.getBuildChain().getTransitiveDependencies(stepInfo)) {
+            names.add(dependency.getBuildStep().toString());
+        }
+        return names;
+    }
+
     /**
      * Get an executor which can be used for asynchronous tasks.
      *
@@ -254,10 +272,14 @@ public final class BuildContext {
         }
     }
 
-    void depFinished() {
+    void depFinished(final BuildProfile.StepProfile finished) {
         final int remaining = dependencies.decrementAndGet();
         log.tracef("Dependency of \"%2$s\" finished; %1$d remaining", remaining, stepInfo.getBuildStep());
         if (remaining == 0) {
+            if (finished != null) {
+                readyTime = System.nanoTime();
+                releasedBy = finished;
+            }
             execution.getExecutor().execute(this::run);
         }
     }
@@ -267,6 +289,10 @@ public final class BuildContext {
         final StepInfo stepInfo = this.stepInfo;
         final BuildStep buildStep = stepInfo.getBuildStep();
         final long start = System.currentTimeMillis();
+        final BuildProfile profile = execution.getProfile();
+        final long startCpuTime = profile == null ? -1 : profile.currentCpuTime();
+        final long startTime = profile == null ? 0 : System.nanoTime();
+        BuildProfile.StepProfile stepProfile = null;
         log.tracef("Starting step \"%s\"", buildStep);
         try {
             if (!execution.isErrorReported()) {
@@ -285,13 +311,17 @@ public final class BuildContext {
                 }
             }
         } finally {
+            if (profile != null) {
+                stepProfile = profile.addStep(buildStep.toString(), releasedBy, readyTime, startTime, System.nanoTime(),
+                        startCpuTime, profile.currentCpuTime());
+            }
             log.tracef("Finished step \"%s\" in %s ms", buildStep, System.currentTimeMillis() - start);
             execution.removeBuildContext(stepInfo, this);
         }
         final Set<StepInfo> dependents = stepInfo.getDependents();
         if (!dependents.isEmpty()) {
             for (StepInfo info : dependents) {
-                execution.getBuildContext(info).depFinished();
+                execution.getBuildContext(info).depFinished(stepProfile);
             }
         } else {
             execution.depFinished();
@@ -20,6 +20,7 @@ public final class BuildExecutionBuilder {
     private final String buildTargetName;
     private final Map<ItemId, BuildItem> initialSingle;
     private final Map<ItemId, ArrayList<BuildItem>> initialMulti;
+    private boolean profiling;
 
     BuildExecutionBuilder(final BuildChain buildChain, final String buildTargetName) {
         this.buildChain = buildChain;
@@ -69,6 +70,18 @@ public final class BuildExecutionBuilder {
         return this;
     }
 
+    /**
+     * Enable or disable the profiling of the build. When enabled, the timings of each step are recorded and are
+     * available from {@link BuildResult#getProfile()}.
+     *
+     * @param profiling {@code true} to profile the build
+     * @return this builder
+     */
+    public BuildExecutionBuilder setProfiling(boolean profiling) {
+        this.profiling = profiling;
+        return this;
+    }
+
     /**
      * Run the build. The chain may run in one or many threads.
      *
@@ -110,6 +123,10 @@ public final class BuildExecutionBuilder {
         return initialMulti;
     }
 
+    boolean isProfiling() {
+        return profiling;
+    }
+
     BuildChain getChain() {
         return buildChain;
     }
@@ -0,0 +1,371 @@
+package io.quarkus.builder;
+
+import static java.lang.Math.max;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The profile of a build execution.
+ * <p>
+ * It records when each step became ready to run (i.e. when all the items it consumes had been produced), when it
+ * actually started and finished, on which thread, and how much CPU time it used. From this the critical path of the
+ * build can be computed: the chain of steps, each one being released by the previous one, that ends with the last
+ * step to finish. Shortening any other step does not make the build faster.
+ * <p>
+ * All the times are in nanoseconds relative to the start of the execution.
+ */
+public final class BuildProfile {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private final long startTime;
+    private final boolean cpuTimeSupported;
+    private final ConcurrentLinkedQueue<StepProfile> steps = new ConcurrentLinkedQueue<>();
+    private volatile long endTime;
+
+    BuildProfile(long startTime) {
+        this.startTime = startTime;
+        this.cpuTimeSupported = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+    }
+
+    long currentCpuTime() {
+        return cpuTimeSupported ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1;
+    }
+
+    StepProfile addStep(String name, StepProfile releasedBy, long readyTime, long startTime, long endTime,
+            long startCpuTime, long endCpuTime) {
+        // the steps that are not released by another step are ready as soon as the build starts
+        final StepProfile step = new StepProfile(name, Thread.currentThread().getName(), releasedBy,
+                releasedBy == null ? 0 : readyTime - this.startTime, startTime - this.startTime, endTime - this.startTime,
+                startCpuTime < 0 ? -1 : endCpuTime - startCpuTime);
+        steps.add(step);
+        return step;
+    }
+
+    void finish(long endTime) {
+        this.endTime = endTime;
+    }
+
+    /**
+     * @return the duration of the whole execution
+     */
+    public long getDuration() {
+        return max(0, endTime - startTime);
+    }
+
+    /**
+     * @return the profiles of all the steps, in the order they started
+     */
+    public List<StepProfile> getSteps() {
+        final List<StepProfile> list = new ArrayList<>(steps);
+        list.sort(Comparator.comparingLong(StepProfile::getStartTime));
+        return list;
+    }
+
+    /**
+     * @return the steps of the critical path, from the first one to the last one to finish
+     */
+    public List<StepProfile> getCriticalPath() {
+        StepProfile last = null;
+        for (StepProfile step : steps) {
+            if (last == null || step.getEndTime() > last.getEndTime()) {
+                last = step;
+            }
+        }
+        final List<StepProfile> path = new ArrayList<>();
+        for (StepProfile step = last; step != null; step = step.getReleasedBy()) {
+            path.add(step);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * @return the time each thread spent running steps, by thread name
+     */
+    public Map<String, Long> getThreadBusyTimes() {
+        final Map<String, Long> busy = new LinkedHashMap<>();
+        for (StepProfile step : getSteps()) {
+            busy.merge(step.getThreadName(), step.getWallTime(), Long::sum);
+        }
+        return busy;
+    }
+
+    /**
+     * Writes the profile in the Chrome trace event format, that can be opened in {@code chrome://tracing} or
+     * <a href="https://ui.perfetto.dev">Perfetto</a>.
+     */
+    public void writeTraceEvents(Writer writer) throws IOException {
+        final Set<StepProfile> criticalPath = new HashSet<>(getCriticalPath());
+        final Map<String, Integer> threadIds = new LinkedHashMap<>();
+        writer.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+        boolean first = true;
+        for (StepProfile step : getSteps()) {
+            final Integer tid = threadIds.computeIfAbsent(step.getThreadName(), n -> threadIds.size() + 1);
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+            writer.write("\n{\"name\":");
+            writeJsonString(writer, step.getName());
+            writer.write(",\"cat\":\"");
+            writer.write(criticalPath.contains(step) ? "critical-path" : "step");
+            writer.write("\",\"ph\":\"X\",\"pid\":1,\"tid\":");
+            writer.write(tid.toString());
+            writer.write(",\"ts\":");
+            writer.write(micros(step.getStartTime()));
+            writer.write(",\"dur\":");
+            writer.write(micros(step.getWallTime()));
+            writer.write(",\"args\":{\"cpuTimeMs\":");
+            writer.write(step.getCpuTime() < 0 ? "null" : millis(step.getCpuTime()));
+            writer.write(",\"dependencyWaitMs\":");
+            writer.write(millis(step.getReadyTime()));
+            writer.write(",\"queueWaitMs\":");
+            writer.write(millis(step.getQueueWaitTime()));
+            writer.write(",\"releasedBy\":");
+            if (step.getReleasedBy() == null) {
+                writer.write("null");
+            } else {
+                writeJsonString(writer, step.getReleasedBy().getName());
+            }
+            writer.write("}}");
+        }
+        for (Map.Entry<String, Integer> thread : threadIds.entrySet()) {
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+            writer.write("\n{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":");
+            writer.write(thread.getValue().toString());
+            writer.write(",\"args\":{\"name\":");
+            writeJsonString(writer, thread.getKey());
+            writer.write("}}");
+        }
+        writer.write("\n]}\n");
+    }
+
+    /**
+     * Writes a self-contained HTML report with the critical path, the slowest steps and the utilization of the
+     * build threads.
+     */
+    public void writeHtmlReport(Writer writer) throws IOException {
+        final List<StepProfile> steps = getSteps();
+        final List<StepProfile> criticalPath = getCriticalPath();
+        final long duration = getDuration();
+        long totalWallTime = 0;
+        for (StepProfile step : steps) {
+            totalWallTime += step.getWallTime();
+        }
+        long criticalPathTime = 0;
+        for (StepProfile step : criticalPath) {
+            criticalPathTime += step.getWallTime();
+        }
+        final Map<String, Long> busyTimes = getThreadBusyTimes();
+
+        writer.write("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"UTF-8\">\n<title>Build profile</title>\n");
+        writer.write("<style>body{font-family:sans-serif;margin:2em}table{border-collapse:collapse;margin-bottom:2em}"
+                + "th,td{border:1px solid #ccc;padding:4px 8px;text-align:left}td.n{text-align:right}"
+                + "th{background:#eee}tr.c{background:#fde8e8}</style>\n</head>\n<body>\n");
+        writer.write("<h1>Build profile</h1>\n<table>\n");
+        writeRow(writer, "Duration", millis(duration) + " ms");
+        writeRow(writer, "Steps", Integer.toString(steps.size()));
+        writeRow(writer, "Threads", Integer.toString(busyTimes.size()));
+        writeRow(writer, "Time spent in steps", millis(totalWallTime) + " ms");
+        writeRow(writer, "Average parallelism",
+                duration == 0 ? "-" : String.format(Locale.ROOT, "%.2f", (double) totalWallTime / duration));
+        writeRow(writer, "Critical path", criticalPath.size() + " steps, " + millis(criticalPathTime) + " ms of steps");
+        writer.write("</table>\n");
+
+        writer.write("<h2>Critical path</h2>\n<p>Each step is released by the previous one. "
+                + "The time between two steps is spent waiting for a build thread.</p>\n");
+        writeStepTable(writer, criticalPath, Collections.emptySet());
+
+        writer.write("<h2>Steps</h2>\n<p>Steps of the critical path are highlighted.</p>\n");
+        final List<StepProfile> byWallTime = new ArrayList<>(steps);
+        byWallTime.sort(Comparator.comparingLong(StepProfile::getWallTime).reversed());
+        writeStepTable(writer, byWallTime, new HashSet<>(criticalPath));
+
+        writer.write("<h2>Threads</h2>\n<table>\n<tr><th>Thread</th><th>Busy (ms)</th><th>Utilization</th></tr>\n");
+        for (Map.Entry<String, Long> thread : busyTimes.entrySet()) {
+            writer.write("<tr><td>");
+            writeHtml(writer, thread.getKey());
+            writer.write("</td><td class=\"n\">");
+            writer.write(millis(thread.getValue()));
+            writer.write("</td><td class=\"n\">");
+            writer.write(duration == 0 ? "-" : String.format(Locale.ROOT, "%.1f%%", 100.0 * thread.getValue() / duration));
+            writer.write("</td></tr>\n");
+        }
+        writer.write("</table>\n</body>\n</html>\n");
+    }
+
+    private static void writeStepTable(Writer writer, List<StepProfile> steps, Set<StepProfile> highlighted)
+            throws IOException {
+        writer.write("<table>\n<tr><th>Step</th><th>Thread</th><th>Start (ms)</th><th>Wall (ms)</th><th>CPU (ms)</th>"
+                + "<th>Waiting for items (ms)</th><th>Waiting for a thread (ms)</th></tr>\n");
+        for (StepProfile step : steps) {
+            writer.write(highlighted.contains(step) ? "<tr class=\"c\"><td>" : "<tr><td>");
+            writeHtml(writer, step.getName());
+            writer.write("</td><td>");
+            writeHtml(writer, step.getThreadName());
+            writer.write("</td><td class=\"n\">");
+            writer.write(millis(step.getStartTime()));
+            writer.write("</td><td class=\"n\">");
+            writer.write(millis(step.getWallTime()));
+            writer.write("</td><td class=\"n\">");
+            writer.write(step.getCpuTime() < 0 ? "-" : millis(step.getCpuTime()));
+            writer.write("</td><td class=\"n\">");
+            writer.write(millis(step.getReadyTime()));
+            writer.write("</td><td class=\"n\">");
+            writer.write(millis(step.getQueueWaitTime()));
+            writer.write("</td></tr>\n");
+        }
+        writer.write("</table>\n");
+    }
+
+    private static void writeRow(Writer writer, String header, String value) throws IOException {
+        writer.write("<tr><th>");
+        writeHtml(writer, header);
+        writer.write("</th><td>");
+        writeHtml(writer, value);
+        writer.write("</td></tr>\n");
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    private static String micros(long nanos) {
+        return Long.toString(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    private static void writeHtml(Writer writer, String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '<':
+                    writer.write("&lt;");
+                    break;
+                case '>':
+                    writer.write("&gt;");
+                    break;
+                case '&':
+                    writer.write("&amp;");
+                    break;
+                case '"':
+                    writer.write("&quot;");
+                    break;
+                default:
+                    writer.write(c);
+            }
+        }
+    }
+
+    private static void writeJsonString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                writer.write('\\');
+                writer.write(c);
+            } else if (c < 0x20) {
+                writer.write(String.format("\\u%04x", (int) c));
+            } else {
+                writer.write(c);
+            }
+        }
+        writer.write('"');
+    }
+
+    /**
+     * The profile of a single step.
+     */
+    public static final class StepProfile {
+        private final String name;
+        private final String threadName;
+        private final StepProfile releasedBy;
+        private final long readyTime;
+        private final long startTime;
+        private final long endTime;
+        private final long cpuTime;
+
+        StepProfile(String name, String threadName, StepProfile releasedBy, long readyTime, long startTime, long endTime,
+                long cpuTime) {
+            this.name = name;
+            this.threadName = threadName;
+            this.releasedBy = releasedBy;
+            this.readyTime = readyTime;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.cpuTime = cpuTime;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        /**
+         * @return the step that produced the last item this step was waiting for, or {@code null} if this step did not
+         *         consume any item produced by another step
+         */
+        public StepProfile getReleasedBy() {
+            return releasedBy;
+        }
+
+        /**
+         * @return the time at which all the items consumed by this step were available, which is also the time this step
+         *         spent waiting for the items it consumes
+         */
+        public long getReadyTime() {
+            return readyTime;
+        }
+
+        public long getStartTime() {
+            return startTime;
+        }
+
+        public long getEndTime() {
+            return endTime;
+        }
+
+        public long getWallTime() {
+            return endTime - startTime;
+        }
+
+        /**
+         * @return the CPU time used by this step, or {@code -1} if the JVM does not support measuring it
+         */
+        public long getCpuTime() {
+            return cpuTime;
+        }
+
+        /**
+         * @return the time this step spent waiting for a build thread once it was ready to run
+         */
+        public long getQueueWaitTime() {
+            return max(0, startTime - readyTime);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -22,14 +22,16 @@ public final class BuildResult {
     private final ConcurrentHashMap<ItemId, List<BuildItem>> multiItems;
     private final List<Diagnostic> diagnostics;
     private final long nanos;
+    private final BuildProfile profile;
 
     BuildResult(final ConcurrentHashMap<ItemId, BuildItem> simpleItems,
             final ConcurrentHashMap<ItemId, List<BuildItem>> multiItems, final Set<ItemId> finalIds,
-            final List<Diagnostic> diagnostics, final long nanos) {
+            final List<Diagnostic> diagnostics, final long nanos, final BuildProfile profile) {
         this.simpleItems = simpleItems;
         this.multiItems = multiItems;
         this.diagnostics = diagnostics;
         this.nanos = nanos;
+        this.profile = profile;
     }
 
     /**
@@ -102,6 +104,16 @@ public final class BuildResult {
         return timeUnit.convert(nanos, TimeUnit.NANOSECONDS);
     }
 
+    /**
+     * Get the profile of the build.
+     *
+     * @return the profile, or {@code null} if profiling was not enabled
+     * @see BuildExecutionBuilder#setProfiling(boolean)
+     */
+    public BuildProfile getProfile() {
+        return profile;
+    }
+
     /**
      * Close all the resultant resources, logging any failures.
      */
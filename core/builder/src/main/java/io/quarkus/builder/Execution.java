@@ -36,6 +36,8 @@ final class Execution {
     private final String buildTargetName;
     private final AtomicBoolean errorReported = new AtomicBoolean();
     private final AtomicInteger lastStepCount = new AtomicInteger();
+    private final boolean profiling;
+    private volatile BuildProfile profile;
     private volatile Thread runningThread;
     private volatile boolean done;
 
@@ -58,6 +60,7 @@ final class Execution {
         executorBuilder.setThreadFactory(new JBossThreadFactory(new ThreadGroup("build group"), Boolean.FALSE, null, "build-%t",
                 JBossExecutors.loggingExceptionHandler(), null));
         buildTargetName = builder.getBuildTargetName();
+        profiling = builder.isProfiling();
         executor = executorBuilder.build();
         lastStepCount.set(builder.getChain().getEndStepCount());
         if (lastStepCount.get() == 0)
@@ -78,6 +81,9 @@ final class Execution {
 
     BuildResult run() throws BuildException {
         final long start = System.nanoTime();
+        if (profiling) {
+            profile = new BuildProfile(start);
+        }
         runningThread = Thread.currentThread();
         // run the build
         final List<StepInfo> startSteps = chain.getStartSteps();
@@ -124,14 +130,25 @@ final class Execution {
         }
         if (lastStepCount.get() > 0)
             throw new BuildException("Extra steps left over", Collections.emptyList());
+        final long end = System.nanoTime();
+        if (profile != null) {
+            profile.finish(end);
+        }
         return new BuildResult(singles, multis, finalIds, Collections.unmodifiableList(diagnostics),
-                max(0, System.nanoTime() - start));
+                max(0, end - start), profile);
     }
 
     EnhancedQueueExecutor getExecutor() {
         return executor;
     }
 
+    /**
+     * @return the profile of this execution, or {@code null} if it is not profiled
+     */
+    BuildProfile getProfile() {
+        return profile;
+    }
+
     String getBuildTargetName() {
         return buildTargetName;
     }
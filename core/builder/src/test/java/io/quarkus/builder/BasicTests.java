@@ -1,11 +1,17 @@
 package io.quarkus.builder;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -23,6 +29,12 @@ public class BasicTests {
     public static final class DummyItem2 extends SimpleBuildItem {
     }
 
+    public static final class DummyItem3 extends SimpleBuildItem {
+    }
+
+    public static final class DummyItem4 extends SimpleBuildItem {
+    }
+
     @Test
     public void testSimple() throws ChainBuildException, BuildException {
         final BuildChainBuilder builder = BuildChain.builder();
@@ -288,4 +300,45 @@ public class BasicTests {
         stepBuilder.build();
         builder.build();
     }
+
+    @Test
+    public void testDependencyNames() throws ChainBuildException, BuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        final AtomicReference<Set<String>> firstDependencies = new AtomicReference<>();
+        final AtomicReference<Set<String>> lastDependencies = new AtomicReference<>();
+        builder.addBuildStep(namedStep("first", context -> {
+            firstDependencies.set(context.getDependencyNames());
+            context.produce(new DummyItem());
+        })).produces(DummyItem.class).build();
+        builder.addBuildStep(namedStep("unrelated", context -> context.produce(new DummyItem2())))
+                .produces(DummyItem2.class).build();
+        builder.addBuildStep(namedStep("second", context -> {
+            context.consume(DummyItem.class);
+            context.produce(new DummyItem3());
+        })).consumes(DummyItem.class).produces(DummyItem3.class).build();
+        builder.addBuildStep(namedStep("last", context -> {
+            context.consume(DummyItem3.class);
+            lastDependencies.set(context.getDependencyNames());
+            context.produce(new DummyItem4());
+        })).consumes(DummyItem3.class).produces(DummyItem4.class).build();
+        builder.addFinal(DummyItem2.class);
+        builder.addFinal(DummyItem4.class);
+        builder.build().createExecutionBuilder("my-app.jar").execute();
+        assertEquals(Collections.emptySet(), firstDependencies.get());
+        assertEquals(new HashSet<>(Arrays.asList("first", "second")), lastDependencies.get());
+    }
+
+    private static BuildStep namedStep(String name, BuildStep step) {
+        return new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                step.execute(context);
+            }
+
+            @Override
+            public String toString() {
+                return name;
+            }
+        };
+    }
 }
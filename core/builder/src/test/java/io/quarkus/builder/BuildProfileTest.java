@@ -0,0 +1,107 @@
+package io.quarkus.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+public class BuildProfileTest {
+
+    public static final class FirstItem extends SimpleBuildItem {
+    }
+
+    public static final class SecondItem extends SimpleBuildItem {
+    }
+
+    public static final class OtherItem extends SimpleBuildItem {
+    }
+
+    @Test
+    public void testCriticalPath() throws ChainBuildException, BuildException, IOException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        addStep(builder, "first", 50, context -> context.produce(new FirstItem()))
+                .produces(FirstItem.class)
+                .build();
+        addStep(builder, "second", 50, context -> context.produce(new SecondItem()))
+                .consumes(FirstItem.class)
+                .produces(SecondItem.class)
+                .build();
+        addStep(builder, "other", 0, context -> context.produce(new OtherItem()))
+                .produces(OtherItem.class)
+                .build();
+        builder.addFinal(SecondItem.class);
+        builder.addFinal(OtherItem.class);
+
+        final BuildResult result = builder.build().createExecutionBuilder("my-app.jar").setProfiling(true).execute();
+        final BuildProfile profile = result.getProfile();
+        assertNotNull(profile);
+        assertEquals(3, profile.getSteps().size());
+
+        final List<BuildProfile.StepProfile> criticalPath = profile.getCriticalPath();
+        assertEquals(2, criticalPath.size());
+        final BuildProfile.StepProfile first = criticalPath.get(0);
+        final BuildProfile.StepProfile second = criticalPath.get(1);
+        assertEquals("first", first.getName());
+        assertEquals("second", second.getName());
+        assertNull(first.getReleasedBy());
+        assertSame(first, second.getReleasedBy());
+        assertEquals(0, first.getReadyTime());
+        assertTrue(second.getReadyTime() >= first.getEndTime());
+        assertTrue(second.getStartTime() >= second.getReadyTime());
+        assertTrue(first.getWallTime() >= 50_000_000L);
+        assertTrue(profile.getDuration() >= second.getEndTime());
+
+        final StringWriter json = new StringWriter();
+        profile.writeTraceEvents(json);
+        assertTrue(json.toString().startsWith("{\"displayTimeUnit\":\"ms\",\"traceEvents\":["));
+        assertTrue(json.toString().contains("\"name\":\"second\",\"cat\":\"critical-path\",\"ph\":\"X\""));
+        assertTrue(json.toString().contains("\"name\":\"other\",\"cat\":\"step\",\"ph\":\"X\""));
+        assertTrue(json.toString().contains("\"releasedBy\":\"first\""));
+
+        final StringWriter html = new StringWriter();
+        profile.writeHtmlReport(html);
+        assertTrue(html.toString().contains("<tr class=\"c\"><td>second</td>"));
+    }
+
+    @Test
+    public void testNotProfiledByDefault() throws ChainBuildException, BuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        addStep(builder, "first", 0, context -> context.produce(new FirstItem()))
+                .produces(FirstItem.class)
+                .build();
+        builder.addFinal(FirstItem.class);
+        assertNull(builder.build().createExecutionBuilder("my-app.jar").execute().getProfile());
+    }
+
+    private static BuildStepBuilder addStep(BuildChainBuilder builder, String name, long sleep,
+            Consumer<BuildContext> action) {
+        return builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(BuildContext context) {
+                if (sleep > 0) {
+                    try {
+                        Thread.sleep(sleep);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                action.accept(context);
+            }
+
+            @Override
+            public String toString() {
+                return name;
+            }
+        });
+    }
+}
@@ -623,6 +623,10 @@ public final class ExtensionLoader {
                 assert recordAnnotation != null;
                 final ExecutionTime executionTime = recordAnnotation.value();
                 final boolean optional = recordAnnotation.optional();
+                if (recordAnnotation.lazy() && executionTime != ExecutionTime.RUNTIME_INIT) {
+                    throw new RuntimeException(
+                            method + " is marked @Record(lazy = true) but lazy recording is only supported for RUNTIME_INIT");
+                }
                 methodStepConfig = methodStepConfig.andThen(bsb -> bsb.produces(
                         executionTime == ExecutionTime.STATIC_INIT ? StaticBytecodeRecorderBuildItem.class
                                 : MainBytecodeRecorderBuildItem.class,
@@ -910,7 +914,7 @@ public final class ExtensionLoader {
                                 BytecodeRecorderImpl bri = isRecorder
                                         ? new BytecodeRecorderImpl(recordAnnotation.value() == ExecutionTime.STATIC_INIT,
                                                 clazz.getSimpleName(), method.getName(),
-                                                Integer.toString(method.toString().hashCode()))
+                                                Integer.toString(method.toString().hashCode()), recordAnnotation.lazy())
                                         : null;
                                 for (int i = 0; i < methodArgs.length; i++) {
                                     methodArgs[i] = methodParamFns.get(i).apply(bc, bri);
@@ -931,6 +935,10 @@ public final class ExtensionLoader {
                                 }
                                 resultConsumer.accept(bc, result);
                                 if (isRecorder) {
+                                    if (!bri.isEmpty()) {
+                                        // used to run the independent startup tasks in parallel
+                                        bri.setBuildStep(name, bc.getDependencyNames());
+                                    }
                                     // commit recorded data
                                     if (recordAnnotation.value() == ExecutionTime.STATIC_INIT) {
                                         bc.produce(new StaticBytecodeRecorderBuildItem(bri));
@@ -1,7 +1,12 @@
 package io.quarkus.deployment;
 
 import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -21,6 +26,7 @@ import io.quarkus.bootstrap.model.PathsCollection;
 import io.quarkus.builder.BuildChain;
 import io.quarkus.builder.BuildChainBuilder;
 import io.quarkus.builder.BuildExecutionBuilder;
+import io.quarkus.builder.BuildProfile;
 import io.quarkus.builder.BuildResult;
 import io.quarkus.builder.item.BuildItem;
 import io.quarkus.deployment.builditem.AdditionalApplicationArchiveBuildItem;
@@ -44,6 +50,11 @@ public class QuarkusAugmentor {
 
     private static final Logger log = Logger.getLogger(QuarkusAugmentor.class);
 
+    /**
+     * The system property that enables the build profiler. Its value is the directory the profile is written to.
+     */
+    private static final String BUILD_PROFILE_DIR = "quarkus.debug.build-profile-dir";
+
     private final ClassLoader classLoader;
     private final ClassLoader deploymentClassLoader;
     private final PathsCollection root;
@@ -150,7 +161,16 @@ public class QuarkusAugmentor {
             for (PathsCollection i : additionalApplicationArchives) {
                 execBuilder.produce(new AdditionalApplicationArchiveBuildItem(i));
             }
+            String buildProfileDir = buildSystemProperties == null ? null
+                    : buildSystemProperties.getProperty(BUILD_PROFILE_DIR);
+            if (buildProfileDir == null) {
+                buildProfileDir = System.getProperty(BUILD_PROFILE_DIR);
+            }
+            execBuilder.setProfiling(buildProfileDir != null);
             BuildResult buildResult = execBuilder.execute();
+            if (buildResult.getProfile() != null) {
+                writeBuildProfile(buildResult.getProfile(), Paths.get(buildProfileDir));
+            }
             String message = "Quarkus augmentation completed in " + (System.currentTimeMillis() - time) + "ms";
             if (launchMode == LaunchMode.NORMAL) {
                 log.info(message);
@@ -174,6 +194,23 @@ public class QuarkusAugmentor {
         }
     }
 
+    private static void writeBuildProfile(BuildProfile profile, Path dir) {
+        try {
+            Files.createDirectories(dir);
+            Path trace = dir.resolve("build-profile.json");
+            try (Writer writer = Files.newBufferedWriter(trace, StandardCharsets.UTF_8)) {
+                profile.writeTraceEvents(writer);
+            }
+            Path report = dir.resolve("build-profile.html");
+            try (Writer writer = Files.newBufferedWriter(report, StandardCharsets.UTF_8)) {
+                profile.writeHtmlReport(writer);
+            }
+            log.infof("Wrote the build profile to %s and %s", trace.toAbsolutePath(), report.toAbsolutePath());
+        } catch (IOException e) {
+            log.warnf(e, "Unable to write the build profile to %s", dir);
+        }
+    }
+
     public static Builder builder() {
         return new Builder();
     }
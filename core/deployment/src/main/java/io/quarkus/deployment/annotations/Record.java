@@ -53,4 +53,15 @@ public @interface Record {
      */
     boolean optional() default false;
 
+    /**
+     * If this is true then the recorded bytecode is not executed at application start, but the first time
+     * {@link io.quarkus.runtime.LazyStartupTasks#ensureInitialized(Class)} is called with one of the recorders used by
+     * this method, e.g. when a route of the extension is first hit. This is only supported for
+     * {@link ExecutionTime#RUNTIME_INIT}.
+     *
+     * Objects returned from the recorder invocations of a lazy method can only be passed back to recorder invocations
+     * of the same method, as they do not exist before the lazy task runs.
+     */
+    boolean lazy() default false;
+
 }
@@ -0,0 +1,285 @@
+package io.quarkus.deployment.builditem;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+import io.quarkus.deployment.util.IoUtil;
+
+/**
+ * The cache of the outputs of cacheable build steps, that is used to skip the work of these steps if their inputs did
+ * not change since a previous build.
+ * <p>
+ * A build step is cacheable if all its inputs can be added to a {@link Key}. The key always includes the fingerprint
+ * of the dependencies of the application (i.e. the extensions and libraries, but not the classes of the application
+ * itself), so a step only has to add the inputs that come from the configuration, the application classes or other
+ * build items. The classes a step inspects are added with {@link Key#putClass(Class)}, i.e. by their bytecode and not
+ * only by their name. The cached outputs are the classes generated by the step.
+ * <p>
+ * A typical cacheable build step looks like:
+ *
+ * <pre>
+ * BuildCacheBuildItem.Key key = buildCache.newKey("my-step").put(someConfigValue).put(someClassNames);
+ * List&lt;GeneratedClassBuildItem&gt; classes = buildCache.getGeneratedClasses(key);
+ * if (classes == null) {
+ *     classes = new ArrayList&lt;&gt;();
+ *     generate(new GeneratedClassGizmoAdaptor(classes::add, false));
+ *     buildCache.putGeneratedClasses(key, classes);
+ * }
+ * classes.forEach(generatedClass::produce);
+ * </pre>
+ *
+ * If the cache is disabled then {@link #getGeneratedClasses(Key)} always returns {@code null} and nothing is stored.
+ */
+public final class BuildCacheBuildItem extends SimpleBuildItem {
+
+    private static final Logger log = Logger.getLogger(BuildCacheBuildItem.class);
+
+    private static final int MAGIC = 0xBCAC4E01;
+
+    private final Path directory;
+    private final byte[] dependenciesFingerprint;
+
+    /**
+     * @param directory the directory of the cache, or {@code null} if the cache is disabled
+     * @param dependenciesFingerprint the fingerprint of the dependencies of the application
+     */
+    public BuildCacheBuildItem(Path directory, byte[] dependenciesFingerprint) {
+        this.directory = directory;
+        this.dependenciesFingerprint = dependenciesFingerprint;
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * @param step the name of the build step, which must be unique and only contain characters that are valid in a
+     *        file name
+     * @return a new key for the given step, that already includes the fingerprint of the dependencies
+     */
+    public Key newKey(String step) {
+        Key key = new Key(step);
+        key.digest.update(dependenciesFingerprint);
+        return key;
+    }
+
+    /**
+     * @return the classes generated by the build step for the given key, or {@code null} if they are not in the cache
+     */
+    public List<GeneratedClassBuildItem> getGeneratedClasses(Key key) {
+        if (directory == null || !key.cacheable) {
+            return null;
+        }
+        Path file = key.toPath(directory);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                return null;
+            }
+            int count = in.readInt();
+            List<GeneratedClassBuildItem> classes = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                boolean applicationClass = in.readBoolean();
+                String name = new String(readBytes(in), StandardCharsets.UTF_8);
+                byte[] classData = readBytes(in);
+                String source = in.readBoolean() ? new String(readBytes(in), StandardCharsets.UTF_8) : null;
+                classes.add(new GeneratedClassBuildItem(applicationClass, name, classData, source));
+            }
+            log.debugf("Reusing the %d classes generated by %s from %s", count, key.step, file);
+            return classes;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            log.debugf(e, "Unable to read the cached outputs of %s from %s", key.step, file);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the classes generated by the build step for the given key. Failures are logged and ignored, as they only
+     * mean that the step will run again in the next build.
+     */
+    public void putGeneratedClasses(Key key, List<GeneratedClassBuildItem> classes) {
+        if (directory == null || !key.cacheable) {
+            return;
+        }
+        Path file = key.toPath(directory);
+        try {
+            Files.createDirectories(file.getParent());
+            // write to a temporary file first so that concurrent builds never read a partially written entry
+            Path tmp = Files.createTempFile(file.getParent(), key.step, ".tmp");
+            try {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                    out.writeInt(MAGIC);
+                    out.writeInt(classes.size());
+                    for (GeneratedClassBuildItem generatedClass : classes) {
+                        out.writeBoolean(generatedClass.isApplicationClass());
+                        writeBytes(out, generatedClass.getName().getBytes(StandardCharsets.UTF_8));
+                        writeBytes(out, generatedClass.getClassData());
+                        out.writeBoolean(generatedClass.getSource() != null);
+                        if (generatedClass.getSource() != null) {
+                            writeBytes(out, generatedClass.getSource().getBytes(StandardCharsets.UTF_8));
+                        }
+                    }
+                }
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            log.debugf(e, "Unable to write the cached outputs of %s to %s", key.step, file);
+        }
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * The key of the outputs of a build step, i.e. the hash of all its inputs.
+     */
+    public static final class Key {
+
+        private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+        private final String step;
+        private final MessageDigest digest;
+        private String hash;
+        private boolean cacheable = true;
+
+        Key(String step) {
+            this.step = step;
+            try {
+                this.digest = MessageDigest.getInstance("SHA-1");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        public Key put(boolean value) {
+            checkNotComputed();
+            digest.update((byte) (value ? 1 : 0));
+            return this;
+        }
+
+        public Key put(byte[] value) {
+            putLength(value.length);
+            digest.update(value);
+            return this;
+        }
+
+        public Key put(String value) {
+            if (value == null) {
+                putLength(-1);
+            } else {
+                put(value.getBytes(StandardCharsets.UTF_8));
+            }
+            return this;
+        }
+
+        /**
+         * Adds the name and the bytecode of the given class, so that the key changes when the class is recompiled.
+         * <p>
+         * If the bytecode cannot be read, e.g. because the class was defined at runtime, then the outputs of the step
+         * are neither read from nor stored in the cache.
+         */
+        public Key putClass(Class<?> clazz) {
+            put(clazz.getName());
+            ClassLoader classLoader = clazz.getClassLoader();
+            if (classLoader == null) {
+                // a class of the JDK, the name is enough
+                return this;
+            }
+            byte[] bytes = null;
+            try (InputStream stream = IoUtil.readClass(classLoader, clazz.getName())) {
+                if (stream != null) {
+                    bytes = IoUtil.readBytes(stream);
+                }
+            } catch (IOException e) {
+                log.debugf(e, "Unable to read the bytecode of %s", clazz.getName());
+            }
+            if (bytes == null) {
+                cacheable = false;
+                putLength(-1);
+            } else {
+                put(bytes);
+            }
+            return this;
+        }
+
+        /**
+         * Adds the given values, in their iteration order.
+         */
+        public Key put(Collection<String> values) {
+            putLength(values.size());
+            for (String value : values) {
+                put(value);
+            }
+            return this;
+        }
+
+        /**
+         * Adds the given entries, sorted by key so that the iteration order of the map does not matter.
+         */
+        public Key put(Map<String, String> values) {
+            putLength(values.size());
+            for (Map.Entry<String, String> entry : new TreeMap<>(values).entrySet()) {
+                put(entry.getKey());
+                put(entry.getValue());
+            }
+            return this;
+        }
+
+        private void putLength(int length) {
+            checkNotComputed();
+            digest.update((byte) (length >>> 24));
+            digest.update((byte) (length >>> 16));
+            digest.update((byte) (length >>> 8));
+            digest.update((byte) length);
+        }
+
+        private void checkNotComputed() {
+            if (hash != null) {
+                throw new IllegalStateException("The key of " + step + " has already been used");
+            }
+        }
+
+        Path toPath(Path directory) {
+            if (hash == null) {
+                byte[] bytes = digest.digest();
+                char[] chars = new char[bytes.length * 2];
+                for (int i = 0; i < bytes.length; i++) {
+                    chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+                    chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+                }
+                hash = new String(chars);
+            }
+            return directory.resolve(step).resolve(hash + ".bin");
+        }
+    }
+}
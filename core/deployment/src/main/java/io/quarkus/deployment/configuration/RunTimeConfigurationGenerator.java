@@ -61,11 +61,11 @@ import io.quarkus.runtime.configuration.ConfigDiagnostic;
 import io.quarkus.runtime.configuration.ConfigUtils;
 import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.runtime.configuration.HyphenateEnumConverter;
+import io.quarkus.runtime.configuration.IndexedConfigSource;
 import io.quarkus.runtime.configuration.NameIterator;
 import io.quarkus.runtime.configuration.ProfileManager;
 import io.quarkus.runtime.configuration.QuarkusConfigFactory;
 import io.smallrye.config.Converters;
-import io.smallrye.config.PropertiesConfigSource;
 import io.smallrye.config.SmallRyeConfig;
 import io.smallrye.config.SmallRyeConfigBuilder;
 
@@ -158,10 +158,6 @@ public final class RunTimeConfigurationGenerator {
     static final MethodDescriptor CU_ADD_SOURCE_PROVIDERS = MethodDescriptor.ofMethod(ConfigUtils.class, "addSourceProviders",
             void.class, SmallRyeConfigBuilder.class, Collection.class);
 
-    static final MethodDescriptor HM_NEW = MethodDescriptor.ofConstructor(HashMap.class);
-    static final MethodDescriptor HM_PUT = MethodDescriptor.ofMethod(HashMap.class, "put", Object.class, Object.class,
-            Object.class);
-
     static final MethodDescriptor ITRA_ITERATOR = MethodDescriptor.ofMethod(Iterable.class, "iterator", Iterator.class);
 
     static final MethodDescriptor ITR_HAS_NEXT = MethodDescriptor.ofMethod(Iterator.class, "hasNext", boolean.class);
@@ -192,8 +188,8 @@ public final class RunTimeConfigurationGenerator {
     static final MethodDescriptor OPT_IS_PRESENT = MethodDescriptor.ofMethod(Optional.class, "isPresent", boolean.class);
     static final MethodDescriptor OPT_OF = MethodDescriptor.ofMethod(Optional.class, "of", Optional.class, Object.class);
 
-    static final MethodDescriptor PCS_NEW = MethodDescriptor.ofConstructor(PropertiesConfigSource.class,
-            Map.class, String.class, int.class);
+    static final MethodDescriptor ICS_NEW = MethodDescriptor.ofConstructor(IndexedConfigSource.class,
+            String.class, int.class, String[].class, String[].class);
 
     static final MethodDescriptor PM_SET_RUNTIME_DEFAULT_PROFILE = MethodDescriptor.ofMethod(ProfileManager.class,
             "setRuntimeDefaultProfile", void.class, String.class);
@@ -329,12 +325,6 @@ public final class RunTimeConfigurationGenerator {
             clinitNameBuilder = clinit.newInstance(SB_NEW);
             clinit.invokeVirtualMethod(SB_APPEND_STRING, clinitNameBuilder, clinit.load("quarkus"));
 
-            // create the map for build time config source
-            final ResultHandle buildTimeValues = clinit.newInstance(HM_NEW);
-            for (Map.Entry<String, String> entry : buildTimeRunTimeVisibleValues.entrySet()) {
-                clinit.invokeVirtualMethod(HM_PUT, buildTimeValues, clinit.load(entry.getKey()), clinit.load(entry.getValue()));
-            }
-
             // static field containing the instance of the class - is set when createBootstrapConfig is run
             cc.getFieldCreator(C_INSTANCE)
                     .setModifiers(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC | Opcodes.ACC_VOLATILE);
@@ -342,8 +332,8 @@ public final class RunTimeConfigurationGenerator {
             // the build time config source field, to feed into the run time config
             cc.getFieldCreator(C_BUILD_TIME_CONFIG_SOURCE)
                     .setModifiers(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL);
-            final ResultHandle buildTimeConfigSource = clinit.newInstance(PCS_NEW, buildTimeValues,
-                    clinit.load("Build time config"), clinit.load(100));
+            final ResultHandle buildTimeConfigSource = newIndexedConfigSource(clinit, "Build time config", 100,
+                    buildTimeRunTimeVisibleValues);
             clinit.writeStaticField(C_BUILD_TIME_CONFIG_SOURCE, buildTimeConfigSource);
 
             // the build time run time visible default values config source
@@ -411,14 +401,8 @@ public final class RunTimeConfigurationGenerator {
             if (devMode) {
                 final ResultHandle buildTimeRunTimeDefaultValuesConfigSource = reinit
                         .readStaticField(C_BUILD_TIME_RUN_TIME_DEFAULTS_CONFIG_SOURCE);
-                // create the map for build time config source
-                final ResultHandle buildTimeValues = reinit.newInstance(HM_NEW);
-                for (Map.Entry<String, String> entry : buildTimeRunTimeVisibleValues.entrySet()) {
-                    reinit.invokeVirtualMethod(HM_PUT, buildTimeValues, reinit.load(entry.getKey()),
-                            reinit.load(entry.getValue()));
-                }
-                final ResultHandle buildTimeConfigSource = reinit.newInstance(PCS_NEW, buildTimeValues,
-                        reinit.load("Build time config = Reloaded"), reinit.load(100));
+                final ResultHandle buildTimeConfigSource = newIndexedConfigSource(reinit, "Build time config = Reloaded",
+                        100, buildTimeRunTimeVisibleValues);
                 // the build time config, which is for user use only (not used by us other than for loading converters)
                 final ResultHandle buildTimeBuilder = reinit.invokeStaticMethod(CU_CONFIG_BUILDER, reinit.load(true));
                 final ResultHandle array = reinit.newArray(ConfigSource[].class, 2);
@@ -482,25 +466,21 @@ public final class RunTimeConfigurationGenerator {
                     MethodDescriptor.ofConstructor("io.quarkus.runtime.generated.ConfigSourceProviderImpl")));
 
             // create the map for run time specified values config source
-            final ResultHandle specifiedRunTimeValues = clinit.newInstance(HM_NEW);
+            final Map<String, String> specifiedRunTimeValues = new HashMap<>();
             if (!devMode) {
                 //we don't need these in devmode
                 //including it would just cache the first values
                 //but these can already just be read directly, as we are in the same JVM
-                for (Map.Entry<String, String> entry : specifiedRunTimeDefaultValues.entrySet()) {
-                    clinit.invokeVirtualMethod(HM_PUT, specifiedRunTimeValues, clinit.load(entry.getKey()),
-                            clinit.load(entry.getValue()));
-                }
+                specifiedRunTimeValues.putAll(specifiedRunTimeDefaultValues);
             }
             for (Map.Entry<String, String> entry : runTimeDefaults.entrySet()) {
                 if (!specifiedRunTimeDefaultValues.containsKey(entry.getKey())) {
                     // only add entry if the user didn't override it
-                    clinit.invokeVirtualMethod(HM_PUT, specifiedRunTimeValues, clinit.load(entry.getKey()),
-                            clinit.load(entry.getValue()));
+                    specifiedRunTimeValues.put(entry.getKey(), entry.getValue());
                 }
             }
-            final ResultHandle specifiedRunTimeSource = clinit.newInstance(PCS_NEW, specifiedRunTimeValues,
-                    clinit.load("Specified default values"), clinit.load(Integer.MIN_VALUE + 100));
+            final ResultHandle specifiedRunTimeSource = newIndexedConfigSource(clinit, "Specified default values",
+                    Integer.MIN_VALUE + 100, specifiedRunTimeValues);
             cc.getFieldCreator(C_SPECIFIED_RUN_TIME_CONFIG_SOURCE)
                     .setModifiers(Opcodes.ACC_STATIC | (devMode ? Opcodes.ACC_VOLATILE : Opcodes.ACC_FINAL));
             clinit.writeStaticField(C_SPECIFIED_RUN_TIME_CONFIG_SOURCE, specifiedRunTimeSource);
@@ -833,6 +813,24 @@ public final class RunTimeConfigurationGenerator {
             }
         }
 
+        /**
+         * Creates an {@link IndexedConfigSource} holding the given values, whose slots are the indexes of the names in
+         * their natural order, so that the generated class is the same from one build to the next.
+         */
+        private ResultHandle newIndexedConfigSource(BytecodeCreator body, String name, int ordinal,
+                Map<String, String> values) {
+            final TreeMap<String, String> sortedValues = new TreeMap<>(values);
+            final ResultHandle names = body.newArray(String.class, sortedValues.size());
+            final ResultHandle valuesArray = body.newArray(String.class, sortedValues.size());
+            int slot = 0;
+            for (Map.Entry<String, String> entry : sortedValues.entrySet()) {
+                body.writeArrayValue(names, slot, body.load(entry.getKey()));
+                body.writeArrayValue(valuesArray, slot, body.load(entry.getValue()));
+                slot++;
+            }
+            return body.newInstance(ICS_NEW, body.load(name), body.load(ordinal), names, valuesArray);
+        }
+
         private void generateDefaultValuesConfigSourceClass(ConfigPatternMap<Container> patternMap, String className) {
             try (ClassCreator dvcc = ClassCreator.builder().classOutput(classOutput).className(className)
                     .superClass(AbstractRawDefaultConfigSource.class).setFinal(true).build()) {
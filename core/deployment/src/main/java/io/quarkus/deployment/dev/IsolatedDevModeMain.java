@@ -178,7 +178,9 @@ public class IsolatedDevModeMain implements BiConsumer<CuratedApplication, Map<S
 
     public synchronized void restartApp(Set<String> changedResources, ClassChangeInformation classChangeInformation) {
         restarting = true;
+        long stopStart = System.nanoTime();
         stop();
+        ReloadTimings.recordStop(System.nanoTime() - stopStart);
         Timing.restart(curatedApplication.getAugmentClassLoader());
         deploymentProblem = null;
         ClassLoader old = Thread.currentThread().getContextClassLoader();
@@ -186,9 +188,13 @@ public class IsolatedDevModeMain implements BiConsumer<CuratedApplication, Map<S
 
             //ok, we have resolved all the deps
             try {
+                long augmentationStart = System.nanoTime();
                 StartupAction start = augmentAction.reloadExistingApplication(firstStartCompleted, changedResources,
                         classChangeInformation);
+                long startStart = System.nanoTime();
+                ReloadTimings.recordAugmentation(startStart - augmentationStart);
                 runner = start.runMainClass(context.getArgs());
+                ReloadTimings.recordStart(System.nanoTime() - startStart);
                 firstStartCompleted = true;
             } catch (Throwable t) {
                 deploymentProblem = t;
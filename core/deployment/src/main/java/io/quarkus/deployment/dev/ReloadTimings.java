@@ -0,0 +1,184 @@
+package io.quarkus.deployment.dev;
+
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the time spent in each phase of the last hot reloads done in dev mode, so that they can be displayed by the dev
+ * console.
+ * <p>
+ * A reload is started by {@link RuntimeUpdatesProcessor} once the changed classes have been compiled, and ended once the
+ * application has been restarted. The phases that are run in between record their time in the current reload, if any.
+ */
+public final class ReloadTimings {
+
+    private static final int MAX_RELOADS = 10;
+
+    private static final Deque<Reload> reloads = new ArrayDeque<>();
+    private static volatile Reload current;
+
+    private ReloadTimings() {
+    }
+
+    static void begin(long scanNanos) {
+        Reload reload = new Reload();
+        reload.scanMillis = toMillis(scanNanos);
+        current = reload;
+    }
+
+    static void recordStop(long nanos) {
+        Reload reload = current;
+        if (reload != null) {
+            reload.stopMillis = toMillis(nanos);
+        }
+    }
+
+    static void recordAugmentation(long nanos) {
+        Reload reload = current;
+        if (reload != null) {
+            reload.augmentationMillis = toMillis(nanos);
+        }
+    }
+
+    static void recordStart(long nanos) {
+        Reload reload = current;
+        if (reload != null) {
+            reload.startMillis = toMillis(nanos);
+        }
+    }
+
+    static void end(long totalNanos) {
+        Reload reload = current;
+        if (reload != null) {
+            current = null;
+            reload.totalMillis = toMillis(totalNanos);
+            synchronized (reloads) {
+                reloads.addFirst(reload);
+                if (reloads.size() > MAX_RELOADS) {
+                    reloads.removeLast();
+                }
+            }
+        }
+    }
+
+    /**
+     * Records the transformation of the application classes during the augmentation of the current reload.
+     *
+     * @param transformed the number of classes that were transformed
+     * @param cached the number of classes whose transformation was reused from a previous build
+     * @param nanos the time spent
+     */
+    public static void recordTransformation(int transformed, int cached, long nanos) {
+        Reload reload = current;
+        if (reload != null) {
+            reload.transformedClasses = transformed;
+            reload.cachedClasses = cached;
+            reload.transformationMillis = toMillis(nanos);
+        }
+    }
+
+    /**
+     * @return the last reloads, the most recent first
+     */
+    public static List<Reload> getReloads() {
+        synchronized (reloads) {
+            return new ArrayList<>(reloads);
+        }
+    }
+
+    /**
+     * @return a read-only view of the last reloads, the most recent first, that always reflects the current reloads
+     */
+    public static List<Reload> getReloadsView() {
+        return new AbstractList<Reload>() {
+            @Override
+            public Reload get(int index) {
+                return getReloads().get(index);
+            }
+
+            @Override
+            public int size() {
+                synchronized (reloads) {
+                    return reloads.size();
+                }
+            }
+
+            @Override
+            public Iterator<Reload> iterator() {
+                return getReloads().iterator();
+            }
+        };
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    public static final class Reload {
+
+        private final LocalTime time = LocalTime.now().truncatedTo(ChronoUnit.SECONDS);
+        volatile long scanMillis;
+        volatile long stopMillis;
+        volatile long augmentationMillis;
+        volatile long transformationMillis;
+        volatile int transformedClasses;
+        volatile int cachedClasses;
+        volatile long startMillis;
+        volatile long totalMillis;
+
+        public LocalTime getTime() {
+            return time;
+        }
+
+        /**
+         * @return the time spent looking for changes and compiling the changed sources
+         */
+        public long getScanMillis() {
+            return scanMillis;
+        }
+
+        /**
+         * @return the time spent stopping the previous application
+         */
+        public long getStopMillis() {
+            return stopMillis;
+        }
+
+        /**
+         * @return the time spent re-augmenting the application, including the transformation of the classes
+         */
+        public long getAugmentationMillis() {
+            return augmentationMillis;
+        }
+
+        public long getTransformationMillis() {
+            return transformationMillis;
+        }
+
+        public int getTransformedClasses() {
+            return transformedClasses;
+        }
+
+        public int getCachedClasses() {
+            return cachedClasses;
+        }
+
+        /**
+         * @return the time spent starting the new application
+         */
+        public long getStartMillis() {
+            return startMillis;
+        }
+
+        public long getTotalMillis() {
+            return totalMillis;
+        }
+    }
+}
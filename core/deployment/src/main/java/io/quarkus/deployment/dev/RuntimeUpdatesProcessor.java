@@ -194,6 +194,7 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
 
         ClassScanResult changedClassResults = checkForChangedClasses();
         Set<String> filesChanged = checkForFileChange();
+        final long scanNanoseconds = System.nanoTime() - startNanoseconds;
 
         boolean configFileRestartNeeded = filesChanged.stream().map(watchedFilePaths::get).anyMatch(Boolean.TRUE::equals);
 
@@ -249,7 +250,9 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
         boolean restartNeeded = !instrumentationChange && (changedClassResults.isChanged()
                 || (IsolatedDevModeMain.deploymentProblem != null && userInitiated) || configFileRestartNeeded);
         if (restartNeeded) {
+            ReloadTimings.begin(scanNanoseconds);
             restartCallback.accept(filesChanged, changedClassResults);
+            ReloadTimings.end(System.nanoTime() - startNanoseconds);
             log.infof("Hot replace total time: %ss ", Timing.convertToBigDecimalSeconds(System.nanoTime() - startNanoseconds));
             return true;
         } else if (!filesChanged.isEmpty()) {
@@ -6,13 +6,21 @@ import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.nio.file.ProviderNotFoundException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -38,12 +46,14 @@ import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
 import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.QuarkusBuildCloseablesBuildItem;
+import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 
 public class ApplicationArchiveBuildStep {
 
@@ -51,6 +61,8 @@ public class ApplicationArchiveBuildStep {
 
     IndexDependencyConfiguration config;
 
+    IndexCacheConfiguration indexCacheConfig;
+
     @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
     static final class IndexDependencyConfiguration {
         /**
@@ -64,6 +76,42 @@ public class ApplicationArchiveBuildStep {
         Map<String, IndexDependencyConfig> indexDependency;
     }
 
+    @ConfigRoot(name = "index-cache", phase = ConfigPhase.BUILD_TIME)
+    static final class IndexCacheConfiguration {
+        /**
+         * If the indexes of the dependencies should be cached on disk, so that a dependency is only indexed again
+         * if its content changes.
+         */
+        @ConfigItem(defaultValue = "true")
+        boolean enabled;
+
+        /**
+         * The directory of the cache. It can be shared by several projects, as the indexes are keyed by the hash of the
+         * content of the dependencies.
+         * <p>
+         * If not set then {@code ~/.quarkus/index-cache} is used, unless {@code quarkus.index-cache.per-module} is
+         * enabled. The dependencies that embed a {@code META-INF/jandex.idx} are never cached.
+         */
+        @ConfigItem
+        Optional<String> directory;
+
+        /**
+         * If the {@code quarkus-index-cache} directory of the build output directory, e.g.
+         * {@code target/quarkus-index-cache}, should be used instead of the shared directory. The cache is then removed by
+         * a clean build and it is not shared with the other modules. Ignored if {@code quarkus.index-cache.directory} is
+         * set.
+         */
+        @ConfigItem
+        boolean perModule;
+
+        /**
+         * The max total size of the cached indexes. The least recently used indexes are removed once the size is
+         * exceeded.
+         */
+        @ConfigItem(defaultValue = "100M")
+        MemorySize maxSize;
+    }
+
     @BuildStep
     void addConfiguredIndexedDependencies(BuildProducer<IndexDependencyBuildItem> indexDependencyBuildItemBuildProducer) {
         for (IndexDependencyConfig indexDependencyConfig : config.indexDependency.values()) {
@@ -80,7 +128,9 @@ public class ApplicationArchiveBuildStep {
             List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchiveBuildItem,
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
             LiveReloadBuildItem liveReloadContext,
-            CurateOutcomeBuildItem curateOutcomeBuildItem) throws IOException {
+            CurateOutcomeBuildItem curateOutcomeBuildItem,
+            BuildSystemTargetBuildItem buildSystemTarget,
+            Executor executor) throws IOException {
 
         Set<String> markerFiles = new HashSet<>();
         for (AdditionalApplicationArchiveMarkerBuildItem i : appMarkers) {
@@ -92,11 +142,38 @@ public class ApplicationArchiveBuildStep {
             indexCache = new IndexCache();
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
+        PersistentIndexCache persistentCache = null;
+        if (indexCacheConfig.enabled) {
+            Path directory;
+            if (indexCacheConfig.directory.isPresent()) {
+                directory = Paths.get(indexCacheConfig.directory.get());
+            } else if (indexCacheConfig.perModule) {
+                directory = buildSystemTarget.getOutputDirectory() != null
+                        ? buildSystemTarget.getOutputDirectory().resolve("quarkus-index-cache")
+                        : null;
+            } else {
+                directory = Paths.get(System.getProperty("user.home"), ".quarkus", "index-cache");
+            }
+            if (directory != null) {
+                persistentCache = new PersistentIndexCache(directory, indexCacheConfig.maxSize.asLongValue());
+            }
+        }
+        indexCache.persistentCache = persistentCache;
 
+        long start = System.nanoTime();
         List<ApplicationArchive> applicationArchives = scanForOtherIndexes(buildCloseables,
                 Thread.currentThread().getContextClassLoader(),
                 markerFiles, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache,
-                curateOutcomeBuildItem);
+                curateOutcomeBuildItem, executor);
+        if (persistentCache != null) {
+            if (persistentCache.getHits() + persistentCache.getMisses() > 0) {
+                LOGGER.infof(
+                        "Indexed %d application archives in %d ms, %d jars were read from the index cache %s and %d were indexed",
+                        applicationArchives.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                        persistentCache.getHits(), persistentCache.getDirectory(), persistentCache.getMisses());
+            }
+            persistentCache.evict();
+        }
         return new ApplicationArchivesBuildItem(
                 new ApplicationArchiveImpl(appindex.getIndex(), root.getRootDirs(), root.getPaths(), null),
                 applicationArchives);
@@ -106,7 +183,7 @@ public class ApplicationArchiveBuildStep {
             ClassLoader classLoader, Set<String> applicationArchiveFiles,
             ArchiveRootBuildItem root, List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchives,
             List<IndexDependencyBuildItem> indexDependencyBuildItem, IndexCache indexCache,
-            CurateOutcomeBuildItem curateOutcomeBuildItem)
+            CurateOutcomeBuildItem curateOutcomeBuildItem, Executor executor)
             throws IOException {
 
         List<ApplicationArchive> appArchives = new ArrayList<>();
@@ -116,7 +193,7 @@ public class ApplicationArchiveBuildStep {
         Set<String> markers = new HashSet<>(applicationArchiveFiles);
         markers.add(IndexingUtil.JANDEX_INDEX);
         addMarkerFilePaths(markers, root, curateOutcomeBuildItem, indexedPaths, appArchives, buildCloseables, classLoader,
-                indexCache);
+                indexCache, executor);
 
         //get paths that are included via index-dependencies
         addIndexDependencyPaths(indexDependencyBuildItem, classLoader, root, indexedPaths, appArchives, buildCloseables,
@@ -183,51 +260,123 @@ public class ApplicationArchiveBuildStep {
     private static void addMarkerFilePaths(Set<String> applicationArchiveFiles,
             ArchiveRootBuildItem root, CurateOutcomeBuildItem curateOutcomeBuildItem, Set<Path> indexedPaths,
             List<ApplicationArchive> appArchives, QuarkusBuildCloseablesBuildItem buildCloseables, ClassLoader classLoader,
-            IndexCache indexCache)
+            IndexCache indexCache, Executor executor)
             throws IOException {
-        for (AppDependency dep : curateOutcomeBuildItem.getEffectiveModel().getUserDependencies()) {
-            final PathsCollection artifactPaths = dep.getArtifact().getPaths();
-            boolean containsMarker = false;
-            for (Path p : artifactPaths) {
-                if (root.isExcludedFromIndexing(p)) {
-                    continue;
+        List<AppDependency> userDependencies = curateOutcomeBuildItem.getEffectiveModel().getUserDependencies();
+        // the dependencies are scanned and indexed in parallel, the results are then added in the original order
+        ApplicationArchive[] results = new ApplicationArchive[userDependencies.size()];
+        runInParallel(executor, userDependencies.size(), new IndexTask() {
+            @Override
+            public void run(int i) throws IOException {
+                results[i] = createMarkedApplicationArchive(userDependencies.get(i), applicationArchiveFiles, root,
+                        buildCloseables, classLoader, indexCache);
+            }
+        });
+        for (ApplicationArchive archive : results) {
+            if (archive != null) {
+                for (Path p : archive.getPaths()) {
+                    indexedPaths.add(p);
+                }
+                appArchives.add(archive);
+            }
+        }
+    }
+
+    private static ApplicationArchive createMarkedApplicationArchive(AppDependency dep, Set<String> applicationArchiveFiles,
+            ArchiveRootBuildItem root, QuarkusBuildCloseablesBuildItem buildCloseables, ClassLoader classLoader,
+            IndexCache indexCache) throws IOException {
+        final PathsCollection artifactPaths = dep.getArtifact().getPaths();
+        boolean containsMarker = false;
+        for (Path p : artifactPaths) {
+            if (root.isExcludedFromIndexing(p)) {
+                continue;
+            }
+            if (Files.isDirectory(p)) {
+                if (containsMarker = containsMarker(p, applicationArchiveFiles)) {
+                    break;
                 }
-                if (Files.isDirectory(p)) {
-                    if (containsMarker = containsMarker(p, applicationArchiveFiles)) {
+            } else {
+                try (FileSystem fs = FileSystems.newFileSystem(p, classLoader)) {
+                    if (containsMarker = containsMarker(fs.getPath("/"), applicationArchiveFiles)) {
                         break;
                     }
-                } else {
-                    try (FileSystem fs = FileSystems.newFileSystem(p, classLoader)) {
-                        if (containsMarker = containsMarker(fs.getPath("/"), applicationArchiveFiles)) {
-                            break;
-                        }
-                    } catch (ProviderNotFoundException e) {
-                        // that is pretty much an exceptional case
-                        // it's not a dir and not a jar, it could be anything (e.g. a pom file that
-                        // ended up in some project deps)
-                        // not necessarily a wrong state
-                    }
+                } catch (ProviderNotFoundException e) {
+                    // that is pretty much an exceptional case
+                    // it's not a dir and not a jar, it could be anything (e.g. a pom file that
+                    // ended up in some project deps)
+                    // not necessarily a wrong state
                 }
             }
+        }
 
-            if (containsMarker) {
-                final PathsCollection.Builder rootDirs = PathsCollection.builder();
-                final List<IndexView> indexes = new ArrayList<>(artifactPaths.size());
-                for (Path p : artifactPaths) {
-                    if (Files.isDirectory(p)) {
-                        rootDirs.add(p);
-                    } else {
-                        final FileSystem fs = buildCloseables.add(FileSystems.newFileSystem(p, classLoader));
-                        fs.getRootDirectories().forEach(rootDirs::add);
-                    }
-                    indexes.add(indexPath(indexCache, p));
+        if (!containsMarker) {
+            return null;
+        }
+        final PathsCollection.Builder rootDirs = PathsCollection.builder();
+        final List<IndexView> indexes = new ArrayList<>(artifactPaths.size());
+        for (Path p : artifactPaths) {
+            if (Files.isDirectory(p)) {
+                rootDirs.add(p);
+            } else {
+                final FileSystem fs = buildCloseables.add(FileSystems.newFileSystem(p, classLoader));
+                fs.getRootDirectories().forEach(rootDirs::add);
+            }
+            indexes.add(indexPath(indexCache, p));
+        }
+        return new ApplicationArchiveImpl(indexes.size() == 1 ? indexes.get(0) : CompositeIndex.create(indexes),
+                rootDirs.build(), artifactPaths, dep.getArtifact().getKey());
+    }
 
-                    indexedPaths.add(p);
+    /**
+     * Runs the tasks on the build executor. The current thread takes part in the processing, so that all the tasks are
+     * processed even if the executor is saturated.
+     */
+    private static void runInParallel(Executor executor, int count, IndexTask task) throws IOException {
+        AtomicInteger next = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Runnable worker = new Runnable() {
+            @Override
+            public void run() {
+                int i;
+                while (failure.get() == null && (i = next.getAndIncrement()) < count) {
+                    try {
+                        task.run(i);
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                    }
                 }
-                appArchives
-                        .add(new ApplicationArchiveImpl(indexes.size() == 1 ? indexes.get(0) : CompositeIndex.create(indexes),
-                                rootDirs.build(), artifactPaths, dep.getArtifact().getKey()));
             }
+        };
+        int workers = Math.min(count, Runtime.getRuntime().availableProcessors()) - 1;
+        CountDownLatch done = new CountDownLatch(Math.max(workers, 0));
+        for (int i = 0; i < workers; i++) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        worker.run();
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            });
+        }
+        worker.run();
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        Throwable t = failure.get();
+        if (t instanceof IOException) {
+            throw (IOException) t;
+        } else if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        } else if (t instanceof Error) {
+            throw (Error) t;
+        } else if (t != null) {
+            throw new RuntimeException(t);
         }
     }
 
@@ -265,7 +414,8 @@ public class ApplicationArchiveBuildStep {
             @Override
             public Index apply(Path path) {
                 try {
-                    return IndexingUtil.indexJar(path);
+                    PersistentIndexCache persistentCache = indexCache.persistentCache;
+                    return persistentCache != null ? persistentCache.indexJar(path) : IndexingUtil.indexJar(path);
                 } catch (IOException e) {
                     throw new RuntimeException("Failed to process " + path, e);
                 }
@@ -273,13 +423,21 @@ public class ApplicationArchiveBuildStep {
         });
     }
 
+    private interface IndexTask {
+
+        void run(int i) throws IOException;
+
+    }
+
     /**
      * When running in hot deployment mode we know that java archives will never change, there is no need
      * to re-index them each time. We cache them here to reduce the hot reload time.
      */
     private static final class IndexCache {
 
-        final Map<Path, Index> cache = new HashMap<>();
+        final Map<Path, Index> cache = new ConcurrentHashMap<>();
+
+        volatile PersistentIndexCache persistentCache;
 
     }
 }
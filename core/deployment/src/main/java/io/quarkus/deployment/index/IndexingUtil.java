@@ -38,25 +38,33 @@ public class IndexingUtil {
 
     public static Index indexJar(File file) throws IOException {
         try (JarFile jarFile = new JarFile(file)) {
-            ZipEntry existing = jarFile.getEntry(JANDEX_INDEX);
-            if (existing != null) {
-                try (InputStream in = jarFile.getInputStream(existing)) {
-                    IndexReader reader = new IndexReader(in);
-                    if (reader.getIndexVersion() < REQUIRED_INDEX_VERSION) {
-                        log.warnf(
-                                "Re-indexing %s - at least Jandex 2.1 must be used to index an application dependency",
-                                file);
-                        return indexJar(jarFile);
-                    } else {
-                        return reader.read();
-                    }
+            Index existing = readJandexIndex(jarFile);
+            return existing != null ? existing : indexJar(jarFile);
+        }
+    }
+
+    /**
+     * @return the index embedded in the given jar, or {@code null} if there is none or if it must be re-indexed
+     */
+    static Index readJandexIndex(JarFile jarFile) throws IOException {
+        ZipEntry existing = jarFile.getEntry(JANDEX_INDEX);
+        if (existing != null) {
+            try (InputStream in = jarFile.getInputStream(existing)) {
+                IndexReader reader = new IndexReader(in);
+                if (reader.getIndexVersion() < REQUIRED_INDEX_VERSION) {
+                    log.warnf(
+                            "Re-indexing %s - at least Jandex 2.1 must be used to index an application dependency",
+                            jarFile.getName());
+                    return null;
+                } else {
+                    return reader.read();
                 }
             }
-            return indexJar(jarFile);
         }
+        return null;
     }
 
-    private static Index indexJar(JarFile file) throws IOException {
+    static Index indexJar(JarFile file) throws IOException {
         Indexer indexer = new Indexer();
         Enumeration<JarEntry> e = file.entries();
         while (e.hasMoreElements()) {
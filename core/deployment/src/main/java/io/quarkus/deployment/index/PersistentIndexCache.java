@@ -0,0 +1,188 @@
+package io.quarkus.deployment.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarFile;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+/**
+ * An on-disk cache of the indexes of jars, keyed by the hash of the content of the jars.
+ * <p>
+ * As the key only depends on the content, the cache can be shared by several modules and builds, and a rebuilt jar
+ * (e.g. a snapshot) is never served a stale index. Jars that embed a {@code META-INF/jandex.idx} are neither hashed nor
+ * cached, reading the embedded index is as cheap as reading a cached one.
+ * <p>
+ * The size of the cache is bounded, the least recently used indexes are removed by {@link #evict()}.
+ */
+final class PersistentIndexCache {
+
+    private static final Logger LOGGER = Logger.getLogger(PersistentIndexCache.class);
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    // At least Jandex 2.1 is needed, see IndexingUtil
+    private static final int REQUIRED_INDEX_VERSION = 8;
+
+    private static final String SUFFIX = ".idx";
+
+    private final Path directory;
+    private final long maxSize;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    /**
+     *
+     * @param directory the directory of the cache
+     * @param maxSize the max total size of the cached indexes in bytes
+     */
+    PersistentIndexCache(Path directory, long maxSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+    }
+
+    Index indexJar(Path jar) throws IOException {
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            Index embedded = IndexingUtil.readJandexIndex(jarFile);
+            if (embedded != null) {
+                return embedded;
+            }
+            return indexJar(jar, jarFile);
+        }
+    }
+
+    private Index indexJar(Path jar, JarFile jarFile) throws IOException {
+        String hash = hash(jar);
+        Path cached = directory.resolve(hash + SUFFIX);
+        if (Files.exists(cached)) {
+            try (InputStream in = Files.newInputStream(cached)) {
+                IndexReader reader = new IndexReader(in);
+                if (reader.getIndexVersion() >= REQUIRED_INDEX_VERSION) {
+                    Index index = reader.read();
+                    hits.incrementAndGet();
+                    touch(cached);
+                    return index;
+                }
+            } catch (IOException | RuntimeException e) {
+                LOGGER.debugf(e, "Unable to read the cached index of %s from %s", jar, cached);
+            }
+        }
+        misses.incrementAndGet();
+        Index index = IndexingUtil.indexJar(jarFile);
+        try {
+            Files.createDirectories(directory);
+            // write to a temporary file first so that concurrent builds never read a partially written index
+            Path tmp = Files.createTempFile(directory, hash, ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(tmp)) {
+                    new IndexWriter(out).write(index);
+                }
+                Files.move(tmp, cached, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Unable to write the cached index of %s to %s", jar, cached);
+        }
+        return index;
+    }
+
+    /**
+     * Remove the least recently used indexes until the total size of the cache does not exceed the max size.
+     */
+    void evict() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<Path> indexes = new ArrayList<>();
+        Map<Path, BasicFileAttributes> attributes = new HashMap<>();
+        long size = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path index : stream) {
+                BasicFileAttributes attrs = Files.readAttributes(index, BasicFileAttributes.class);
+                indexes.add(index);
+                attributes.put(index, attrs);
+                size += attrs.size();
+            }
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Unable to list the cached indexes in %s", directory);
+            return;
+        }
+        if (size <= maxSize) {
+            return;
+        }
+        indexes.sort(Comparator.comparing(index -> attributes.get(index).lastModifiedTime()));
+        for (Path index : indexes) {
+            if (size <= maxSize) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(index);
+                size -= attributes.get(index).size();
+            } catch (IOException e) {
+                LOGGER.debugf(e, "Unable to remove the cached index %s", index);
+            }
+        }
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    int getHits() {
+        return hits.get();
+    }
+
+    int getMisses() {
+        return misses.get();
+    }
+
+    // the modification time is used to find the least recently used indexes
+    private static void touch(Path cached) {
+        try {
+            Files.setLastModifiedTime(cached, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Unable to update the modification time of %s", cached);
+        }
+    }
+
+    private static String hash(Path jar) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[65536];
+        try (InputStream in = Files.newInputStream(jar)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        byte[] bytes = digest.digest();
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+}
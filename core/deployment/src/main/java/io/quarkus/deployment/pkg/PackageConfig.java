@@ -1,5 +1,6 @@
 package io.quarkus.deployment.pkg;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +15,8 @@ public class PackageConfig {
     public static final String UBER_JAR = "uber-jar";
     public static final String FAST_JAR = "fast-jar";
     public static final String MUTABLE_JAR = "mutable-jar";
+    // fast-jar with the class path entries copied to a single memory mapped archive
+    public static final String MAPPED_JAR = "mapped-jar";
     /**
      * @deprecated use 'legacy-jar' instead
      */
@@ -29,6 +32,11 @@ public class PackageConfig {
      * <p>
      * The default built in types are 'jar' (which will use 'fast-jar'), 'legacy-jar' for the pre-1.12 default jar
      * packaging, 'uber-jar', 'native' and 'native-sources'.
+     * <p>
+     * 'mapped-jar' is a variant of 'fast-jar' that additionally copies the classes and resources of the application and
+     * its dependencies to a single uncompressed archive, which is memory mapped at runtime. This makes class loading
+     * cheaper, as no jar needs to be opened and no entry needs to be inflated, and the pages of the archive can be shared
+     * between several processes that run the same application.
      */
     @ConfigItem(defaultValue = JAR)
     public String type;
@@ -96,6 +104,35 @@ public class PackageConfig {
     @ConfigItem
     public Optional<String> appcdsBuilderImage;
 
+    /**
+     * Whether to create the AppCDS archive from a training run of the application, rather than from the classes that are
+     * loaded before the runtime initialization of the application.
+     * <p>
+     * The training run starts the packaged application, waits until it has fully started, sends the requests configured by
+     * {@code quarkus.package.appcds-training-urls} and then stops the application, which dumps a dynamic AppCDS archive of
+     * all the classes that were loaded. The application is then started once more with the archive, and the startup times
+     * of both runs are reported.
+     * <p>
+     * Note that this property is consulted only when {@code quarkus.package.create-appcds=true}, and that it requires
+     * Java 13+ and is ignored when the AppCDS is created in a container image.
+     */
+    @ConfigItem
+    public boolean appcdsTrainingRun;
+
+    /**
+     * The URLs that are requested with {@code GET} during the AppCDS training run, so that the classes used to handle
+     * requests are also archived. Relative URLs, such as {@code /hello}, are resolved against the HTTP server of the
+     * application, which listens on a random port during the training run.
+     */
+    @ConfigItem
+    public Optional<List<String>> appcdsTrainingUrls;
+
+    /**
+     * The maximum time to wait for the application to start during the AppCDS training run.
+     */
+    @ConfigItem(defaultValue = "60S")
+    public Duration appcdsTrainingTimeout;
+
     /**
      * This is an advanced option that only takes effect for the mutable-jar format.
      * <p>
@@ -130,13 +167,15 @@ public class PackageConfig {
                 type.equalsIgnoreCase(PackageConfig.UBER_JAR)) ||
                 type.equalsIgnoreCase(PackageConfig.LEGACY_JAR) ||
                 type.equalsIgnoreCase(PackageConfig.LEGACY) ||
-                type.equalsIgnoreCase(PackageConfig.MUTABLE_JAR);
+                type.equalsIgnoreCase(PackageConfig.MUTABLE_JAR) ||
+                type.equalsIgnoreCase(PackageConfig.MAPPED_JAR);
     }
 
     public boolean isFastJar() {
         return type.equalsIgnoreCase(PackageConfig.JAR) ||
                 type.equalsIgnoreCase(PackageConfig.FAST_JAR) ||
-                type.equalsIgnoreCase(PackageConfig.MUTABLE_JAR);
+                type.equalsIgnoreCase(PackageConfig.MUTABLE_JAR) ||
+                type.equalsIgnoreCase(PackageConfig.MAPPED_JAR);
     }
 
     public boolean isLegacyJar() {
@@ -4,12 +4,18 @@ import static io.quarkus.deployment.pkg.steps.LinuxIDUtil.getLinuxID;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 
 import org.apache.commons.lang3.SystemUtils;
@@ -27,6 +33,7 @@ import io.quarkus.deployment.pkg.builditem.JarBuildItem;
 import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
 import io.quarkus.deployment.steps.MainClassBuildStep;
 import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.appcds.AppCDSUtil;
 import io.quarkus.runtime.util.JavaVersionUtil;
 import io.quarkus.utilities.JavaBinFinder;
 
@@ -35,6 +42,8 @@ public class AppCDSBuildStep {
     private static final Logger log = Logger.getLogger(AppCDSBuildStep.class);
 
     public static final String CLASSES_LIST_FILE_NAME = "classes.lst";
+    private static final String TRAINING_RUN_STARTED_FILE_NAME = "training-run.started";
+    private static final String TRAINING_RUN_REPORT_FILE_NAME = "training-run-report.properties";
     private static final String CONTAINER_IMAGE_BASE_BUILD_DIR = "/tmp/quarkus";
     private static final String CONTAINER_IMAGE_APPCDS_DIR = CONTAINER_IMAGE_BASE_BUILD_DIR + "/appcds";
 
@@ -72,17 +81,24 @@ public class AppCDSBuildStep {
             }
         }
 
-        Path classesLstPath = createClassesLst(jarResult, outputTarget, javaBinPath, containerImage,
-                appCDsRequested.get().getAppCDSDir(), packageConfig.isFastJar());
-        if (classesLstPath == null) {
-            return;
-        }
+        Path appCDSPath;
+        if (packageConfig.appcdsTrainingRun && canUseTrainingRun(containerImage)) {
+            log.info("Launching AppCDS training run.");
+            appCDSPath = createAppCDSFromTrainingRun(jarResult, javaBinPath, appCDsRequested.get().getAppCDSDir(),
+                    packageConfig);
+        } else {
+            Path classesLstPath = createClassesLst(jarResult, outputTarget, javaBinPath, containerImage,
+                    appCDsRequested.get().getAppCDSDir(), packageConfig.isFastJar());
+            if (classesLstPath == null) {
+                return;
+            }
 
-        log.debugf("'%s' successfully created.", CLASSES_LIST_FILE_NAME);
+            log.debugf("'%s' successfully created.", CLASSES_LIST_FILE_NAME);
 
-        log.info("Launching AppCDS creation process.");
-        Path appCDSPath = createAppCDS(jarResult, outputTarget, javaBinPath, containerImage, classesLstPath,
-                packageConfig.isFastJar());
+            log.info("Launching AppCDS creation process.");
+            appCDSPath = createAppCDS(jarResult, outputTarget, javaBinPath, containerImage, classesLstPath,
+                    packageConfig.isFastJar());
+        }
         if (appCDSPath == null) {
             log.warn("Unable to create AppCDS.");
             return;
@@ -286,6 +302,164 @@ public class AppCDSBuildStep {
         return appCDSPath;
     }
 
+    private boolean canUseTrainingRun(String containerImage) {
+        if (containerImage != null) {
+            log.warn("The AppCDS training run cannot be used when the AppCDS is created in a container image.");
+            return false;
+        }
+        if (!JavaVersionUtil.isJava13OrHigher()) {
+            log.warn("The AppCDS training run can only be used with Java 13+.");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Runs the application through its full startup and the configured requests, and lets the JVM dump a dynamic archive
+     * of all the loaded classes when the application is stopped.
+     * The classes defined by the {@code RunnerClassLoader} are archived as well, since they are defined with the jar
+     * they come from as their code source.
+     *
+     * @return The path of the created app-cds.jsa file or null if the file was not created
+     */
+    private Path createAppCDSFromTrainingRun(JarBuildItem jarResult, String javaBinPath, Path appCDSDir,
+            PackageConfig packageConfig) {
+
+        Path workingDirectory = jarResult.getPath().getParent();
+        Path appCDSPath = workingDirectory.resolve("app-cds.jsa");
+        Path startedFile = appCDSDir.resolve(TRAINING_RUN_STARTED_FILE_NAME);
+        try {
+            Files.deleteIfExists(appCDSPath);
+        } catch (IOException e) {
+            log.debug("Unable to delete existing 'app-cds.jsa' file.", e);
+        }
+
+        // the relative path is used for the same reason as in createAppCDS()
+        Long startupWithoutArchive = trainingRun(jarResult, javaBinPath, workingDirectory, startedFile,
+                "-XX:ArchiveClassesAtExit=" + appCDSPath.getFileName().toString(), packageConfig, true);
+        if (startupWithoutArchive == null || !appCDSPath.toFile().exists()) {
+            return null;
+        }
+
+        Long startupWithArchive = trainingRun(jarResult, javaBinPath, workingDirectory, startedFile,
+                "-XX:SharedArchiveFile=" + appCDSPath.getFileName().toString(), packageConfig, false);
+        if (startupWithArchive != null) {
+            String report = String.format("startup-without-appcds-ms=%d%nstartup-with-appcds-ms=%d%n", startupWithoutArchive,
+                    startupWithArchive);
+            try {
+                Files.write(appCDSDir.resolve(TRAINING_RUN_REPORT_FILE_NAME), report.getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                log.debug("Unable to write the AppCDS training run report.", e);
+            }
+            log.infof("AppCDS training run: the application started in %d ms without AppCDS and in %d ms with AppCDS.",
+                    startupWithoutArchive, startupWithArchive);
+        }
+        return appCDSPath;
+    }
+
+    /**
+     * @return The time in milliseconds it took for the application to start, or null if the run failed
+     */
+    private Long trainingRun(JarBuildItem jarResult, String javaBinPath, Path workingDirectory, Path startedFile,
+            String archiveArg, PackageConfig packageConfig, boolean sendRequests) {
+
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        } catch (IOException e) {
+            log.debug("Unable to find a free port for the AppCDS training run.", e);
+            return null;
+        }
+
+        List<String> command = new ArrayList<>(6);
+        command.add(javaBinPath);
+        command.add(archiveArg);
+        command.add(String.format("-D%s=%s", AppCDSUtil.TRAINING_RUN_STARTED_FILE_SYSTEM_PROPERTY,
+                startedFile.toAbsolutePath().toString()));
+        command.add("-Dquarkus.http.port=" + port);
+        command.add("-jar");
+        command.add(jarResult.getPath().getFileName().toString());
+
+        if (log.isDebugEnabled()) {
+            log.debugf("Launching command: '%s' for the AppCDS training run.", String.join(" ", command));
+        }
+
+        Process process = null;
+        try {
+            Files.deleteIfExists(startedFile);
+            ProcessBuilder processBuilder = new ProcessBuilder(command)
+                    .directory(workingDirectory.toFile());
+            if (log.isDebugEnabled()) {
+                processBuilder.inheritIO();
+            } else {
+                processBuilder.redirectError(NULL_FILE);
+                processBuilder.redirectOutput(NULL_FILE);
+            }
+            long start = System.nanoTime();
+            long timeout = start + packageConfig.appcdsTrainingTimeout.toNanos();
+            process = processBuilder.start();
+            while (!Files.exists(startedFile)) {
+                if (!process.isAlive()) {
+                    log.debugf("The application exited with error code %d during the AppCDS training run.",
+                            process.exitValue());
+                    return null;
+                }
+                if (System.nanoTime() - timeout > 0) {
+                    log.warnf("The application did not start within %s during the AppCDS training run.",
+                            packageConfig.appcdsTrainingTimeout);
+                    return null;
+                }
+                Thread.sleep(10);
+            }
+            long startupTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            if (sendRequests && packageConfig.appcdsTrainingUrls.isPresent()) {
+                for (String url : packageConfig.appcdsTrainingUrls.get()) {
+                    sendTrainingRequest(url.startsWith("/") ? "http://localhost:" + port + url : url);
+                }
+            }
+
+            // the JVM only dumps the dynamic archive if it exits normally, which is the case when it is terminated
+            process.destroy();
+            if (!process.waitFor(packageConfig.appcdsTrainingTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warnf("The application did not stop within %s during the AppCDS training run.",
+                        packageConfig.appcdsTrainingTimeout);
+                return null;
+            }
+            return startupTime;
+        } catch (Exception e) {
+            log.debug("Failed to launch process used for the AppCDS training run.", e);
+            return null;
+        } finally {
+            if (process != null && process.isAlive()) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private void sendTrainingRequest(String url) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+            try {
+                int status = connection.getResponseCode();
+                log.debugf("AppCDS training request '%s' returned status %d.", url, status);
+                InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+                if (in != null) {
+                    try (InputStream toDrain = in) {
+                        byte[] buffer = new byte[1024];
+                        while (toDrain.read(buffer) != -1) {
+                            // the whole response is read so that the response writing code paths are exercised too
+                        }
+                    }
+                }
+            } finally {
+                connection.disconnect();
+            }
+        } catch (IOException e) {
+            log.warnf("AppCDS training request '%s' failed: %s", url, e.toString());
+        }
+    }
+
     static class AppCDSRequired implements BooleanSupplier {
 
         private final PackageConfig packageConfig;
@@ -611,9 +611,14 @@ public class JarResultBuildStep {
             nonExistentResources.add(MP_CONFIG_FILE);
         }
 
+        Path mappedArchive = null;
+        if (packageConfig.type.equalsIgnoreCase(PackageConfig.MAPPED_JAR)) {
+            mappedArchive = buildDir.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_ARCHIVE);
+        }
         Path appInfo = buildDir.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_DAT);
         try (OutputStream out = Files.newOutputStream(appInfo)) {
-            SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, jars, bootJars, nonExistentResources);
+            SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, jars, bootJars, nonExistentResources,
+                    mappedArchive);
         }
 
         runnerJar.toFile().setReadable(true, false);
@@ -66,6 +66,7 @@ import io.quarkus.runtime.StartupTask;
 import io.quarkus.runtime.annotations.IgnoreProperty;
 import io.quarkus.runtime.annotations.RecordableConstructor;
 import io.quarkus.runtime.annotations.RelaxedValidation;
+import io.quarkus.runtime.recording.RecordedValueReader;
 
 /**
  * A class that can be used to record invocations to bytecode so they can be replayed later. This is done through the
@@ -104,6 +105,8 @@ public class BytecodeRecorderImpl implements RecorderContext {
     private static final MethodDescriptor MAP_PUT = ofMethod(Map.class, "put", Object.class, Object.class, Object.class);
 
     private final boolean staticInit;
+    private final boolean lazy;
+    private final String buildStepName;
     private final ClassLoader classLoader;
 
     private static final Map<Class<?>, ProxyFactory<?>> recordingProxyFactories = new ConcurrentHashMap<>();
@@ -122,6 +125,20 @@ public class BytecodeRecorderImpl implements RecorderContext {
 
     private final List<ObjectLoader> loaders = new ArrayList<>();
 
+    /**
+     * the minimum number of values of a collection or map for it to be recorded in a binary resource, when enabled
+     */
+    private static final int MIN_BINARY_VALUES = 64;
+
+    // the large values that are recorded in a binary resource instead of bytecode, if enabled
+    private RecordedValueWriter binaryValues;
+    private DeferredArrayStoreParameter binaryValuesReader;
+
+    // used to compute the dependencies between the startup tasks, see MainClassBuildStep
+    private final Set<String> usedProxyKeys = new HashSet<>();
+    private String buildStepId;
+    private Set<String> buildStepDependencies = Collections.emptySet();
+
     /**
      * the maximum number of instruction groups that can be added to a method. This is to limit the size of the method
      * so that the 65k limit is not reached.
@@ -135,9 +152,16 @@ public class BytecodeRecorderImpl implements RecorderContext {
     private boolean loadComplete;
 
     public BytecodeRecorderImpl(boolean staticInit, String buildStepName, String methodName, String uniqueHash) {
+        this(staticInit, buildStepName, methodName, uniqueHash, false);
+    }
+
+    public BytecodeRecorderImpl(boolean staticInit, String buildStepName, String methodName, String uniqueHash,
+            boolean lazy) {
         this(
                 Thread.currentThread().getContextClassLoader(),
                 staticInit,
+                lazy,
+                buildStepName + "." + methodName,
                 toClassName(buildStepName, methodName, uniqueHash),
                 classOutput -> {
                     return startupTaskClassCreator(classOutput, toClassName(buildStepName, methodName, uniqueHash));
@@ -169,7 +193,12 @@ public class BytecodeRecorderImpl implements RecorderContext {
 
     // visible for testing
     BytecodeRecorderImpl(ClassLoader classLoader, boolean staticInit, String className) {
-        this(classLoader, staticInit, className,
+        this(classLoader, staticInit, false, className);
+    }
+
+    // visible for testing
+    BytecodeRecorderImpl(ClassLoader classLoader, boolean staticInit, boolean lazy, String className) {
+        this(classLoader, staticInit, lazy, className, className,
                 classOutput -> {
                     return startupTaskClassCreator(classOutput, className);
                 },
@@ -181,8 +210,16 @@ public class BytecodeRecorderImpl implements RecorderContext {
     public BytecodeRecorderImpl(ClassLoader classLoader, boolean staticInit, String className,
             Function<ClassOutput, ClassCreator> classCreatorFunction,
             Function<ClassCreator, MethodCreator> methodCreatorFunction) {
+        this(classLoader, staticInit, false, className, className, classCreatorFunction, methodCreatorFunction);
+    }
+
+    private BytecodeRecorderImpl(ClassLoader classLoader, boolean staticInit, boolean lazy, String buildStepName,
+            String className, Function<ClassOutput, ClassCreator> classCreatorFunction,
+            Function<ClassCreator, MethodCreator> methodCreatorFunction) {
         this.classLoader = classLoader;
         this.staticInit = staticInit;
+        this.lazy = lazy;
+        this.buildStepName = buildStepName;
         this.className = className;
         this.classCreatorFunction = classCreatorFunction;
         this.methodCreatorFunction = methodCreatorFunction;
@@ -192,6 +229,108 @@ public class BytecodeRecorderImpl implements RecorderContext {
         return storedMethodCalls.isEmpty();
     }
 
+    /**
+     * @return {@code true} if the recorded bytecode should only be executed the first time one of the recorders is used
+     */
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * @return the name of the build step, as it is reported at runtime
+     */
+    public String getBuildStepName() {
+        return buildStepName;
+    }
+
+    /**
+     * @return the names of the recorder classes that have been invoked
+     */
+    public List<String> getRecorderClassNames() {
+        List<String> names = new ArrayList<>();
+        for (Class<?> recorder : existingProxyClasses.keySet()) {
+            names.add(recorder.getName());
+        }
+        return names;
+    }
+
+    /**
+     * Records the large collections and maps of simple values in a binary resource, that is read at startup, instead
+     * of creating them with bytecode. The resource must then be added to the application, see
+     * {@link #getBinaryValuesResourceName()} and {@link #getBinaryValues()}.
+     */
+    public void enableBinaryValues() {
+        if (binaryValues == null) {
+            binaryValues = new RecordedValueWriter();
+        }
+    }
+
+    /**
+     * @return the name of the resource of the values recorded in binary form
+     */
+    public String getBinaryValuesResourceName() {
+        return "META-INF/quarkus-recorded-values/" + className + ".bin";
+    }
+
+    /**
+     * @return the values recorded in binary form, or {@code null} if there are none, only known once the bytecode has
+     *         been written
+     */
+    public byte[] getBinaryValues() {
+        return binaryValues == null || binaryValues.isEmpty() ? null : binaryValues.toByteArray();
+    }
+
+    /**
+     * Sets the build step that recorded this bytecode, and the build steps it depends on.
+     *
+     * @param buildStepId the name of the build step
+     * @param buildStepDependencies the names of the build steps it depends on, directly or transitively
+     */
+    public void setBuildStep(String buildStepId, Set<String> buildStepDependencies) {
+        this.buildStepId = buildStepId;
+        this.buildStepDependencies = buildStepDependencies;
+    }
+
+    /**
+     * @return the name of the build step that recorded this bytecode, or {@code null} if it is not known
+     */
+    public String getBuildStepId() {
+        return buildStepId;
+    }
+
+    /**
+     * @return the names of the build steps that the build step that recorded this bytecode depends on
+     */
+    public Set<String> getBuildStepDependencies() {
+        return buildStepDependencies;
+    }
+
+    /**
+     * @return the keys of the objects returned by the recorders, that are put in the startup context
+     */
+    public Set<String> getProducedProxyKeys() {
+        Set<String> keys = new HashSet<>();
+        for (BytecodeInstruction instruction : storedMethodCalls) {
+            if (instruction instanceof StoredMethodCall) {
+                StoredMethodCall call = (StoredMethodCall) instruction;
+                if (call.returnedProxy != null) {
+                    keys.add(call.proxyId);
+                }
+            } else if (instruction instanceof NewInstance) {
+                keys.add(((NewInstance) instruction).proxyId);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * @return the keys of the objects returned by recorders that are passed as parameters, only known once the bytecode
+     *         has been written
+     */
+    public Set<String> getUsedProxyKeys() {
+        return usedProxyKeys;
+    }
+
     @Override
     public <F, T> void registerSubstitution(Class<F> from, Class<T> to,
             Class<? extends ObjectSubstitution<F, T>> substitution) {
@@ -326,7 +465,9 @@ public class BytecodeRecorderImpl implements RecorderContext {
 
         try {
             if (recordingProxyFactories.containsKey(theClass)) {
-                return (T) recordingProxyFactories.get(theClass).newInstance(invocationHandler);
+                T recordingProxy = (T) recordingProxyFactories.get(theClass).newInstance(invocationHandler);
+                existingProxyClasses.put(theClass, recordingProxy);
+                return recordingProxy;
             }
             String proxyNameSuffix = "$$RecordingProxyProxy" + COUNT.incrementAndGet();
 
@@ -372,6 +513,9 @@ public class BytecodeRecorderImpl implements RecorderContext {
                 if (method.getName().equals("__static$$init")) {
                     return staticInit;
                 }
+                if (method.getName().equals("__lazy$$task")) {
+                    return lazy ? className : null;
+                }
                 if (method.getName().equals("toString")
                         && method.getParameterTypes().length == 0
                         && method.getReturnType().equals(String.class)) {
@@ -576,6 +720,14 @@ public class BytecodeRecorderImpl implements RecorderContext {
             return loadedObject;
         }
 
+        //large collections and maps of simple values can be read from a binary resource, which is much faster
+        //than running the bytecode that creates them one element at a time
+        if (binaryValues != null && (param instanceof Collection || param instanceof Map)
+                && !substitutions.containsKey(expectedType)
+                && RecordedValueWriter.countValues(param, this::canRecordBinaryValue) >= MIN_BINARY_VALUES) {
+            return loadBinaryValue(param);
+        }
+
         //create the appropriate DeferredParameter, a lot of these a fairly simple constant values,
         //but some are quite complex when dealing with objects and collections
         if (substitutions.containsKey(param.getClass()) || substitutions.containsKey(expectedType)) {
@@ -698,7 +850,12 @@ public class BytecodeRecorderImpl implements RecorderContext {
                 throw new RuntimeException("Invalid proxy passed to recorder. " + rp
                         + " was created in a runtime recorder method, while this recorder is for a static init method. The object will not have been created at the time this method is run.");
             }
+            if (rp.__lazy$$task() != null && !rp.__lazy$$task().equals(className)) {
+                throw new RuntimeException("Invalid proxy passed to recorder. " + rp
+                        + " was created in a lazy recorder method, so it will only be created the first time the lazy task runs, and it can only be passed to the same recorder method.");
+            }
             String proxyId = rp.__returned$proxy$key();
+            usedProxyKeys.add(proxyId);
             //because this is the result of a method invocation that may not have happened at param deserialization time
             //we just load it from the startup context
             return new DeferredParameter() {
@@ -1505,6 +1662,46 @@ public class BytecodeRecorderImpl implements RecorderContext {
         };
     }
 
+    private boolean canRecordBinaryValue(Object param) {
+        if (substitutions.containsKey(param.getClass())) {
+            return false;
+        }
+        for (ObjectLoader loader : loaders) {
+            if (loader.canHandleObject(param, staticInit)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private DeferredParameter loadBinaryValue(Object param) {
+        int offset = binaryValues.write(param);
+        if (binaryValuesReader == null) {
+            //the resource is only read once, by the first value that is used
+            binaryValuesReader = new DeferredArrayStoreParameter() {
+                @Override
+                ResultHandle createValue(MethodContext context, MethodCreator method, ResultHandle array) {
+                    return method.newInstance(ofConstructor(RecordedValueReader.class, Class.class, String.class),
+                            method.loadClass(className), method.load(getBinaryValuesResourceName()));
+                }
+            };
+        }
+        DeferredArrayStoreParameter reader = binaryValuesReader;
+        return new DeferredArrayStoreParameter() {
+            @Override
+            void doPrepare(MethodContext context) {
+                reader.prepare(context);
+                super.doPrepare(context);
+            }
+
+            @Override
+            ResultHandle createValue(MethodContext context, MethodCreator method, ResultHandle array) {
+                return method.invokeVirtualMethod(ofMethod(RecordedValueReader.class, "read", Object.class, int.class),
+                        context.loadDeferred(reader), method.load(offset));
+            }
+        };
+    }
+
     private DeferredParameter findLoaded(final Object param) {
         for (ObjectLoader loader : loaders) {
             if (loader.canHandleObject(param, staticInit)) {
@@ -1527,6 +1724,13 @@ public class BytecodeRecorderImpl implements RecorderContext {
         String __returned$proxy$key();
 
         boolean __static$$init();
+
+        /**
+         * @return the name of the lazy task that creates the object, or {@code null} if it is not created lazily
+         */
+        default String __lazy$$task() {
+            return null;
+        }
     }
 
     static final class StoredMethodCall implements BytecodeInstruction {
@@ -0,0 +1,189 @@
+package io.quarkus.deployment.recording;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+import io.quarkus.runtime.recording.RecordedValueReader;
+
+/**
+ * Writes the large values passed to recorders to a binary resource, that is read by {@link RecordedValueReader} at
+ * runtime. This is only possible for collections and maps of the common JDK types whose elements are strings,
+ * primitive wrappers or other such collections and maps.
+ */
+final class RecordedValueWriter {
+
+    private static final Map<Class<?>, Byte> TAGS = new HashMap<>();
+
+    static {
+        TAGS.put(String.class, RecordedValueReader.STRING);
+        TAGS.put(Boolean.class, RecordedValueReader.BOOLEAN);
+        TAGS.put(Byte.class, RecordedValueReader.BYTE);
+        TAGS.put(Short.class, RecordedValueReader.SHORT);
+        TAGS.put(Character.class, RecordedValueReader.CHAR);
+        TAGS.put(Integer.class, RecordedValueReader.INT);
+        TAGS.put(Long.class, RecordedValueReader.LONG);
+        TAGS.put(Float.class, RecordedValueReader.FLOAT);
+        TAGS.put(Double.class, RecordedValueReader.DOUBLE);
+        TAGS.put(ArrayList.class, RecordedValueReader.ARRAY_LIST);
+        TAGS.put(LinkedList.class, RecordedValueReader.LINKED_LIST);
+        TAGS.put(HashSet.class, RecordedValueReader.HASH_SET);
+        TAGS.put(LinkedHashSet.class, RecordedValueReader.LINKED_HASH_SET);
+        TAGS.put(TreeSet.class, RecordedValueReader.TREE_SET);
+        TAGS.put(HashMap.class, RecordedValueReader.HASH_MAP);
+        TAGS.put(LinkedHashMap.class, RecordedValueReader.LINKED_HASH_MAP);
+        TAGS.put(TreeMap.class, RecordedValueReader.TREE_MAP);
+    }
+
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private final ByteArrayOutputStream values = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(values);
+
+    /**
+     * Counts the values of the given collection or map, including itself and all the nested values.
+     *
+     * @param value the value
+     * @param supported tests if a nested object can be written, in addition to its type being supported
+     * @return the number of values, or {@code -1} if the value cannot be written
+     */
+    static int countValues(Object value, Predicate<Object> supported) {
+        if (value == null) {
+            return 1;
+        }
+        if (!TAGS.containsKey(value.getClass()) || !supported.test(value)) {
+            return -1;
+        }
+        if ((value instanceof SortedSet && ((SortedSet<?>) value).comparator() != null)
+                || (value instanceof SortedMap && ((SortedMap<?, ?>) value).comparator() != null)) {
+            return -1;
+        }
+        int count = 1;
+        if (value instanceof Collection) {
+            for (Object element : (Collection<?>) value) {
+                int elementCount = countValues(element, supported);
+                if (elementCount < 0) {
+                    return -1;
+                }
+                count += elementCount;
+            }
+        } else if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                int keyCount = countValues(entry.getKey(), supported);
+                int valueCount = countValues(entry.getValue(), supported);
+                if (keyCount < 0 || valueCount < 0) {
+                    return -1;
+                }
+                count += keyCount + valueCount;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes the given value, which must be supported according to {@link #countValues(Object, Predicate)}.
+     *
+     * @return the offset of the value, to pass to {@link RecordedValueReader#read(int)}
+     */
+    int write(Object value) {
+        int offset = out.size();
+        try {
+            writeValue(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return offset;
+    }
+
+    boolean isEmpty() {
+        return out.size() == 0;
+    }
+
+    byte[] toByteArray() {
+        ByteArrayOutputStream result = new ByteArrayOutputStream(values.size() + strings.size() * 16);
+        try (DataOutputStream resultOut = new DataOutputStream(result)) {
+            resultOut.writeInt(strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                resultOut.writeInt(bytes.length);
+                resultOut.write(bytes);
+            }
+            values.writeTo(resultOut);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result.toByteArray();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(RecordedValueReader.NULL);
+            return;
+        }
+        byte tag = TAGS.get(value.getClass());
+        out.writeByte(tag);
+        switch (tag) {
+            case RecordedValueReader.STRING:
+                out.writeInt(stringIndexes.computeIfAbsent((String) value, s -> {
+                    strings.add(s);
+                    return strings.size() - 1;
+                }));
+                break;
+            case RecordedValueReader.BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case RecordedValueReader.BYTE:
+                out.writeByte((Byte) value);
+                break;
+            case RecordedValueReader.SHORT:
+                out.writeShort((Short) value);
+                break;
+            case RecordedValueReader.CHAR:
+                out.writeChar((Character) value);
+                break;
+            case RecordedValueReader.INT:
+                out.writeInt((Integer) value);
+                break;
+            case RecordedValueReader.LONG:
+                out.writeLong((Long) value);
+                break;
+            case RecordedValueReader.FLOAT:
+                out.writeFloat((Float) value);
+                break;
+            case RecordedValueReader.DOUBLE:
+                out.writeDouble((Double) value);
+                break;
+            default:
+                if (value instanceof Collection) {
+                    Collection<?> collection = (Collection<?>) value;
+                    out.writeInt(collection.size());
+                    for (Object element : collection) {
+                        writeValue(element);
+                    }
+                } else {
+                    Map<?, ?> map = (Map<?, ?>) value;
+                    out.writeInt(map.size());
+                    for (Map.Entry<?, ?> entry : map.entrySet()) {
+                        writeValue(entry.getKey());
+                        writeValue(entry.getValue());
+                    }
+                }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.quarkus.deployment.steps;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import io.quarkus.bootstrap.model.AppDependency;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.BuildCacheBuildItem;
+import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
+import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+public class BuildCacheBuildStep {
+
+    BuildCacheConfig config;
+
+    @ConfigRoot(name = "build-cache", phase = ConfigPhase.BUILD_TIME)
+    static final class BuildCacheConfig {
+        /**
+         * If the outputs of the cacheable build steps should be cached on disk, so that these steps are skipped in the
+         * next builds if their inputs did not change.
+         */
+        @ConfigItem(defaultValue = "false")
+        boolean enabled;
+
+        /**
+         * The directory of the cache. It can be shared by several projects, as the outputs are keyed by the hash of
+         * the inputs of the build steps, including the dependencies of the application.
+         * <p>
+         * If not set then the {@code quarkus-build-cache} directory of the build output directory is used.
+         */
+        @ConfigItem
+        Optional<String> directory;
+    }
+
+    @BuildStep
+    BuildCacheBuildItem buildCache(CurateOutcomeBuildItem curateOutcome, BuildSystemTargetBuildItem buildSystemTarget)
+            throws IOException {
+        if (!config.enabled) {
+            return new BuildCacheBuildItem(null, new byte[0]);
+        }
+        Path directory = config.directory.map(Paths::get)
+                .orElseGet(() -> buildSystemTarget.getOutputDirectory().resolve("quarkus-build-cache"));
+        return new BuildCacheBuildItem(directory, fingerprint(curateOutcome));
+    }
+
+    /**
+     * Computes the fingerprint of all the dependencies of the application, including the deployment dependencies.
+     * <p>
+     * The size and last modification time of the files are used instead of their content, so that computing the
+     * fingerprint is cheap even for large applications.
+     */
+    private static byte[] fingerprint(CurateOutcomeBuildItem curateOutcome) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (AppDependency dependency : curateOutcome.getEffectiveModel().getFullDeploymentDeps()) {
+            digest.update((dependency.getArtifact() + "\n").getBytes(StandardCharsets.UTF_8));
+            for (Path path : dependency.getArtifact().getPaths()) {
+                if (Files.isDirectory(path)) {
+                    // e.g. a module of the same project
+                    try (Stream<Path> files = Files.walk(path)) {
+                        Iterator<Path> iterator = files.sorted().iterator();
+                        while (iterator.hasNext()) {
+                            update(digest, iterator.next());
+                        }
+                    }
+                } else if (Files.exists(path)) {
+                    update(digest, path);
+                }
+            }
+        }
+        return digest.digest();
+    }
+
+    private static void update(MessageDigest digest, Path path) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        digest.update((path + "|" + attributes.size() + "|" + attributes.lastModifiedTime().toMillis() + "\n")
+                .getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
@@ -18,6 +19,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
@@ -33,20 +35,30 @@ import io.quarkus.deployment.QuarkusClassWriter;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
+import io.quarkus.deployment.builditem.ConfigurationBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.TransformedClassesBuildItem;
+import io.quarkus.deployment.configuration.BuildTimeConfigurationReader;
+import io.quarkus.deployment.dev.ReloadTimings;
 import io.quarkus.deployment.index.ConstPoolScanner;
 import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.util.HashUtil;
 
 public class ClassTransformingBuildStep {
 
     private static final Logger log = Logger.getLogger(ClassTransformingBuildStep.class);
 
     /**
-     * Cache used for dev mode to save the result for classes that have not changed.
+     * Cache used for dev mode to save the result for classes that have not changed, by class name.
+     * <p>
+     * The entries are only used if the hash of the original class bytes and the transformers have not changed, so that
+     * only the classes that actually changed are transformed again. The transformers are identified by the class names of
+     * their functions and the hash of the build time configuration. The cache is not used at all if the reload was not
+     * triggered by class
+     * changes only, e.g. if the configuration changed, because transformers may depend on resources.
      */
-    private static final Map<String, TransformedClassesBuildItem.TransformedClass> transformedClassesCache = new ConcurrentHashMap<>();
+    private static final Map<String, CachedTransformation> transformedClassesCache = new ConcurrentHashMap<>();
     private static volatile BiFunction<String, byte[], byte[]> lastTransformers;
 
     public static byte[] transform(String className, byte[] classData) {
@@ -60,7 +72,7 @@ public class ClassTransformingBuildStep {
     @BuildStep
     TransformedClassesBuildItem handleClassTransformation(List<BytecodeTransformerBuildItem> bytecodeTransformerBuildItems,
             ApplicationArchivesBuildItem appArchives, LiveReloadBuildItem liveReloadBuildItem,
-            LaunchModeBuildItem launchModeBuildItem)
+            LaunchModeBuildItem launchModeBuildItem, ConfigurationBuildItem configurationBuildItem)
             throws ExecutionException, InterruptedException {
         if (bytecodeTransformerBuildItems.isEmpty()) {
             return new TransformedClassesBuildItem(Collections.emptyMap());
@@ -138,21 +150,21 @@ public class ClassTransformingBuildStep {
                 }
             }
         };
+        final boolean devMode = launchModeBuildItem.getLaunchMode() == LaunchMode.DEVELOPMENT;
+        // a change of a resource, such as application.properties, may change the result of a transformation
+        final boolean useCache = liveReloadBuildItem.getChangeInformation() != null
+                && liveReloadBuildItem.getChangedResources().isEmpty();
+        // transformers may depend on the build time configuration, which is not necessarily read from a resource
+        final String configHash = devMode ? configHash(configurationBuildItem) : null;
+        final AtomicInteger transformedCount = new AtomicInteger();
+        final AtomicInteger cachedCount = new AtomicInteger();
+        final long start = System.nanoTime();
         try {
             for (Map.Entry<String, List<BytecodeTransformerBuildItem>> entry : bytecodeTransformers
                     .entrySet()) {
                 String className = entry.getKey();
-                boolean cacheable = !nonCacheable.contains(className);
-                if (cacheable && transformedClassesCache.containsKey(className)) {
-                    if (liveReloadBuildItem.getChangeInformation() != null) {
-                        if (!liveReloadBuildItem.getChangeInformation().getChangedClasses().contains(className)) {
-                            //we can use the cached transformation
-                            handleTransformedClass(transformedToArchive, transformedClassesByJar,
-                                    transformedClassesCache.get(className));
-                            continue;
-                        }
-                    }
-                }
+                boolean cacheable = devMode && !nonCacheable.contains(className);
+                String transformersId = cacheable ? transformersId(entry.getValue(), configHash) : null;
                 String classFileName = className.replace(".", "/") + ".class";
                 List<ClassPathElement> archives = cl.getElementsWithResource(classFileName);
                 if (!archives.isEmpty()) {
@@ -178,17 +190,28 @@ public class ClassTransformingBuildStep {
                                 Thread.currentThread().setContextClassLoader(transformCl);
                                 Set<String> constValues = constScanning.get(className);
                                 byte[] classData = classPathElement.getResource(classFileName).getData();
-                                if (constValues != null && !noConstScanning.contains(className)) {
-                                    if (!ConstPoolScanner.constPoolEntryPresent(classData, constValues)) {
-                                        return null;
+                                String hash = null;
+                                if (cacheable) {
+                                    hash = HashUtil.sha1(classData);
+                                    CachedTransformation cached = useCache ? transformedClassesCache.get(className) : null;
+                                    if (cached != null && cached.matches(hash, transformersId)) {
+                                        //we can use the cached transformation
+                                        cachedCount.incrementAndGet();
+                                        return cached.transformedClass;
                                     }
                                 }
-                                byte[] data = transformClass(className, visitors, classData, preVisitFunctions);
-                                TransformedClassesBuildItem.TransformedClass transformedClass = new TransformedClassesBuildItem.TransformedClass(
-                                        className, data,
-                                        classFileName, eager.contains(className));
-                                if (cacheable && launchModeBuildItem.getLaunchMode() == LaunchMode.DEVELOPMENT) {
-                                    transformedClassesCache.put(className, transformedClass);
+                                TransformedClassesBuildItem.TransformedClass transformedClass = null;
+                                if (constValues == null || noConstScanning.contains(className)
+                                        || ConstPoolScanner.constPoolEntryPresent(classData, constValues)) {
+                                    byte[] data = transformClass(className, visitors, classData, preVisitFunctions);
+                                    transformedClass = new TransformedClassesBuildItem.TransformedClass(
+                                            className, data,
+                                            classFileName, eager.contains(className));
+                                    transformedCount.incrementAndGet();
+                                }
+                                if (cacheable) {
+                                    transformedClassesCache.put(className,
+                                            new CachedTransformation(hash, transformersId, transformedClass));
                                 }
                                 return transformedClass;
                             } finally {
@@ -213,9 +236,39 @@ public class ClassTransformingBuildStep {
                 }
             }
         }
+        if (devMode) {
+            ReloadTimings.recordTransformation(transformedCount.get(), cachedCount.get(), System.nanoTime() - start);
+        }
         return new TransformedClassesBuildItem(transformedClassesByJar);
     }
 
+    /**
+     * The class names of the transformer functions, in order, and the hash of the build time configuration.
+     * <p>
+     * The class name of a function is stable across the restarts of the dev mode, as the deployment classes are loaded
+     * once. The state captured by a function is assumed to be derived from the configuration.
+     */
+    static String transformersId(List<BytecodeTransformerBuildItem> transformers, String configHash) {
+        StringBuilder id = new StringBuilder(configHash);
+        for (BytecodeTransformerBuildItem i : transformers) {
+            id.append(';');
+            if (i.getInputTransformer() != null) {
+                id.append(i.getInputTransformer().getClass().getName());
+            }
+            id.append(',');
+            if (i.getVisitorFunction() != null) {
+                id.append(i.getVisitorFunction().getClass().getName());
+            }
+        }
+        return id.toString();
+    }
+
+    private static String configHash(ConfigurationBuildItem configurationBuildItem) {
+        BuildTimeConfigurationReader.ReadResult readResult = configurationBuildItem.getReadResult();
+        return HashUtil.sha1(new TreeMap<>(readResult.getAllBuildTimeValues()) + "|"
+                + new TreeMap<>(readResult.getBuildTimeRunTimeVisibleValues()));
+    }
+
     private byte[] transformClass(String className, List<BiFunction<String, ClassVisitor, ClassVisitor>> visitors,
             byte[] classData, List<BiFunction<String, byte[], byte[]>> preVisitFunctions) {
         for (BiFunction<String, byte[], byte[]> i : preVisitFunctions) {
@@ -259,4 +312,25 @@ public class ClassTransformingBuildStep {
                 .add(res);
     }
 
+    private static final class CachedTransformation {
+
+        final String hash;
+        final String transformersId;
+        /**
+         * The transformed class, or {@code null} if the class did not need to be transformed.
+         */
+        final TransformedClassesBuildItem.TransformedClass transformedClass;
+
+        CachedTransformation(String hash, String transformersId,
+                TransformedClassesBuildItem.TransformedClass transformedClass) {
+            this.hash = hash;
+            this.transformersId = transformersId;
+            this.transformedClass = transformedClass;
+        }
+
+        boolean matches(String hash, String transformersId) {
+            return this.hash.equals(hash) && this.transformersId.equals(transformersId);
+        }
+    }
+
 }
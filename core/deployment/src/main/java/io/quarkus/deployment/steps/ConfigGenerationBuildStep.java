@@ -3,9 +3,11 @@ package io.quarkus.deployment.steps;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.config.Config;
@@ -17,6 +19,7 @@ import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.AdditionalBootstrapConfigSourceProviderBuildItem;
+import io.quarkus.deployment.builditem.BuildCacheBuildItem;
 import io.quarkus.deployment.builditem.ConfigurationBuildItem;
 import io.quarkus.deployment.builditem.ConfigurationTypeBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
@@ -45,7 +48,8 @@ public class ConfigGenerationBuildStep {
             LaunchModeBuildItem launchModeBuildItem,
             BuildProducer<GeneratedClassBuildItem> generatedClass,
             LiveReloadBuildItem liveReloadBuildItem,
-            List<AdditionalBootstrapConfigSourceProviderBuildItem> additionalBootstrapConfigSourceProviders) {
+            List<AdditionalBootstrapConfigSourceProviderBuildItem> additionalBootstrapConfigSourceProviders,
+            BuildCacheBuildItem buildCache) {
         if (liveReloadBuildItem.isLiveReload()) {
             return;
         }
@@ -58,11 +62,49 @@ public class ConfigGenerationBuildStep {
         }
         List<Class<?>> additionalConfigTypes = typeItems.stream().map(ConfigurationTypeBuildItem::getValueType)
                 .collect(Collectors.toList());
+        boolean devMode = launchModeBuildItem.getLaunchMode() == LaunchMode.DEVELOPMENT;
+        List<String> bootstrapConfigSourceProviders = getAdditionalBootstrapConfigSourceProviders(
+                additionalBootstrapConfigSourceProviders);
+
+        BuildCacheBuildItem.Key key = buildCache.newKey("config-generation")
+                .put(devMode)
+                .put(readResult.getAllBuildTimeValues())
+                .put(readResult.getBuildTimeRunTimeVisibleValues())
+                .put(readResult.getSpecifiedRunTimeDefaultValues())
+                .put(defaults)
+                .put(bootstrapConfigSourceProviders);
+        // the generated class depends on the members of the config roots and groups, which may be application classes
+        Set<Class<?>> configClasses = new LinkedHashSet<>();
+        for (RootDefinition root : readResult.getAllRoots()) {
+            collectConfigClasses(root, configClasses);
+        }
+        configClasses.addAll(additionalConfigTypes);
+        for (Class<?> configClass : configClasses) {
+            key.putClass(configClass);
+        }
+        List<GeneratedClassBuildItem> generatedClasses = buildCache.getGeneratedClasses(key);
+        if (generatedClasses == null) {
+            generatedClasses = new ArrayList<>();
+            ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClasses::add, false);
+            RunTimeConfigurationGenerator.generate(readResult, classOutput, devMode, defaults, additionalConfigTypes,
+                    bootstrapConfigSourceProviders);
+            buildCache.putGeneratedClasses(key, generatedClasses);
+        }
+        generatedClasses.forEach(generatedClass::produce);
+    }
 
-        ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClass, false);
-        RunTimeConfigurationGenerator.generate(readResult, classOutput,
-                launchModeBuildItem.getLaunchMode() == LaunchMode.DEVELOPMENT, defaults, additionalConfigTypes,
-                getAdditionalBootstrapConfigSourceProviders(additionalBootstrapConfigSourceProviders));
+    private static void collectConfigClasses(ClassDefinition definition, Set<Class<?>> configClasses) {
+        if (!configClasses.add(definition.getConfigurationClass())) {
+            return;
+        }
+        for (ClassDefinition.ClassMember member : definition.getMembers()) {
+            while (member instanceof ClassDefinition.MapMember) {
+                member = ((ClassDefinition.MapMember) member).getNested();
+            }
+            if (member instanceof ClassDefinition.GroupMember) {
+                collectConfigClasses(((ClassDefinition.GroupMember) member).getGroupDefinition(), configClasses);
+            }
+        }
     }
 
     private List<String> getAdditionalBootstrapConfigSourceProviders(
@@ -7,12 +7,15 @@ import java.io.File;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.Handler;
 import java.util.stream.Collectors;
@@ -40,6 +43,7 @@ import io.quarkus.deployment.builditem.BytecodeRecorderObjectLoaderBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.JavaLibraryPathAdditionalPathBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
@@ -49,6 +53,7 @@ import io.quarkus.deployment.builditem.ObjectSubstitutionBuildItem;
 import io.quarkus.deployment.builditem.QuarkusApplicationClassBuildItem;
 import io.quarkus.deployment.builditem.StaticBytecodeRecorderBuildItem;
 import io.quarkus.deployment.builditem.SystemPropertyBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.configuration.RunTimeConfigurationGenerator;
 import io.quarkus.deployment.pkg.PackageConfig;
@@ -67,11 +72,16 @@ import io.quarkus.gizmo.TryBlock;
 import io.quarkus.runtime.Application;
 import io.quarkus.runtime.ApplicationLifecycleManager;
 import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.LazyStartupTasks;
 import io.quarkus.runtime.NativeImageRuntimePropertiesRecorder;
+import io.quarkus.runtime.ParallelStartupTasks;
 import io.quarkus.runtime.Quarkus;
 import io.quarkus.runtime.QuarkusApplication;
 import io.quarkus.runtime.StartupContext;
 import io.quarkus.runtime.StartupTask;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.runtime.annotations.QuarkusMain;
 import io.quarkus.runtime.appcds.AppCDSUtil;
 import io.quarkus.runtime.configuration.ProfileManager;
@@ -104,6 +114,46 @@ public class MainClassBuildStep {
             void.class);
     public static final MethodDescriptor CONFIGURE_STEP_TIME_START = ofMethod(StepTiming.class.getName(), "configureStart",
             void.class);
+    private static final MethodDescriptor REGISTER_LAZY_STARTUP_TASK_METHOD = ofMethod(LazyStartupTasks.class, "register",
+            void.class, StartupContext.class, String.class, String[].class, StartupTask.class);
+    private static final MethodDescriptor RUN_PARALLEL_STARTUP_TASKS_METHOD = ofMethod(ParallelStartupTasks.class, "run",
+            void.class, StartupContext.class, StartupTask[].class, String[].class, String[].class, int.class);
+
+    StartupConfig startupConfig;
+
+    @ConfigRoot(name = "startup", phase = ConfigPhase.BUILD_TIME)
+    static final class StartupConfig {
+        /**
+         * If the recorded startup tasks that do not depend on each other should run in parallel on a small bootstrap
+         * pool, instead of one after the other.
+         * <p>
+         * A task depends on the tasks recorded by the build steps its build step depends on, on the tasks that returned
+         * the objects it uses and on the tasks that use the same recorders. The tasks can also run one after the other
+         * without rebuilding the application by setting the {@code quarkus.debug.sequential-startup} system property to
+         * {@code true}.
+         */
+        @ConfigItem(defaultValue = "false")
+        boolean parallel;
+
+        /**
+         * The maximum number of threads that run the startup tasks in parallel.
+         * <p>
+         * If not set then the number of processors is used, up to 4.
+         */
+        @ConfigItem
+        OptionalInt maxThreads;
+
+        /**
+         * If the large collections and maps of simple values that are passed to recorders, such as route tables, should
+         * be recorded in a binary resource that is read at startup, instead of being created by the bytecode of the
+         * startup tasks.
+         * <p>
+         * This reduces the size of the generated startup tasks, that are interpreted before they are compiled, at the
+         * cost of reading a resource per startup task that records such values.
+         */
+        @ConfigItem(defaultValue = "false")
+        boolean binaryRecordedValues;
+    }
 
     @BuildStep
     void build(List<StaticBytecodeRecorderBuildItem> staticInitTasks,
@@ -115,6 +165,8 @@ public class MainClassBuildStep {
             BuildProducer<ApplicationClassNameBuildItem> appClassNameProducer,
             List<BytecodeRecorderObjectLoaderBuildItem> loaders,
             BuildProducer<GeneratedClassBuildItem> generatedClass,
+            BuildProducer<GeneratedResourceBuildItem> generatedResource,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResource,
             LaunchModeBuildItem launchMode,
             LiveReloadBuildItem liveReloadBuildItem,
             ApplicationInfoBuildItem applicationInfo,
@@ -166,10 +218,12 @@ public class MainClassBuildStep {
         mv.writeStaticField(scField.getFieldDescriptor(), startupContext);
         TryBlock tryBlock = mv.tryBlock();
         tryBlock.invokeStaticMethod(CONFIGURE_STEP_TIME_START);
+        List<RecordedStartupTask> tasks = new ArrayList<>();
         for (StaticBytecodeRecorderBuildItem holder : staticInitTasks) {
-            writeRecordedBytecode(holder.getBytecodeRecorder(), null, substitutions, loaders, gizmoOutput, startupContext,
-                    tryBlock);
+            writeRecordedBytecode(holder.getBytecodeRecorder(), null, substitutions, loaders, gizmoOutput,
+                    generatedResource, nativeImageResource, tasks);
         }
+        writeStartupTasks(tasks, startupContext, tryBlock);
         tryBlock.returnValue(null);
 
         CatchBlockCreator cb = tryBlock.addCatch(Throwable.class);
@@ -260,10 +314,12 @@ public class MainClassBuildStep {
 
         tryBlock = mv.tryBlock();
         tryBlock.invokeStaticMethod(CONFIGURE_STEP_TIME_START);
+        tasks = new ArrayList<>();
         for (MainBytecodeRecorderBuildItem holder : mainMethod) {
             writeRecordedBytecode(holder.getBytecodeRecorder(), holder.getGeneratedStartupContextClassName(), substitutions,
-                    loaders, gizmoOutput, startupContext, tryBlock);
+                    loaders, gizmoOutput, generatedResource, nativeImageResource, tasks);
         }
+        writeStartupTasks(tasks, startupContext, tryBlock);
 
         // Startup log messages
         List<String> featureNames = new ArrayList<>();
@@ -284,6 +340,15 @@ public class MainClassBuildStep {
                 featuresHandle,
                 activeProfile,
                 tryBlock.load(LaunchMode.DEVELOPMENT.equals(launchMode.getLaunchMode())));
+        if (appCDSRequested.isPresent()) {
+            // only the AppCDS training run sets the system property
+            ResultHandle startedFile = tryBlock.invokeStaticMethod(
+                    ofMethod(System.class, "getProperty", String.class, String.class),
+                    tryBlock.load(AppCDSUtil.TRAINING_RUN_STARTED_FILE_SYSTEM_PROPERTY));
+            BytecodeCreator trainingRun = tryBlock.ifNotNull(startedFile).trueBranch();
+            trainingRun.invokeStaticMethod(ofMethod(AppCDSUtil.class, "notifyTrainingRunStarted", void.class, String.class),
+                    startedFile);
+        }
         cb = tryBlock.addCatch(Throwable.class);
 
         // an exception was thrown before logging was actually setup, we simply dump everything to the console
@@ -421,7 +486,8 @@ public class MainClassBuildStep {
     private void writeRecordedBytecode(BytecodeRecorderImpl recorder, String fallbackGeneratedStartupTaskClassName,
             List<ObjectSubstitutionBuildItem> substitutions,
             List<BytecodeRecorderObjectLoaderBuildItem> loaders, GeneratedClassGizmoAdaptor gizmoOutput,
-            ResultHandle startupContext, BytecodeCreator bytecodeCreator) {
+            BuildProducer<GeneratedResourceBuildItem> generatedResource,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResource, List<RecordedStartupTask> tasks) {
 
         if ((recorder == null || recorder.isEmpty()) && fallbackGeneratedStartupTaskClassName == null) {
             return;
@@ -435,14 +501,126 @@ public class MainClassBuildStep {
             for (BytecodeRecorderObjectLoaderBuildItem item : loaders) {
                 recorder.registerObjectLoader(item.getObjectLoader());
             }
+            if (startupConfig.binaryRecordedValues) {
+                recorder.enableBinaryValues();
+            }
             recorder.writeBytecode(gizmoOutput);
+            byte[] binaryValues = recorder.getBinaryValues();
+            if (binaryValues != null) {
+                generatedResource.produce(new GeneratedResourceBuildItem(recorder.getBinaryValuesResourceName(), binaryValues));
+                nativeImageResource.produce(new NativeImageResourceBuildItem(recorder.getBinaryValuesResourceName()));
+            }
+            tasks.add(new RecordedStartupTask(recorder.getClassName(), recorder));
+        } else {
+            tasks.add(new RecordedStartupTask(fallbackGeneratedStartupTaskClassName, null));
+        }
+    }
+
+    private void writeStartupTasks(List<RecordedStartupTask> tasks, ResultHandle startupContext,
+            BytecodeCreator bytecodeCreator) {
+        List<RecordedStartupTask> eagerTasks = new ArrayList<>();
+        for (RecordedStartupTask task : tasks) {
+            if (task.recorder != null && task.recorder.isLazy()) {
+                // the task only runs the first time one of its recorders is used
+                List<String> recorderClassNames = task.recorder.getRecorderClassNames();
+                ResultHandle recorders = bytecodeCreator.newArray(String.class, recorderClassNames.size());
+                for (int i = 0; i < recorderClassNames.size(); i++) {
+                    bytecodeCreator.writeArrayValue(recorders, i, bytecodeCreator.load(recorderClassNames.get(i)));
+                }
+                bytecodeCreator.invokeStaticMethod(REGISTER_LAZY_STARTUP_TASK_METHOD, startupContext,
+                        bytecodeCreator.load(task.recorder.getBuildStepName()), recorders,
+                        bytecodeCreator.newInstance(ofConstructor(task.className)));
+            } else if (startupConfig.parallel) {
+                eagerTasks.add(task);
+            } else {
+                ResultHandle dup = bytecodeCreator.newInstance(ofConstructor(task.className));
+                bytecodeCreator.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class),
+                        dup, startupContext);
+                bytecodeCreator.invokeStaticMethod(PRINT_STEP_TIME_METHOD, startupContext);
+            }
+        }
+        // in parallel mode the lazy tasks are registered first, so that they are known if one of the tasks initializes them
+        if (eagerTasks.isEmpty()) {
+            return;
+        }
+        String[] dependencies = computeDependencies(eagerTasks);
+        ResultHandle taskArray = bytecodeCreator.newArray(StartupTask.class, eagerTasks.size());
+        ResultHandle nameArray = bytecodeCreator.newArray(String.class, eagerTasks.size());
+        ResultHandle dependencyArray = bytecodeCreator.newArray(String.class, eagerTasks.size());
+        for (int i = 0; i < eagerTasks.size(); i++) {
+            RecordedStartupTask task = eagerTasks.get(i);
+            bytecodeCreator.writeArrayValue(taskArray, i, bytecodeCreator.newInstance(ofConstructor(task.className)));
+            bytecodeCreator.writeArrayValue(nameArray, i, bytecodeCreator
+                    .load(task.recorder != null ? task.recorder.getBuildStepName() : task.className));
+            bytecodeCreator.writeArrayValue(dependencyArray, i, bytecodeCreator.load(dependencies[i]));
+        }
+        bytecodeCreator.invokeStaticMethod(RUN_PARALLEL_STARTUP_TASKS_METHOD, startupContext, taskArray, nameArray,
+                dependencyArray, bytecodeCreator.load(startupConfig.maxThreads.orElse(0)));
+    }
+
+    /**
+     * Computes the tasks that each task depends on, as comma separated indexes. The tasks are in the order of the build,
+     * so a task can only depend on the tasks before it. Only the direct dependencies are kept, i.e. a dependency that is
+     * also a dependency of another dependency is removed.
+     */
+    static String[] computeDependencies(List<RecordedStartupTask> tasks) {
+        BitSet[] transitiveDependencies = new BitSet[tasks.size()];
+        String[] result = new String[tasks.size()];
+        for (int i = 0; i < tasks.size(); i++) {
+            BitSet direct = new BitSet();
+            for (int j = 0; j < i; j++) {
+                if (tasks.get(i).dependsOn(tasks.get(j))) {
+                    direct.set(j);
+                }
+            }
+            BitSet transitive = new BitSet();
+            for (int j = direct.nextSetBit(0); j >= 0; j = direct.nextSetBit(j + 1)) {
+                transitive.or(transitiveDependencies[j]);
+            }
+            StringBuilder dependencies = new StringBuilder();
+            for (int j = direct.nextSetBit(0); j >= 0; j = direct.nextSetBit(j + 1)) {
+                if (!transitive.get(j)) {
+                    if (dependencies.length() > 0) {
+                        dependencies.append(',');
+                    }
+                    dependencies.append(j);
+                }
+            }
+            transitive.or(direct);
+            transitiveDependencies[i] = transitive;
+            result[i] = dependencies.toString();
+        }
+        return result;
+    }
+
+    static final class RecordedStartupTask {
+
+        final String className;
+        final BytecodeRecorderImpl recorder;
+        final Set<String> producedProxyKeys;
+        final List<String> recorderClassNames;
+
+        RecordedStartupTask(String className, BytecodeRecorderImpl recorder) {
+            this.className = className;
+            this.recorder = recorder;
+            this.producedProxyKeys = recorder != null ? recorder.getProducedProxyKeys() : Collections.emptySet();
+            this.recorderClassNames = recorder != null ? recorder.getRecorderClassNames() : Collections.emptyList();
         }
 
-        ResultHandle dup = bytecodeCreator
-                .newInstance(ofConstructor(recorder != null ? recorder.getClassName() : fallbackGeneratedStartupTaskClassName));
-        bytecodeCreator.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
-                startupContext);
-        bytecodeCreator.invokeStaticMethod(PRINT_STEP_TIME_METHOD, startupContext);
+        /**
+         * @return {@code true} if this task must run after the given task, which was recorded before it
+         */
+        boolean dependsOn(RecordedStartupTask other) {
+            if (recorder == null || other.recorder == null || recorder.getBuildStepId() == null
+                    || other.recorder.getBuildStepId() == null) {
+                // the tasks that are not recorded are generated by steps whose dependencies are not known
+                return true;
+            }
+            return recorder.getBuildStepDependencies().contains(other.recorder.getBuildStepId())
+                    || !Collections.disjoint(recorder.getUsedProxyKeys(), other.producedProxyKeys)
+                    // recorders often keep state in static fields
+                    || !Collections.disjoint(recorderClassNames, other.recorderClassNames);
+        }
     }
 
     /**
@@ -0,0 +1,93 @@
+package io.quarkus.deployment.builditem;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BuildCacheBuildItemTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testGeneratedClassesAreReused() {
+        BuildCacheBuildItem cache = new BuildCacheBuildItem(tempDir, new byte[] { 1 });
+        assertTrue(cache.isEnabled());
+        Map<String, String> values = new HashMap<>();
+        values.put("quarkus.a", "1");
+        values.put("quarkus.b", "2");
+
+        assertNull(cache.getGeneratedClasses(cache.newKey("step").put(values)));
+        cache.putGeneratedClasses(cache.newKey("step").put(values), Arrays.asList(
+                new GeneratedClassBuildItem(false, "org/acme/First", new byte[] { 1, 2, 3 }, "source"),
+                new GeneratedClassBuildItem(true, "org/acme/Second", new byte[0])));
+
+        // the order of the entries of a map does not matter
+        List<GeneratedClassBuildItem> classes = cache.getGeneratedClasses(cache.newKey("step").put(new TreeMap<>(values)));
+        assertEquals(2, classes.size());
+        assertFalse(classes.get(0).isApplicationClass());
+        assertEquals("org/acme/First", classes.get(0).getName());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, classes.get(0).getClassData());
+        assertEquals("source", classes.get(0).getSource());
+        assertTrue(classes.get(1).isApplicationClass());
+        assertEquals("org/acme/Second", classes.get(1).getName());
+        assertArrayEquals(new byte[0], classes.get(1).getClassData());
+        assertNull(classes.get(1).getSource());
+
+        // any other input, step or set of dependencies is a miss
+        Map<String, String> changed = new HashMap<>(values);
+        changed.put("quarkus.b", "3");
+        assertNull(cache.getGeneratedClasses(cache.newKey("step").put(changed)));
+        assertNull(cache.getGeneratedClasses(cache.newKey("other-step").put(values)));
+        BuildCacheBuildItem otherDependencies = new BuildCacheBuildItem(tempDir, new byte[] { 2 });
+        assertNull(otherDependencies.getGeneratedClasses(otherDependencies.newKey("step").put(values)));
+    }
+
+    @Test
+    public void testClassesAreKeyedByBytecode() {
+        BuildCacheBuildItem cache = new BuildCacheBuildItem(tempDir, new byte[] { 1 });
+        cache.putGeneratedClasses(cache.newKey("step").putClass(First.class), Collections.singletonList(
+                new GeneratedClassBuildItem(false, "org/acme/First", new byte[] { 1 })));
+        assertEquals(1, cache.getGeneratedClasses(cache.newKey("step").putClass(First.class)).size());
+        assertNull(cache.getGeneratedClasses(cache.newKey("step").putClass(Second.class)));
+        // a class of the JDK is keyed by its name
+        cache.putGeneratedClasses(cache.newKey("jdk").putClass(String.class), Collections.singletonList(
+                new GeneratedClassBuildItem(false, "org/acme/First", new byte[] { 1 })));
+        assertEquals(1, cache.getGeneratedClasses(cache.newKey("jdk").putClass(String.class)).size());
+        // the outputs are not cached if the bytecode of a class cannot be read
+        Class<?> proxy = Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Runnable.class },
+                (p, m, a) -> null).getClass();
+        cache.putGeneratedClasses(cache.newKey("proxy").putClass(proxy), Collections.singletonList(
+                new GeneratedClassBuildItem(false, "org/acme/First", new byte[] { 1 })));
+        assertNull(cache.getGeneratedClasses(cache.newKey("proxy").putClass(proxy)));
+    }
+
+    @Test
+    public void testDisabledCache() {
+        BuildCacheBuildItem cache = new BuildCacheBuildItem(null, new byte[0]);
+        assertFalse(cache.isEnabled());
+        cache.putGeneratedClasses(cache.newKey("step"), Collections.singletonList(
+                new GeneratedClassBuildItem(false, "org/acme/First", new byte[] { 1 })));
+        assertNull(cache.getGeneratedClasses(cache.newKey("step")));
+    }
+
+    static class First {
+    }
+
+    static class Second {
+    }
+}
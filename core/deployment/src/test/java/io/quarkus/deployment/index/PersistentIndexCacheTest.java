@@ -0,0 +1,134 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PersistentIndexCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testIndexIsReadFromCache() throws IOException {
+        Path cacheDir = tempDir.resolve("cache");
+        Path jar = createJar(tempDir.resolve("first.jar"), PersistentIndexCacheTest.class);
+        // same content, different path
+        Path copy = Files.copy(jar, tempDir.resolve("copy.jar"));
+
+        PersistentIndexCache cache = new PersistentIndexCache(cacheDir, Long.MAX_VALUE);
+        Index index = cache.indexJar(jar);
+        assertNotNull(index.getClassByName(DotName.createSimple(PersistentIndexCacheTest.class.getName())));
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        cache = new PersistentIndexCache(cacheDir, Long.MAX_VALUE);
+        index = cache.indexJar(copy);
+        assertNotNull(index.getClassByName(DotName.createSimple(PersistentIndexCacheTest.class.getName())));
+        assertEquals(1, cache.getHits());
+        assertEquals(0, cache.getMisses());
+
+        // a changed jar is indexed again
+        createJar(jar, PersistentIndexCache.class);
+        index = cache.indexJar(jar);
+        assertNotNull(index.getClassByName(DotName.createSimple(PersistentIndexCache.class.getName())));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testEmbeddedIndexIsNotCached() throws IOException {
+        Path cacheDir = tempDir.resolve("cache");
+        Path jar = createJar(tempDir.resolve("indexed.jar"), PersistentIndexCacheTest.class);
+        Indexer indexer = new Indexer();
+        try (InputStream in = PersistentIndexCache.class.getResourceAsStream("PersistentIndexCache.class")) {
+            indexer.index(in);
+        }
+        // the embedded index wins over the classes of the jar
+        addIndex(jar, indexer.complete());
+
+        PersistentIndexCache cache = new PersistentIndexCache(cacheDir, Long.MAX_VALUE);
+        Index index = cache.indexJar(jar);
+        assertNotNull(index.getClassByName(DotName.createSimple(PersistentIndexCache.class.getName())));
+        assertNull(index.getClassByName(DotName.createSimple(PersistentIndexCacheTest.class.getName())));
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+        assertFalse(Files.exists(cacheDir));
+    }
+
+    @Test
+    public void testEviction() throws IOException {
+        Path cacheDir = tempDir.resolve("cache");
+        PersistentIndexCache cache = new PersistentIndexCache(cacheDir, Long.MAX_VALUE);
+        cache.indexJar(createJar(tempDir.resolve("first.jar"), PersistentIndexCacheTest.class));
+        Path first = list(cacheDir).get(0);
+        cache.indexJar(createJar(tempDir.resolve("second.jar"), PersistentIndexCache.class));
+        List<Path> indexes = list(cacheDir);
+        assertEquals(2, indexes.size());
+        indexes.remove(first);
+        Path second = indexes.get(0);
+        cache.evict();
+        assertEquals(2, list(cacheDir).size());
+
+        // the first index is the least recently used one
+        Files.setLastModifiedTime(first, FileTime.fromMillis(0));
+        cache = new PersistentIndexCache(cacheDir, Files.size(second));
+        cache.evict();
+        assertEquals(Collections.singletonList(second), list(cacheDir));
+    }
+
+    private static List<Path> list(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    private static void addIndex(Path jar, Index index) throws IOException {
+        try (FileSystem fs = FileSystems.newFileSystem(jar, (ClassLoader) null)) {
+            Path idx = fs.getPath(IndexingUtil.JANDEX_INDEX);
+            Files.createDirectories(idx.getParent());
+            try (OutputStream out = Files.newOutputStream(idx)) {
+                new IndexWriter(out).write(index);
+            }
+        }
+    }
+
+    private static Path createJar(Path path, Class<?> clazz) throws IOException {
+        String name = clazz.getName().replace('.', '/') + ".class";
+        try (OutputStream out = Files.newOutputStream(path);
+                JarOutputStream jar = new JarOutputStream(out);
+                InputStream in = clazz.getClassLoader().getResourceAsStream(name)) {
+            jar.putNextEntry(new JarEntry(name));
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                jar.write(buffer, 0, read);
+            }
+            jar.closeEntry();
+        }
+        return path;
+    }
+}
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.net.URL;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -336,6 +338,65 @@ public class BytecodeRecorderTestCase {
         }, duration);
     }
 
+    @Test
+    public void testLazyReturnedProxy() throws Exception {
+        TestClassLoader tcl = new TestClassLoader(getClass().getClassLoader());
+        BytecodeRecorderImpl lazy = new BytecodeRecorderImpl(tcl, false, true, TEST_CLASS + "Lazy");
+        TestRecorder lazyRecorder = lazy.getRecordingProxy(TestRecorder.class);
+        Supplier<String> supplier = lazyRecorder.stringSupplier("lazy");
+        Assertions.assertThrows(RuntimeException.class, () -> {
+            BytecodeRecorderImpl eager = new BytecodeRecorderImpl(tcl, false, TEST_CLASS);
+            eager.getRecordingProxy(TestRecorder.class).object(supplier);
+            eager.writeBytecode(new TestClassOutput(tcl));
+        });
+
+        // the returned object can be passed back to the lazy recorder
+        TestRecorder.RESULT.clear();
+        lazyRecorder.object(supplier);
+        lazy.writeBytecode(new TestClassOutput(tcl));
+        assertTrue(lazy.isLazy());
+        assertEquals(Collections.singletonList(TestRecorder.class.getName()), lazy.getRecorderClassNames());
+        StartupTask task = (StartupTask) tcl.loadClass(TEST_CLASS + "Lazy").newInstance();
+        task.deploy(new StartupContext());
+        assertEquals("lazy", ((Supplier<?>) TestRecorder.RESULT.poll()).get());
+    }
+
+    @Test
+    public void testBinaryValues() throws Exception {
+        Map<String, List<Object>> routes = new LinkedHashMap<>();
+        for (int i = 0; i < 50; i++) {
+            routes.put("/route" + i, new ArrayList<>(Arrays.asList(i, (long) i, i % 2 == 0, "GET", null)));
+        }
+        Set<String> small = new HashSet<>(Arrays.asList("a", "b"));
+        TestRecorder.RESULT.clear();
+        Map<String, byte[]> resources = new HashMap<>();
+        TestClassLoader tcl = new TestClassLoader(getClass().getClassLoader()) {
+            @Override
+            public InputStream getResourceAsStream(String name) {
+                return resources.containsKey(name) ? new ByteArrayInputStream(resources.get(name))
+                        : super.getResourceAsStream(name);
+            }
+        };
+        BytecodeRecorderImpl recorder = new BytecodeRecorderImpl(tcl, false, TEST_CLASS);
+        recorder.enableBinaryValues();
+        TestRecorder testRecorder = recorder.getRecordingProxy(TestRecorder.class);
+        testRecorder.map(routes);
+        testRecorder.set(small);
+        recorder.writeBytecode(new TestClassOutput(tcl));
+        // only the large value is in the resource
+        byte[] binaryValues = recorder.getBinaryValues();
+        assertNotNull(binaryValues);
+        resources.put(recorder.getBinaryValuesResourceName(), binaryValues);
+
+        StartupTask task = (StartupTask) tcl.loadClass(TEST_CLASS).newInstance();
+        task.deploy(new StartupContext());
+        Object map = TestRecorder.RESULT.poll();
+        assertEquals(LinkedHashMap.class, map.getClass());
+        assertEquals(routes, map);
+        assertEquals(new ArrayList<>(routes.keySet()), new ArrayList<>(((Map<?, ?>) map).keySet()));
+        assertEquals(small, TestRecorder.RESULT.poll());
+    }
+
     void runTest(Consumer<BytecodeRecorderImpl> generator, Object... expected) throws Exception {
         TestRecorder.RESULT.clear();
         TestClassLoader tcl = new TestClassLoader(getClass().getClassLoader());
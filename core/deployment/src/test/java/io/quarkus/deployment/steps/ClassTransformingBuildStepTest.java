@@ -0,0 +1,56 @@
+package io.quarkus.deployment.steps;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassVisitor;
+
+import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
+
+public class ClassTransformingBuildStepTest {
+
+    private static final String CLASS_NAME = "org.acme.Foo";
+
+    @Test
+    public void testTransformersId() {
+        BytecodeTransformerBuildItem first = new BytecodeTransformerBuildItem(CLASS_NAME, new FirstVisitor());
+        BytecodeTransformerBuildItem second = new BytecodeTransformerBuildItem(CLASS_NAME, new SecondVisitor());
+
+        // the same transformer functions are identified by their class
+        assertEquals(ClassTransformingBuildStep.transformersId(Collections.singletonList(first), "config"),
+                ClassTransformingBuildStep.transformersId(
+                        Collections.singletonList(new BytecodeTransformerBuildItem(CLASS_NAME, new FirstVisitor())),
+                        "config"));
+        // another transformer with the same count of transformers
+        assertNotEquals(ClassTransformingBuildStep.transformersId(Collections.singletonList(first), "config"),
+                ClassTransformingBuildStep.transformersId(Collections.singletonList(second), "config"));
+        // the order of the transformers
+        assertNotEquals(ClassTransformingBuildStep.transformersId(Arrays.asList(first, second), "config"),
+                ClassTransformingBuildStep.transformersId(Arrays.asList(second, first), "config"));
+        // the configuration
+        assertNotEquals(ClassTransformingBuildStep.transformersId(Collections.singletonList(first), "config"),
+                ClassTransformingBuildStep.transformersId(Collections.singletonList(first), "changed"));
+    }
+
+    static class FirstVisitor implements BiFunction<String, ClassVisitor, ClassVisitor> {
+
+        @Override
+        public ClassVisitor apply(String className, ClassVisitor classVisitor) {
+            return classVisitor;
+        }
+    }
+
+    static class SecondVisitor implements BiFunction<String, ClassVisitor, ClassVisitor> {
+
+        @Override
+        public ClassVisitor apply(String className, ClassVisitor classVisitor) {
+            return classVisitor;
+        }
+    }
+
+}
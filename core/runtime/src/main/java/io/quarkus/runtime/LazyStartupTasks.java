@@ -0,0 +1,114 @@
+package io.quarkus.runtime;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.quarkus.runtime.util.StepTiming;
+
+/**
+ * The startup tasks recorded by build steps annotated with {@code @Record(value = RUNTIME_INIT, lazy = true)}.
+ * <p>
+ * These tasks are not run when the application starts. A task is run the first time {@link #ensureInitialized(Class)}
+ * is called with one of the recorders it uses, typically from a route handler or a bean of the extension, so that
+ * the cost of the features that are never used is never paid.
+ */
+public final class LazyStartupTasks {
+
+    private static final List<LazyTask> TASKS = new CopyOnWriteArrayList<>();
+
+    private LazyStartupTasks() {
+    }
+
+    /**
+     * Registers a lazy task. This method is called by the generated application class, instead of running the task.
+     */
+    public static void register(StartupContext startupContext, String buildStepName, String[] recorders,
+            StartupTask task) {
+        LazyTask lazyTask = new LazyTask(startupContext, buildStepName, recorders, task);
+        TASKS.add(lazyTask);
+        ((ShutdownContext) startupContext.getValue(ShutdownContext.class.getName()))
+                .addLastShutdownTask(new Runnable() {
+                    @Override
+                    public void run() {
+                        TASKS.remove(lazyTask);
+                    }
+                });
+        StepTiming.printStepDeferred(buildStepName);
+    }
+
+    /**
+     * Runs the lazy tasks that use the given recorder, if they did not run yet. If a task failed, its failure is thrown
+     * again.
+     *
+     * @param recorder the recorder class
+     */
+    public static void ensureInitialized(Class<?> recorder) {
+        String recorderName = recorder.getName();
+        for (LazyTask task : TASKS) {
+            if (!task.done && task.recorders.contains(recorderName)) {
+                task.run();
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if all the lazy tasks that use the given recorder already ran
+     */
+    public static boolean isInitialized(Class<?> recorder) {
+        String recorderName = recorder.getName();
+        for (LazyTask task : TASKS) {
+            if (!task.done && task.recorders.contains(recorderName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Runs its task exactly once. Each task has its own lock so that a slow task never blocks the first use of an
+     * unrelated feature; the startup context is thread safe.
+     */
+    private static final class LazyTask {
+
+        final StartupContext startupContext;
+        final String buildStepName;
+        final List<String> recorders;
+        final StartupTask task;
+        volatile boolean done;
+        // guarded by this
+        boolean running;
+        Throwable failure;
+
+        LazyTask(StartupContext startupContext, String buildStepName, String[] recorders, StartupTask task) {
+            this.startupContext = startupContext;
+            this.buildStepName = buildStepName;
+            this.recorders = Arrays.asList(recorders);
+            this.task = task;
+        }
+
+        void run() {
+            synchronized (this) {
+                if (failure != null) {
+                    throw new IllegalStateException("Lazy build step " + buildStepName + " failed", failure);
+                }
+                // a task may use a recorder that ensures its own initialization, the lock is reentrant
+                if (done || running) {
+                    return;
+                }
+                running = true;
+                long start = System.currentTimeMillis();
+                try {
+                    task.deploy(startupContext);
+                    done = true;
+                } catch (Throwable t) {
+                    failure = t;
+                    throw new IllegalStateException("Lazy build step " + buildStepName + " failed", t);
+                } finally {
+                    running = false;
+                }
+                StepTiming.printLazyStepTime(buildStepName, start);
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package io.quarkus.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.graalvm.nativeimage.ImageInfo;
+
+import io.quarkus.runtime.util.StepTiming;
+
+/**
+ * Runs the recorded startup tasks of a phase, running the tasks that do not depend on each other in parallel on a small
+ * bootstrap pool.
+ * <p>
+ * The dependencies between the tasks are computed at build time, from the build steps the recording steps depend on,
+ * the objects returned by recorders and the recorders they share. The generated application class calls this class
+ * instead of deploying the tasks one after the other when {@code quarkus.startup.parallel} is enabled.
+ */
+public final class ParallelStartupTasks {
+
+    /**
+     * The system property that can be used to run the tasks one after the other, in the order of the build, without
+     * rebuilding the application.
+     */
+    public static final String SEQUENTIAL_STARTUP = "quarkus.debug.sequential-startup";
+
+    private static final int DEFAULT_MAX_THREADS = 4;
+
+    private ParallelStartupTasks() {
+    }
+
+    /**
+     * Runs the given tasks and waits for their completion.
+     *
+     * @param startupContext the startup context
+     * @param tasks the tasks, in the order of the build
+     * @param buildStepNames the names of the build steps of the tasks
+     * @param dependencies for each task, the comma separated indexes of the tasks that must complete before it starts,
+     *        which are always lower than the index of the task
+     * @param maxThreads the maximum number of threads, or {@code 0} to use the default
+     */
+    public static void run(StartupContext startupContext, StartupTask[] tasks, String[] buildStepNames,
+            String[] dependencies, int maxThreads) {
+        int threads = Math.min(maxThreads > 0 ? maxThreads
+                : Math.min(DEFAULT_MAX_THREADS, Runtime.getRuntime().availableProcessors()), tasks.length);
+        // static init is run at build time in native mode, there is nothing to gain
+        if (threads <= 1 || ImageInfo.inImageBuildtimeCode() || Boolean.getBoolean(SEQUENTIAL_STARTUP)) {
+            for (StartupTask task : tasks) {
+                task.deploy(startupContext);
+                StepTiming.printStepTime(startupContext);
+            }
+            return;
+        }
+        new Run(startupContext, tasks, buildStepNames, dependencies).execute(threads);
+    }
+
+    private static final class Run {
+
+        final StartupContext startupContext;
+        final StartupTask[] tasks;
+        final String[] buildStepNames;
+        final AtomicInteger[] remainingDependencies;
+        final List<List<Integer>> dependents;
+        final CountDownLatch completed;
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        ExecutorService executor;
+
+        Run(StartupContext startupContext, StartupTask[] tasks, String[] buildStepNames, String[] dependencies) {
+            this.startupContext = startupContext;
+            this.tasks = tasks;
+            this.buildStepNames = buildStepNames;
+            this.remainingDependencies = new AtomicInteger[tasks.length];
+            this.dependents = new ArrayList<>(tasks.length);
+            this.completed = new CountDownLatch(tasks.length);
+            for (int i = 0; i < tasks.length; i++) {
+                remainingDependencies[i] = new AtomicInteger();
+                dependents.add(new ArrayList<>());
+            }
+            for (int i = 0; i < tasks.length; i++) {
+                if (!dependencies[i].isEmpty()) {
+                    for (String dependency : dependencies[i].split(",")) {
+                        dependents.get(Integer.parseInt(dependency)).add(i);
+                        remainingDependencies[i].incrementAndGet();
+                    }
+                }
+            }
+        }
+
+        void execute(int threads) {
+            executor = Executors.newFixedThreadPool(threads,
+                    new BootstrapThreadFactory(Thread.currentThread().getContextClassLoader()));
+            try {
+                for (int i = 0; i < tasks.length; i++) {
+                    if (remainingDependencies[i].get() == 0) {
+                        submit(i);
+                    }
+                }
+                completed.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, e);
+            } finally {
+                executor.shutdownNow();
+            }
+            Throwable t = failure.get();
+            if (t instanceof RuntimeException) {
+                throw (RuntimeException) t;
+            } else if (t instanceof Error) {
+                throw (Error) t;
+            } else if (t != null) {
+                throw new RuntimeException(t);
+            }
+        }
+
+        void submit(int index) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    // once a task failed the remaining tasks are skipped, but still completed
+                    if (failure.get() == null) {
+                        long start = System.currentTimeMillis();
+                        try {
+                            tasks[index].deploy(startupContext);
+                            StepTiming.printStepTime(buildStepNames[index], start);
+                        } catch (Throwable t) {
+                            failure.compareAndSet(null, t);
+                        }
+                    }
+                    for (int dependent : dependents.get(index)) {
+                        if (remainingDependencies[dependent].decrementAndGet() == 0) {
+                            submit(dependent);
+                        }
+                    }
+                    completed.countDown();
+                }
+            });
+        }
+    }
+
+    private static final class BootstrapThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+        private final ClassLoader classLoader;
+
+        BootstrapThreadFactory(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "quarkus-bootstrap-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }
+    }
+}
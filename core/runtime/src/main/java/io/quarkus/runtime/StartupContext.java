@@ -20,8 +20,9 @@ public class StartupContext implements Closeable {
     private Object lastValue;
     // this is done to distinguish between the value never having been set and having been set as null
     private boolean lastValueSet = false;
-    private final List<Runnable> shutdownTasks = new ArrayList<>();
-    private final List<Runnable> lastShutdownTasks = new ArrayList<>();
+    // the startup tasks may run in parallel, see ParallelStartupTasks
+    private final List<Runnable> shutdownTasks = Collections.synchronizedList(new ArrayList<>());
+    private final List<Runnable> lastShutdownTasks = Collections.synchronizedList(new ArrayList<>());
     private final ShutdownContext shutdownContext = new ShutdownContext() {
         @Override
         public void addShutdownTask(Runnable runnable) {
@@ -34,7 +35,7 @@ public class StartupContext implements Closeable {
         }
     };
     private String[] commandLineArgs;
-    private String currentBuildStepName;
+    private volatile String currentBuildStepName;
 
     public StartupContext() {
         values.put(ShutdownContext.class.getName(), shutdownContext);
@@ -49,21 +50,21 @@ public class StartupContext implements Closeable {
         });
     }
 
-    public void putValue(String name, Object value) {
+    public synchronized void putValue(String name, Object value) {
         values.put(name, value);
         lastValueSet = true;
         this.lastValue = value;
     }
 
-    public Object getValue(String name) {
+    public synchronized Object getValue(String name) {
         return values.get(name);
     }
 
-    public Object getLastValue() {
+    public synchronized Object getLastValue() {
         return lastValue;
     }
 
-    public boolean isLastValueSet() {
+    public synchronized boolean isLastValueSet() {
         return lastValueSet;
     }
 
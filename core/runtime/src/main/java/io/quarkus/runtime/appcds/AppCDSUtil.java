@@ -3,10 +3,19 @@ package io.quarkus.runtime.appcds;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Paths;
 
+import org.jboss.logging.Logger;
+
 public class AppCDSUtil {
 
+    /**
+     * The system property that holds the path of the file that is created once the application has started during an
+     * AppCDS training run
+     */
+    public static final String TRAINING_RUN_STARTED_FILE_SYSTEM_PROPERTY = "quarkus.appcds.training-run-started-file";
+
     /**
      * This is never meant to be used in a regular application run.
      * It is only referenced by the generated main with the purpose of
@@ -25,4 +34,19 @@ public class AppCDSUtil {
             throw e;
         }
     }
+
+    /**
+     * This is never meant to be used in a regular application run.
+     * It is only referenced by the generated main in order to let the AppCDS training run
+     * know that the application has fully started, i.e. only if the {@link #TRAINING_RUN_STARTED_FILE_SYSTEM_PROPERTY} is
+     * set. A failure is logged and does not abort the startup, the training run then simply times out.
+     */
+    public static void notifyTrainingRunStarted(String startedFile) {
+        try {
+            Files.createFile(Paths.get(startedFile));
+        } catch (IOException e) {
+            Logger.getLogger(AppCDSUtil.class).warnf(e,
+                    "Unable to notify the AppCDS training run that the application started");
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package io.quarkus.runtime.configuration;
 
 import java.util.HashMap;
+import java.util.Map;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.wildfly.common.Assert;
@@ -11,9 +12,12 @@ import io.smallrye.config.PropertiesConfigSource;
  * A configuration source that copies all the keys from another configuration source and then
  * drops any reference to it. Useful for handling configuration sources which have inefficient iteration
  * capabilities.
+ * <p>
+ * The values are looked up in an {@link IndexedConfigSource} over the copied keys.
  */
 public final class FastCachedConfigSource extends PropertiesConfigSource {
     private final String name;
+    private final IndexedConfigSource index;
 
     /**
      * Construct a new instance.
@@ -23,11 +27,22 @@ public final class FastCachedConfigSource extends PropertiesConfigSource {
      * @implNote The {@code delegate} configuration source is not referenced after this call.
      */
     public FastCachedConfigSource(final ConfigSource delegate) {
-        super(new HashMap<>(Assert.checkNotNullParam("delegate", delegate.getProperties())), "ignored", delegate.getOrdinal());
+        this(new HashMap<>(Assert.checkNotNullParam("delegate", delegate.getProperties())), delegate);
+    }
+
+    private FastCachedConfigSource(final Map<String, String> properties, final ConfigSource delegate) {
+        super(properties, "ignored", delegate.getOrdinal());
         name = delegate.getName();
+        index = new IndexedConfigSource(name, delegate.getOrdinal(), properties.keySet().toArray(new String[0]),
+                properties.values().toArray(new String[0]), properties);
     }
 
     public String getName() {
         return name;
     }
+
+    @Override
+    public String getValue(final String propertyName) {
+        return index.getValue(propertyName);
+    }
 }
@@ -0,0 +1,179 @@
+package io.quarkus.runtime.configuration;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.wildfly.common.Assert;
+
+/**
+ * A configuration source whose properties are assigned an integer slot when it is created, and whose values are kept in
+ * an array indexed by this slot.
+ * <p>
+ * The names are looked up in an open addressing table, so finding the value of a known name costs a hash code, which
+ * is cached by constant strings, and usually a single probe. Callers that know the slot of a property, such as
+ * generated code, can use {@link #getValue(int)} directly.
+ * <p>
+ * When the values are already resolved for the active profile, which is the case for the values read at build time, the
+ * source contains no profile specific names and the lookups of such names done by the profile interceptor return
+ * immediately.
+ */
+public class IndexedConfigSource implements ConfigSource, Serializable {
+    private static final long serialVersionUID = -1524417271370612339L;
+
+    private final String name;
+    private final int ordinal;
+    private final String[] names;
+    private final String[] values;
+    // the slot of each name plus one, zero meaning an empty entry
+    private final int[] table;
+    private final int mask;
+    private final boolean profileNames;
+    // the views returned by getProperties() and getPropertyNames(), which SmallRye calls repeatedly
+    private final Map<String, String> properties;
+    private final Set<String> propertyNames;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param name the name of the source (must not be {@code null})
+     * @param ordinal the ordinal of the source
+     * @param names the names of the properties, whose index is their slot (must not be {@code null})
+     * @param values the values of the properties, in the same order as the names (must not be {@code null})
+     */
+    public IndexedConfigSource(final String name, final int ordinal, final String[] names, final String[] values) {
+        this(name, ordinal, names, values, null);
+    }
+
+    /**
+     * Construct a new instance whose properties are already available as a map, which is then used as is.
+     *
+     * @param name the name of the source (must not be {@code null})
+     * @param ordinal the ordinal of the source
+     * @param names the names of the properties, whose index is their slot (must not be {@code null})
+     * @param values the values of the properties, in the same order as the names (must not be {@code null})
+     * @param properties the same properties as a map, which must not be modified afterwards, or {@code null} to build
+     *        the map from the names and values
+     */
+    IndexedConfigSource(final String name, final int ordinal, final String[] names, final String[] values,
+            final Map<String, String> properties) {
+        Assert.checkNotNullParam("name", name);
+        Assert.checkNotNullParam("names", names);
+        Assert.checkNotNullParam("values", values);
+        if (names.length != values.length) {
+            throw new IllegalArgumentException("Expected as many values as names");
+        }
+        this.name = name;
+        this.ordinal = ordinal;
+        this.names = names;
+        this.values = values;
+        // keep the table at most half full so that the probe sequences stay short
+        int size = Integer.highestOneBit(Math.max(names.length, 1) * 2 - 1) << 1;
+        this.table = new int[size];
+        this.mask = size - 1;
+        boolean profileNames = false;
+        for (int slot = 0; slot < names.length; slot++) {
+            int index = names[slot].hashCode() & mask;
+            while (table[index] != 0) {
+                if (names[table[index] - 1].equals(names[slot])) {
+                    throw new IllegalArgumentException("Duplicate property name " + names[slot]);
+                }
+                index = (index + 1) & mask;
+            }
+            table[index] = slot + 1;
+            profileNames |= names[slot].startsWith("%");
+        }
+        this.profileNames = profileNames;
+        if (properties == null) {
+            Map<String, String> map = new HashMap<>(names.length * 2);
+            for (int slot = 0; slot < names.length; slot++) {
+                map.put(names[slot], values[slot]);
+            }
+            this.properties = Collections.unmodifiableMap(map);
+            this.propertyNames = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(names)));
+        } else {
+            this.properties = Collections.unmodifiableMap(properties);
+            this.propertyNames = Collections.unmodifiableSet(properties.keySet());
+        }
+    }
+
+    /**
+     * Construct a new instance from the given properties, assigning the slots in the iteration order of the map.
+     *
+     * @param name the name of the source (must not be {@code null})
+     * @param ordinal the ordinal of the source
+     * @param properties the properties (must not be {@code null})
+     */
+    public IndexedConfigSource(final String name, final int ordinal, final Map<String, String> properties) {
+        this(name, ordinal, properties.keySet().toArray(new String[0]), properties.values().toArray(new String[0]));
+    }
+
+    /**
+     * Get the slot of a property.
+     *
+     * @param propertyName the property name
+     * @return the slot, or {@code -1} if this source does not contain the property
+     */
+    public int indexOf(final String propertyName) {
+        if (!profileNames && propertyName.startsWith("%")) {
+            return -1;
+        }
+        int index = propertyName.hashCode() & mask;
+        int entry;
+        while ((entry = table[index]) != 0) {
+            if (names[entry - 1].equals(propertyName)) {
+                return entry - 1;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Get the value of the property in the given slot.
+     *
+     * @param slot the slot
+     * @return the value
+     */
+    public String getValue(final int slot) {
+        return values[slot];
+    }
+
+    /**
+     * @return the number of slots of this source
+     */
+    public int size() {
+        return names.length;
+    }
+
+    @Override
+    public String getValue(final String propertyName) {
+        int slot = indexOf(propertyName);
+        return slot < 0 ? null : values[slot];
+    }
+
+    @Override
+    public Map<String, String> getProperties() {
+        return properties;
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        return propertyNames;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getOrdinal() {
+        return ordinal;
+    }
+}
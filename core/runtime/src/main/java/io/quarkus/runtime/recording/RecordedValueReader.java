@@ -0,0 +1,156 @@
+package io.quarkus.runtime.recording;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Reads the values that were recorded in a binary resource at build time, instead of being created by the bytecode of
+ * the startup task.
+ * <p>
+ * The resource starts with a table of all the strings, followed by the values. Each value starts with one of the tags
+ * of this class, and is read from the offset it was written to.
+ */
+public final class RecordedValueReader {
+
+    public static final byte NULL = 0;
+    public static final byte STRING = 1;
+    public static final byte BOOLEAN = 2;
+    public static final byte BYTE = 3;
+    public static final byte SHORT = 4;
+    public static final byte CHAR = 5;
+    public static final byte INT = 6;
+    public static final byte LONG = 7;
+    public static final byte FLOAT = 8;
+    public static final byte DOUBLE = 9;
+    public static final byte ARRAY_LIST = 10;
+    public static final byte LINKED_LIST = 11;
+    public static final byte HASH_SET = 12;
+    public static final byte LINKED_HASH_SET = 13;
+    public static final byte TREE_SET = 14;
+    public static final byte HASH_MAP = 15;
+    public static final byte LINKED_HASH_MAP = 16;
+    public static final byte TREE_MAP = 17;
+
+    private final byte[] data;
+    private final String[] strings;
+    private final int valuesStart;
+
+    /**
+     * @param owner the class of the startup task, used to load the resource
+     * @param resource the name of the resource
+     */
+    public RecordedValueReader(Class<?> owner, String resource) {
+        try (InputStream in = owner.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Unable to find the recorded values " + resource);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            data = out.toByteArray();
+            DataInputStream input = new DataInputStream(new ByteArrayInputStream(data));
+            strings = new String[input.readInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            valuesStart = data.length - input.available();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read the recorded values " + resource, e);
+        }
+    }
+
+    /**
+     * @param offset the offset of the value, relative to the first value
+     * @return the value
+     */
+    public Object read(int offset) {
+        DataInputStream input = new DataInputStream(
+                new ByteArrayInputStream(data, valuesStart + offset, data.length - valuesStart - offset));
+        try {
+            return readValue(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Object readValue(DataInputStream input) throws IOException {
+        byte tag = input.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return strings[input.readInt()];
+            case BOOLEAN:
+                return input.readBoolean();
+            case BYTE:
+                return input.readByte();
+            case SHORT:
+                return input.readShort();
+            case CHAR:
+                return input.readChar();
+            case INT:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case FLOAT:
+                return input.readFloat();
+            case DOUBLE:
+                return input.readDouble();
+            case ARRAY_LIST:
+                return readCollection(input, new ArrayList<>());
+            case LINKED_LIST:
+                return readCollection(input, new LinkedList<>());
+            case HASH_SET:
+                return readCollection(input, new HashSet<>());
+            case LINKED_HASH_SET:
+                return readCollection(input, new LinkedHashSet<>());
+            case TREE_SET:
+                return readCollection(input, new TreeSet<>());
+            case HASH_MAP:
+                return readMap(input, new HashMap<>());
+            case LINKED_HASH_MAP:
+                return readMap(input, new LinkedHashMap<>());
+            case TREE_MAP:
+                return readMap(input, new TreeMap<>());
+            default:
+                throw new IllegalStateException("Unknown recorded value tag " + tag);
+        }
+    }
+
+    private Collection<Object> readCollection(DataInputStream input, Collection<Object> collection) throws IOException {
+        int size = input.readInt();
+        for (int i = 0; i < size; i++) {
+            collection.add(readValue(input));
+        }
+        return collection;
+    }
+
+    private Map<Object, Object> readMap(DataInputStream input, Map<Object, Object> map) throws IOException {
+        int size = input.readInt();
+        for (int i = 0; i < size; i++) {
+            Object key = readValue(input);
+            map.put(key, readValue(input));
+        }
+        return map;
+    }
+}
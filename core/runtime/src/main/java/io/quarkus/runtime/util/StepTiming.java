@@ -27,4 +27,28 @@ public class StepTiming {
                 .println("Build step " + currentBuildStepName + " completed in: " + (stepTimingStop - stepTimingStart) + "ms");
         stepTimingStart = System.currentTimeMillis();
     }
+
+    public static void printStepTime(String buildStepName, long start) {
+        if (!stepTimingEnabled) {
+            return;
+        }
+        System.out.println("Build step " + buildStepName + " completed in: " + (System.currentTimeMillis() - start) + "ms on "
+                + Thread.currentThread().getName());
+    }
+
+    public static void printStepDeferred(String buildStepName) {
+        if (!stepTimingEnabled) {
+            return;
+        }
+        System.out.println("Build step " + buildStepName + " deferred until first use");
+        stepTimingStart = System.currentTimeMillis();
+    }
+
+    public static void printLazyStepTime(String buildStepName, long start) {
+        if (!stepTimingEnabled) {
+            return;
+        }
+        System.out
+                .println("Lazy build step " + buildStepName + " completed in: " + (System.currentTimeMillis() - start) + "ms");
+    }
 }
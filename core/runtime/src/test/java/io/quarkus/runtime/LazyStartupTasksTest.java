@@ -0,0 +1,129 @@
+package io.quarkus.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class LazyStartupTasksTest {
+
+    static class FirstRecorder {
+    }
+
+    static class SecondRecorder {
+    }
+
+    static class FailingRecorder {
+    }
+
+    static class SlowRecorder {
+    }
+
+    static class FastRecorder {
+    }
+
+    @Test
+    public void testTasksRunOnFirstUse() {
+        AtomicInteger first = new AtomicInteger();
+        AtomicInteger second = new AtomicInteger();
+        StartupContext startupContext = new StartupContext();
+        LazyStartupTasks.register(startupContext, "Processor.first", new String[] { FirstRecorder.class.getName() },
+                context -> {
+                    first.incrementAndGet();
+                    context.putValue("first", "value");
+                });
+        LazyStartupTasks.register(startupContext, "Processor.second",
+                new String[] { FirstRecorder.class.getName(), SecondRecorder.class.getName() }, context -> {
+                    // a task can use a recorder that ensures its own initialization
+                    LazyStartupTasks.ensureInitialized(SecondRecorder.class);
+                    second.incrementAndGet();
+                });
+        assertEquals(0, first.get());
+        assertEquals(0, second.get());
+        assertFalse(LazyStartupTasks.isInitialized(SecondRecorder.class));
+
+        LazyStartupTasks.ensureInitialized(SecondRecorder.class);
+        assertEquals(0, first.get());
+        assertEquals(1, second.get());
+        assertTrue(LazyStartupTasks.isInitialized(SecondRecorder.class));
+        assertFalse(LazyStartupTasks.isInitialized(FirstRecorder.class));
+
+        LazyStartupTasks.ensureInitialized(FirstRecorder.class);
+        LazyStartupTasks.ensureInitialized(FirstRecorder.class);
+        assertEquals(1, first.get());
+        assertEquals(1, second.get());
+        assertEquals("value", startupContext.getValue("first"));
+
+        // the tasks are removed when the application stops
+        startupContext.close();
+        LazyStartupTasks.register(new StartupContext(), "Processor.first", new String[] { FirstRecorder.class.getName() },
+                context -> first.incrementAndGet());
+        assertFalse(LazyStartupTasks.isInitialized(FirstRecorder.class));
+    }
+
+    @Test
+    public void testFailureIsThrownAgain() {
+        RuntimeException failure = new RuntimeException("failed");
+        AtomicInteger runs = new AtomicInteger();
+        StartupContext startupContext = new StartupContext();
+        LazyStartupTasks.register(startupContext, "Processor.failing", new String[] { FailingRecorder.class.getName() },
+                context -> {
+                    runs.incrementAndGet();
+                    throw failure;
+                });
+        assertSame(failure, assertThrows(IllegalStateException.class,
+                () -> LazyStartupTasks.ensureInitialized(FailingRecorder.class)).getCause());
+        assertSame(failure, assertThrows(IllegalStateException.class,
+                () -> LazyStartupTasks.ensureInitialized(FailingRecorder.class)).getCause());
+        assertEquals(1, runs.get());
+        startupContext.close();
+    }
+
+    @Test
+    public void testTasksDoNotBlockEachOther() throws Exception {
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch fastDone = new CountDownLatch(1);
+        AtomicInteger slowRuns = new AtomicInteger();
+        StartupContext startupContext = new StartupContext();
+        LazyStartupTasks.register(startupContext, "Processor.slow", new String[] { SlowRecorder.class.getName() },
+                context -> {
+                    slowRuns.incrementAndGet();
+                    slowStarted.countDown();
+                    // completes only once the other task ran
+                    try {
+                        assertTrue(fastDone.await(5, TimeUnit.SECONDS));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+        LazyStartupTasks.register(startupContext, "Processor.fast", new String[] { FastRecorder.class.getName() },
+                context -> {
+                });
+        CompletableFuture<Void> slow = CompletableFuture
+                .runAsync(() -> LazyStartupTasks.ensureInitialized(SlowRecorder.class));
+        CompletableFuture<Void> waiting = null;
+        try {
+            assertTrue(slowStarted.await(5, TimeUnit.SECONDS));
+            // a second caller waits for the running task instead of running it again
+            waiting = CompletableFuture.runAsync(() -> LazyStartupTasks.ensureInitialized(SlowRecorder.class));
+            LazyStartupTasks.ensureInitialized(FastRecorder.class);
+            assertTrue(LazyStartupTasks.isInitialized(FastRecorder.class));
+            assertFalse(LazyStartupTasks.isInitialized(SlowRecorder.class));
+        } finally {
+            fastDone.countDown();
+        }
+        slow.get(5, TimeUnit.SECONDS);
+        waiting.get(5, TimeUnit.SECONDS);
+        assertEquals(1, slowRuns.get());
+        assertTrue(LazyStartupTasks.isInitialized(SlowRecorder.class));
+        startupContext.close();
+    }
+}
@@ -0,0 +1,63 @@
+package io.quarkus.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class ParallelStartupTasksTest {
+
+    @Test
+    public void testIndependentTasksRunInParallel() {
+        List<String> completed = new CopyOnWriteArrayList<>();
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        StartupTask first = context -> {
+            // only completes if the second task runs at the same time
+            awaitOther(bothStarted);
+            context.putValue("first", "value");
+            completed.add("first");
+        };
+        StartupTask second = context -> {
+            awaitOther(bothStarted);
+            completed.add("second");
+        };
+        StartupTask third = context -> {
+            assertEquals("value", context.getValue("first"));
+            completed.add("third");
+        };
+        ParallelStartupTasks.run(new StartupContext(), new StartupTask[] { first, second, third },
+                new String[] { "first", "second", "third" }, new String[] { "", "", "0,1" }, 2);
+        assertEquals(3, completed.size());
+        assertEquals("third", completed.get(2));
+    }
+
+    @Test
+    public void testFailureSkipsTheRemainingTasks() {
+        RuntimeException failure = new RuntimeException("failed");
+        List<String> completed = new CopyOnWriteArrayList<>();
+        StartupTask failing = context -> {
+            throw failure;
+        };
+        StartupTask dependent = context -> completed.add("dependent");
+        assertSame(failure, assertThrows(RuntimeException.class,
+                () -> ParallelStartupTasks.run(new StartupContext(), new StartupTask[] { failing, dependent },
+                        new String[] { "failing", "dependent" }, new String[] { "", "0" }, 2)));
+        assertTrue(completed.isEmpty());
+    }
+
+    private static void awaitOther(CountDownLatch bothStarted) {
+        bothStarted.countDown();
+        try {
+            assertTrue(bothStarted.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
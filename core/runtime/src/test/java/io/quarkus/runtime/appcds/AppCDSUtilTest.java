@@ -0,0 +1,31 @@
+package io.quarkus.runtime.appcds;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AppCDSUtilTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testNotifyTrainingRunStarted() {
+        Path startedFile = dir.resolve("started");
+        AppCDSUtil.notifyTrainingRunStarted(startedFile.toString());
+        assertTrue(Files.exists(startedFile));
+    }
+
+    @Test
+    public void testFailureDoesNotAbortStartup() {
+        Path startedFile = dir.resolve("missing").resolve("started");
+        AppCDSUtil.notifyTrainingRunStarted(startedFile.toString());
+        assertFalse(Files.exists(startedFile));
+    }
+
+}
@@ -0,0 +1,86 @@
+package io.quarkus.runtime.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+public class IndexedConfigSourceTestCase {
+
+    @Test
+    public void testLookups() {
+        String[] names = new String[100];
+        String[] values = new String[100];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "quarkus.property-" + i;
+            values[i] = "value-" + i;
+        }
+        IndexedConfigSource source = new IndexedConfigSource("test", 100, names, values);
+        assertEquals(100, source.size());
+        for (int i = 0; i < names.length; i++) {
+            assertEquals(i, source.indexOf(names[i]));
+            assertEquals(values[i], source.getValue(i));
+            assertEquals(values[i], source.getValue(names[i]));
+        }
+        assertEquals(-1, source.indexOf("quarkus.property-100"));
+        assertNull(source.getValue("%prod.quarkus.property-1"));
+        assertEquals(100, source.getProperties().size());
+        assertEquals("value-7", source.getProperties().get("quarkus.property-7"));
+        assertEquals(100, source.getPropertyNames().size());
+        // the views are created once
+        assertSame(source.getProperties(), source.getProperties());
+        assertSame(source.getPropertyNames(), source.getPropertyNames());
+    }
+
+    @Test
+    public void testDuplicateNames() {
+        assertThrows(IllegalArgumentException.class, () -> new IndexedConfigSource("test", 100,
+                new String[] { "quarkus.a", "quarkus.a" }, new String[] { "1", "2" }));
+    }
+
+    @Test
+    public void testSameValuesAsProperties() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("quarkus.a", "a");
+        properties.put("quarkus.b", "${quarkus.a}-b");
+        properties.put("%prod.quarkus.c", "prod-c");
+        properties.put("%dev.quarkus.c", "dev-c");
+        properties.put("quarkus.c", "c");
+        SmallRyeConfig indexed = new SmallRyeConfigBuilder().addDefaultInterceptors().withProfile("prod")
+                .withSources(new IndexedConfigSource("indexed", 100, properties)).build();
+        SmallRyeConfig plain = new SmallRyeConfigBuilder().addDefaultInterceptors().withProfile("prod")
+                .withSources(new PropertiesConfigSource(properties, "plain", 100)).build();
+        for (String name : new String[] { "quarkus.a", "quarkus.b", "quarkus.c" }) {
+            assertEquals(plain.getValue(name, String.class), indexed.getValue(name, String.class));
+        }
+        assertEquals("prod-c", indexed.getValue("quarkus.c", String.class));
+        assertEquals("a-b", indexed.getValue("quarkus.b", String.class));
+    }
+
+    @Test
+    public void testFastCachedConfigSource() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("quarkus.a", "a");
+        properties.put("%prod.quarkus.a", "prod-a");
+        PropertiesConfigSource delegate = new PropertiesConfigSource(properties, "delegate", 50);
+        FastCachedConfigSource source = new FastCachedConfigSource(delegate);
+        assertTrue(source instanceof PropertiesConfigSource);
+        assertEquals(delegate.getName(), source.getName());
+        assertEquals(50, source.getOrdinal());
+        assertEquals("a", source.getValue("quarkus.a"));
+        assertEquals("prod-a", source.getValue("%prod.quarkus.a"));
+        assertNull(source.getValue("quarkus.b"));
+        assertEquals(properties, source.getProperties());
+        assertEquals(properties.keySet(), source.getPropertyNames());
+    }
+}
@@ -171,6 +171,18 @@ public class ArcConfig {
     @ConfigItem(defaultValue = "true")
     public boolean detectWrongAnnotations;
 
+    /**
+     * If set to true then the container records the creation of all {@code @ApplicationScoped} and {@code @Singleton} bean
+     * instances. A report with the creation time and the dependency chain of each bean created during startup is logged when
+     * the application starts. A report of the beans created on first use, i.e. after the {@code StartupEvent} was fired, is
+     * logged when the application shuts down.
+     * <p>
+     * Note that the contextual instances of normal scoped beans are always created lazily, when a method of the client
+     * proxy is invoked for the first time.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean startupReport;
+
     /**
      * Dev mode configuration.
      */
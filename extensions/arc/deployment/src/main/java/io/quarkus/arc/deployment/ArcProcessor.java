@@ -35,6 +35,7 @@ import io.quarkus.arc.deployment.UnremovableBeanBuildItem.BeanClassAnnotationExc
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem.BeanClassNameExclusion;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem.BeanTypeExclusion;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
+import io.quarkus.arc.impl.ActivateRequestContextInterceptor;
 import io.quarkus.arc.processor.AlternativePriorities;
 import io.quarkus.arc.processor.AnnotationsTransformer;
 import io.quarkus.arc.processor.BeanConfigurator;
@@ -142,6 +143,7 @@ public class ArcProcessor {
             List<InjectionPointTransformerBuildItem> injectionPointTransformers,
             List<ObserverTransformerBuildItem> observerTransformers,
             List<InterceptorBindingRegistrarBuildItem> interceptorBindingRegistrars,
+            List<FusibleInterceptorBuildItem> fusibleInterceptors,
             List<QualifierRegistrarBuildItem> qualifierRegistrars,
             List<AdditionalStereotypeBuildItem> additionalStereotypeBuildItems,
             List<ApplicationClassPredicateBuildItem> applicationClassPredicates,
@@ -250,6 +252,10 @@ public class ArcProcessor {
         for (InterceptorBindingRegistrarBuildItem registrar : interceptorBindingRegistrars) {
             builder.addInterceptorBindingRegistrar(registrar.getInterceptorBindingRegistrar());
         }
+        // register fusible interceptors
+        for (FusibleInterceptorBuildItem fusibleInterceptor : fusibleInterceptors) {
+            builder.addFusibleInterceptor(fusibleInterceptor.getPredicate());
+        }
         // register additional qualifiers
         for (QualifierRegistrarBuildItem registrar : qualifierRegistrars) {
             builder.addQualifierRegistrar(registrar.getQualifierRegistrar());
@@ -493,7 +499,7 @@ public class ArcProcessor {
             reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, qualifier.name().toString()));
         }
 
-        ArcContainer container = recorder.getContainer(shutdown);
+        ArcContainer container = recorder.getContainer(shutdown, config.startupReport);
         BeanContainer beanContainer = recorder.initBeanContainer(container,
                 beanContainerListenerBuildItems.stream().map(BeanContainerListenerBuildItem::getBeanContainerListener)
                         .collect(Collectors.toList()));
@@ -544,6 +550,12 @@ public class ArcProcessor {
         return new AdditionalBeanBuildItem(LoggerProducer.class);
     }
 
+    @BuildStep
+    FusibleInterceptorBuildItem fusibleInterceptors() {
+        // the interceptor always proceeds on the calling thread, while the request context it activated is active
+        return new FusibleInterceptorBuildItem(ActivateRequestContextInterceptor.class.getName());
+    }
+
     @BuildStep
     CustomScopeAnnotationsBuildItem exposeCustomScopeNames(List<CustomScopeBuildItem> customScopes) {
         Set<DotName> names = new HashSet<>();
@@ -0,0 +1,38 @@
+package io.quarkus.arc.deployment;
+
+import java.util.function.Predicate;
+
+import io.quarkus.arc.processor.InterceptorInfo;
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * Makes it possible to mark interceptors as fusible. A fusible interceptor always invokes
+ * {@link javax.interceptor.InvocationContext#proceed()} synchronously on the calling thread.
+ * <p>
+ * If all around invoke interceptors bound to an intercepted method are fusible then a single invocation context is used
+ * for the whole interceptor chain.
+ */
+public final class FusibleInterceptorBuildItem extends MultiBuildItem {
+
+    private final Predicate<InterceptorInfo> predicate;
+
+    /**
+     * @param interceptorClassName the name of the interceptor class
+     */
+    public FusibleInterceptorBuildItem(String interceptorClassName) {
+        this(new Predicate<InterceptorInfo>() {
+            @Override
+            public boolean test(InterceptorInfo interceptor) {
+                return interceptor.getBeanClass().toString().equals(interceptorClassName);
+            }
+        });
+    }
+
+    public FusibleInterceptorBuildItem(Predicate<InterceptorInfo> predicate) {
+        this.predicate = predicate;
+    }
+
+    public Predicate<InterceptorInfo> getPredicate() {
+        return predicate;
+    }
+}
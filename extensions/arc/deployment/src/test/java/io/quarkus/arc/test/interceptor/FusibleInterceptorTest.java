@@ -0,0 +1,162 @@
+package io.quarkus.arc.test.interceptor;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Priority;
+import javax.enterprise.context.control.ActivateRequestContext;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InterceptorBinding;
+import javax.interceptor.InvocationContext;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.deployment.FusibleInterceptorBuildItem;
+import io.quarkus.builder.BuildContext;
+import io.quarkus.builder.BuildStep;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class FusibleInterceptorTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Fused.class, NotFused.class, SimpleBean.class, AlphaInterceptor.class,
+                            BravoInterceptor.class, CharlieInterceptor.class))
+            .addBuildChainCustomizer(b -> {
+                b.addBuildStep(new BuildStep() {
+                    @Override
+                    public void execute(BuildContext context) {
+                        context.produce(new FusibleInterceptorBuildItem(AlphaInterceptor.class.getName()));
+                        context.produce(new FusibleInterceptorBuildItem(
+                                i -> i.getBeanClass().toString().equals(BravoInterceptor.class.getName())));
+                    }
+                }).produces(FusibleInterceptorBuildItem.class).build();
+            });
+
+    static final List<InvocationContext> CONTEXTS = new ArrayList<>();
+
+    @Inject
+    SimpleBean bean;
+
+    @BeforeEach
+    void reset() {
+        CONTEXTS.clear();
+    }
+
+    @Test
+    public void testFusedChain() {
+        assertEquals("alpha:bravo:PING", bean.ping());
+        // Alpha and Bravo share the same context
+        assertEquals(2, CONTEXTS.size());
+        assertSame(CONTEXTS.get(0), CONTEXTS.get(1));
+    }
+
+    @Test
+    public void testChainWithBuiltInInterceptor() {
+        // ActivateRequestContextInterceptor is fusible, so the chain is still fused
+        assertEquals("alpha:bravo:true", bean.requestContextActive());
+        assertEquals(2, CONTEXTS.size());
+        assertSame(CONTEXTS.get(0), CONTEXTS.get(1));
+    }
+
+    @Test
+    public void testChainWithNonFusibleInterceptor() {
+        assertEquals("alpha:bravo:charlie:PONG", bean.pong());
+        // Charlie is not fusible so each interceptor gets a new context
+        assertEquals(3, CONTEXTS.size());
+        assertNotSame(CONTEXTS.get(0), CONTEXTS.get(1));
+        assertNotSame(CONTEXTS.get(1), CONTEXTS.get(2));
+    }
+
+    @Fused
+    @Singleton
+    static class SimpleBean {
+
+        public String ping() {
+            return "PING";
+        }
+
+        @NotFused
+        public String pong() {
+            return "PONG";
+        }
+
+        @ActivateRequestContext
+        public String requestContextActive() {
+            return String.valueOf(Arc.container().requestContext().isActive());
+        }
+
+    }
+
+    @Fused
+    @Priority(1)
+    @Interceptor
+    static class AlphaInterceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            CONTEXTS.add(ctx);
+            return "alpha:" + ctx.proceed();
+        }
+
+    }
+
+    @Fused
+    @Priority(2)
+    @Interceptor
+    static class BravoInterceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            CONTEXTS.add(ctx);
+            return "bravo:" + ctx.proceed();
+        }
+
+    }
+
+    @NotFused
+    @Priority(3)
+    @Interceptor
+    static class CharlieInterceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            CONTEXTS.add(ctx);
+            return "charlie:" + ctx.proceed();
+        }
+
+    }
+
+    @InterceptorBinding
+    @Target({ TYPE, METHOD })
+    @Retention(RUNTIME)
+    @interface Fused {
+
+    }
+
+    @InterceptorBinding
+    @Target({ TYPE, METHOD })
+    @Retention(RUNTIME)
+    @interface NotFused {
+
+    }
+
+}
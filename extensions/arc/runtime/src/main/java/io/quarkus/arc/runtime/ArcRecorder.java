@@ -17,6 +17,7 @@ import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableBean.Kind;
 import io.quarkus.arc.impl.ArcContainerImpl;
+import io.quarkus.arc.impl.BeanCreationReport;
 import io.quarkus.arc.runtime.test.PreloadedTestApplicationClassPredicate;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
@@ -31,13 +32,20 @@ public class ArcRecorder {
 
     private static final Logger LOG = Logger.getLogger(ArcRecorder.class);
 
+    // The max number of beans listed in the bean creation reports
+    private static final int STARTUP_REPORT_LIMIT = 20;
+
     /**
      * Used to hold the Supplier instances used for synthetic bean declarations.
      */
     public static volatile Map<String, Supplier<?>> supplierMap;
 
-    public ArcContainer getContainer(ShutdownContext shutdown) throws Exception {
+    public ArcContainer getContainer(ShutdownContext shutdown, boolean startupReport) throws Exception {
         ArcContainer container = Arc.initialize();
+        if (startupReport) {
+            // Must be enabled before any bean instance is created
+            ((ArcContainerImpl) container).enableCreationReport();
+        }
         shutdown.addShutdownTask(new Runnable() {
             @Override
             public void run() {
@@ -96,10 +104,19 @@ public class ArcRecorder {
 
         fireLifecycleEvent(container, new StartupEvent(), mockBeanClasses);
 
+        BeanCreationReport creationReport = container.getCreationReport();
+        if (creationReport != null) {
+            creationReport.startupCompleted();
+            LOG.infof("ArC bean creation report - %s", creationReport.format(true, STARTUP_REPORT_LIMIT));
+        }
+
         context.addShutdownTask(new Runnable() {
             @Override
             public void run() {
                 fireLifecycleEvent(container, new ShutdownEvent(), mockBeanClasses);
+                if (creationReport != null) {
+                    LOG.infof("ArC bean creation report - %s", creationReport.format(false, STARTUP_REPORT_LIMIT));
+                }
             }
         });
     }
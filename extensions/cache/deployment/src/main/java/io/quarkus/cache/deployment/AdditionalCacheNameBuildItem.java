@@ -9,12 +9,27 @@ import io.quarkus.builder.item.MultiBuildItem;
 public final class AdditionalCacheNameBuildItem extends MultiBuildItem {
 
     private final String name;
+    private final boolean local;
 
     public AdditionalCacheNameBuildItem(String name) {
+        this(name, false);
+    }
+
+    /**
+     * @param name cache name
+     * @param local if {@code true}, the cache is never backed by a remote store, even if the {@code two-tier} cache type is
+     *        used, e.g. because its values cannot be shared with other replicas
+     */
+    public AdditionalCacheNameBuildItem(String name, boolean local) {
         this.name = name;
+        this.local = local;
     }
 
     public String getName() {
         return name;
     }
+
+    public boolean isLocal() {
+        return local;
+    }
 }
@@ -21,7 +21,8 @@ public class CacheConfig {
     public boolean enabled;
 
     /**
-     * Cache type.
+     * Cache type. Use {@code caffeine} for local caches or {@code two-tier} for local Caffeine near-caches placed in front of
+     * a {@link io.quarkus.cache.RemoteCacheStore} shared by all the replicas of the application.
      */
     @ConfigItem(defaultValue = CacheDeploymentConstants.CAFFEINE_CACHE_TYPE)
     String type;
@@ -73,6 +74,23 @@ public class CacheConfig {
              */
             @ConfigItem
             Optional<Duration> expireAfterAccess;
+
+            /**
+             * Specifies that each entry should be reloaded in the background once a fixed duration has elapsed after the
+             * entry's creation, or the most recent replacement of its value. The stale value is still returned to the callers
+             * until the reload completes and only one reload per entry runs at a time. This delay should be shorter than
+             * {@code expire-after-write} to prevent the callers from being blocked when a frequently used entry expires.
+             */
+            @ConfigItem
+            Optional<Duration> refreshAfterWrite;
+
+            /**
+             * Whether or not the hits, misses, loads and evictions of this cache should be recorded. The statistics are
+             * exported
+             * as Micrometer meters when the Micrometer extension is also present.
+             */
+            @ConfigItem
+            boolean metricsEnabled;
         }
     }
 }
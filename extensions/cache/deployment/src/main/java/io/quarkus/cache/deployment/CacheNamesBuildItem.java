@@ -10,12 +10,21 @@ import io.quarkus.builder.item.SimpleBuildItem;
 public final class CacheNamesBuildItem extends SimpleBuildItem {
 
     private final Set<String> names;
+    private final Set<String> localNames;
 
-    public CacheNamesBuildItem(Set<String> names) {
+    public CacheNamesBuildItem(Set<String> names, Set<String> localNames) {
         this.names = names;
+        this.localNames = localNames;
     }
 
     public Set<String> getNames() {
         return names;
     }
+
+    /**
+     * @return the names of the caches that must never be backed by a remote store
+     */
+    public Set<String> getLocalNames() {
+        return localNames;
+    }
 }
@@ -1,5 +1,8 @@
 package io.quarkus.cache.deployment;
 
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BULK_RESULT_PARAMETER_TYPES;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BULK_RESULT_RETURN_TYPE;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_BULK_RESULT;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_LIST;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY;
@@ -9,6 +12,8 @@ import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTORS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDINGS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDING_CONTAINERS;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.QUTE_ENGINE_PRODUCER;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.REDIS_CLIENT;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.REGISTER_REST_CLIENT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 
@@ -30,19 +35,29 @@ import org.jboss.jandex.DotName;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
 import io.quarkus.arc.deployment.AutoInjectAnnotationBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
+import io.quarkus.arc.processor.DotNames;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.RemoteCacheStore;
+import io.quarkus.cache.deployment.CacheConfig.CaffeineConfig.CaffeineNamespaceConfig;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
 import io.quarkus.cache.deployment.exception.UnknownCacheNameException;
+import io.quarkus.cache.deployment.exception.UnsupportedBulkResultTargetException;
 import io.quarkus.cache.deployment.exception.UnsupportedRepeatedAnnotationException;
 import io.quarkus.cache.deployment.exception.VoidReturnTypeTargetException;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheBuildRecorder;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
 import io.quarkus.cache.runtime.noop.NoOpCacheBuildRecorder;
+import io.quarkus.cache.runtime.qute.CachedSectionCache;
+import io.quarkus.cache.runtime.twotier.DefaultRedisCacheCodec;
+import io.quarkus.cache.runtime.twotier.RedisRemoteCacheStore;
+import io.quarkus.cache.runtime.twotier.TwoTierCacheBuildRecorder;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -77,6 +92,7 @@ class CacheProcessor {
         List<Throwable> throwables = new ArrayList<>();
         // Cache names produced by this build step.
         Set<String> names = new HashSet<>();
+        Set<String> localNames = new HashSet<>();
 
         /*
          * First, for each non-repeated cache interceptor binding:
@@ -123,6 +139,9 @@ class CacheProcessor {
          */
         for (AdditionalCacheNameBuildItem additionalCacheName : additionalCacheNames) {
             names.add(additionalCacheName.getName());
+            if (additionalCacheName.isLocal()) {
+                localNames.add(additionalCacheName.getName());
+            }
         }
 
         // @CacheName can now be validated.
@@ -155,7 +174,7 @@ class CacheProcessor {
         }
 
         validationErrors.produce(new ValidationErrorBuildItem(throwables.toArray(new Throwable[0])));
-        cacheNames.produce(new CacheNamesBuildItem(names));
+        cacheNames.produce(new CacheNamesBuildItem(names, localNames));
     }
 
     private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance binding, AnnotationTarget target) {
@@ -175,6 +194,9 @@ class CacheProcessor {
                 if (CACHE_RESULT.equals(binding.name()) && methodInfo.returnType().kind() == Type.Kind.VOID) {
                     throwables.add(new VoidReturnTypeTargetException(methodInfo));
                 }
+                if (CACHE_BULK_RESULT.equals(binding.name()) && !isValidBulkResultTarget(methodInfo)) {
+                    throwables.add(new UnsupportedBulkResultTargetException(methodInfo));
+                }
                 break;
             default:
                 // This should never be thrown.
@@ -183,10 +205,18 @@ class CacheProcessor {
         return throwables;
     }
 
+    private boolean isValidBulkResultTarget(MethodInfo methodInfo) {
+        return methodInfo.parameters().size() == 1
+                && BULK_RESULT_PARAMETER_TYPES.contains(methodInfo.parameters().get(0).name())
+                && BULK_RESULT_RETURN_TYPE.equals(methodInfo.returnType().name())
+                && !methodInfo.hasAnnotation(CACHE_RESULT);
+    }
+
     @BuildStep
     @Record(STATIC_INIT)
     SyntheticBeanBuildItem configureCacheManagerSyntheticBean(CacheNamesBuildItem cacheNames, CacheConfig config,
-            CaffeineCacheBuildRecorder caffeineRecorder, NoOpCacheBuildRecorder noOpRecorder) {
+            CaffeineCacheBuildRecorder caffeineRecorder, TwoTierCacheBuildRecorder twoTierRecorder,
+            NoOpCacheBuildRecorder noOpRecorder) {
 
         Supplier<CacheManager> cacheManagerSupplier;
         if (config.enabled) {
@@ -195,6 +225,10 @@ class CacheProcessor {
                     Set<CaffeineCacheInfo> cacheInfos = CaffeineCacheInfoBuilder.build(cacheNames.getNames(), config);
                     cacheManagerSupplier = caffeineRecorder.getCacheManagerSupplier(cacheInfos);
                     break;
+                case CacheDeploymentConstants.TWO_TIER_CACHE_TYPE:
+                    Set<CaffeineCacheInfo> nearCacheInfos = CaffeineCacheInfoBuilder.build(cacheNames.getNames(), config);
+                    cacheManagerSupplier = twoTierRecorder.getCacheManagerSupplier(nearCacheInfos, cacheNames.getLocalNames());
+                    break;
                 default:
                     throw new DeploymentException("Unknown cache type: " + config.type);
             }
@@ -208,6 +242,49 @@ class CacheProcessor {
                 .done();
     }
 
+    @BuildStep
+    void quteCachedSections(CacheConfig config, BuildProducer<AdditionalCacheNameBuildItem> cacheNames,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (isClassPresent(QUTE_ENGINE_PRODUCER)) {
+            CaffeineNamespaceConfig namespaceConfig = config.caffeine.namespace.get(CachedSectionCache.CACHE_NAME);
+            if (namespaceConfig != null && namespaceConfig.refreshAfterWrite.isPresent()) {
+                // A refresh would render the section again with the data of a previous rendering.
+                throw new DeploymentException("The refresh-after-write property is not supported by the ["
+                        + CachedSectionCache.CACHE_NAME + "] cache, use expire-after-write or the ttl parameter instead");
+            }
+            // The cached output holds a CompletionStage and must not be shared with other replicas.
+            cacheNames.produce(new AdditionalCacheNameBuildItem(CachedSectionCache.CACHE_NAME, true));
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(CachedSectionCache.class));
+        }
+    }
+
+    private static boolean isClassPresent(String className) {
+        try {
+            Class.forName(className, false, Thread.currentThread().getContextClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @BuildStep
+    void unremovableRemoteCacheStore(CacheConfig config, BuildProducer<UnremovableBeanBuildItem> unremovableBeans) {
+        if (config.enabled && CacheDeploymentConstants.TWO_TIER_CACHE_TYPE.equals(config.type)) {
+            // The remote store is looked up programmatically by the two-tier caches.
+            unremovableBeans.produce(UnremovableBeanBuildItem.beanTypes(RemoteCacheStore.class));
+        }
+    }
+
+    @BuildStep
+    void redisRemoteCacheStore(CacheConfig config, BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (config.enabled && CacheDeploymentConstants.TWO_TIER_CACHE_TYPE.equals(config.type)
+                && isClassPresent(REDIS_CLIENT)) {
+            // These are default beans, any other remote store or codec provided by the application replaces them.
+            additionalBeans.produce(AdditionalBeanBuildItem.builder().addBeanClasses(RedisRemoteCacheStore.class,
+                    DefaultRedisCacheCodec.class).setDefaultScope(DotNames.SINGLETON).setUnremovable().build());
+        }
+    }
+
     @BuildStep
     List<BytecodeTransformerBuildItem> enhanceRestClientMethods(CombinedIndexBuildItem combinedIndex) {
         List<BytecodeTransformerBuildItem> bytecodeTransformers = new ArrayList<>();
@@ -0,0 +1,25 @@
+package io.quarkus.cache.deployment.exception;
+
+import org.jboss.jandex.MethodInfo;
+
+/**
+ * This exception is thrown at build time during the validation phase if a method annotated with
+ * {@link io.quarkus.cache.CacheBulkResult @CacheBulkResult} does not have exactly one {@link java.util.Collection Collection},
+ * {@link java.util.List List} or {@link java.util.Set Set} parameter, does not return a {@link java.util.Map Map} or is also
+ * annotated with {@link io.quarkus.cache.CacheResult @CacheResult}.
+ */
+@SuppressWarnings("serial")
+public class UnsupportedBulkResultTargetException extends RuntimeException {
+
+    private final MethodInfo methodInfo;
+
+    public UnsupportedBulkResultTargetException(MethodInfo methodInfo) {
+        super("@CacheBulkResult is only allowed on a method with a single Collection, List or Set parameter, returning a Map and not annotated with @CacheResult [class="
+                + methodInfo.declaringClass().name() + ", method=" + methodInfo.name() + "]");
+        this.methodInfo = methodInfo;
+    }
+
+    public MethodInfo getMethodInfo() {
+        return methodInfo;
+    }
+}
@@ -4,6 +4,8 @@ import static java.util.Arrays.stream;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -17,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
 import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheBulkResult;
 import io.quarkus.cache.CacheInvalidate;
 import io.quarkus.cache.CacheInvalidateAll;
 import io.quarkus.cache.CacheName;
@@ -24,6 +27,7 @@ import io.quarkus.cache.CacheResult;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
 import io.quarkus.cache.deployment.exception.UnknownCacheNameException;
+import io.quarkus.cache.deployment.exception.UnsupportedBulkResultTargetException;
 import io.quarkus.cache.deployment.exception.VoidReturnTypeTargetException;
 import io.quarkus.test.QuarkusUnitTest;
 
@@ -41,10 +45,12 @@ public class DeploymentExceptionsTest {
             .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(TestResource.class, TestBean.class))
             .assertException(t -> {
                 assertEquals(DeploymentException.class, t.getClass());
-                assertEquals(10, t.getSuppressed().length);
+                assertEquals(12, t.getSuppressed().length);
                 assertPrivateMethodTargetException(t, "shouldThrowPrivateMethodTargetException", 1);
                 assertPrivateMethodTargetException(t, "shouldAlsoThrowPrivateMethodTargetException", 2);
                 assertVoidReturnTypeTargetException(t, "showThrowVoidReturnTypeTargetException");
+                assertUnsupportedBulkResultTargetException(t, "shouldThrowUnsupportedBulkResultTargetException");
+                assertUnsupportedBulkResultTargetException(t, "shouldAlsoThrowUnsupportedBulkResultTargetException");
                 assertClassTargetException(t, TestResource.class, 1);
                 assertClassTargetException(t, TestBean.class, 2);
                 assertUnknownCacheNameException(t, UNKNOWN_CACHE_1);
@@ -62,6 +68,11 @@ public class DeploymentExceptionsTest {
                 .filter(s -> expectedMethodName.equals(s.getMethodInfo().name())).count());
     }
 
+    private static void assertUnsupportedBulkResultTargetException(Throwable t, String expectedMethodName) {
+        assertEquals(1, filterSuppressed(t, UnsupportedBulkResultTargetException.class)
+                .filter(s -> expectedMethodName.equals(s.getMethodInfo().name())).count());
+    }
+
     private static void assertClassTargetException(Throwable t, Class<?> expectedClassName, long expectedCount) {
         assertEquals(expectedCount, filterSuppressed(t, ClassTargetException.class)
                 .filter(s -> expectedClassName.getName().equals(s.getClassName().toString())).count());
@@ -103,6 +114,18 @@ public class DeploymentExceptionsTest {
         @CacheResult(cacheName = "should-throw-void-return-type-target-exception")
         public void showThrowVoidReturnTypeTargetException(String key) {
         }
+
+        @GET
+        @CacheBulkResult(cacheName = "should-throw-unsupported-bulk-result-target-exception")
+        public Map<String, String> shouldThrowUnsupportedBulkResultTargetException(String key) {
+            return null;
+        }
+
+        @GET
+        @CacheBulkResult(cacheName = "should-throw-unsupported-bulk-result-target-exception")
+        public String shouldAlsoThrowUnsupportedBulkResultTargetException(List<String> keys) {
+            return null;
+        }
     }
 
     @ApplicationScoped
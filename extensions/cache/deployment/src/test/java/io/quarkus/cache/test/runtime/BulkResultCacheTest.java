@@ -0,0 +1,142 @@
+package io.quarkus.cache.test.runtime;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheBulkResult;
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheName;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the {@link CacheBulkResult @CacheBulkResult} annotation and the {@link Cache#getAll(java.util.Collection, Function)}
+ * method.
+ */
+public class BulkResultCacheTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testBulkResult() throws ExecutionException, InterruptedException {
+
+        // STEP 1
+        // Action: @CacheBulkResult-annotated method call.
+        // Expected effect: method invoked with all the keys and results cached entry by entry.
+        // Verified by: STEP 2.
+        Map<Long, String> values1 = cachedService.cachedMethod(asList(1L, 2L, 3L));
+        assertEquals(asList(1L, 2L, 3L), new ArrayList<>(values1.keySet()));
+        assertEquals(asList(asList(1L, 2L, 3L)), cachedService.getInvocations());
+
+        // STEP 2
+        // Action: call overlapping STEP 1 with two new keys, one of them being unknown from the cached method.
+        // Expected effect: method invoked with the new keys only and results merged with the cached values.
+        // Verified by: recorded invocations and same object references between STEPS 1 and 2 results.
+        Map<Long, String> values2 = cachedService.cachedMethod(asList(3L, 4L, 2L, CachedService.UNKNOWN_KEY));
+        assertEquals(asList(3L, 4L, 2L), new ArrayList<>(values2.keySet()));
+        assertEquals(asList(4L, CachedService.UNKNOWN_KEY), cachedService.getInvocations().get(1));
+        assertTrue(values1.get(2L) == values2.get(2L));
+        assertTrue(values1.get(3L) == values2.get(3L));
+
+        // STEP 3
+        // Action: same call as STEP 2.
+        // Expected effect: method not invoked, the unknown key being cached with a null value.
+        // Verified by: invocations count.
+        Map<Long, String> values3 = cachedService.cachedMethod(asList(3L, 4L, 2L, CachedService.UNKNOWN_KEY));
+        assertEquals(values2, values3);
+        assertEquals(2, cachedService.getInvocations().size());
+
+        // STEP 4
+        // Action: cache entry invalidation.
+        // Expected effect: STEP 1 cache entry removed.
+        // Verified by: STEP 5.
+        cachedService.invalidate(1L);
+
+        // STEP 5
+        // Action: programmatic bulk load of the cached method keys.
+        // Expected effect: loader invoked with the invalidated key only.
+        // Verified by: loader argument and different objects references between STEPS 1 and 5 results.
+        List<Set<Long>> loaderInvocations = new ArrayList<>();
+        Map<Long, String> values5 = cache.getAll(asList(1L, 2L), new Function<Set<Long>, Map<Long, String>>() {
+            @Override
+            public Map<Long, String> apply(Set<Long> keys) {
+                loaderInvocations.add(keys);
+                Map<Long, String> result = new HashMap<>();
+                for (Long key : keys) {
+                    result.put(key, new String("programmatic-" + key));
+                }
+                return result;
+            }
+        }).get();
+        assertEquals(1, loaderInvocations.size());
+        assertEquals(1, loaderInvocations.get(0).size());
+        assertTrue(loaderInvocations.get(0).contains(1L));
+        assertEquals("programmatic-1", values5.get(1L));
+        assertTrue(values1.get(1L) != values5.get(1L));
+        assertTrue(values1.get(2L) == values5.get(2L));
+
+        // STEP 6
+        // Action: @CacheBulkResult-annotated method call with an empty collection.
+        // Expected effect: method invoked directly.
+        // Verified by: invocations count.
+        assertTrue(cachedService.cachedMethod(new ArrayList<>()).isEmpty());
+        assertEquals(3, cachedService.getInvocations().size());
+        assertFalse(values5.containsKey(CachedService.UNKNOWN_KEY));
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        static final long UNKNOWN_KEY = -1L;
+
+        private final List<List<Long>> invocations = new ArrayList<>();
+
+        @CacheBulkResult(cacheName = CACHE_NAME)
+        public Map<Long, String> cachedMethod(List<Long> keys) {
+            invocations.add(keys);
+            Map<Long, String> result = new HashMap<>();
+            for (Long key : keys) {
+                if (key != UNKNOWN_KEY) {
+                    result.put(key, new String("value-" + key));
+                }
+            }
+            return result;
+        }
+
+        @CacheInvalidate(cacheName = CACHE_NAME)
+        public void invalidate(Long key) {
+        }
+
+        public List<List<Long>> getInvocations() {
+            return invocations;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cache.runtime.CompositeCacheKey;
+import io.quarkus.cache.runtime.DefaultCacheKey;
+import io.quarkus.cache.runtime.twotier.DefaultRedisCacheCodec;
+import io.quarkus.cache.runtime.twotier.RedisRemoteCacheStoreConfig;
+
+public class DefaultRedisCacheCodecTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @Test
+    public void testKeys() {
+        DefaultRedisCacheCodec codec = codec(Optional.empty());
+
+        assertEquals("s:foo", codec.encodeKey(CACHE_NAME, "foo"));
+        assertEquals("j:123", codec.encodeKey(CACHE_NAME, 123L));
+        assertEquals("default", codec.encodeKey(CACHE_NAME, new DefaultCacheKey(CACHE_NAME)));
+        assertEquals("composite:5:s:foo:4:i:12",
+                codec.encodeKey(CACHE_NAME, new CompositeCacheKey("foo", 12)));
+
+        // Equal keys are always encoded into the same string.
+        assertEquals(codec.encodeKey(CACHE_NAME, new CompositeCacheKey("foo", 12, Fruit.Type.APPLE)),
+                codec.encodeKey(CACHE_NAME, new CompositeCacheKey("foo", 12, Fruit.Type.APPLE)));
+
+        // Keys which are not equal are never encoded into the same string.
+        assertNotEquals(codec.encodeKey(CACHE_NAME, 12), codec.encodeKey(CACHE_NAME, 12L));
+        assertNotEquals(codec.encodeKey(CACHE_NAME, 12), codec.encodeKey(CACHE_NAME, "12"));
+        assertNotEquals(codec.encodeKey(CACHE_NAME, new CompositeCacheKey("a:1", "b")),
+                codec.encodeKey(CACHE_NAME, new CompositeCacheKey("a", "1:b")));
+        assertNotEquals(codec.encodeKey(CACHE_NAME, new CompositeCacheKey(null, "b")),
+                codec.encodeKey(CACHE_NAME, new CompositeCacheKey("null", "b")));
+
+        assertThrows(IllegalArgumentException.class, () -> codec.encodeKey(CACHE_NAME, new Fruit("apple")));
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.encodeKey(CACHE_NAME, new CompositeCacheKey("foo", new Object())));
+    }
+
+    @Test
+    public void testJdkValues() {
+        DefaultRedisCacheCodec codec = codec(Optional.empty());
+        List<Object> value = Arrays.asList("foo", 12L, Collections.singletonMap("bar", 1.5D));
+        assertEquals(value, codec.decodeValue(CACHE_NAME, codec.encodeValue(CACHE_NAME, value)));
+    }
+
+    @Test
+    public void testRejectedValue() {
+        DefaultRedisCacheCodec codec = codec(Optional.empty());
+        String encodedValue = codec.encodeValue(CACHE_NAME, new Fruit("apple"));
+        assertThrows(IllegalArgumentException.class, () -> codec.decodeValue(CACHE_NAME, encodedValue));
+        // The classes nested in an allowed value are checked too.
+        String encodedList = codec.encodeValue(CACHE_NAME, Collections.singletonList(new Fruit("apple")));
+        assertThrows(IllegalArgumentException.class, () -> codec.decodeValue(CACHE_NAME, encodedList));
+    }
+
+    @Test
+    public void testAllowedValue() {
+        DefaultRedisCacheCodec codec = codec(Optional.of(Collections.singletonList(Fruit.class.getName())));
+        Fruit value = new Fruit("apple");
+        assertEquals(value, codec.decodeValue(CACHE_NAME, codec.encodeValue(CACHE_NAME, value)));
+    }
+
+    @Test
+    public void testInvalidValue() {
+        DefaultRedisCacheCodec codec = codec(Optional.empty());
+        assertThrows(IllegalArgumentException.class, () -> codec.decodeValue(CACHE_NAME, "not base64!"));
+        assertThrows(IllegalArgumentException.class, () -> codec.decodeValue(CACHE_NAME, "Zm9v"));
+    }
+
+    private static DefaultRedisCacheCodec codec(Optional<List<String>> allowedClasses) {
+        RedisRemoteCacheStoreConfig config = new RedisRemoteCacheStoreConfig();
+        config.allowedClasses = allowedClasses;
+        return new DefaultRedisCacheCodec(config);
+    }
+
+    public static class Fruit implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        enum Type {
+            APPLE
+        }
+
+        private final String name;
+
+        public Fruit(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Fruit && Objects.equals(name, ((Fruit) obj).name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(name);
+        }
+    }
+}
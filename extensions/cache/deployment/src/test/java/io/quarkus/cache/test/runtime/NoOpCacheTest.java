@@ -1,10 +1,17 @@
 package io.quarkus.cache.test.runtime;
 
+import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -15,6 +22,7 @@ import org.jboss.shrinkwrap.api.spec.JavaArchive;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
+import io.quarkus.cache.CacheBulkResult;
 import io.quarkus.cache.CacheInvalidate;
 import io.quarkus.cache.CacheInvalidateAll;
 import io.quarkus.cache.CacheResult;
@@ -54,6 +62,16 @@ public class NoOpCacheTest {
         cachedService.invalidateAll();
     }
 
+    @Test
+    public void testBulkResult() {
+        // Action: @CacheBulkResult-annotated method call returning the values in reverse order and a null value.
+        // Expected effect: values returned in the keys order without the null value.
+        // Verified by: keys of the returned map.
+        Map<Long, String> values = cachedService.cachedBulkMethod(asList(2L, 3L, 1L));
+        assertEquals(asList(2L, 1L), new ArrayList<>(values.keySet()));
+        assertFalse(values.containsKey(3L));
+    }
+
     @Test
     public void testRuntimeExceptionThrowDuringCacheComputation() {
         NumberFormatException e = assertThrows(NumberFormatException.class, () -> {
@@ -86,6 +104,15 @@ public class NoOpCacheTest {
             return new String();
         }
 
+        @CacheBulkResult(cacheName = "bulk-cache")
+        public Map<Long, String> cachedBulkMethod(List<Long> keys) {
+            Map<Long, String> values = new TreeMap<>(Collections.reverseOrder());
+            for (Long key : keys) {
+                values.put(key, key == 3L ? null : "value" + key);
+            }
+            return values;
+        }
+
         @CacheInvalidate(cacheName = CACHE_NAME)
         public void invalidate(Object key) {
         }
@@ -0,0 +1,220 @@
+package io.quarkus.cache.test.runtime;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheBulkResult;
+import io.quarkus.cache.CacheInvalidateAll;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the background reload of stale entries.
+ */
+public class RefreshAfterWriteCacheTest {
+
+    private static final String CACHE_NAME = "test-cache";
+    private static final String ANNOTATED_CACHE_NAME = "annotated-cache";
+    private static final String BULK_CACHE_NAME = "bulk-cache";
+    private static final Object KEY = new Object();
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+            .addAsResource(new StringAsset("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".refresh-after-write=PT0.1S\n"
+                    + "quarkus.cache.caffeine.\"" + ANNOTATED_CACHE_NAME + "\".refresh-after-write=PT0.1S\n"
+                    + "quarkus.cache.caffeine.\"" + BULK_CACHE_NAME + "\".refresh-after-write=PT0.1S"),
+                    "application.properties")
+            .addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @CacheName(ANNOTATED_CACHE_NAME)
+    Cache annotatedCache;
+
+    @CacheName(BULK_CACHE_NAME)
+    Cache bulkCache;
+
+    @Test
+    public void testStaleValueServedWhileReloading() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        Function<Object, Object> valueLoader = new Function<Object, Object>() {
+            @Override
+            public Object apply(Object key) {
+                loads.incrementAndGet();
+                return new String("value");
+            }
+        };
+
+        // STEP 1
+        // Action: programmatic cache read.
+        // Expected effect: value loader invoked and result cached.
+        // Verified by: loads count.
+        Object value1 = get(valueLoader);
+        assertEquals(1, loads.get());
+
+        // STEP 2
+        // Action: same read as STEP 1 once the entry is stale.
+        // Expected effect: stale value returned and entry reloaded in the background.
+        // Verified by: same object reference between STEPS 1 and 2 results, then loads count.
+        Thread.sleep(200L);
+        Object value2 = get(valueLoader);
+        assertTrue(value1 == value2);
+        waitForRefresh(cache, 1L);
+        assertEquals(2, loads.get());
+
+        // STEP 3
+        // Action: same read as STEP 2.
+        // Expected effect: reloaded value returned.
+        // Verified by: different objects references between STEPS 2 and 3 results and refresh statistics.
+        Object value3 = get(valueLoader);
+        assertTrue(value2 != value3);
+        assertEquals(2, loads.get());
+        assertEquals(1L, ((CaffeineCache) cache).getRefreshCount());
+    }
+
+    @Test
+    public void testAnnotatedMethodInvokedInBackground() throws InterruptedException {
+        // STEP 1
+        // Action: @CacheResult-annotated method call.
+        // Expected effect: method invoked and result cached.
+        // Verified by: invocations count.
+        String value1 = cachedService.cachedMethod(KEY);
+        assertEquals(1, cachedService.getInvocations());
+
+        // STEP 2
+        // Action: same call as STEP 1 once the entry is stale.
+        // Expected effect: stale value returned and method invoked again in the background with a request context.
+        // Verified by: same object reference between STEPS 1 and 2 results, invocations count and refresh statistics.
+        Thread.sleep(200L);
+        String value2 = cachedService.cachedMethod(KEY);
+        assertTrue(value1 == value2);
+        waitForRefresh(annotatedCache, 1L);
+        assertEquals(2, cachedService.getInvocations());
+        assertTrue(cachedService.isRequestContextActive());
+
+        // STEP 3
+        // Action: same call as STEP 2.
+        // Expected effect: reloaded value returned.
+        // Verified by: different objects references between STEPS 2 and 3 results and invocations count.
+        String value3 = cachedService.cachedMethod(KEY);
+        assertTrue(value2 != value3);
+        assertEquals(2, cachedService.getInvocations());
+    }
+
+    @Test
+    public void testAnnotatedBulkMethodInvokedInBackground() throws InterruptedException {
+        // STEP 1
+        // Action: @CacheBulkResult-annotated method call.
+        // Expected effect: method invoked and results cached.
+        // Verified by: invocations count.
+        Map<Long, String> values1 = cachedService.cachedBulkMethod(asList(1L, 2L));
+        assertEquals(1, cachedService.getBulkInvocations());
+
+        // STEP 2
+        // Action: call with the keys of STEP 1 and a new key once the entries are stale.
+        // Expected effect: stale values returned, missing value loaded and stale entries reloaded with a single invocation.
+        // Verified by: same object references between STEPS 1 and 2 results, invocations keys and refresh statistics.
+        Thread.sleep(200L);
+        Map<Long, String> values2 = cachedService.cachedBulkMethod(asList(1L, 2L, 3L));
+        assertTrue(values1.get(1L) == values2.get(1L));
+        assertTrue(values1.get(2L) == values2.get(2L));
+        waitForRefresh(bulkCache, 2L);
+        assertEquals(asList(asList(1L, 2L), asList(3L), asList(1L, 2L)), cachedService.getBulkInvocationKeys());
+
+        // STEP 3
+        // Action: same call as STEP 2.
+        // Expected effect: reloaded values returned.
+        // Verified by: different objects references between STEPS 2 and 3 results and invocations count.
+        Map<Long, String> values3 = cachedService.cachedBulkMethod(asList(1L, 2L, 3L));
+        assertTrue(values2.get(1L) != values3.get(1L));
+        assertTrue(values2.get(2L) != values3.get(2L));
+        assertTrue(values2.get(3L) == values3.get(3L));
+        assertEquals(3, cachedService.getBulkInvocations());
+    }
+
+    private Object get(Function<Object, Object> valueLoader) throws InterruptedException, ExecutionException {
+        return ((CaffeineCache) cache).get(KEY, valueLoader).get();
+    }
+
+    private void waitForRefresh(Cache cache, long expectedRefreshCount) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000L;
+        // The entries are replaced right after the value loader returns.
+        while (((CaffeineCache) cache).getRefreshCount() < expectedRefreshCount && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertEquals(expectedRefreshCount, ((CaffeineCache) cache).getRefreshCount());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+        private final List<List<Long>> bulkInvocationKeys = new CopyOnWriteArrayList<>();
+        private volatile boolean requestContextActive;
+
+        @CacheResult(cacheName = ANNOTATED_CACHE_NAME)
+        public String cachedMethod(Object key) {
+            invocations.incrementAndGet();
+            requestContextActive = Arc.container().requestContext().isActive();
+            return new String("value");
+        }
+
+        @CacheBulkResult(cacheName = BULK_CACHE_NAME)
+        public Map<Long, String> cachedBulkMethod(List<Long> keys) {
+            bulkInvocationKeys.add(new ArrayList<>(keys));
+            Map<Long, String> values = new HashMap<>();
+            for (Long key : keys) {
+                values.put(key, new String("value" + key));
+            }
+            return values;
+        }
+
+        // Only declares the cache used through the programmatic API.
+        @CacheInvalidateAll(cacheName = CACHE_NAME)
+        public void invalidateAll() {
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+
+        public boolean isRequestContextActive() {
+            return requestContextActive;
+        }
+
+        public int getBulkInvocations() {
+            return bulkInvocationKeys.size();
+        }
+
+        public List<List<Long>> getBulkInvocationKeys() {
+            return bulkInvocationKeys;
+        }
+    }
+}
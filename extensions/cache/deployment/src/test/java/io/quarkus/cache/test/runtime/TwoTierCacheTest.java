@@ -0,0 +1,227 @@
+package io.quarkus.cache.test.runtime;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheBulkResult;
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheInvalidateAll;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.RemoteCacheStore;
+import io.quarkus.cache.runtime.twotier.TwoTierCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the two-tier cache type against an in-process stand-in for the remote tier.
+ */
+public class TwoTierCacheTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+            .addAsResource(new StringAsset("quarkus.cache.type=two-tier"), "application.properties")
+            .addClasses(CachedService.class, InMemoryRemoteCacheStore.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    InMemoryRemoteCacheStore remoteStore;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testAllCacheAnnotations() {
+        assertEquals(TwoTierCache.class, cache.getClass());
+
+        // STEP 1
+        // Action: @CacheResult-annotated method call.
+        // Expected effect: method invoked and result cached in both tiers.
+        // Verified by: STEP 2 and remote store content.
+        String value1 = cachedService.cachedMethod("a");
+        assertEquals(1, cachedService.getInvocations());
+        assertEquals(value1, remoteStore.get(CACHE_NAME, "a"));
+
+        // STEP 2
+        // Action: same call as STEP 1.
+        // Expected effect: method not invoked and result coming from the near-cache.
+        // Verified by: same object reference between STEPS 1 and 2 results.
+        String value2 = cachedService.cachedMethod("a");
+        assertTrue(value1 == value2);
+        assertEquals(1, cachedService.getInvocations());
+
+        // STEP 3
+        // Action: another replica caches a value in the remote tier, then the same key is requested locally.
+        // Expected effect: method not invoked and result coming from the remote tier.
+        // Verified by: value written by the other replica returned and invocations count unchanged.
+        remoteStore.put(CACHE_NAME, "b", "from-other-replica");
+        assertEquals("from-other-replica", cachedService.cachedMethod("b"));
+        assertEquals(1, cachedService.getInvocations());
+
+        // STEP 4
+        // Action: another replica invalidates the key from STEPS 1 and 2.
+        // Expected effect: both tiers no longer contain the key.
+        // Verified by: method invoked and different object reference between STEPS 2 and 4 results.
+        remoteStore.invalidate(CACHE_NAME, "a");
+        String value4 = cachedService.cachedMethod("a");
+        assertTrue(value2 != value4);
+        assertEquals(2, cachedService.getInvocations());
+
+        // STEP 5
+        // Action: @CacheInvalidate-annotated method call.
+        // Expected effect: invalidation forwarded to the remote tier.
+        // Verified by: remote store content.
+        cachedService.invalidate("a");
+        assertNull(remoteStore.get(CACHE_NAME, "a"));
+
+        // STEP 6
+        // Action: @CacheInvalidateAll-annotated method call.
+        // Expected effect: full invalidation forwarded to the remote tier.
+        // Verified by: remote store content.
+        cachedService.invalidateAll();
+        assertNull(remoteStore.get(CACHE_NAME, "b"));
+    }
+
+    @Test
+    public void testBulkResult() {
+        // STEP 1
+        // Action: another replica caches a value in the remote tier, then a @CacheBulkResult-annotated method is called with
+        // that key and two new keys.
+        // Expected effect: the missing keys are looked up with a single remote call, the method is invoked with the keys
+        // missing from both tiers only and its results are pushed to the remote tier.
+        // Verified by: remote calls count, recorded invocations and remote store content.
+        remoteStore.put(CACHE_NAME, "bulk-a", "from-other-replica");
+        int remoteGetAllCalls = remoteStore.getGetAllCalls();
+        Map<String, String> values = cachedService.cachedBulkMethod(asList("bulk-a", "bulk-b", "bulk-c"));
+        assertEquals(asList("bulk-a", "bulk-b", "bulk-c"), new ArrayList<>(values.keySet()));
+        assertEquals("from-other-replica", values.get("bulk-a"));
+        assertEquals(remoteGetAllCalls + 1, remoteStore.getGetAllCalls());
+        assertEquals(asList(asList("bulk-b", "bulk-c")), cachedService.getBulkInvocations());
+        assertEquals("bulk-b", remoteStore.get(CACHE_NAME, "bulk-b"));
+        assertEquals("bulk-c", remoteStore.get(CACHE_NAME, "bulk-c"));
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private int invocations;
+        private final List<List<String>> bulkInvocations = new ArrayList<>();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(String key) {
+            invocations++;
+            return new String(key);
+        }
+
+        @CacheBulkResult(cacheName = CACHE_NAME)
+        public Map<String, String> cachedBulkMethod(List<String> keys) {
+            bulkInvocations.add(new ArrayList<>(keys));
+            Map<String, String> values = new HashMap<>();
+            for (String key : keys) {
+                values.put(key, new String(key));
+            }
+            return values;
+        }
+
+        @CacheInvalidate(cacheName = CACHE_NAME)
+        public void invalidate(String key) {
+        }
+
+        @CacheInvalidateAll(cacheName = CACHE_NAME)
+        public void invalidateAll() {
+        }
+
+        public int getInvocations() {
+            return invocations;
+        }
+
+        public List<List<String>> getBulkInvocations() {
+            return bulkInvocations;
+        }
+    }
+
+    @Singleton
+    static class InMemoryRemoteCacheStore implements RemoteCacheStore {
+
+        private final Map<String, Map<Object, Object>> caches = new ConcurrentHashMap<>();
+        private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
+        private final AtomicInteger getAllCalls = new AtomicInteger();
+
+        @Override
+        public Object get(String cacheName, Object key) {
+            return cache(cacheName).get(key);
+        }
+
+        @Override
+        public Map<Object, Object> getAll(String cacheName, Set<?> keys) {
+            getAllCalls.incrementAndGet();
+            Map<Object, Object> values = new HashMap<>();
+            for (Object key : keys) {
+                Object value = cache(cacheName).get(key);
+                if (value != null) {
+                    values.put(key, value);
+                }
+            }
+            return values;
+        }
+
+        @Override
+        public void put(String cacheName, Object key, Object value) {
+            cache(cacheName).put(key, value);
+        }
+
+        @Override
+        public void invalidate(String cacheName, Object key) {
+            cache(cacheName).remove(key);
+            for (InvalidationListener listener : listeners) {
+                listener.onInvalidate(cacheName, key);
+            }
+        }
+
+        @Override
+        public void invalidateAll(String cacheName) {
+            cache(cacheName).clear();
+            for (InvalidationListener listener : listeners) {
+                listener.onInvalidateAll(cacheName);
+            }
+        }
+
+        @Override
+        public void addInvalidationListener(InvalidationListener listener) {
+            listeners.add(listener);
+        }
+
+        public int getGetAllCalls() {
+            return getAllCalls.get();
+        }
+
+        private Map<Object, Object> cache(String cacheName) {
+            return caches.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>());
+        }
+    }
+}
@@ -1,13 +1,31 @@
 package io.quarkus.cache;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
 /**
  * Use this interface to interact with a cache programmatically. The cache can be injected using the {@link CacheName}
  * annotation or retrieved using {@link CacheManager}.
  */
 public interface Cache {
 
-    /*
-     * This interface is intentionally empty for now.
-     * TODO: Add the methods that will be exposed by the programmatic API.
+    /**
+     * Returns a {@link CompletableFuture} holding the cache values identified by {@code keys}. The keys which are not already
+     * associated with a value are loaded with a single {@code bulkLoader} invocation on the calling thread. A key which is
+     * missing from the map returned by {@code bulkLoader} is cached with a {@code null} value.
+     * <p>
+     * The returned map iterates over the keys in the same order as {@code keys} and does not contain the keys associated with
+     * a {@code null} value.
+     * <p>
+     * If {@code refresh-after-write} is configured for this cache, the stale values are returned and reloaded with a single
+     * {@code bulkLoader} invocation on the Quarkus worker pool.
+     * 
+     * @param keys cache keys, {@code null} elements are not supported
+     * @param bulkLoader function used to compute the cache values of the keys which are not already associated with a value
+     * @return a {@link CompletableFuture} holding the cache values
      */
+    <K, V> CompletableFuture<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader);
 }
@@ -0,0 +1,37 @@
+package io.quarkus.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import javax.enterprise.util.Nonbinding;
+import javax.interceptor.InterceptorBinding;
+
+/**
+ * When a method annotated with {@link CacheBulkResult} is invoked, each element of its {@link java.util.Collection Collection}
+ * argument is used as a separate cache key. The values of the keys which are already cached are retrieved from the cache and
+ * the annotated method is only invoked once, with a collection containing the missing keys. The {@link java.util.Map Map}
+ * returned by that invocation is stored in the cache entry by entry and merged with the cached values before being returned.
+ * If all the keys are already cached, the annotated method is never actually executed.
+ * <p>
+ * This annotation is only allowed on a method which has exactly one parameter of type {@link java.util.Collection Collection},
+ * {@link java.util.List List} or {@link java.util.Set Set} and which returns a {@link java.util.Map Map}. The keys which are
+ * missing from the map returned by the annotated method are cached with a {@code null} value and are not part of the result.
+ * <p>
+ * The cache entries are protected by the same lock on cache miss mechanism as {@link CacheResult}, without any lock timeout.
+ * This annotation can be combined with {@link CacheInvalidateAll} and {@link CacheInvalidate} but not with {@link CacheResult}.
+ * <p>
+ * The underlying caching provider can be chosen and configured in the Quarkus {@link application.properties} file.
+ */
+@InterceptorBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheBulkResult {
+
+    /**
+     * The name of the cache.
+     */
+    @Nonbinding
+    String cacheName();
+}
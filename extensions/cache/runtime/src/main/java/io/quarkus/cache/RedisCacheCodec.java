@@ -0,0 +1,46 @@
+package io.quarkus.cache;
+
+/**
+ * <p>
+ * Converts the cache keys and values stored by the Redis remote tier of the {@code two-tier} caches. A default codec is
+ * provided
+ * when the {@code redis-client} extension is present, it is replaced by any bean implementing this interface provided by the
+ * application, e.g. a codec based on JSON.
+ * </p>
+ * <p>
+ * The encoded keys are only used to identify the entries: they are never decoded. Two keys which are equal must therefore
+ * always be encoded into the same string, on every replica of the application.
+ * </p>
+ */
+public interface RedisCacheCodec {
+
+    /**
+     * Returns the canonical representation of {@code key}.
+     * 
+     * @param cacheName cache name
+     * @param key cache key
+     * @return the encoded key, never {@code null}
+     * @throws IllegalArgumentException if the key type is not supported by this codec
+     */
+    String encodeKey(String cacheName, Object key);
+
+    /**
+     * Encodes a cache value.
+     * 
+     * @param cacheName cache name
+     * @param value cache value, never {@code null}
+     * @return the encoded value
+     */
+    String encodeValue(String cacheName, Object value);
+
+    /**
+     * Decodes a value read from Redis. The value may have been written by another replica, or by anyone who can write to the
+     * Redis server, so it must never be decoded into an arbitrary type.
+     * 
+     * @param cacheName cache name
+     * @param value encoded value
+     * @return the decoded value
+     * @throws IllegalArgumentException if the value can't be decoded
+     */
+    Object decodeValue(String cacheName, String value);
+}
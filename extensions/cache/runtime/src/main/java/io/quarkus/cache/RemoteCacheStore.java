@@ -0,0 +1,108 @@
+package io.quarkus.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * <p>
+ * Service provider interface for the remote tier of the {@code two-tier} cache type. When {@code quarkus.cache.type} is set to
+ * {@code two-tier}, each cache is backed by a local Caffeine near-cache placed in front of a store shared by all the replicas
+ * of the application. The store is resolved from the CDI container the first time a cache needs it, so exactly one bean
+ * implementing this interface has to be provided by the application or by another extension. A Redis store is provided when the
+ * {@code redis-client} extension is present, it is replaced by any other implementation provided by the application. The
+ * Redis store converts the keys and values with a {@link RedisCacheCodec}.
+ * </p>
+ * <p>
+ * Implementations are responsible for the invalidation fan-out: any invalidation performed through this store must be
+ * delivered to the {@link InvalidationListener listeners} registered on every replica, including the one which triggered the
+ * invalidation.
+ * </p>
+ * <p>
+ * The methods of this interface are invoked synchronously on the thread that calls the cached method.
+ * </p>
+ */
+public interface RemoteCacheStore {
+
+    /**
+     * Returns the value associated with {@code key} in the remote cache named {@code cacheName}.
+     * 
+     * @param cacheName cache name
+     * @param key cache key
+     * @return the cached value, or {@code null} if the remote tier does not contain any value for {@code key}
+     */
+    Object get(String cacheName, Object key);
+
+    /**
+     * Returns the values associated with {@code keys} in the remote cache named {@code cacheName}. This method is used when
+     * several entries are missing from the near-cache at once. The default implementation invokes {@link #get(String, Object)}
+     * for each key, it should be overridden with a single round trip to the remote tier when possible.
+     * 
+     * @param cacheName cache name
+     * @param keys cache keys
+     * @return the cached values, the keys which are not associated with any value in the remote tier are missing from the map
+     */
+    default Map<Object, Object> getAll(String cacheName, Set<?> keys) {
+        Map<Object, Object> values = new HashMap<>();
+        for (Object key : keys) {
+            Object value = get(cacheName, key);
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Associates {@code value} with {@code key} in the remote cache named {@code cacheName}. {@code null} values are never
+     * pushed to the remote tier.
+     * 
+     * @param cacheName cache name
+     * @param key cache key
+     * @param value cache value, never {@code null}
+     */
+    void put(String cacheName, Object key, Object value);
+
+    /**
+     * Removes the entry identified by {@code key} from the remote cache named {@code cacheName} and notifies all the
+     * registered listeners.
+     * 
+     * @param cacheName cache name
+     * @param key cache key
+     */
+    void invalidate(String cacheName, Object key);
+
+    /**
+     * Removes all entries from the remote cache named {@code cacheName} and notifies all the registered listeners.
+     * 
+     * @param cacheName cache name
+     */
+    void invalidateAll(String cacheName);
+
+    /**
+     * Registers a listener that will be notified of every invalidation, whichever replica triggered it.
+     * 
+     * @param listener invalidation listener
+     */
+    void addInvalidationListener(InvalidationListener listener);
+
+    /**
+     * Receives the invalidations broadcast by a {@link RemoteCacheStore}.
+     */
+    interface InvalidationListener {
+
+        void onInvalidate(String cacheName, Object key);
+
+        /**
+         * Invalidates the near-cache entries whose key matches {@code keyPredicate}. This method is used by the stores which
+         * only broadcast an identifier of the invalidated key, the predicate is evaluated for each entry of the near-cache.
+         * 
+         * @param cacheName cache name
+         * @param keyPredicate predicate matching the invalidated keys
+         */
+        void onInvalidateMatching(String cacheName, Predicate<Object> keyPredicate);
+
+        void onInvalidateAll(String cacheName);
+    }
+}
@@ -0,0 +1,84 @@
+package io.quarkus.cache.runtime;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+import javax.annotation.Priority;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.CacheBulkResult;
+
+@CacheBulkResult(cacheName = "") // The `cacheName` attribute is @Nonbinding.
+@Interceptor
+@Priority(CacheInterceptor.BASE_PRIORITY + 2)
+public class CacheBulkResultInterceptor extends CacheInterceptor {
+
+    private static final Logger LOGGER = Logger.getLogger(CacheBulkResultInterceptor.class);
+    private static final String INTERCEPTOR_BINDING_ERROR_MSG = "The Quarkus cache extension is not working properly (CacheBulkResult interceptor binding retrieval failed), please create a GitHub issue in the Quarkus repository to help the maintainers fix this bug";
+
+    @AroundInvoke
+    public Object intercept(InvocationContext invocationContext) throws Throwable {
+        CacheInterceptionContext<CacheBulkResult> interceptionContext = getInterceptionContext(invocationContext,
+                CacheBulkResult.class, false);
+
+        if (interceptionContext.getInterceptorBindings().isEmpty()) {
+            // This should never happen.
+            LOGGER.warn(INTERCEPTOR_BINDING_ERROR_MSG);
+            return invocationContext.proceed();
+        }
+
+        Collection<Object> keys = cast(invocationContext.getParameters()[0]);
+        if (keys == null || keys.isEmpty()) {
+            return invocationContext.proceed();
+        }
+
+        CacheBulkResult binding = interceptionContext.getInterceptorBindings().get(0);
+        AbstractCache cache = (AbstractCache) cacheManager.getCache(binding.cacheName()).get();
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debugf("Loading %d entries from cache [%s]", keys.size(), binding.cacheName());
+        }
+
+        // The method is invoked with the same kind of collection as the declared parameter type, restricted to the missing keys.
+        boolean setParameter = Set.class.isAssignableFrom(invocationContext.getMethod().getParameterTypes()[0]);
+
+        try {
+            // With refresh-after-write, this loader also reloads stale entries on a worker thread after this invocation.
+            return cache.getAll(keys, new Function<Set<Object>, Map<Object, Object>>() {
+                @Override
+                public Map<Object, Object> apply(Set<Object> missingKeys) {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debugf("Loading %d missing entries into cache [%s]", missingKeys.size(), binding.cacheName());
+                    }
+                    Collection<Object> parameter = setParameter ? new LinkedHashSet<>(missingKeys)
+                            : new ArrayList<>(missingKeys);
+                    /*
+                     * InvocationContext#setParameters only accepts values of the exact declared parameter type, which is an
+                     * interface here. The parameters array is shared with the rest of the chain, so it is updated in place.
+                     */
+                    invocationContext.getParameters()[0] = parameter;
+                    try {
+                        return cast(invocationContext.proceed());
+                    } catch (Exception e) {
+                        throw new CacheException(e);
+                    }
+                }
+            }).get();
+        } catch (ExecutionException e) {
+            throw getComputationCause(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
+}
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
 
 import javax.inject.Inject;
@@ -129,4 +130,34 @@ public abstract class CacheInterceptor {
             return new CompositeCacheKey(methodParameterValues);
         }
     }
+
+    /**
+     * Returns the {@link Throwable} which should be thrown by an interceptor when a cache value computation failed.
+     * 
+     * @param e exception thrown while waiting for the cache value
+     * @return the original cause of the failure
+     */
+    protected Throwable getComputationCause(ExecutionException e) {
+        /*
+         * Any exception raised during a cache computation will be encapsulated into an ExecutionException because it is
+         * thrown during a CompletionStage execution.
+         */
+        if (e.getCause() instanceof CacheException) {
+            /*
+             * The ExecutionException was caused by a CacheException (most likely case).
+             * Let's return the CacheException cause if possible or the CacheException itself otherwise.
+             */
+            if (e.getCause().getCause() != null) {
+                return e.getCause().getCause();
+            } else {
+                return e.getCause();
+            }
+        } else if (e.getCause() != null) {
+            // The ExecutionException was caused by another type of Throwable (unlikely case).
+            return e.getCause();
+        } else {
+            // The ExecutionException does not have a cause (very unlikely case).
+            return e;
+        }
+    }
 }
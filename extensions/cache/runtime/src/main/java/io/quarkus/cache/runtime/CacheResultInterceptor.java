@@ -43,6 +43,7 @@ public class CacheResultInterceptor extends CacheInterceptor {
 
         try {
 
+            // With refresh-after-write, this loader also reloads a stale entry on a worker thread after this invocation.
             CompletableFuture<Object> cacheValue = cache.get(key, new Function<Object, Object>() {
                 @Override
                 public Object apply(Object k) {
@@ -70,27 +71,7 @@ public class CacheResultInterceptor extends CacheInterceptor {
             }
 
         } catch (ExecutionException e) {
-            /*
-             * Any exception raised during a cache computation will be encapsulated into an ExecutionException because it is
-             * thrown during a CompletionStage execution.
-             */
-            if (e.getCause() instanceof CacheException) {
-                /*
-                 * The ExecutionException was caused by a CacheException (most likely case).
-                 * Let's throw the CacheException cause if possible or the CacheException itself otherwise.
-                 */
-                if (e.getCause().getCause() != null) {
-                    throw e.getCause().getCause();
-                } else {
-                    throw e.getCause();
-                }
-            } else if (e.getCause() != null) {
-                // The ExecutionException was caused by another type of Throwable (unlikely case).
-                throw e.getCause();
-            } else {
-                // The ExecutionException does not have a cause (very unlikely case).
-                throw e;
-            }
+            throw getComputationCause(e);
         }
     }
 }
@@ -26,6 +26,13 @@ public class CompositeCacheKey {
         this.keyElements = keyElements;
     }
 
+    /**
+     * @return a copy of the key elements
+     */
+    public Object[] getKeyElements() {
+        return keyElements.clone();
+    }
+
     @Override
     public int hashCode() {
         return Arrays.deepHashCode(keyElements);
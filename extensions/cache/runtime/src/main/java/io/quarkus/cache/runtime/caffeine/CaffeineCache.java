@@ -1,15 +1,37 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ManagedContext;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.CacheException;
 import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.runtime.ExecutorRecorder;
 
 /**
  * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application. The public
@@ -17,6 +39,8 @@ import io.quarkus.cache.runtime.NullValueConverter;
  */
 public class CaffeineCache extends AbstractCache {
 
+    private static final Logger LOGGER = Logger.getLogger(CaffeineCache.class);
+
     private AsyncCache<Object, Object> cache;
 
     private String name;
@@ -29,6 +53,18 @@ public class CaffeineCache extends AbstractCache {
 
     private Duration expireAfterAccess;
 
+    private Duration refreshAfterWrite;
+
+    private long refreshAfterWriteNanos;
+
+    private Set<Object> refreshingKeys;
+
+    private final LongAdder refreshCount = new LongAdder();
+
+    private final LongAdder refreshTotalTimeNanos = new LongAdder();
+
+    private final StatsCounter statsCounter;
+
     public CaffeineCache(CaffeineCacheInfo cacheInfo) {
         this.name = cacheInfo.name;
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
@@ -48,6 +84,27 @@ public class CaffeineCache extends AbstractCache {
             this.expireAfterAccess = cacheInfo.expireAfterAccess;
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
         }
+        if (cacheInfo.refreshAfterWrite != null) {
+            /*
+             * Caffeine only supports refreshAfterWrite with a cache-wide loader, while the value loader is provided on each
+             * call here. The entries write time is therefore tracked by this class instead.
+             */
+            this.refreshAfterWrite = cacheInfo.refreshAfterWrite;
+            this.refreshAfterWriteNanos = cacheInfo.refreshAfterWrite.toNanos();
+            this.refreshingKeys = ConcurrentHashMap.newKeySet();
+        }
+        if (cacheInfo.metricsEnabled) {
+            /*
+             * The entries are read and written through the Map view of the cache, which doesn't record hits and misses, and the
+             * computation failures are stored as regular values. Hits, misses and loads are therefore recorded by this class
+             * while Caffeine only records evictions into the same striped counters.
+             */
+            StatsCounter counter = new ConcurrentStatsCounter();
+            builder.recordStats(() -> new EvictionStatsCounter(counter));
+            this.statsCounter = counter;
+        } else {
+            this.statsCounter = StatsCounter.disabledStatsCounter();
+        }
         cache = builder.buildAsync();
     }
 
@@ -60,6 +117,9 @@ public class CaffeineCache extends AbstractCache {
      * Returns a {@link CompletableFuture} holding the cache value identified by {@code key}, obtaining that value from
      * {@code valueLoader} if necessary. The value computation is done synchronously on the calling thread and the
      * {@link CompletableFuture} is immediately completed before being returned.
+     * <p>
+     * If {@code refreshAfterWrite} is configured and the existing value is older than that delay, the existing value is
+     * returned while a single background reload of the entry is executed with {@code valueLoader} on the Quarkus worker pool.
      * 
      * @param key cache key
      * @param valueLoader function used to compute the cache value if {@code key} is not already associated with a value
@@ -74,19 +134,234 @@ public class CaffeineCache extends AbstractCache {
         CompletableFuture<Object> newCacheValue = new CompletableFuture<Object>();
         CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
         if (existingCacheValue == null) {
+            statsCounter.recordMisses(1);
+            long start = System.nanoTime();
             try {
-                Object value = valueLoader.apply(key);
-                newCacheValue.complete(NullValueConverter.toCacheValue(value));
+                Object value = loadValue(key, valueLoader);
+                newCacheValue.complete(toStoredValue(value));
+                statsCounter.recordLoadSuccess(System.nanoTime() - start);
             } catch (Throwable t) {
                 cache.asMap().remove(key, newCacheValue);
                 newCacheValue.complete(new CaffeineComputationThrowable(t));
+                statsCounter.recordLoadFailure(System.nanoTime() - start);
             }
             return unwrapCacheValueOrThrowable(newCacheValue);
         } else {
+            statsCounter.recordHits(1);
+            if (refreshAfterWrite != null && isStale(existingCacheValue) && refreshingKeys.add(key)) {
+                refresh(Collections.singletonMap(key, existingCacheValue), new Function<Set<Object>, Map<Object, Object>>() {
+                    @Override
+                    public Map<Object, Object> apply(Set<Object> keys) {
+                        return Collections.singletonMap(key, reloadValue(key, valueLoader));
+                    }
+                });
+            }
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
+    /**
+     * Returns a {@link CompletableFuture} holding the cache values identified by {@code keys}. The keys which are not already
+     * associated with a value are claimed with the same lock on cache miss mechanism as {@link #get(Object, Function)} and
+     * their values are computed with a single {@code bulkLoader} invocation, synchronously on the calling thread. The returned
+     * {@link CompletableFuture} is completed once the values computed by concurrent calls are available too.
+     * 
+     * @param keys cache keys
+     * @param bulkLoader function used to compute the cache values of the keys which are not already associated with a value
+     * @return a {@link CompletableFuture} holding the non-null cache values
+     * @throws CacheException if an exception is thrown during the cache values computation
+     */
+    @Override
+    public <K, V> CompletableFuture<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        // The keys are checked first because a claimed entry which is never completed would block any other reader.
+        for (K key : keys) {
+            if (key == null) {
+                throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+            }
+        }
+        Map<K, CompletableFuture<Object>> cacheValues = new LinkedHashMap<>();
+        Map<K, CompletableFuture<Object>> newCacheValues = new LinkedHashMap<>();
+        Map<K, CompletableFuture<Object>> staleCacheValues = new LinkedHashMap<>();
+        for (K key : keys) {
+            if (cacheValues.containsKey(key)) {
+                continue;
+            }
+            CompletableFuture<Object> newCacheValue = new CompletableFuture<Object>();
+            CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
+            if (existingCacheValue == null) {
+                newCacheValues.put(key, newCacheValue);
+                cacheValues.put(key, newCacheValue);
+            } else {
+                cacheValues.put(key, existingCacheValue);
+                if (refreshAfterWrite != null && isStale(existingCacheValue) && refreshingKeys.add(key)) {
+                    staleCacheValues.put(key, existingCacheValue);
+                }
+            }
+        }
+        statsCounter.recordHits(cacheValues.size() - newCacheValues.size());
+        if (!newCacheValues.isEmpty()) {
+            statsCounter.recordMisses(newCacheValues.size());
+            long start = System.nanoTime();
+            try {
+                Map<Object, Object> values = loadValues(Collections.unmodifiableSet(newCacheValues.keySet()),
+                        bulkLoader);
+                for (Map.Entry<K, CompletableFuture<Object>> newCacheValue : newCacheValues.entrySet()) {
+                    Object value = values == null ? null : values.get(newCacheValue.getKey());
+                    newCacheValue.getValue().complete(toStoredValue(value));
+                }
+                statsCounter.recordLoadSuccess(System.nanoTime() - start);
+            } catch (Throwable t) {
+                for (Map.Entry<K, CompletableFuture<Object>> newCacheValue : newCacheValues.entrySet()) {
+                    cache.asMap().remove(newCacheValue.getKey(), newCacheValue.getValue());
+                    newCacheValue.getValue().complete(new CaffeineComputationThrowable(t));
+                }
+                statsCounter.recordLoadFailure(System.nanoTime() - start);
+            }
+        }
+        if (!staleCacheValues.isEmpty()) {
+            // The stale entries are reloaded with a single bulk loader invocation. The reload starts once the missing entries
+            // are loaded because both loads may change the parameters of the same intercepted invocation.
+            refresh(staleCacheValues, new Function<Set<K>, Map<Object, Object>>() {
+                @Override
+                public Map<Object, Object> apply(Set<K> staleKeys) {
+                    return reloadValues(staleKeys, bulkLoader);
+                }
+            });
+        }
+        Map<K, CompletableFuture<Object>> unwrappedCacheValues = new LinkedHashMap<>();
+        for (Map.Entry<K, CompletableFuture<Object>> cacheValue : cacheValues.entrySet()) {
+            unwrappedCacheValues.put(cacheValue.getKey(), unwrapCacheValueOrThrowable(cacheValue.getValue()));
+        }
+        return CompletableFuture.allOf(unwrappedCacheValues.values().toArray(new CompletableFuture[0]))
+                .thenApply(new Function<Void, Map<K, V>>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public Map<K, V> apply(Void ignored) {
+                        Map<K, V> result = new LinkedHashMap<>();
+                        for (Map.Entry<K, CompletableFuture<Object>> cacheValue : unwrappedCacheValues.entrySet()) {
+                            Object value = cacheValue.getValue().join();
+                            if (value != null) {
+                                result.put(cacheValue.getKey(), (V) value);
+                            }
+                        }
+                        return result;
+                    }
+                });
+    }
+
+    /**
+     * Computes the value of an entry missing from this cache. The value is computed synchronously on the calling thread.
+     * 
+     * @param key cache key
+     * @param valueLoader function used to compute the cache value
+     * @return the value that will be stored into this cache
+     */
+    protected Object loadValue(Object key, Function<Object, Object> valueLoader) {
+        return valueLoader.apply(key);
+    }
+
+    /**
+     * Computes the values of several entries missing from this cache with a single {@code bulkLoader} invocation. The values
+     * are computed synchronously on the calling thread.
+     * 
+     * @param keys cache keys
+     * @param bulkLoader function used to compute the cache values
+     * @return the values that will be stored into this cache, the missing keys will be associated with a {@code null} value
+     */
+    @SuppressWarnings("unchecked")
+    protected <K, V> Map<Object, Object> loadValues(Set<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        return (Map<Object, Object>) bulkLoader.apply(keys);
+    }
+
+    /**
+     * Computes the new value of a stale entry. The value is computed on a worker thread while the stale value is still
+     * served from this cache.
+     * 
+     * @param key cache key
+     * @param valueLoader function used to compute the cache value
+     * @return the value that will replace the stale value
+     */
+    protected Object reloadValue(Object key, Function<Object, Object> valueLoader) {
+        return valueLoader.apply(key);
+    }
+
+    /**
+     * Computes the new values of several stale entries with a single {@code bulkLoader} invocation. The values are computed on
+     * a worker thread while the stale values are still served from this cache.
+     * 
+     * @param keys cache keys
+     * @param bulkLoader function used to compute the cache values
+     * @return the values that will replace the stale values, the missing keys will be associated with a {@code null} value
+     */
+    @SuppressWarnings("unchecked")
+    protected <K, V> Map<Object, Object> reloadValues(Set<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        return (Map<Object, Object>) bulkLoader.apply(keys);
+    }
+
+    private Object toStoredValue(Object value) {
+        Object cacheValue = NullValueConverter.toCacheValue(value);
+        if (refreshAfterWrite != null) {
+            return new RefreshableValue(cacheValue, System.nanoTime());
+        }
+        return cacheValue;
+    }
+
+    private boolean isStale(CompletableFuture<Object> cacheValue) {
+        // An entry which is still being computed or which holds a computation failure can't be stale.
+        Object value = cacheValue.getNow(null);
+        return value instanceof RefreshableValue
+                && System.nanoTime() - ((RefreshableValue) value).writeTime >= refreshAfterWriteNanos;
+    }
+
+    /**
+     * Reloads stale entries on the worker pool. The keys must have been added to {@code refreshingKeys} by the caller.
+     */
+    private <K> void refresh(Map<K, CompletableFuture<Object>> staleCacheValues,
+            Function<Set<K>, Map<Object, Object>> reloader) {
+        getRefreshExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                long start = System.nanoTime();
+                // The cached method may use request scoped beans, the request context of the caller is not propagated.
+                ManagedContext requestContext = getRequestContext();
+                boolean activated = requestContext != null && !requestContext.isActive();
+                if (activated) {
+                    requestContext.activate();
+                }
+                try {
+                    Map<Object, Object> newValues = reloader
+                            .apply(Collections.unmodifiableSet(new LinkedHashSet<>(staleCacheValues.keySet())));
+                    for (Map.Entry<K, CompletableFuture<Object>> staleCacheValue : staleCacheValues.entrySet()) {
+                        Object newValue = newValues == null ? null : newValues.get(staleCacheValue.getKey());
+                        // The entry is only replaced if it has not been invalidated or replaced during the reload.
+                        cache.asMap().replace(staleCacheValue.getKey(), staleCacheValue.getValue(),
+                                CompletableFuture.completedFuture(toStoredValue(newValue)));
+                    }
+                    refreshCount.add(staleCacheValues.size());
+                } catch (Throwable t) {
+                    // The stale values are kept and the next read will trigger another reload.
+                    LOGGER.debugf(t, "Failed to refresh entries with keys %s from cache [%s]", staleCacheValues.keySet(), name);
+                } finally {
+                    if (activated) {
+                        requestContext.terminate();
+                    }
+                    refreshTotalTimeNanos.add(System.nanoTime() - start);
+                    refreshingKeys.removeAll(staleCacheValues.keySet());
+                }
+            }
+        });
+    }
+
+    private static ManagedContext getRequestContext() {
+        ArcContainer container = Arc.container();
+        return container != null ? container.requestContext() : null;
+    }
+
+    private static Executor getRefreshExecutor() {
+        Executor executor = ExecutorRecorder.getCurrent();
+        return executor != null ? executor : ForkJoinPool.commonPool();
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<Object, Object>() {
             @Override
@@ -99,6 +374,8 @@ public class CaffeineCache extends AbstractCache {
                     } else {
                         throw new CacheException(cause);
                     }
+                } else if (value instanceof RefreshableValue) {
+                    return NullValueConverter.fromCacheValue(((RefreshableValue) value).value);
                 } else {
                     return NullValueConverter.fromCacheValue(value);
                 }
@@ -119,6 +396,15 @@ public class CaffeineCache extends AbstractCache {
         cache.synchronous().invalidateAll();
     }
 
+    /**
+     * Invalidates the entries whose key matches {@code keyPredicate}. The predicate is evaluated for each entry of the cache.
+     * 
+     * @param keyPredicate predicate matching the invalidated keys
+     */
+    protected void invalidateIf(Predicate<Object> keyPredicate) {
+        cache.synchronous().asMap().keySet().removeIf(keyPredicate);
+    }
+
     // For testing purposes only.
     public Integer getInitialCapacity() {
         return initialCapacity;
@@ -139,7 +425,108 @@ public class CaffeineCache extends AbstractCache {
         return expireAfterAccess;
     }
 
+    // For testing purposes only.
+    public Duration getRefreshAfterWrite() {
+        return refreshAfterWrite;
+    }
+
     public long getSize() {
         return cache.synchronous().estimatedSize();
     }
+
+    /**
+     * Returns a snapshot of the statistics recorded by this cache. All the statistics are equal to zero if the metrics are not
+     * enabled for this cache.
+     * 
+     * @return cache statistics
+     */
+    public CacheStats getStats() {
+        return statsCounter.snapshot();
+    }
+
+    public boolean isMetricsEnabled() {
+        return statsCounter != StatsCounter.disabledStatsCounter();
+    }
+
+    /**
+     * Returns the number of stale entries successfully reloaded in the background.
+     * 
+     * @return refresh count
+     */
+    public long getRefreshCount() {
+        return refreshCount.sum();
+    }
+
+    /**
+     * Returns the total time spent reloading stale entries, including the failed reloads.
+     * 
+     * @return total refresh time in milliseconds
+     */
+    public long getRefreshTotalTime() {
+        return TimeUnit.NANOSECONDS.toMillis(refreshTotalTimeNanos.sum());
+    }
+
+    /**
+     * Wraps the values of a cache configured with {@code refreshAfterWrite} in order to track their write time.
+     */
+    private static final class RefreshableValue {
+
+        final Object value;
+        final long writeTime;
+
+        RefreshableValue(Object value, long writeTime) {
+            this.value = value;
+            this.writeTime = writeTime;
+        }
+    }
+
+    /**
+     * Forwards the evictions recorded by Caffeine to the statistics of this cache and ignores everything else.
+     */
+    private static final class EvictionStatsCounter implements StatsCounter {
+
+        private final StatsCounter delegate;
+
+        EvictionStatsCounter(StatsCounter delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void recordHits(int count) {
+        }
+
+        @Override
+        public void recordMisses(int count) {
+        }
+
+        @Override
+        public void recordLoadSuccess(long loadTime) {
+        }
+
+        @Override
+        public void recordLoadFailure(long loadTime) {
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public void recordEviction() {
+            delegate.recordEviction();
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public void recordEviction(int weight) {
+            delegate.recordEviction(weight);
+        }
+
+        @Override
+        public void recordEviction(int weight, RemovalCause cause) {
+            delegate.recordEviction(weight, cause);
+        }
+
+        @Override
+        public CacheStats snapshot() {
+            return delegate.snapshot();
+        }
+    }
 }
@@ -1,5 +1,10 @@
 package io.quarkus.cache.runtime.noop;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
@@ -30,6 +35,29 @@ public class NoOpCache extends AbstractCache {
         return cacheValue;
     }
 
+    @Override
+    public <K, V> CompletableFuture<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        CompletableFuture<Map<K, V>> cacheValues = new CompletableFuture<Map<K, V>>();
+        try {
+            Set<K> uniqueKeys = new LinkedHashSet<>(keys);
+            Map<K, V> values = bulkLoader.apply(uniqueKeys);
+            // Same result as the other caches: the keys order is kept and the null values are skipped.
+            Map<K, V> result = new LinkedHashMap<>();
+            if (values != null) {
+                for (K key : uniqueKeys) {
+                    V value = values.get(key);
+                    if (value != null) {
+                        result.put(key, value);
+                    }
+                }
+            }
+            cacheValues.complete(result);
+        } catch (Throwable t) {
+            cacheValues.completeExceptionally(t);
+        }
+        return cacheValues;
+    }
+
     @Override
     public void invalidate(Object key) {
     }
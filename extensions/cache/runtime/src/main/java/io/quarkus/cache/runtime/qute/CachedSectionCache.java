@@ -0,0 +1,69 @@
+package io.quarkus.cache.runtime.qute;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import javax.inject.Singleton;
+
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.qute.CacheSectionHelper;
+import io.quarkus.qute.ResultNode;
+
+/**
+ * Stores the output of the Qute {@code cached} sections in the {@value #CACHE_NAME} cache, so that its size and expiration
+ * can be configured like any other cache. The {@code ttl} of a section is enforced on top of the cache configuration. This
+ * cache is always local, even if the {@code two-tier} cache type is used, and never refreshed in the background because a
+ * section can only be rendered with the data of the current rendering.
+ */
+@Singleton
+public class CachedSectionCache implements CacheSectionHelper.Cache {
+
+    public static final String CACHE_NAME = "qute-cached";
+
+    private final AbstractCache cache;
+
+    public CachedSectionCache(CacheManager cacheManager) {
+        this.cache = (AbstractCache) cacheManager.getCache(CACHE_NAME).get();
+    }
+
+    @Override
+    public CompletionStage<ResultNode> getValue(CacheSectionHelper.Key key, Duration ttl,
+            Function<CacheSectionHelper.Key, CompletionStage<ResultNode>> loader) {
+        long now = System.nanoTime();
+        CachedOutput[] loaded = new CachedOutput[1];
+        return cache.get(key, k -> loaded[0] = new CachedOutput(loader.apply(key), ttl != null ? now + ttl.toNanos() : 0))
+                .thenCompose(value -> {
+                    CachedOutput output = (CachedOutput) value;
+                    // An output loaded by this invocation is always used
+                    if (output != loaded[0] && output.isExpired(System.nanoTime())) {
+                        cache.invalidate(key);
+                        return getValue(key, ttl, loader);
+                    }
+                    return output.result.whenComplete((r, t) -> {
+                        if (t != null) {
+                            // Do not cache failures
+                            cache.invalidate(key);
+                        }
+                    });
+                });
+    }
+
+    static final class CachedOutput {
+
+        final CompletionStage<ResultNode> result;
+        final long expiresAt;
+
+        CachedOutput(CompletionStage<ResultNode> result, long expiresAt) {
+            this.result = result;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt != 0 && now - expiresAt >= 0;
+        }
+
+    }
+
+}
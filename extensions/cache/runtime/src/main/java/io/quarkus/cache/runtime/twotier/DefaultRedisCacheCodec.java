@@ -0,0 +1,161 @@
+package io.quarkus.cache.runtime.twotier;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import io.quarkus.arc.DefaultBean;
+import io.quarkus.cache.RedisCacheCodec;
+import io.quarkus.cache.runtime.CompositeCacheKey;
+import io.quarkus.cache.runtime.DefaultCacheKey;
+
+/**
+ * The codec used by the Redis remote tier unless the application provides another {@link RedisCacheCodec}.
+ * <p>
+ * The keys are encoded into a canonical string made of a type tag and the string representation of the key. Only the
+ * {@link String}, primitive wrapper, {@link BigInteger}, {@link BigDecimal}, {@link UUID}, enum and usual {@code java.time}
+ * keys, and the composite keys made of them, are supported.
+ * <p>
+ * The values are serialized with the Java serialization. The deserialization is restricted by an {@link ObjectInputFilter}
+ * that only accepts the classes of the {@code java.lang}, {@code java.util}, {@code java.time} and {@code java.math} packages
+ * and the classes matching {@code quarkus.cache.redis.allowed-classes}.
+ * <p>
+ * This class is only registered as a singleton bean if the {@code redis-client} extension is present.
+ */
+@DefaultBean
+public class DefaultRedisCacheCodec implements RedisCacheCodec {
+
+    static final String DEFAULT_ALLOWED_CLASSES = "java.lang.*;java.util.*;java.time.*;java.math.*";
+    private static final String LIMITS = "maxdepth=32;maxrefs=100000;maxarray=100000";
+
+    private static final Map<Class<?>, String> KEY_TAGS = new HashMap<>();
+
+    static {
+        KEY_TAGS.put(String.class, "s");
+        KEY_TAGS.put(Boolean.class, "z");
+        KEY_TAGS.put(Character.class, "c");
+        KEY_TAGS.put(Byte.class, "b");
+        KEY_TAGS.put(Short.class, "h");
+        KEY_TAGS.put(Integer.class, "i");
+        KEY_TAGS.put(Long.class, "j");
+        KEY_TAGS.put(Float.class, "f");
+        KEY_TAGS.put(Double.class, "d");
+        KEY_TAGS.put(BigInteger.class, "bi");
+        KEY_TAGS.put(BigDecimal.class, "bd");
+        KEY_TAGS.put(UUID.class, "u");
+        KEY_TAGS.put(Instant.class, "ti");
+        KEY_TAGS.put(LocalDate.class, "td");
+        KEY_TAGS.put(LocalDateTime.class, "tdt");
+        KEY_TAGS.put(LocalTime.class, "tt");
+    }
+
+    private final ObjectInputFilter filter;
+
+    public DefaultRedisCacheCodec(RedisRemoteCacheStoreConfig config) {
+        StringBuilder pattern = new StringBuilder(LIMITS).append(';').append(DEFAULT_ALLOWED_CLASSES);
+        if (config.allowedClasses.isPresent()) {
+            for (String allowedClass : config.allowedClasses.get()) {
+                pattern.append(';').append(allowedClass);
+            }
+        }
+        // Any other class is rejected.
+        pattern.append(";!*");
+        this.filter = ObjectInputFilter.Config.createFilter(pattern.toString());
+    }
+
+    @Override
+    public String encodeKey(String cacheName, Object key) {
+        StringBuilder encoded = new StringBuilder();
+        appendKey(encoded, key);
+        return encoded.toString();
+    }
+
+    private static void appendKey(StringBuilder encoded, Object key) {
+        if (key instanceof DefaultCacheKey) {
+            // The cache name is already part of the Redis key.
+            encoded.append("default");
+        } else if (key instanceof CompositeCacheKey) {
+            encoded.append("composite");
+            for (Object element : ((CompositeCacheKey) key).getKeyElements()) {
+                // Each element is prefixed with its length so that the elements boundaries are never ambiguous.
+                StringBuilder encodedElement = new StringBuilder();
+                appendKey(encodedElement, element);
+                encoded.append(':').append(encodedElement.length()).append(':').append(encodedElement);
+            }
+        } else if (key instanceof Enum) {
+            encoded.append("e:").append(((Enum<?>) key).getDeclaringClass().getName()).append('.')
+                    .append(((Enum<?>) key).name());
+        } else if (key == null) {
+            // Null elements of composite keys.
+            encoded.append("null");
+        } else {
+            String tag = KEY_TAGS.get(key.getClass());
+            if (tag == null) {
+                throw new IllegalArgumentException("Unsupported cache key type [" + key.getClass().getName()
+                        + "], a " + RedisCacheCodec.class.getName() + " bean must be provided to store such keys in Redis");
+            }
+            encoded.append(tag).append(':').append(key);
+        }
+    }
+
+    @Override
+    public String encodeValue(String cacheName, Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to serialize a value of cache [" + cacheName + "]", e);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    @Override
+    public Object decodeValue(String cacheName, String value) {
+        try (ObjectInputStream in = new ContextClassLoaderObjectInputStream(
+                new ByteArrayInputStream(Base64.getDecoder().decode(value)))) {
+            in.setObjectInputFilter(filter);
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException | IllegalArgumentException e) {
+            // An InvalidClassException is thrown for the classes rejected by the filter.
+            throw new IllegalArgumentException("Unable to deserialize a value of cache [" + cacheName + "]", e);
+        }
+    }
+
+    /**
+     * Resolves the classes of the decoded objects with the TCCL, which is the application class loader in dev mode.
+     */
+    private static final class ContextClassLoaderObjectInputStream extends ObjectInputStream {
+
+        ContextClassLoaderObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader == null) {
+                return super.resolveClass(desc);
+            }
+            try {
+                return Class.forName(desc.getName(), false, classLoader);
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package io.quarkus.cache.runtime.twotier;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PreDestroy;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.DefaultBean;
+import io.quarkus.cache.RedisCacheCodec;
+import io.quarkus.cache.RemoteCacheStore;
+import io.quarkus.redis.client.RedisClient;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
+
+/**
+ * Stores the entries of the {@code two-tier} caches in Redis with one key per entry. The cache keys and values are converted
+ * with the {@link RedisCacheCodec} bean. The missing entries of a bulk load are read with a single {@code MGET} command and the
+ * invalidations are broadcast to all the replicas on a Redis channel.
+ * <p>
+ * The Redis keys are made of the configured prefix, the length of the cache name, the cache name and the encoded cache key.
+ * The invalidation messages only carry the length of the cache name, the cache name and the encoded cache key, they are never
+ * deserialized: the near-cache entries whose encoded key matches the message are dropped.
+ * <p>
+ * The commands are sent with the blocking default {@link RedisClient}, so the cached methods must not be invoked on an event
+ * loop thread.
+ * <p>
+ * This class is only registered as a singleton bean if the {@code redis-client} extension is present.
+ */
+@DefaultBean
+public class RedisRemoteCacheStore implements RemoteCacheStore {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisRemoteCacheStore.class);
+
+    private static final long SUBSCRIPTION_TIMEOUT_SECONDS = 10L;
+    private static final long RESUBSCRIPTION_DELAY_MILLIS = 1000L;
+
+    // ARGV[1] = pattern matching the keys of a cache
+    static final String INVALIDATE_ALL_SCRIPT = "redis.replicate_commands() "
+            + "local cursor = '0' "
+            + "repeat "
+            + "local result = redis.call('SCAN', cursor, 'MATCH', ARGV[1], 'COUNT', 1000) "
+            + "cursor = result[1] "
+            + "for i, key in ipairs(result[2]) do redis.call('DEL', key) end "
+            + "until cursor == '0' "
+            + "return 0";
+
+    private final RedisRemoteCacheStoreConfig config;
+    private final RedisCacheCodec codec;
+    private final RedisClient client;
+    private final Redis redis;
+    private final Vertx vertx;
+    private final String channel;
+    private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
+    // The names of the caches which may hold entries in the near-caches of this replica
+    private final Set<String> cacheNames = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean subscriptionStarted = new AtomicBoolean();
+
+    private volatile RedisConnection subscriber;
+    private volatile boolean closed;
+
+    public RedisRemoteCacheStore(RedisRemoteCacheStoreConfig config, RedisCacheCodec codec, RedisClient client, Redis redis,
+            Vertx vertx) {
+        this.config = config;
+        this.codec = codec;
+        this.client = client;
+        this.redis = redis;
+        this.vertx = vertx;
+        this.channel = config.keyPrefix + "invalidations";
+    }
+
+    @Override
+    public Object get(String cacheName, Object key) {
+        cacheNames.add(cacheName);
+        Response response = client.get(redisKey(cacheName, codec.encodeKey(cacheName, key)));
+        return response == null ? null : decodeValue(cacheName, response.toString());
+    }
+
+    @Override
+    public Map<Object, Object> getAll(String cacheName, Set<?> keys) {
+        cacheNames.add(cacheName);
+        List<Object> cacheKeys = new ArrayList<>(keys);
+        List<String> redisKeys = new ArrayList<>(cacheKeys.size());
+        for (Object key : cacheKeys) {
+            redisKeys.add(redisKey(cacheName, codec.encodeKey(cacheName, key)));
+        }
+        Response response = client.mget(redisKeys);
+        Map<Object, Object> values = new HashMap<>();
+        if (response != null) {
+            for (int i = 0; i < cacheKeys.size(); i++) {
+                Response value = response.get(i);
+                if (value != null) {
+                    Object decodedValue = decodeValue(cacheName, value.toString());
+                    if (decodedValue != null) {
+                        values.put(cacheKeys.get(i), decodedValue);
+                    }
+                }
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public void put(String cacheName, Object key, Object value) {
+        cacheNames.add(cacheName);
+        String redisKey = redisKey(cacheName, codec.encodeKey(cacheName, key));
+        String encodedValue = codec.encodeValue(cacheName, value);
+        if (config.expireAfterWrite.isPresent()) {
+            client.psetex(redisKey, "" + config.expireAfterWrite.get().toMillis(), encodedValue);
+        } else {
+            List<String> args = new ArrayList<>(2);
+            args.add(redisKey);
+            args.add(encodedValue);
+            client.set(args);
+        }
+    }
+
+    @Override
+    public void invalidate(String cacheName, Object key) {
+        String encodedKey = codec.encodeKey(cacheName, key);
+        List<String> args = new ArrayList<>(1);
+        args.add(redisKey(cacheName, encodedKey));
+        client.del(args);
+        client.publish(channel, qualifiedCacheName(cacheName) + encodedKey);
+    }
+
+    @Override
+    public void invalidateAll(String cacheName) {
+        List<String> args = new ArrayList<>(3);
+        args.add(INVALIDATE_ALL_SCRIPT);
+        args.add("0");
+        args.add(escapeGlob(redisKey(cacheName, "")) + "*");
+        client.eval(args);
+        // An empty encoded key stands for all the keys of the cache.
+        client.publish(channel, qualifiedCacheName(cacheName));
+    }
+
+    @Override
+    public void addInvalidationListener(InvalidationListener listener) {
+        listeners.add(listener);
+        if (subscriptionStarted.compareAndSet(false, true)) {
+            CompletableFuture<Void> subscribed = new CompletableFuture<>();
+            subscribe(subscribed);
+            if (!Context.isOnEventLoopThread()) {
+                try {
+                    subscribed.get(SUBSCRIPTION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    LOGGER.warnf("Subscription to the Redis channel [%s] not completed yet, the invalidations performed by "
+                            + "other replicas may not be applied to the near-caches until it completes", channel);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        closed = true;
+        RedisConnection connection = subscriber;
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    private void subscribe(CompletableFuture<Void> subscribed) {
+        // The subscription needs a dedicated connection because a subscribed connection can't send regular commands.
+        redis.connect(connected -> {
+            if (connected.failed()) {
+                subscribed.completeExceptionally(connected.cause());
+                resubscribe(connected.cause());
+                return;
+            }
+            RedisConnection connection = connected.result();
+            connection.handler(this::onMessage);
+            connection.exceptionHandler(t -> LOGGER.debugf(t, "Failure on the Redis channel [%s]", channel));
+            connection.endHandler(v -> {
+                subscriber = null;
+                // The invalidations broadcast while this replica is not subscribed are lost.
+                for (String cacheName : cacheNames) {
+                    notifyInvalidateAll(cacheName);
+                }
+                resubscribe(null);
+            });
+            connection.send(Request.cmd(Command.SUBSCRIBE).arg(channel), sent -> {
+                if (sent.succeeded()) {
+                    subscriber = connection;
+                    subscribed.complete(null);
+                } else {
+                    subscribed.completeExceptionally(sent.cause());
+                    connection.close();
+                }
+            });
+        });
+    }
+
+    private void resubscribe(Throwable cause) {
+        if (closed) {
+            return;
+        }
+        LOGGER.warnf(cause, "Lost the subscription to the Redis channel [%s], retrying in %s ms", channel,
+                RESUBSCRIPTION_DELAY_MILLIS);
+        vertx.setTimer(RESUBSCRIPTION_DELAY_MILLIS, id -> subscribe(new CompletableFuture<>()));
+    }
+
+    private void onMessage(Response message) {
+        // ["message", channel, payload]
+        if (message.type() != ResponseType.MULTI || message.size() != 3 || !"message".equals(message.get(0).toString())) {
+            return;
+        }
+        String payload = message.get(2).toString();
+        // <cache name length>:<cache name><encoded key>
+        int separator = payload.indexOf(':');
+        int cacheNameLength;
+        try {
+            cacheNameLength = separator < 0 ? -1 : Integer.parseInt(payload.substring(0, separator));
+        } catch (NumberFormatException e) {
+            cacheNameLength = -1;
+        }
+        if (cacheNameLength < 0 || separator + 1 + cacheNameLength > payload.length()) {
+            LOGGER.debugf("Ignoring a malformed message received on the Redis channel [%s]", channel);
+            return;
+        }
+        String cacheName = payload.substring(separator + 1, separator + 1 + cacheNameLength);
+        String encodedKey = payload.substring(separator + 1 + cacheNameLength);
+        if (encodedKey.isEmpty()) {
+            notifyInvalidateAll(cacheName);
+            return;
+        }
+        for (InvalidationListener listener : listeners) {
+            listener.onInvalidateMatching(cacheName, key -> encodedKey.equals(encodeKeyOrNull(cacheName, key)));
+        }
+    }
+
+    private String encodeKeyOrNull(String cacheName, Object key) {
+        try {
+            return codec.encodeKey(cacheName, key);
+        } catch (IllegalArgumentException e) {
+            // Such a key can't be stored in Redis, so it can't be invalidated by another replica either.
+            return null;
+        }
+    }
+
+    private Object decodeValue(String cacheName, String value) {
+        try {
+            return codec.decodeValue(cacheName, value);
+        } catch (IllegalArgumentException e) {
+            // The entry is loaded again and overwritten in Redis.
+            LOGGER.warnf(e, "Unable to decode a value of cache [%s] read from Redis, the entry is ignored", cacheName);
+            return null;
+        }
+    }
+
+    private void notifyInvalidateAll(String cacheName) {
+        for (InvalidationListener listener : listeners) {
+            listener.onInvalidateAll(cacheName);
+        }
+    }
+
+    private String redisKey(String cacheName, String encodedKey) {
+        return config.keyPrefix + qualifiedCacheName(cacheName) + ":" + encodedKey;
+    }
+
+    private static String qualifiedCacheName(String cacheName) {
+        // The length prefix keeps the cache name boundary unambiguous whatever the characters of the cache name and key.
+        return cacheName.length() + ":" + cacheName;
+    }
+
+    static String escapeGlob(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '*' || c == '?' || c == '[' || c == ']' || c == '\\') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,44 @@
+package io.quarkus.cache.runtime.twotier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+/**
+ * Configuration of the Redis remote tier used by the {@code two-tier} caches when the {@code redis-client} extension is
+ * present. The default Redis client is used.
+ */
+@ConfigRoot(name = "cache.redis", phase = ConfigPhase.RUN_TIME)
+public class RedisRemoteCacheStoreConfig {
+
+    /**
+     * The prefix of the keys that store the cache entries. The name of the channel used to broadcast the invalidations is
+     * derived from this prefix, so the applications which share a Redis server without sharing their caches must use
+     * different prefixes.
+     */
+    @ConfigItem(defaultValue = "quarkus-cache:")
+    public String keyPrefix;
+
+    /**
+     * Specifies that each entry should be removed from the remote tier once a fixed duration has elapsed after it was
+     * pushed. If not set then the entries are kept until they are invalidated.
+     */
+    @ConfigItem
+    public Optional<Duration> expireAfterWrite;
+
+    /**
+     * The classes that the default codec is allowed to deserialize in addition to the classes of the {@code java.lang},
+     * {@code java.util}, {@code java.time} and {@code java.math} packages, with the syntax of the
+     * {@link java.io.ObjectInputFilter} patterns, e.g. {@code org.acme.Fruit} or {@code org.acme.model.**}. Any other class
+     * read
+     * from Redis is rejected and the entry is loaded again. This property is ignored if the application provides its own
+     * {@code io.quarkus.cache.RedisCacheCodec}.
+     */
+    @ConfigItem
+    public Optional<List<String>> allowedClasses;
+
+}
@@ -0,0 +1,174 @@
+package io.quarkus.cache.runtime.twotier;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.cache.RemoteCacheStore;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+
+/**
+ * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application. The public
+ * methods signatures may change without prior notice.
+ * <p>
+ * The local Caffeine cache inherited from {@link CaffeineCache} is used as a near-cache in front of a {@link RemoteCacheStore}.
+ * A local miss is first resolved from the remote tier and the value loader is only invoked if the remote tier misses too. The
+ * remote store is resolved lazily because it is usually a runtime bean which cannot be created at STATIC_INIT execution time.
+ */
+public class TwoTierCache extends CaffeineCache {
+
+    private static final Logger LOGGER = Logger.getLogger(TwoTierCache.class);
+
+    private volatile RemoteCacheStore remoteStore;
+
+    private volatile boolean remoteStoreResolved;
+
+    public TwoTierCache(CaffeineCacheInfo cacheInfo) {
+        super(cacheInfo);
+    }
+
+    @Override
+    protected Object loadValue(Object key, Function<Object, Object> valueLoader) {
+        RemoteCacheStore store = getRemoteStore();
+        if (store != null) {
+            Object remoteValue = store.get(getName(), key);
+            if (remoteValue != null) {
+                return remoteValue;
+            }
+        }
+        return loadAndPush(store, key, valueLoader);
+    }
+
+    @Override
+    protected <K, V> Map<Object, Object> loadValues(Set<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        RemoteCacheStore store = getRemoteStore();
+        Map<Object, Object> values = new HashMap<>();
+        Set<K> missingKeys = keys;
+        if (store != null) {
+            Map<Object, Object> remoteValues = store.getAll(getName(), keys);
+            missingKeys = new LinkedHashSet<>();
+            for (K key : keys) {
+                Object remoteValue = remoteValues == null ? null : remoteValues.get(key);
+                if (remoteValue != null) {
+                    values.put(key, remoteValue);
+                } else {
+                    missingKeys.add(key);
+                }
+            }
+        }
+        if (!missingKeys.isEmpty()) {
+            values.putAll(loadAndPushAll(store, missingKeys, bulkLoader));
+        }
+        return values;
+    }
+
+    @Override
+    protected Object reloadValue(Object key, Function<Object, Object> valueLoader) {
+        // The remote tier may hold the same stale value, the value loader is always used to refresh an entry.
+        return loadAndPush(getRemoteStore(), key, valueLoader);
+    }
+
+    @Override
+    protected <K, V> Map<Object, Object> reloadValues(Set<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        // The remote tier may hold the same stale values, the bulk loader is always used to refresh the entries.
+        return loadAndPushAll(getRemoteStore(), keys, bulkLoader);
+    }
+
+    private <K, V> Map<Object, Object> loadAndPushAll(RemoteCacheStore store, Set<K> keys,
+            Function<Set<K>, Map<K, V>> bulkLoader) {
+        Map<Object, Object> values = new HashMap<>();
+        Map<K, V> loadedValues = bulkLoader.apply(keys);
+        if (loadedValues != null) {
+            for (Map.Entry<K, V> loadedValue : loadedValues.entrySet()) {
+                // Null values are only cached in the near-cache.
+                if (store != null && loadedValue.getValue() != null) {
+                    store.put(getName(), loadedValue.getKey(), loadedValue.getValue());
+                }
+                values.put(loadedValue.getKey(), loadedValue.getValue());
+            }
+        }
+        return values;
+    }
+
+    private Object loadAndPush(RemoteCacheStore store, Object key, Function<Object, Object> valueLoader) {
+        Object value = valueLoader.apply(key);
+        // Null values are only cached in the near-cache.
+        if (store != null && value != null) {
+            store.put(getName(), key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void invalidate(Object key) {
+        super.invalidate(key);
+        RemoteCacheStore store = getRemoteStore();
+        if (store != null) {
+            store.invalidate(getName(), key);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        super.invalidateAll();
+        RemoteCacheStore store = getRemoteStore();
+        if (store != null) {
+            store.invalidateAll(getName());
+        }
+    }
+
+    private RemoteCacheStore getRemoteStore() {
+        if (!remoteStoreResolved) {
+            synchronized (this) {
+                if (!remoteStoreResolved) {
+                    InstanceHandle<RemoteCacheStore> handle = Arc.container().instance(RemoteCacheStore.class);
+                    if (handle.isAvailable()) {
+                        RemoteCacheStore store = handle.get();
+                        store.addInvalidationListener(new NearCacheInvalidationListener());
+                        remoteStore = store;
+                    } else {
+                        LOGGER.warnf("No %s bean found, the cache [%s] will only use its local tier",
+                                RemoteCacheStore.class.getName(), getName());
+                    }
+                    remoteStoreResolved = true;
+                }
+            }
+        }
+        return remoteStore;
+    }
+
+    /**
+     * Drops the near-cache entries invalidated by any replica, including the current one.
+     */
+    private class NearCacheInvalidationListener implements RemoteCacheStore.InvalidationListener {
+
+        @Override
+        public void onInvalidate(String cacheName, Object key) {
+            if (getName().equals(cacheName)) {
+                TwoTierCache.super.invalidate(key);
+            }
+        }
+
+        @Override
+        public void onInvalidateMatching(String cacheName, Predicate<Object> keyPredicate) {
+            if (getName().equals(cacheName)) {
+                invalidateIf(keyPredicate);
+            }
+        }
+
+        @Override
+        public void onInvalidateAll(String cacheName) {
+            if (getName().equals(cacheName)) {
+                TwoTierCache.super.invalidateAll();
+            }
+        }
+    }
+}
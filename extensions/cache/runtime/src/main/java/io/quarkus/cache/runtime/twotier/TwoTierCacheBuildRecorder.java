@@ -0,0 +1,55 @@
+package io.quarkus.cache.runtime.twotier;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.runtime.CacheManagerImpl;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class TwoTierCacheBuildRecorder {
+
+    private static final Logger LOGGER = Logger.getLogger(TwoTierCacheBuildRecorder.class);
+
+    public Supplier<CacheManager> getCacheManagerSupplier(Set<CaffeineCacheInfo> cacheInfos, Set<String> localCacheNames) {
+        Objects.requireNonNull(cacheInfos);
+        Objects.requireNonNull(localCacheNames);
+        return new Supplier<CacheManager>() {
+            @Override
+            public CacheManager get() {
+                if (cacheInfos.isEmpty()) {
+                    return new CacheManagerImpl(Collections.emptyMap());
+                } else {
+                    // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
+                    Map<String, Cache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
+                    for (CaffeineCacheInfo cacheInfo : cacheInfos) {
+                        if (localCacheNames.contains(cacheInfo.name)) {
+                            // This cache must never be backed by the remote store.
+                            caches.put(cacheInfo.name, new CaffeineCache(cacheInfo));
+                            continue;
+                        }
+                        if (LOGGER.isDebugEnabled()) {
+                            LOGGER.debugf(
+                                    "Building two-tier cache [%s] with a Caffeine near-cache with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s], [expireAfterAccess=%s] and [refreshAfterWrite=%s]",
+                                    cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize,
+                                    cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess, cacheInfo.refreshAfterWrite);
+                        }
+                        TwoTierCache cache = new TwoTierCache(cacheInfo);
+                        caches.put(cacheInfo.name, cache);
+                    }
+                    return new CacheManagerImpl(caches);
+                }
+            }
+        };
+    }
+}
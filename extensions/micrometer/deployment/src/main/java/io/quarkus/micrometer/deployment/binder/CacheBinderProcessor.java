@@ -0,0 +1,34 @@
+package io.quarkus.micrometer.deployment.binder;
+
+import java.util.function.BooleanSupplier;
+
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.micrometer.runtime.MicrometerRecorder;
+import io.quarkus.micrometer.runtime.config.MicrometerConfig;
+
+/**
+ * Add support for the statistics of the caches from the Quarkus cache extension. Avoid referencing classes that in turn
+ * import optional dependencies.
+ */
+public class CacheBinderProcessor {
+    static final String CACHE_MANAGER_CLASS_NAME = "io.quarkus.cache.CacheManager";
+    static final Class<?> CACHE_MANAGER_CLASS = MicrometerRecorder.getClassForName(CACHE_MANAGER_CLASS_NAME);
+
+    static final String CACHE_METER_BINDER_CLASS_NAME = "io.quarkus.micrometer.runtime.binder.cache.CacheMeterBinder";
+
+    static class CacheSupportEnabled implements BooleanSupplier {
+        MicrometerConfig mConfig;
+
+        public boolean getAsBoolean() {
+            return CACHE_MANAGER_CLASS != null && mConfig.checkBinderEnabledWithDefault(mConfig.binder.cache);
+        }
+    }
+
+    @BuildStep(onlyIf = CacheSupportEnabled.class)
+    AdditionalBeanBuildItem createCacheMeterBinder() {
+        return AdditionalBeanBuildItem.builder()
+                .addBeanClass(CACHE_METER_BINDER_CLASS_NAME)
+                .setUnremovable().build();
+    }
+}
@@ -0,0 +1,68 @@
+package io.quarkus.micrometer.deployment.binder;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.micrometer.runtime.binder.cache.CacheMeterBinder;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CacheMetricsTest {
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("test-logging.properties")
+            .overrideConfigKey("quarkus.micrometer.binder-enabled-default", "false")
+            .overrideConfigKey("quarkus.micrometer.binder.cache.enabled", "true")
+            .overrideConfigKey("quarkus.micrometer.registry-enabled-default", "false")
+            .overrideConfigKey("quarkus.cache.caffeine.measured.metrics-enabled", "true")
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class));
+
+    @Inject
+    CacheMeterBinder binder;
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testCacheMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        binder.bindTo(registry);
+
+        cachedService.measured("a");
+        cachedService.measured("a");
+        cachedService.measured("b");
+        cachedService.notMeasured("a");
+
+        Assertions.assertEquals(1, registry.get("cache.gets").tag("cache", "measured").tag("result", "hit")
+                .functionCounter().count());
+        Assertions.assertEquals(2, registry.get("cache.gets").tag("cache", "measured").tag("result", "miss")
+                .functionCounter().count());
+        FunctionTimer loads = registry.get("cache.loads").tag("cache", "measured").functionTimer();
+        Assertions.assertEquals(2, loads.count());
+        Assertions.assertEquals(2, registry.get("cache.size").tag("cache", "measured").gauge().value());
+        Assertions.assertNull(registry.find("cache.gets").tag("cache", "not-measured").functionCounter(),
+                "Metrics are not enabled for the not-measured cache");
+    }
+
+    @ApplicationScoped
+    public static class CachedService {
+
+        @CacheResult(cacheName = "measured")
+        public String measured(String key) {
+            return key;
+        }
+
+        @CacheResult(cacheName = "not-measured")
+        public String notMeasured(String key) {
+            return key;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.quarkus.micrometer.runtime.binder.cache;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+
+/**
+ * Binds the statistics of the caches from the Quarkus cache extension which have metrics enabled.
+ * <p>
+ * The meter names follow the ones used by the Micrometer Caffeine binder. The statistics are recorded by the caches into
+ * striped counters and only read when the registry is scraped.
+ */
+@Singleton
+public class CacheMeterBinder implements MeterBinder {
+
+    @Inject
+    CacheManager cacheManager;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Optional<Cache> cache = cacheManager.getCache(cacheName);
+            if (cache.isPresent() && cache.get() instanceof CaffeineCache) {
+                CaffeineCache caffeineCache = (CaffeineCache) cache.get();
+                if (caffeineCache.isMetricsEnabled()) {
+                    bindTo(registry, caffeineCache);
+                }
+            }
+        }
+    }
+
+    private void bindTo(MeterRegistry registry, CaffeineCache cache) {
+        Tags tags = Tags.of("cache", cache.getName());
+
+        Gauge.builder("cache.size", cache, CaffeineCache::getSize)
+                .tags(tags)
+                .description("The number of entries in this cache. This may be an approximation.")
+                .register(registry);
+
+        FunctionCounter.builder("cache.gets", cache, c -> c.getStats().hitCount())
+                .tags(tags).tag("result", "hit")
+                .description("The number of times cache lookup methods have returned a cached value.")
+                .register(registry);
+
+        FunctionCounter.builder("cache.gets", cache, c -> c.getStats().missCount())
+                .tags(tags).tag("result", "miss")
+                .description("The number of times cache lookup methods have returned an uncached value.")
+                .register(registry);
+
+        FunctionCounter.builder("cache.evictions", cache, c -> c.getStats().evictionCount())
+                .tags(tags)
+                .description("The number of times the cache was evicted.")
+                .register(registry);
+
+        FunctionTimer.builder("cache.loads", cache,
+                c -> c.getStats().loadSuccessCount(),
+                c -> c.getStats().totalLoadTime(), TimeUnit.NANOSECONDS)
+                .tags(tags).tag("result", "success")
+                .description("The number of successful loads and the time spent loading new values.")
+                .register(registry);
+
+        FunctionCounter.builder("cache.loads.failures", cache, c -> c.getStats().loadFailureCount())
+                .tags(tags)
+                .description("The number of times cache lookup methods failed to load a new value.")
+                .register(registry);
+
+        FunctionTimer.builder("cache.refreshes", cache,
+                CaffeineCache::getRefreshCount,
+                CaffeineCache::getRefreshTotalTime, TimeUnit.MILLISECONDS)
+                .tags(tags)
+                .description("The number of stale entries reloaded in the background and the time spent reloading them.")
+                .register(registry);
+    }
+}
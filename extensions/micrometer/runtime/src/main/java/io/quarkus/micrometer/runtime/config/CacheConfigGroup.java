@@ -0,0 +1,38 @@
+package io.quarkus.micrometer.runtime.config;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+/**
+ * Build / static runtime config for the Cache Binder
+ */
+@ConfigGroup
+public class CacheConfigGroup implements MicrometerConfig.CapabilityEnabled {
+    /**
+     * Cache metrics support.
+     * <p>
+     * Support for cache metrics will be enabled if Micrometer support is enabled,
+     * the Quarkus cache extension is present
+     * and either this value is true, or this value is unset and
+     * {@code quarkus.micrometer.binder-enabled-default} is true.
+     * <p>
+     * Only the caches with {@code quarkus.cache.caffeine."cache-name".metrics-enabled=true}
+     * are measured.
+     */
+    @ConfigItem
+    public Optional<Boolean> enabled;
+
+    @Override
+    public Optional<Boolean> getEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName()
+                + "{enabled=" + enabled
+                + '}';
+    }
+}
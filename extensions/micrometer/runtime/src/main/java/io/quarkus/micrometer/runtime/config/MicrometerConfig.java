@@ -91,6 +91,7 @@ public final class MicrometerConfig {
     /** Build / static runtime config for binders */
     @ConfigGroup
     public static class BinderConfig {
+        public CacheConfigGroup cache;
         public HttpClientConfigGroup httpClient;
         public HttpServerConfigGroup httpServer;
 
@@ -0,0 +1,83 @@
+package io.quarkus.qute.deployment.cached;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheInvalidateAll;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.runtime.qute.CachedSectionCache;
+import io.quarkus.qute.Template;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests that the output of the {@code cached} sections is stored in a cache from the {@link CacheManager} if the cache
+ * extension is present.
+ */
+public class CachedSectionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClass(CachedSections.class)
+                    .addAsResource(new StringAsset("{#cached key=id}{id}:{counter.incrementAndGet}{/cached}"),
+                            "templates/item.html"));
+
+    @Inject
+    Template item;
+
+    @Inject
+    CacheManager cacheManager;
+
+    @Inject
+    CachedSections cachedSections;
+
+    @Test
+    public void testCachedSection() {
+        assertTrue(cacheManager.getCache(CachedSectionCache.CACHE_NAME).isPresent());
+        AtomicInteger counter = new AtomicInteger();
+
+        // STEP 1
+        // Action: template rendering.
+        // Expected effect: section rendered and its output cached.
+        // Verified by: STEP 2.
+        assertEquals("1:1", item.data("id", 1).data("counter", counter).render());
+
+        // STEP 2
+        // Action: same key.
+        // Expected effect: cached output used, section not rendered.
+        // Verified by: counter not incremented.
+        assertEquals("1:1", item.data("id", 1).data("counter", counter).render());
+        assertEquals(1, counter.get());
+
+        // STEP 3
+        // Action: different key.
+        // Expected effect: section rendered and its output cached.
+        // Verified by: counter incremented.
+        assertEquals("2:2", item.data("id", 2).data("counter", counter).render());
+
+        // STEP 4
+        // Action: cache invalidation followed by a rendering with the key from STEP 1.
+        // Expected effect: section rendered again.
+        // Verified by: counter incremented.
+        cachedSections.invalidateAll();
+        assertEquals("1:3", item.data("id", 1).data("counter", counter).render());
+    }
+
+    @ApplicationScoped
+    static class CachedSections {
+
+        @CacheInvalidateAll(cacheName = CachedSectionCache.CACHE_NAME)
+        public void invalidateAll() {
+        }
+    }
+}
@@ -10,6 +10,7 @@ import java.util.Optional;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.Produces;
 import javax.inject.Singleton;
 import javax.interceptor.Interceptor;
@@ -18,6 +19,7 @@ import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.qute.CacheSectionHelper;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.HtmlEscaper;
@@ -51,7 +53,8 @@ public class EngineProducer {
     private final String tagPath;
 
     public EngineProducer(QuteContext context, QuteConfig config, QuteRuntimeConfig runtimeConfig,
-            Event<EngineBuilder> builderReady, Event<Engine> engineReady, ContentTypes contentTypes) {
+            Event<EngineBuilder> builderReady, Event<Engine> engineReady, ContentTypes contentTypes,
+            Instance<CacheSectionHelper.Cache> sectionCache) {
         this.contentTypes = contentTypes;
         this.suffixes = config.suffixes;
         this.basePath = "templates/";
@@ -64,6 +67,11 @@ public class EngineProducer {
         EngineBuilder builder = Engine.builder()
                 .addDefaultSectionHelpers();
 
+        // The output of {#cached} sections is stored in the cache provided by another extension if present
+        if (sectionCache.isResolvable()) {
+            builder.addSectionHelper(new CacheSectionHelper.Factory(sectionCache.get()));
+        }
+
         // We don't register the map resolver because of param declaration validation
         // See DefaultTemplateExtensions
         builder.addValueResolver(ValueResolvers.thisResolver());
@@ -0,0 +1,186 @@
+package io.quarkus.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.Utf8Consumer;
+
+/**
+ * Encodes the output of a template in UTF-8 into chunks of a fixed size.
+ * <p>
+ * A chunk is passed to {@link #write(byte[], int, boolean)} as soon as it is full, i.e. the output can be written while the
+ * template is being rendered and it is never built as a single {@link String}. The static text of a template is
+ * pre-encoded and is copied as is.
+ * <p>
+ * An instance is meant to be passed to {@link TemplateInstance#consume(Consumer)} once; {@link #complete()} must be called
+ * when the rendering completes successfully. It is not thread-safe.
+ */
+public abstract class Utf8ChunkedOutput implements Utf8Consumer {
+
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    // Marks the end of the output in the queue of chunks
+    private static final Object END = new Object();
+
+    private final int chunkSize;
+    private final CharsetEncoder encoder;
+    private byte[] chunk;
+    private int position;
+
+    protected Utf8ChunkedOutput() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     *
+     * @param chunkSize the size of a chunk in bytes, at least 4 bytes so that any character fits in a chunk
+     */
+    protected Utf8ChunkedOutput(int chunkSize) {
+        if (chunkSize < 4) {
+            throw new IllegalArgumentException("The chunk size must be at least 4 bytes: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        this.encoder = StandardCharsets.UTF_8.newEncoder().onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    @Override
+    public void accept(String value) {
+        CharBuffer in = CharBuffer.wrap(value);
+        while (true) {
+            if (chunk == null) {
+                chunk = new byte[chunkSize];
+            }
+            ByteBuffer out = ByteBuffer.wrap(chunk, position, chunkSize - position);
+            CoderResult result = encoder.encode(in, out, true);
+            position = out.position();
+            if (result.isOverflow()) {
+                // The rest of the value is encoded into the next chunk
+                writeChunk(false);
+            } else {
+                break;
+            }
+        }
+        encoder.reset();
+    }
+
+    @Override
+    public void acceptUtf8(byte[] value) {
+        int offset = 0;
+        while (offset < value.length) {
+            if (chunk == null) {
+                chunk = new byte[chunkSize];
+            }
+            int length = Math.min(value.length - offset, chunkSize - position);
+            System.arraycopy(value, offset, chunk, position, length);
+            position += length;
+            offset += length;
+            if (position == chunkSize) {
+                writeChunk(false);
+            }
+        }
+    }
+
+    /**
+     * Writes the last chunk, which may be empty.
+     */
+    public void complete() {
+        writeChunk(true);
+    }
+
+    /**
+     * The chunk array is never reused by this output, so it can be handed over to the transport without a copy.
+     *
+     * @param chunk the encoded bytes
+     * @param length the number of valid bytes in the chunk, may be less than the length of the array
+     * @param last {@code true} if this is the last chunk of the output
+     */
+    protected abstract void write(byte[] chunk, int length, boolean last);
+
+    /**
+     * Renders the given instance and writes the UTF-8 output to the stream while it is being rendered. This method blocks
+     * until the output is written.
+     * <p>
+     * The output is produced once all the values are resolved, on the thread that completes the resolution. The chunks
+     * produced on the calling thread are written directly, i.e. a slow stream slows down the rendering. The chunks produced
+     * on another thread are passed to the calling thread.
+     *
+     * @param instance
+     * @param stream
+     * @throws IOException if writing to the stream fails
+     */
+    public static void writeTo(TemplateInstance instance, OutputStream stream) throws IOException {
+        Thread callingThread = Thread.currentThread();
+        BlockingQueue<Object> chunks = new LinkedBlockingQueue<>();
+        Utf8ChunkedOutput output = new Utf8ChunkedOutput() {
+
+            private boolean queued;
+
+            @Override
+            protected void write(byte[] chunk, int length, boolean last) {
+                // Once a chunk is queued, all the following chunks must be queued to keep the order
+                if (!queued && Thread.currentThread() == callingThread) {
+                    try {
+                        stream.write(chunk, 0, length);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                } else {
+                    queued = true;
+                    chunks.add(length == chunk.length ? chunk : Arrays.copyOf(chunk, length));
+                }
+            }
+        };
+        instance.consume(output).thenRun(output::complete).whenComplete((r, t) -> chunks.add(t != null ? t : END));
+        try {
+            Object next;
+            while ((next = chunks.take()) != END) {
+                if (next instanceof Throwable) {
+                    throw toIOException((Throwable) next);
+                }
+                stream.write((byte[]) next);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    private static IOException toIOException(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        if (cause instanceof UncheckedIOException) {
+            return ((UncheckedIOException) cause).getCause();
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new IOException(cause);
+    }
+
+    private void writeChunk(boolean last) {
+        byte[] full = chunk != null ? chunk : new byte[0];
+        int length = position;
+        chunk = null;
+        position = 0;
+        write(full, length, last);
+    }
+
+}
@@ -3,11 +3,13 @@ package io.quarkus.resteasy.qute.deployment;
 import org.jboss.jandex.DotName;
 
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyIgnoreWarningBuildItem;
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.resteasy.common.spi.ResteasyJaxrsProviderBuildItem;
+import io.quarkus.resteasy.qute.runtime.TemplateInstanceWriter;
 import io.quarkus.resteasy.qute.runtime.TemplateResponseFilter;
 
 public class ResteasyQuteProcessor {
@@ -18,8 +20,9 @@ public class ResteasyQuteProcessor {
     }
 
     @BuildStep
-    ResteasyJaxrsProviderBuildItem registerProviders() {
-        return new ResteasyJaxrsProviderBuildItem(TemplateResponseFilter.class.getName());
+    void registerProviders(BuildProducer<ResteasyJaxrsProviderBuildItem> providers) {
+        providers.produce(new ResteasyJaxrsProviderBuildItem(TemplateResponseFilter.class.getName()));
+        providers.produce(new ResteasyJaxrsProviderBuildItem(TemplateInstanceWriter.class.getName()));
     }
 
     @BuildStep
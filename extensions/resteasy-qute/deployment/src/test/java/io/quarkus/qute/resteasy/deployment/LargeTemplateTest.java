@@ -0,0 +1,78 @@
+package io.quarkus.qute.resteasy.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import java.io.IOException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.ext.Provider;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class LargeTemplateTest {
+
+    private static final int ITEMS = 2000;
+    // Contains a surrogate pair which is encoded into four bytes
+    private static final String TEXT = "Příliš žluťoučký kůň 🐎";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(LargeResource.class, EntityTypeFilter.class)
+                    .addAsResource(new StringAsset("{#for item in items}{text} {item}\n{/for}"),
+                            "templates/large.txt"));
+
+    @Test
+    public void testLargeOutput() {
+        // The output spans several chunks and the multi-byte characters are split at the chunk boundaries
+        String expected = IntStream.range(0, ITEMS).mapToObj(i -> TEXT + " " + i + "\n")
+                .collect(Collectors.joining());
+        when().get("/large").then().statusCode(200)
+                .header("X-Entity", TemplateInstance.class.getSimpleName())
+                .body(Matchers.is(expected));
+    }
+
+    @Path("large")
+    public static class LargeResource {
+
+        @Inject
+        Template large;
+
+        @GET
+        @Produces("text/plain;charset=UTF-8")
+        public TemplateInstance get() {
+            return large.data("text", TEXT).data("items", IntStream.range(0, ITEMS).boxed().collect(Collectors.toList()));
+        }
+    }
+
+    @Provider
+    public static class EntityTypeFilter implements ContainerResponseFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext)
+                throws IOException {
+            // The template is rendered once the response is written
+            if (responseContext.getEntity() instanceof TemplateInstance) {
+                responseContext.getHeaders().add("X-Entity", TemplateInstance.class.getSimpleName());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+package io.quarkus.resteasy.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.spi.AsyncMessageBodyWriter;
+import org.jboss.resteasy.spi.AsyncOutputStream;
+
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.runtime.Utf8ChunkedOutput;
+
+/**
+ * Renders a {@link TemplateInstance} and writes the output while it is being rendered.
+ * <p>
+ * The output is encoded in UTF-8 chunk by chunk, unless the response media type declares another charset. In that case the
+ * template is rendered as a {@link String} first.
+ */
+@Provider
+public class TemplateInstanceWriter implements AsyncMessageBodyWriter<TemplateInstance> {
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return TemplateInstance.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(TemplateInstance instance, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        Charset charset = getCharset(mediaType);
+        if (!StandardCharsets.UTF_8.equals(charset)) {
+            entityStream.write(instance.render().getBytes(charset));
+            return;
+        }
+        Utf8ChunkedOutput.writeTo(instance, entityStream);
+    }
+
+    @Override
+    public CompletionStage<Void> asyncWriteTo(TemplateInstance instance, Class<?> type, Type genericType,
+            Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, Object> httpHeaders,
+            AsyncOutputStream entityStream) {
+        Charset charset = getCharset(mediaType);
+        if (!StandardCharsets.UTF_8.equals(charset)) {
+            return instance.renderAsync().thenCompose(r -> entityStream.asyncWrite(r.getBytes(charset)));
+        }
+        AsyncChunkedOutput output = new AsyncChunkedOutput(entityStream);
+        return instance.consume(output).thenCompose(v -> {
+            output.complete();
+            return output.written;
+        });
+    }
+
+    static Charset getCharset(MediaType mediaType) {
+        String charset = mediaType != null ? mediaType.getParameters().get(MediaType.CHARSET_PARAMETER) : null;
+        return charset == null ? StandardCharsets.UTF_8 : Charset.forName(charset);
+    }
+
+    /**
+     * Each chunk is written once the previous write completed.
+     */
+    static class AsyncChunkedOutput extends Utf8ChunkedOutput {
+
+        private final AsyncOutputStream entityStream;
+        private CompletableFuture<Void> written = CompletableFuture.completedFuture(null);
+
+        AsyncChunkedOutput(AsyncOutputStream entityStream) {
+            this.entityStream = entityStream;
+        }
+
+        @Override
+        protected void write(byte[] chunk, int length, boolean last) {
+            written = written.thenCompose(v -> entityStream.asyncWrite(chunk, 0, length));
+        }
+
+    }
+
+}
@@ -11,11 +11,14 @@ import javax.ws.rs.container.ContainerResponseFilter;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.ext.Provider;
 
-import org.jboss.resteasy.core.interception.jaxrs.SuspendableContainerResponseContext;
-
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.Variant;
 
+/**
+ * Selects the variant of a template instance returned by a resource method. The template itself is rendered by the
+ * {@link TemplateInstanceWriter} when the response is written, i.e. the entity is still the {@link TemplateInstance} in
+ * the other response filters.
+ */
 @Provider
 public class TemplateResponseFilter implements ContainerResponseFilter {
 
@@ -25,10 +28,6 @@ public class TemplateResponseFilter implements ContainerResponseFilter {
             throws IOException {
         Object entity = responseContext.getEntity();
         if (entity instanceof TemplateInstance) {
-            SuspendableContainerResponseContext ctx = (SuspendableContainerResponseContext) responseContext;
-            ctx.suspend();
-
-            MediaType mediaType;
             TemplateInstance instance = (TemplateInstance) entity;
             Object variantsAttr = instance.getAttribute(TemplateInstance.VARIANTS);
             if (variantsAttr != null) {
@@ -50,32 +49,8 @@ public class TemplateResponseFilter implements ContainerResponseFilter {
                     }
                     instance.setAttribute(TemplateInstance.SELECTED_VARIANT,
                             new Variant(selectedLocale, selected.getMediaType().toString(), selected.getEncoding()));
-                    mediaType = selected.getMediaType();
-                } else {
-                    mediaType = responseContext.getMediaType();
+                    responseContext.setEntity(instance, null, selected.getMediaType());
                 }
-            } else {
-                mediaType = responseContext.getMediaType();
-            }
-
-            try {
-                instance.renderAsync()
-                        .whenComplete((r, t) -> {
-                            if (t == null) {
-                                // make sure we avoid setting a null media type because that causes
-                                // an NPE further down
-                                if (mediaType != null) {
-                                    ctx.setEntity(r, null, mediaType);
-                                } else {
-                                    ctx.setEntity(r);
-                                }
-                                ctx.resume();
-                            } else {
-                                ctx.resume(t);
-                            }
-                        });
-            } catch (Throwable t) {
-                ctx.resume(t);
             }
         }
     }
@@ -0,0 +1,102 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.ContainerResponseContext;
+
+import org.hamcrest.Matchers;
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StreamingTemplateTest {
+
+    private static final int ITEMS = 2000;
+    private static final String TEXT = "Příliš žluťoučký kůň";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(ItemsResource.class, EntityTypeFilter.class)
+                    .addAsResource(new StringAsset("{#for item in items}{text} {item}\n{/for}"),
+                            "templates/items.txt"));
+
+    @Test
+    public void testLargeOutputIsChunked() {
+        String expected = expected(ITEMS);
+        when().get("/items/" + ITEMS).then().statusCode(200)
+                .header("Transfer-Encoding", "chunked")
+                .header("Content-Length", Matchers.nullValue())
+                .header("X-Entity", TemplateInstance.class.getSimpleName())
+                .body(Matchers.is(expected));
+    }
+
+    @Test
+    public void testSmallOutputIsNotChunked() {
+        String expected = expected(3);
+        when().get("/items/3").then().statusCode(200)
+                .header("Transfer-Encoding", Matchers.nullValue())
+                .header("Content-Length", "" + expected.getBytes(StandardCharsets.UTF_8).length)
+                .body(Matchers.is(expected));
+    }
+
+    @Test
+    public void testOtherCharset() {
+        when().get("/items/latin2/" + ITEMS).then().statusCode(200)
+                .header("X-Entity", TemplateInstance.class.getSimpleName())
+                .body(Matchers.is(expected(ITEMS)));
+    }
+
+    private static String expected(int items) {
+        return IntStream.range(0, items).mapToObj(i -> TEXT + " " + i + "\n").collect(Collectors.joining());
+    }
+
+    @Path("items")
+    public static class ItemsResource {
+
+        @Inject
+        Template items;
+
+        @GET
+        @Path("{count}")
+        @Produces("text/plain;charset=UTF-8")
+        public TemplateInstance get(@PathParam("count") int count) {
+            return items.data("text", TEXT).data("items", IntStream.range(0, count).boxed().collect(Collectors.toList()));
+        }
+
+        @GET
+        @Path("latin2/{count}")
+        @Produces("text/plain;charset=ISO-8859-2")
+        public TemplateInstance latin2(@PathParam("count") int count) {
+            return get(count);
+        }
+    }
+
+    public static class EntityTypeFilter {
+
+        @ServerResponseFilter
+        public void filter(ContainerResponseContext responseContext) {
+            // The template is rendered once the response is written
+            if (responseContext.getEntity() instanceof TemplateInstance) {
+                responseContext.getHeaders().add("X-Entity", TemplateInstance.class.getSimpleName());
+            }
+        }
+    }
+
+}
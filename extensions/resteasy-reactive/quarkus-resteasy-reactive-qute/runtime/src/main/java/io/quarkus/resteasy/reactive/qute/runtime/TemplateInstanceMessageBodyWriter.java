@@ -0,0 +1,140 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+import io.netty.buffer.Unpooled;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.runtime.Utf8ChunkedOutput;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Renders a {@link TemplateInstance} and writes the output while it is being rendered.
+ * <p>
+ * The output is encoded in UTF-8 chunk by chunk and each chunk is written to the Vert.x response without any copy. If the
+ * whole output fits in a single chunk the response is not chunked. If the response media type declares another charset
+ * than UTF-8 the template is rendered as a {@link String} first.
+ */
+@Provider
+public class TemplateInstanceMessageBodyWriter implements ServerMessageBodyWriter<TemplateInstance> {
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target, MediaType mediaType) {
+        return true;
+    }
+
+    @Override
+    public void writeResponse(TemplateInstance instance, Type genericType, ServerRequestContext context)
+            throws WebApplicationException {
+        ResteasyReactiveRequestContext requestContext = (ResteasyReactiveRequestContext) context;
+        Charset charset = getCharset(requestContext.getResponseMediaType());
+        // The rendering completes asynchronously
+        requestContext.suspend();
+        if (!StandardCharsets.UTF_8.equals(charset)) {
+            instance.renderAsync().whenComplete((r, t) -> {
+                if (t != null) {
+                    requestContext.resume(t);
+                } else {
+                    context.serverResponse().end(r.getBytes(charset));
+                    requestContext.resume();
+                }
+            });
+            return;
+        }
+        ResponseOutput output = new ResponseOutput(context.serverResponse(),
+                requestContext.serverRequest().unwrap(HttpServerResponse.class));
+        instance.consume(output).whenComplete((r, t) -> {
+            if (t != null) {
+                requestContext.resume(t);
+            } else {
+                output.complete();
+                requestContext.resume();
+            }
+        });
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return TemplateInstance.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(TemplateInstance instance, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        Charset charset = getCharset(mediaType);
+        if (!StandardCharsets.UTF_8.equals(charset)) {
+            entityStream.write(instance.render().getBytes(charset));
+            return;
+        }
+        Utf8ChunkedOutput.writeTo(instance, entityStream);
+    }
+
+    static Charset getCharset(MediaType mediaType) {
+        String charset = mediaType != null ? mediaType.getParameters().get(MediaType.CHARSET_PARAMETER) : null;
+        return charset == null ? StandardCharsets.UTF_8 : Charset.forName(charset);
+    }
+
+    static class ResponseOutput extends Utf8ChunkedOutput {
+
+        private final ServerHttpResponse response;
+        // null if the request is not served by Vert.x
+        private final HttpServerResponse vertxResponse;
+        private boolean chunked;
+
+        ResponseOutput(ServerHttpResponse response, HttpServerResponse vertxResponse) {
+            this.response = response;
+            this.vertxResponse = vertxResponse;
+        }
+
+        @Override
+        protected void write(byte[] chunk, int length, boolean last) {
+            if (last && !chunked) {
+                // The whole output fits in a single chunk
+                if (vertxResponse != null) {
+                    vertxResponse.end(Buffer.buffer(Unpooled.wrappedBuffer(chunk, 0, length)));
+                } else {
+                    response.end(length == chunk.length ? chunk : Arrays.copyOf(chunk, length));
+                }
+                return;
+            }
+            if (!chunked) {
+                chunked = true;
+                response.setChunked(true);
+            }
+            if (vertxResponse != null) {
+                if (last) {
+                    vertxResponse.end(Buffer.buffer(Unpooled.wrappedBuffer(chunk, 0, length)));
+                } else {
+                    vertxResponse.write(Buffer.buffer(Unpooled.wrappedBuffer(chunk, 0, length)));
+                }
+            } else {
+                byte[] data = length == chunk.length ? chunk : Arrays.copyOf(chunk, length);
+                if (last) {
+                    response.end(data);
+                } else {
+                    response.write(data);
+                }
+            }
+        }
+
+    }
+
+}
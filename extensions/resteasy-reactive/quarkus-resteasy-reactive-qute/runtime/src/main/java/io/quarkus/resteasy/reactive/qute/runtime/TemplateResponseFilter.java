@@ -12,19 +12,22 @@ import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveContainerRequestCo
 
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.Variant;
-import io.smallrye.mutiny.Uni;
 
+/**
+ * Selects the variant of a template instance returned by a resource method. The template itself is rendered by the
+ * {@link TemplateInstanceMessageBodyWriter} when the response is written, i.e. the entity is still the
+ * {@link TemplateInstance} in the other response filters.
+ */
 public class TemplateResponseFilter {
 
     @SuppressWarnings("unchecked")
     @ServerResponseFilter
-    public Uni<Void> filter(ResteasyReactiveContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+    public void filter(ResteasyReactiveContainerRequestContext requestContext, ContainerResponseContext responseContext) {
         Object entity = responseContext.getEntity();
         if (!(entity instanceof TemplateInstance)) {
-            return null;
+            return;
         }
 
-        MediaType mediaType;
         TemplateInstance instance = (TemplateInstance) entity;
         Object variantsAttr = instance.getAttribute(TemplateInstance.VARIANTS);
         if (variantsAttr != null) {
@@ -46,21 +49,8 @@ public class TemplateResponseFilter {
                 }
                 instance.setAttribute(TemplateInstance.SELECTED_VARIANT,
                         new Variant(selectedLocale, selected.getMediaType().toString(), selected.getEncoding()));
-                mediaType = selected.getMediaType();
-            } else {
-                mediaType = responseContext.getMediaType();
+                responseContext.setEntity(instance, null, selected.getMediaType());
             }
-        } else {
-            mediaType = responseContext.getMediaType();
         }
-
-        return instance.createUni().chain(r -> {
-            if (mediaType != null) {
-                responseContext.setEntity(r, null, mediaType);
-            } else {
-                responseContext.setEntity(r);
-            }
-            return Uni.createFrom().nullItem();
-        });
     }
 }
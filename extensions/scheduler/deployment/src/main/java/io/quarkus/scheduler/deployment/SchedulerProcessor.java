@@ -64,6 +64,8 @@ import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.scheduler.Scheduled;
 import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.runtime.JdbcLeaseStore;
+import io.quarkus.scheduler.runtime.RedisLeaseStore;
 import io.quarkus.scheduler.runtime.ScheduledInvoker;
 import io.quarkus.scheduler.runtime.ScheduledMethodMetadata;
 import io.quarkus.scheduler.runtime.SchedulerConfig;
@@ -87,6 +89,7 @@ public class SchedulerProcessor {
             Kind.CLASS);
 
     static final String INVOKER_SUFFIX = "_ScheduledInvoker";
+    static final String REDIS_CLIENT = "io.quarkus.redis.client.RedisClient";
 
     @BuildStep
     void beans(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
@@ -95,6 +98,29 @@ public class SchedulerProcessor {
         }
     }
 
+    @BuildStep
+    void leaseStores(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (capabilities.isPresent(Capability.QUARTZ)) {
+            return;
+        }
+        // The lease stores are only instantiated if selected for the clustered mode
+        if (capabilities.isPresent(Capability.AGROAL)) {
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(JdbcLeaseStore.class));
+        }
+        if (isClassPresent(REDIS_CLIENT)) {
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(RedisLeaseStore.class));
+        }
+    }
+
+    private static boolean isClassPresent(String className) {
+        try {
+            Class.forName(className, false, Thread.currentThread().getContextClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
     @BuildStep
     AutoAddScopeBuildItem autoAddScope() {
         return AutoAddScopeBuildItem.builder().containsAnnotations(SCHEDULED_NAME, SCHEDULES_NAME)
@@ -0,0 +1,90 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.LeaseStore;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ClusteredSchedulerTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class, TestLeaseStore.class)
+                    .addAsResource(new StringAsset("quarkus.scheduler.cluster.enabled=true\n"
+                            + "quarkus.scheduler.cluster.store=test\n"
+                            + "quarkus.scheduler.cluster.node-id=node1\n"
+                            + "quarkus.scheduler.cluster.renewal-interval=1s\n"
+                            + "quarkus.scheduler.cluster.lease-duration=5s"),
+                            "application.properties"));
+
+    @Test
+    public void testOnlyTriggersWithLeaseAreFired() throws InterruptedException {
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+        assertEquals(0, Jobs.FOREIGN.get());
+        // The leases of all triggers are renewed at once
+        assertTrue(TestLeaseStore.CALLS.size() > 0);
+        for (Set<String> leaseIds : TestLeaseStore.CALLS) {
+            assertEquals(2, leaseIds.size());
+        }
+    }
+
+    public static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(2);
+        static final AtomicInteger FOREIGN = new AtomicInteger();
+
+        @Scheduled(every = "1s", identity = "owned")
+        void owned() {
+            LATCH.countDown();
+        }
+
+        @Scheduled(every = "1s", identity = "foreign")
+        void foreign() {
+            FOREIGN.incrementAndGet();
+        }
+
+    }
+
+    @Named("test")
+    @Singleton
+    public static class TestLeaseStore implements LeaseStore {
+
+        static final CopyOnWriteArrayList<Set<String>> CALLS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Set<String> acquireOrRenew(String nodeId, Set<String> leaseIds, Duration duration) {
+            assertEquals("node1", nodeId);
+            CALLS.add(leaseIds);
+            Set<String> owned = new HashSet<>(leaseIds);
+            // Held by another node
+            owned.remove("foreign");
+            return owned;
+        }
+
+        @Override
+        public void release(String nodeId, Set<String> leaseIds) {
+        }
+
+    }
+
+}
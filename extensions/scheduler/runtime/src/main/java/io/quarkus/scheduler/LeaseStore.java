@@ -0,0 +1,37 @@
+package io.quarkus.scheduler;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Stores the leases that are used by the built-in scheduler in the clustered mode, so that a trigger is fired by a single
+ * node of the cluster. Each trigger is identified by a lease with the same id.
+ * <p>
+ * The leases of all triggers are acquired and renewed periodically in a single call, so implementations should process a
+ * batch of leases in a constant number of round trips.
+ * <p>
+ * A custom implementation can be provided as a bean with bean type {@link LeaseStore}. The built-in implementations use the
+ * {@code jdbc} and {@code redis} names.
+ */
+public interface LeaseStore {
+
+    /**
+     * Renews the leases that are already held by the given node, and acquires the leases that are not held by any node or
+     * that have expired.
+     *
+     * @param nodeId the id of the node
+     * @param leaseIds the ids of the leases
+     * @param duration the duration of the leases
+     * @return the ids of the leases that are held by the given node
+     */
+    Set<String> acquireOrRenew(String nodeId, Set<String> leaseIds, Duration duration);
+
+    /**
+     * Releases the leases that are held by the given node so that other nodes can acquire them.
+     *
+     * @param nodeId the id of the node
+     * @param leaseIds the ids of the leases
+     */
+    void release(String nodeId, Set<String> leaseIds);
+
+}
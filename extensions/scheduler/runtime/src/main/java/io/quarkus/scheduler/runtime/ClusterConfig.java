@@ -0,0 +1,96 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class ClusterConfig {
+
+    /**
+     * If set to true then each trigger is fired by a single node of the cluster. The nodes acquire leases for the triggers
+     * from a {@link io.quarkus.scheduler.LeaseStore}, and a trigger is only fired by the node that holds its lease.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The name of the lease store, i.e. `jdbc`, `redis` or the name of a custom `io.quarkus.scheduler.LeaseStore` bean.
+     *
+     * If not set then the only available lease store is used.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem
+    public Optional<String> store;
+
+    /**
+     * The id of this node. If not set then a random id is generated.
+     */
+    @ConfigItem
+    public Optional<String> nodeId;
+
+    /**
+     * How long a lease is held by a node if not renewed. If a node fails then its triggers are fired by another node
+     * at most after this duration.
+     */
+    @ConfigItem(defaultValue = "30s")
+    public Duration leaseDuration;
+
+    /**
+     * How often the leases are renewed. The leases of all triggers are renewed at once. Must be shorter than the lease
+     * duration.
+     */
+    @ConfigItem(defaultValue = "10s")
+    public Duration renewalInterval;
+
+    /**
+     * The JDBC lease store.
+     */
+    @ConfigItem
+    public JdbcConfig jdbc;
+
+    /**
+     * The Redis lease store. The default Redis client is used.
+     */
+    @ConfigItem
+    public RedisConfig redis;
+
+    @ConfigGroup
+    public static class JdbcConfig {
+
+        /**
+         * The name of the datasource. If not set then the default datasource is used.
+         */
+        @ConfigItem
+        public Optional<String> datasource;
+
+        /**
+         * The name of the table that stores the leases.
+         */
+        @ConfigItem(defaultValue = "QUARKUS_SCHEDULER_LEASE")
+        public String table;
+
+        /**
+         * If the table should be created if it does not exist.
+         */
+        @ConfigItem(defaultValue = "true")
+        public boolean createTable;
+
+    }
+
+    @ConfigGroup
+    public static class RedisConfig {
+
+        /**
+         * The prefix of the keys that store the leases. The default value contains a hash tag so that all the keys are
+         * stored in the same slot of a Redis cluster.
+         */
+        @ConfigItem(defaultValue = "{quarkus-scheduler}:lease:")
+        public String keyPrefix;
+
+    }
+
+}
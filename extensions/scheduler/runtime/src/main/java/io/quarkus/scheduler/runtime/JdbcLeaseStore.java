@@ -0,0 +1,166 @@
+package io.quarkus.scheduler.runtime;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+import javax.sql.DataSource;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.agroal.runtime.DataSources;
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.scheduler.LeaseStore;
+
+/**
+ * Stores the leases in a database table with one row per lease. The leases of all triggers are acquired and renewed with a
+ * single update statement.
+ */
+@Named(JdbcLeaseStore.NAME)
+@Singleton
+public class JdbcLeaseStore implements LeaseStore {
+
+    public static final String NAME = "jdbc";
+
+    private static final Logger LOGGER = Logger.getLogger(JdbcLeaseStore.class);
+
+    private final ClusterConfig.JdbcConfig config;
+    // Leases that are known to have a row
+    private final Set<String> knownLeases;
+    private volatile DataSource dataSource;
+
+    public JdbcLeaseStore(SchedulerRuntimeConfig schedulerRuntimeConfig) {
+        this.config = schedulerRuntimeConfig.cluster.jdbc;
+        this.knownLeases = ConcurrentHashMap.newKeySet();
+    }
+
+    @Override
+    public Set<String> acquireOrRenew(String nodeId, Set<String> leaseIds, Duration duration) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + duration.toMillis();
+        try (Connection connection = getDataSource().getConnection()) {
+            insertMissingLeases(connection, leaseIds);
+            try (PreparedStatement update = connection.prepareStatement("UPDATE " + config.table
+                    + " SET OWNER = ?, EXPIRES_AT = ? WHERE LEASE_ID IN (" + placeholders(leaseIds.size())
+                    + ") AND (OWNER = ? OR OWNER IS NULL OR EXPIRES_AT < ?)")) {
+                int index = 1;
+                update.setString(index++, nodeId);
+                update.setLong(index++, expiresAt);
+                for (String leaseId : leaseIds) {
+                    update.setString(index++, leaseId);
+                }
+                update.setString(index++, nodeId);
+                update.setLong(index, now);
+                update.executeUpdate();
+            }
+            Set<String> owned = new HashSet<>();
+            try (PreparedStatement select = connection
+                    .prepareStatement("SELECT LEASE_ID FROM " + config.table + " WHERE OWNER = ? AND EXPIRES_AT >= ?")) {
+                select.setString(1, nodeId);
+                select.setLong(2, expiresAt);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        owned.add(resultSet.getString(1));
+                    }
+                }
+            }
+            owned.retainAll(leaseIds);
+            return owned;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to acquire the scheduler leases", e);
+        }
+    }
+
+    @Override
+    public void release(String nodeId, Set<String> leaseIds) {
+        try (Connection connection = getDataSource().getConnection();
+                PreparedStatement update = connection.prepareStatement("UPDATE " + config.table
+                        + " SET OWNER = NULL, EXPIRES_AT = 0 WHERE OWNER = ? AND LEASE_ID IN ("
+                        + placeholders(leaseIds.size()) + ")")) {
+            int index = 1;
+            update.setString(index++, nodeId);
+            for (String leaseId : leaseIds) {
+                update.setString(index++, leaseId);
+            }
+            update.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to release the scheduler leases", e);
+        }
+    }
+
+    private DataSource getDataSource() throws SQLException {
+        DataSource ds = dataSource;
+        if (ds == null) {
+            ds = DataSources.fromName(config.datasource.orElse(DataSourceUtil.DEFAULT_DATASOURCE_NAME));
+            if (config.createTable) {
+                createTableIfNeeded(ds);
+            }
+            dataSource = ds;
+        }
+        return ds;
+    }
+
+    private void createTableIfNeeded(DataSource ds) throws SQLException {
+        try (Connection connection = ds.getConnection(); Statement statement = connection.createStatement()) {
+            try {
+                statement.executeQuery("SELECT LEASE_ID FROM " + config.table + " WHERE 1 = 0").close();
+            } catch (SQLException e) {
+                LOGGER.debugf("Creating the scheduler lease table %s", config.table);
+                statement.executeUpdate("CREATE TABLE " + config.table
+                        + " (LEASE_ID VARCHAR(255) NOT NULL PRIMARY KEY, OWNER VARCHAR(255), EXPIRES_AT BIGINT NOT NULL)");
+            }
+        }
+    }
+
+    private void insertMissingLeases(Connection connection, Set<String> leaseIds) throws SQLException {
+        if (knownLeases.containsAll(leaseIds)) {
+            return;
+        }
+        Set<String> missing = new HashSet<>(leaseIds);
+        try (PreparedStatement select = connection.prepareStatement("SELECT LEASE_ID FROM " + config.table
+                + " WHERE LEASE_ID IN (" + placeholders(leaseIds.size()) + ")")) {
+            int index = 1;
+            for (String leaseId : leaseIds) {
+                select.setString(index++, leaseId);
+            }
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    missing.remove(resultSet.getString(1));
+                }
+            }
+        }
+        try (PreparedStatement insert = connection
+                .prepareStatement("INSERT INTO " + config.table + " (LEASE_ID, OWNER, EXPIRES_AT) VALUES (?, NULL, 0)")) {
+            for (String leaseId : missing) {
+                insert.setString(1, leaseId);
+                try {
+                    insert.executeUpdate();
+                } catch (SQLException e) {
+                    // The row was inserted by another node in the meantime
+                    LOGGER.tracef(e, "Unable to insert a scheduler lease");
+                }
+            }
+        }
+        knownLeases.addAll(leaseIds);
+    }
+
+    private static String placeholders(int count) {
+        StringBuilder builder = new StringBuilder(count * 2);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append('?');
+        }
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,81 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.LeaseStore;
+
+/**
+ * Holds the leases of the triggers that should be fired by this node. All leases are acquired and renewed at once.
+ */
+class LeaseManager {
+
+    private static final Logger LOGGER = Logger.getLogger(LeaseManager.class);
+
+    private final LeaseStore store;
+    private final String nodeId;
+    private final Set<String> leaseIds;
+    private final Duration leaseDuration;
+    private final AtomicBoolean renewing;
+
+    private volatile Set<String> ownedLeases;
+    // System.nanoTime()
+    private volatile long validUntil;
+
+    LeaseManager(LeaseStore store, String nodeId, Set<String> leaseIds, Duration leaseDuration) {
+        this.store = store;
+        this.nodeId = nodeId;
+        this.leaseIds = leaseIds;
+        this.leaseDuration = leaseDuration;
+        this.renewing = new AtomicBoolean();
+        this.ownedLeases = Collections.emptySet();
+        this.validUntil = System.nanoTime();
+    }
+
+    void renew() {
+        if (!renewing.compareAndSet(false, true)) {
+            // The previous renewal is still running
+            return;
+        }
+        try {
+            // The leases are considered valid from the start of the renewal
+            long start = System.nanoTime();
+            Set<String> owned = store.acquireOrRenew(nodeId, leaseIds, leaseDuration);
+            if (!owned.equals(ownedLeases)) {
+                LOGGER.debugf("Node %s holds the leases: %s", nodeId, owned);
+            }
+            ownedLeases = owned;
+            validUntil = start + leaseDuration.toNanos();
+        } catch (Exception e) {
+            LOGGER.warnf(e, "Unable to renew the scheduler leases of node %s", nodeId);
+        } finally {
+            renewing.set(false);
+        }
+    }
+
+    boolean isOwner(String leaseId) {
+        return System.nanoTime() - validUntil < 0 && ownedLeases.contains(leaseId);
+    }
+
+    void release() {
+        Set<String> owned = ownedLeases;
+        ownedLeases = Collections.emptySet();
+        if (owned.isEmpty()) {
+            return;
+        }
+        try {
+            store.release(nodeId, owned);
+        } catch (Exception e) {
+            LOGGER.warnf(e, "Unable to release the scheduler leases of node %s", nodeId);
+        }
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+
+}
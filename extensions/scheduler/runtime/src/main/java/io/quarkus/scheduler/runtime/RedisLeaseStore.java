@@ -0,0 +1,82 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.enterprise.inject.Instance;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import io.quarkus.redis.client.RedisClient;
+import io.quarkus.scheduler.LeaseStore;
+import io.vertx.redis.client.Response;
+
+/**
+ * Stores the leases in Redis with one key per lease. The value of a key is the id of the node that holds the lease, and
+ * the key expires with the lease. The leases of all triggers are acquired and renewed with a single script.
+ */
+@Named(RedisLeaseStore.NAME)
+@Singleton
+public class RedisLeaseStore implements LeaseStore {
+
+    public static final String NAME = "redis";
+
+    // KEYS = lease keys, ARGV[1] = node id, ARGV[2] = duration in milliseconds
+    static final String ACQUIRE_OR_RENEW_SCRIPT = "local owned = {} "
+            + "for i, key in ipairs(KEYS) do "
+            + "local owner = redis.call('GET', key) "
+            + "if owner == ARGV[1] then redis.call('PEXPIRE', key, ARGV[2]) owned[#owned + 1] = key "
+            + "elseif not owner then redis.call('SET', key, ARGV[1], 'PX', ARGV[2]) owned[#owned + 1] = key end "
+            + "end "
+            + "return owned";
+
+    // KEYS = lease keys, ARGV[1] = node id
+    static final String RELEASE_SCRIPT = "for i, key in ipairs(KEYS) do "
+            + "if redis.call('GET', key) == ARGV[1] then redis.call('DEL', key) end "
+            + "end "
+            + "return 0";
+
+    private final ClusterConfig.RedisConfig config;
+    // The default client is only created if the lease store is used
+    private final Instance<RedisClient> client;
+
+    public RedisLeaseStore(SchedulerRuntimeConfig schedulerRuntimeConfig, Instance<RedisClient> client) {
+        this.config = schedulerRuntimeConfig.cluster.redis;
+        this.client = client;
+    }
+
+    @Override
+    public Set<String> acquireOrRenew(String nodeId, Set<String> leaseIds, Duration duration) {
+        Response response = client.get().eval(args(ACQUIRE_OR_RENEW_SCRIPT, leaseIds, nodeId, "" + duration.toMillis()));
+        Set<String> owned = new HashSet<>();
+        if (response != null) {
+            int prefixLength = config.keyPrefix.length();
+            for (Response key : response) {
+                owned.add(key.toString().substring(prefixLength));
+            }
+        }
+        return owned;
+    }
+
+    @Override
+    public void release(String nodeId, Set<String> leaseIds) {
+        client.get().eval(args(RELEASE_SCRIPT, leaseIds, nodeId));
+    }
+
+    private List<String> args(String script, Set<String> leaseIds, String... argv) {
+        List<String> args = new ArrayList<>(leaseIds.size() + argv.length + 2);
+        args.add(script);
+        args.add("" + leaseIds.size());
+        for (String leaseId : leaseIds) {
+            args.add(config.keyPrefix + leaseId);
+        }
+        for (String arg : argv) {
+            args.add(arg);
+        }
+        return args;
+    }
+
+}
@@ -13,4 +13,10 @@ public class SchedulerRuntimeConfig {
     @ConfigItem(defaultValue = "true")
     public boolean enabled;
 
+    /**
+     * Clustered mode.
+     */
+    @ConfigItem
+    public ClusterConfig cluster;
+
 }
\ No newline at end of file
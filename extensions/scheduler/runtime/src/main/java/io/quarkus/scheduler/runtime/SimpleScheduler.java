@@ -6,8 +6,11 @@ import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
@@ -17,7 +20,10 @@ import javax.annotation.PreDestroy;
 import javax.annotation.Priority;
 import javax.enterprise.event.Event;
 import javax.enterprise.event.Observes;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.Typed;
+import javax.enterprise.inject.literal.NamedLiteral;
 import javax.inject.Singleton;
 import javax.interceptor.Interceptor;
 
@@ -31,6 +37,7 @@ import com.cronutils.model.time.ExecutionTime;
 import com.cronutils.parser.CronParser;
 
 import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.LeaseStore;
 import io.quarkus.scheduler.Scheduled;
 import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
 import io.quarkus.scheduler.ScheduledExecution;
@@ -53,19 +60,24 @@ public class SimpleScheduler implements Scheduler {
     private volatile boolean running;
     private final List<ScheduledTask> scheduledTasks;
     private final boolean enabled;
+    private final LeaseManager leaseManager;
+    private final Duration leaseRenewalInterval;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
-            Event<SkippedExecution> skippedExecutionEvent) {
+            Event<SkippedExecution> skippedExecutionEvent, @Any Instance<LeaseStore> leaseStores) {
         this.running = true;
         this.enabled = schedulerRuntimeConfig.enabled;
         this.scheduledTasks = new ArrayList<>();
         this.executor = context.getExecutor();
+        this.leaseRenewalInterval = schedulerRuntimeConfig.cluster.renewalInterval;
 
         if (!schedulerRuntimeConfig.enabled) {
             this.scheduledExecutor = null;
+            this.leaseManager = null;
             LOGGER.info("Simple scheduler is disabled by config property and will not be started");
         } else if (context.getScheduledMethods().isEmpty()) {
             this.scheduledExecutor = null;
+            this.leaseManager = null;
             LOGGER.info("No scheduled business methods found - Simple scheduler will not be started");
         } else {
             this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, new Runnable() {
@@ -90,9 +102,36 @@ public class SimpleScheduler implements Scheduler {
                     scheduledTasks.add(new ScheduledTask(trigger, invoker));
                 }
             }
+            this.leaseManager = schedulerRuntimeConfig.cluster.enabled
+                    ? createLeaseManager(schedulerRuntimeConfig.cluster, leaseStores)
+                    : null;
         }
     }
 
+    private LeaseManager createLeaseManager(ClusterConfig config, Instance<LeaseStore> leaseStores) {
+        if (config.renewalInterval.compareTo(config.leaseDuration) >= 0) {
+            throw new IllegalArgumentException("The lease renewal interval [" + config.renewalInterval
+                    + "] must be shorter than the lease duration [" + config.leaseDuration + "]");
+        }
+        Instance<LeaseStore> store = config.store.isPresent() ? leaseStores.select(NamedLiteral.of(config.store.get()))
+                : leaseStores;
+        if (store.isUnsatisfied()) {
+            throw new IllegalStateException(config.store.isPresent()
+                    ? "Lease store not found: " + config.store.get()
+                    : "No lease store available for the clustered scheduler - add the agroal or redis-client extension");
+        } else if (store.isAmbiguous()) {
+            throw new IllegalStateException("Multiple lease stores available for the clustered scheduler - "
+                    + "select one with the quarkus.scheduler.cluster.store property");
+        }
+        Set<String> leaseIds = new HashSet<>();
+        for (ScheduledTask task : scheduledTasks) {
+            leaseIds.add(task.trigger.getId());
+        }
+        String nodeId = config.nodeId.orElseGet(() -> UUID.randomUUID().toString());
+        LOGGER.infof("Clustered scheduler enabled for node %s", nodeId);
+        return new LeaseManager(store.get(), nodeId, leaseIds, config.leaseDuration);
+    }
+
     // Use Interceptor.Priority.PLATFORM_BEFORE to start the scheduler before regular StartupEvent observers
     void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEvent event) {
         if (scheduledExecutor == null) {
@@ -104,6 +143,11 @@ public class SimpleScheduler implements Scheduler {
         LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
         scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
                 TimeUnit.MILLISECONDS);
+        if (leaseManager != null) {
+            // The leases are renewed by the worker threads so that a slow lease store does not delay the triggers
+            scheduledExecutor.scheduleAtFixedRate(this::renewLeases, 0, leaseRenewalInterval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
     }
 
     @PreDestroy
@@ -115,6 +159,17 @@ public class SimpleScheduler implements Scheduler {
         } catch (Exception e) {
             LOGGER.warn("Unable to shutdown the scheduler executor", e);
         }
+        if (leaseManager != null) {
+            leaseManager.release();
+        }
+    }
+
+    void renewLeases() {
+        try {
+            executor.execute(leaseManager::renew);
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Rejected renewal of the scheduler leases");
+        }
     }
 
     void checkTriggers() {
@@ -124,7 +179,7 @@ public class SimpleScheduler implements Scheduler {
         }
         ZonedDateTime now = ZonedDateTime.now();
         for (ScheduledTask task : scheduledTasks) {
-            task.execute(now, executor);
+            task.execute(now, executor, leaseManager);
         }
     }
 
@@ -193,9 +248,15 @@ public class SimpleScheduler implements Scheduler {
             this.invoker = invoker;
         }
 
-        void execute(ZonedDateTime now, ExecutorService executor) {
+        void execute(ZonedDateTime now, ExecutorService executor, LeaseManager leaseManager) {
             ZonedDateTime scheduledFireTime = trigger.evaluate(now);
             if (scheduledFireTime != null) {
+                if (leaseManager != null && !leaseManager.isOwner(trigger.getId())) {
+                    // The trigger is fired by another node of the cluster
+                    LOGGER.debugf("Skipping scheduled task for trigger %s - lease not held by node %s", trigger,
+                            leaseManager.getNodeId());
+                    return;
+                }
                 try {
                     executor.execute(new Runnable() {
                         @Override
@@ -0,0 +1,15 @@
+package io.quarkus.vertx.http.deployment.devmode.console;
+
+import io.quarkus.deployment.IsDevelopment;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.dev.ReloadTimings;
+import io.quarkus.devconsole.spi.DevConsoleTemplateInfoBuildItem;
+
+public class ReloadTimingsProcessor {
+
+    @BuildStep(onlyIf = IsDevelopment.class)
+    public DevConsoleTemplateInfoBuildItem reloads() {
+        // the view is read when the page is displayed, after the current reload has completed
+        return new DevConsoleTemplateInfoBuildItem("reloads", ReloadTimings.getReloadsView());
+    }
+}
@@ -0,0 +1,98 @@
+package io.quarkus.vertx.http.accesslog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.awaitility.Awaitility;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.bootstrap.util.IoUtils;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Tests writing the access log to a file in the JSON format
+ */
+public class AccessLogJsonFileTestCase {
+
+    @RegisterExtension
+    public static QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    try {
+                        Path logDirectory = Files.createTempDirectory("quarkus-tests");
+                        Properties p = new Properties();
+                        p.setProperty("quarkus.http.access-log.enabled", "true");
+                        p.setProperty("quarkus.http.access-log.log-to-file", "true");
+                        p.setProperty("quarkus.http.access-log.base-file-name", "server");
+                        p.setProperty("quarkus.http.access-log.log-directory", logDirectory.toAbsolutePath().toString());
+                        p.setProperty("quarkus.http.access-log.format", "json");
+                        p.setProperty("quarkus.http.access-log.pattern", "%m %{REQUEST_PATH} \"%q\" %s %u %{i,X-Test}");
+                        p.setProperty("quarkus.http.access-log.flush-interval", "0");
+                        ByteArrayOutputStream out = new ByteArrayOutputStream();
+                        p.store(out, null);
+
+                        return ShrinkWrap.create(JavaArchive.class)
+                                .add(new ByteArrayAsset(out.toByteArray()),
+                                        "application.properties");
+
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            });
+
+    @ConfigProperty(name = "quarkus.http.access-log.log-directory")
+    Path logDirectory;
+
+    @BeforeEach
+    public void before() throws IOException {
+        Files.createDirectories(logDirectory);
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        IoUtils.recursiveDelete(logDirectory);
+    }
+
+    @Test
+    public void testJsonLogMessageToFile() {
+        final String paramValue = UUID.randomUUID().toString();
+        RestAssured.given().header("X-Test", "say \"hello\"").get("/does-not-exist?foo=" + paramValue);
+
+        Awaitility.given().pollInterval(100, TimeUnit.MILLISECONDS)
+                .atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(() -> {
+                    Path path = logDirectory.resolve("server.log");
+                    Assertions.assertTrue(Files.exists(path));
+                    String data = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+                    Assertions.assertTrue(data.endsWith("\n"));
+                    JsonObject entry = new JsonObject(data.trim());
+                    Assertions.assertEquals("GET", entry.getString("method"));
+                    Assertions.assertEquals("/does-not-exist", entry.getString("requestPath"));
+                    Assertions.assertTrue(entry.getString("queryString").endsWith("foo=" + paramValue));
+                    Assertions.assertEquals(404, entry.getInteger("responseCode"));
+                    Assertions.assertEquals("say \"hello\"", entry.getString("requestHeader.X-Test"));
+                    // Not present
+                    Assertions.assertFalse(entry.containsKey("remoteUser"));
+                });
+    }
+
+}
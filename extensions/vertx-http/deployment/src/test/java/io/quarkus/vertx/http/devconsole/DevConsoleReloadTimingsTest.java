@@ -0,0 +1,39 @@
+package io.quarkus.vertx.http.devconsole;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.core.Is.is;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusDevModeTest;
+import io.quarkus.vertx.http.hotreload.DevBean;
+import io.restassured.RestAssured;
+
+public class DevConsoleReloadTimingsTest {
+
+    @RegisterExtension
+    static final QuarkusDevModeTest test = new QuarkusDevModeTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClass(DevBean.class));
+
+    @Test
+    public void testReloadTimings() {
+        RestAssured.get("q/dev/io.quarkus.quarkus-vertx-http/reloads")
+                .then()
+                .statusCode(200)
+                .body(containsString("The application has not been reloaded yet."));
+
+        test.modifySourceFile(DevBean.class, s -> s.replace("Hello World", "Hello Quarkus"));
+        RestAssured.get("/dev")
+                .then()
+                .statusCode(200)
+                .body(is("Hello Quarkus"));
+
+        RestAssured.get("q/dev/io.quarkus.quarkus-vertx-http/reloads")
+                .then()
+                .statusCode(200)
+                .body(containsString("Class Transformation"), containsString("cached"));
+    }
+}
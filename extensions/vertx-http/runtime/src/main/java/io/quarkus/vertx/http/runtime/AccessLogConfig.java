@@ -1,5 +1,6 @@
 package io.quarkus.vertx.http.runtime;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
@@ -30,6 +31,19 @@ public class AccessLogConfig {
     @ConfigItem(defaultValue = "common")
     public String pattern;
 
+    /**
+     * The access log format.
+     *
+     * - text: each entry is the pattern with the attributes replaced by their values
+     * - json: each entry is a single line JSON object with a field for each attribute of the pattern, e.g. `%h` is
+     * written as `remoteHost`, `%{REQUEST_LINE}` as `requestLine` and `%{i,Referer}` as `requestHeader.Referer`. Literal
+     * text of the pattern is not written, and attributes that are not present are omitted.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem(defaultValue = "text")
+    public Format format;
+
     /**
      * If logging should be done to a separate file.
      */
@@ -71,4 +85,41 @@ public class AccessLogConfig {
     @ConfigItem(defaultValue = "true")
     public boolean rotate;
 
+    /**
+     * The number of entries that can wait to be written to the log file in the preallocated queue. What happens if the
+     * queue is full depends on `queue-full-policy`.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem(defaultValue = "8192")
+    public int queueSize;
+
+    /**
+     * What to do with new entries if the queue is full.
+     *
+     * - unbounded: the entries are kept in an additional unbounded queue, i.e. no entry is lost but the memory used is
+     * not bounded
+     * - drop: the entries are dropped and a warning with the number of dropped entries is logged
+     *
+     * @asciidoclet
+     */
+    @ConfigItem(defaultValue = "unbounded")
+    public QueueFullPolicy queueFullPolicy;
+
+    /**
+     * How often the queued entries are written to the log file. The entries are also written as soon as a large enough
+     * batch is queued. If set to zero then the entries are written as soon as possible.
+     */
+    @ConfigItem(defaultValue = "1s")
+    public Duration flushInterval;
+
+    public enum Format {
+        TEXT,
+        JSON;
+    }
+
+    public enum QueueFullPolicy {
+        UNBOUNDED,
+        DROP;
+    }
 }
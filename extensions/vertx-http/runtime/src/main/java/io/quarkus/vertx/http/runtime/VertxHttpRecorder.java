@@ -268,7 +268,7 @@ public class VertxHttpRecorder {
             RuntimeValue<Router> httpRouterRuntimeValue, String rootPath, LaunchMode launchMode, boolean requireBodyHandler,
             Handler<RoutingContext> bodyHandler, HttpConfiguration httpConfiguration,
             GracefulShutdownFilter gracefulShutdownFilter, ShutdownConfig shutdownConfig,
-            Executor executor) {
+            Executor executor, ShutdownContext shutdown) {
         // install the default route at the end
         Router httpRouteRouter = httpRouterRuntimeValue.getValue();
 
@@ -395,12 +395,49 @@ public class VertxHttpRecorder {
             AccessLogReceiver receiver;
             if (accessLog.logToFile) {
                 File outputDir = accessLog.logDirectory.isPresent() ? new File(accessLog.logDirectory.get()) : new File("");
-                receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName, accessLog.logSuffix,
-                        accessLog.rotate);
+                long flushInterval = accessLog.flushInterval.toMillis();
+                DefaultAccessLogReceiver fileReceiver = DefaultAccessLogReceiver.builder()
+                        .setLogWriteExecutor(executor)
+                        .setOutputDirectory(outputDir.toPath())
+                        .setLogBaseName(accessLog.baseFileName)
+                        .setLogNameSuffix(accessLog.logSuffix)
+                        .setRotate(accessLog.rotate)
+                        .setQueueSize(accessLog.queueSize)
+                        .setDropWhenFull(accessLog.queueFullPolicy == AccessLogConfig.QueueFullPolicy.DROP)
+                        // write a batch once half of the queue is used, so that the queue does not overflow between flushes
+                        .setBatchSize(flushInterval > 0 ? Math.max(1, accessLog.queueSize / 2) : 1)
+                        .build();
+                long timerId;
+                if (flushInterval > 0) {
+                    timerId = vertx.get().setPeriodic(flushInterval, new Handler<Long>() {
+                        @Override
+                        public void handle(Long event) {
+                            fileReceiver.flush();
+                        }
+                    });
+                } else {
+                    timerId = -1;
+                }
+                // the pending messages are written and the file is closed whatever the flush interval
+                shutdown.addShutdownTask(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (timerId >= 0) {
+                            vertx.get().cancelTimer(timerId);
+                        }
+                        try {
+                            fileReceiver.close();
+                        } catch (IOException e) {
+                            LOGGER.debug("Failed to close the access log", e);
+                        }
+                    }
+                });
+                receiver = fileReceiver;
             } else {
                 receiver = new JBossLoggingAccessLogReceiver(accessLog.category);
             }
-            AccessLogHandler handler = new AccessLogHandler(receiver, accessLog.pattern, getClass().getClassLoader());
+            AccessLogHandler handler = new AccessLogHandler(receiver, accessLog.pattern,
+                    accessLog.format == AccessLogConfig.Format.JSON, getClass().getClassLoader());
             httpRouteRouter.route().order(Integer.MIN_VALUE).handler(handler);
             quarkusWrapperNeeded = true;
         }
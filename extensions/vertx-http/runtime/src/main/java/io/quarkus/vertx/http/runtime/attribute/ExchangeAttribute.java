@@ -16,6 +16,21 @@ public interface ExchangeAttribute {
      */
     String readAttribute(final RoutingContext exchange);
 
+    /**
+     * Appends the attribute to the given builder. Nothing is appended if the attribute is not present.
+     * <p>
+     * Attributes that are composed of other attributes should override this method to avoid creating intermediate strings.
+     *
+     * @param exchange The exchange
+     * @param builder The builder to append to
+     */
+    default void appendAttribute(final RoutingContext exchange, final StringBuilder builder) {
+        final String val = readAttribute(exchange);
+        if (val != null) {
+            builder.append(val);
+        }
+    }
+
     /**
      * Sets a new value for the attribute. Not all attributes are writable.
      * 
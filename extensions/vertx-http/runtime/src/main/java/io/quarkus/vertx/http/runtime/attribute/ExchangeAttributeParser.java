@@ -19,6 +19,9 @@ public class ExchangeAttributeParser {
 
     private static final Logger log = Logger.getLogger(ExchangeAttributeParser.class);
 
+    private static final String LITERAL_PERCENT = "%%";
+    private static final String LITERAL_DOLLAR = "$$";
+
     private final List<ExchangeAttributeBuilder> builders;
     private final List<ExchangeAttributeWrapper> wrappers;
 
@@ -58,6 +61,36 @@ public class ExchangeAttributeParser {
      */
     public ExchangeAttribute parse(final String valueString) {
         final List<ExchangeAttribute> attributes = new ArrayList<>();
+        for (String token : tokenize(valueString)) {
+            attributes.add(wrap(parseToken(token)));
+        }
+        if (attributes.size() == 1) {
+            return attributes.get(0);
+        }
+        return new CompositeExchangeAttribute(attributes.toArray(new ExchangeAttribute[attributes.size()]));
+    }
+
+    /**
+     * Parses the provided value string like {@link #parse(String)}, and turns it into an attribute that writes a JSON
+     * object with a field for each token. Literal text is not written, and the wrappers are not applied.
+     *
+     * @param valueString
+     * @return
+     * @see JsonExchangeAttribute
+     */
+    public ExchangeAttribute parseJson(final String valueString) {
+        final JsonExchangeAttribute.Builder builder = JsonExchangeAttribute.builder();
+        for (String token : tokenize(valueString)) {
+            ExchangeAttribute attribute = parseToken(token);
+            if (!(attribute instanceof ConstantExchangeAttribute)) {
+                builder.add(token, attribute);
+            }
+        }
+        return builder.build();
+    }
+
+    private static List<String> tokenize(final String valueString) {
+        final List<String> tokens = new ArrayList<>();
         int pos = 0;
         int state = 0; //0 = literal, 1 = %, 2 = %{, 3 = $, 4 = ${
         for (int i = 0; i < valueString.length(); ++i) {
@@ -66,7 +99,7 @@ public class ExchangeAttributeParser {
                 case 0: {
                     if (c == '%' || c == '$') {
                         if (pos != i) {
-                            attributes.add(wrap(parseSingleToken(valueString.substring(pos, i))));
+                            tokens.add(valueString.substring(pos, i));
                             pos = i;
                         }
                         if (c == '%') {
@@ -82,11 +115,11 @@ public class ExchangeAttributeParser {
                         state = 2;
                     } else if (c == '%') {
                         //literal percent
-                        attributes.add(wrap(new ConstantExchangeAttribute("%")));
+                        tokens.add(LITERAL_PERCENT);
                         pos = i + 1;
                         state = 0;
                     } else {
-                        attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                        tokens.add(valueString.substring(pos, i + 1));
                         pos = i + 1;
                         state = 0;
                     }
@@ -94,7 +127,7 @@ public class ExchangeAttributeParser {
                 }
                 case 2: {
                     if (c == '}') {
-                        attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                        tokens.add(valueString.substring(pos, i + 1));
                         pos = i + 1;
                         state = 0;
                     }
@@ -105,11 +138,11 @@ public class ExchangeAttributeParser {
                         state = 4;
                     } else if (c == '$') {
                         //literal dollars
-                        attributes.add(wrap(new ConstantExchangeAttribute("$")));
+                        tokens.add(LITERAL_DOLLAR);
                         pos = i + 1;
                         state = 0;
                     } else {
-                        attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                        tokens.add(valueString.substring(pos, i + 1));
                         pos = i + 1;
                         state = 0;
                     }
@@ -117,7 +150,7 @@ public class ExchangeAttributeParser {
                 }
                 case 4: {
                     if (c == '}') {
-                        attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                        tokens.add(valueString.substring(pos, i + 1));
                         pos = i + 1;
                         state = 0;
                     }
@@ -131,7 +164,7 @@ public class ExchangeAttributeParser {
             case 1:
             case 3: {
                 if (pos != valueString.length()) {
-                    attributes.add(wrap(parseSingleToken(valueString.substring(pos))));
+                    tokens.add(valueString.substring(pos));
                 }
                 break;
             }
@@ -140,10 +173,16 @@ public class ExchangeAttributeParser {
                 throw new RuntimeException("Mismatched braces: " + valueString);
             }
         }
-        if (attributes.size() == 1) {
-            return attributes.get(0);
+        return tokens;
+    }
+
+    private ExchangeAttribute parseToken(final String token) {
+        if (token.equals(LITERAL_PERCENT)) {
+            return new ConstantExchangeAttribute("%");
+        } else if (token.equals(LITERAL_DOLLAR)) {
+            return new ConstantExchangeAttribute("$");
         }
-        return new CompositeExchangeAttribute(attributes.toArray(new ExchangeAttribute[attributes.size()]));
+        return parseSingleToken(token);
     }
 
     public ExchangeAttribute parseSingleToken(final String token) {
@@ -0,0 +1,226 @@
+package io.quarkus.vertx.http.runtime.attribute;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Exchange attribute that writes the values of other attributes as a single line JSON object, e.g.
+ * <code>{"remoteHost":"127.0.0.1","requestLine":"GET / HTTP/1.1","responseCode":200}</code>.
+ * <p>
+ * The name of a field is derived from the token of the attribute:
+ * <ul>
+ * <li>short forms use the name of the matching long form, e.g. <code>%h</code> is written as {@code remoteHost}
+ * <li>long forms are converted to camel case, e.g. <code>%{REQUEST_LINE}</code> is written as {@code requestLine}
+ * <li><code>%{i,xxx}</code>, <code>%{o,xxx}</code>, <code>%{c,xxx}</code> and <code>%{q,xxx}</code> are written as
+ * {@code requestHeader.xxx}, {@code responseHeader.xxx}, {@code cookie.xxx} and {@code queryParameter.xxx}
+ * </ul>
+ * Attributes that are not present are omitted. Numeric values such as the response code are written as JSON numbers.
+ */
+public class JsonExchangeAttribute implements ExchangeAttribute {
+
+    private static final Map<String, String> SHORT_NAMES = new HashMap<>();
+    private static final Map<String, String> PARAMETERIZED_NAMES = new HashMap<>();
+    private static final Set<String> NUMERIC_NAMES = new HashSet<>(Arrays.asList("bytesSent", "localPort", "responseCode",
+            "responseTime", "responseTimeMicros", "responseTimeNanos", "responseTimeSeconds"));
+
+    static {
+        SHORT_NAMES.put(RemoteIPAttribute.REMOTE_IP_SHORT, "remoteIp");
+        SHORT_NAMES.put(LocalIPAttribute.LOCAL_IP_SHORT, "localIp");
+        SHORT_NAMES.put(BytesSentAttribute.BYTES_SENT_SHORT_LOWER, "bytesSent");
+        SHORT_NAMES.put(BytesSentAttribute.BYTES_SENT_SHORT_UPPER, "bytesSent");
+        SHORT_NAMES.put(RemoteHostAttribute.REMOTE_HOST_NAME_SHORT, "remoteHost");
+        SHORT_NAMES.put(RequestProtocolAttribute.REQUEST_PROTOCOL_SHORT, "protocol");
+        SHORT_NAMES.put(IdentUsernameAttribute.IDENT_USERNAME, "identUsername");
+        SHORT_NAMES.put(RequestMethodAttribute.REQUEST_METHOD_SHORT, "method");
+        SHORT_NAMES.put(LocalPortAttribute.LOCAL_PORT_SHORT, "localPort");
+        SHORT_NAMES.put(QueryStringAttribute.QUERY_STRING_SHORT, "queryString");
+        SHORT_NAMES.put(RequestLineAttribute.REQUEST_LINE_SHORT, "requestLine");
+        SHORT_NAMES.put(ResponseCodeAttribute.RESPONSE_CODE_SHORT, "responseCode");
+        SHORT_NAMES.put(DateTimeAttribute.DATE_TIME_SHORT, "dateTime");
+        SHORT_NAMES.put(RemoteUserAttribute.REMOTE_USER_SHORT, "remoteUser");
+        SHORT_NAMES.put(RequestURLAttribute.REQUEST_URL_SHORT, "requestUrl");
+        SHORT_NAMES.put(LocalServerNameAttribute.LOCAL_SERVER_NAME_SHORT, "localServerName");
+        SHORT_NAMES.put(ResponseTimeAttribute.RESPONSE_TIME_MILLIS_SHORT, "responseTime");
+        SHORT_NAMES.put(ResponseTimeAttribute.RESPONSE_TIME_SECONDS_SHORT, "responseTimeSeconds");
+        SHORT_NAMES.put(ThreadNameAttribute.THREAD_NAME_SHORT, "threadName");
+        PARAMETERIZED_NAMES.put("i", "requestHeader.");
+        PARAMETERIZED_NAMES.put("o", "responseHeader.");
+        PARAMETERIZED_NAMES.put("c", "cookie.");
+        PARAMETERIZED_NAMES.put("q", "queryParameter.");
+    }
+
+    private final String[] names;
+    private final ExchangeAttribute[] attributes;
+    private final boolean[] numeric;
+
+    private JsonExchangeAttribute(List<String> names, List<ExchangeAttribute> attributes) {
+        this.names = new String[names.size()];
+        this.numeric = new boolean[names.size()];
+        for (int i = 0; i < this.names.length; ++i) {
+            String name = names.get(i);
+            // the quoted name and the separator are only built once
+            StringBuilder quoted = new StringBuilder(name.length() + 3).append('"');
+            escape(name, quoted);
+            this.names[i] = quoted.append("\":").toString();
+            this.numeric[i] = NUMERIC_NAMES.contains(name);
+        }
+        this.attributes = attributes.toArray(new ExchangeAttribute[0]);
+    }
+
+    @Override
+    public String readAttribute(RoutingContext exchange) {
+        final StringBuilder sb = new StringBuilder();
+        appendAttribute(exchange, sb);
+        return sb.toString();
+    }
+
+    @Override
+    public void appendAttribute(RoutingContext exchange, StringBuilder builder) {
+        builder.append('{');
+        boolean first = true;
+        for (int i = 0; i < attributes.length; ++i) {
+            final String val = attributes[i].readAttribute(exchange);
+            if (val == null || val.isEmpty()) {
+                continue;
+            }
+            if (!first) {
+                builder.append(',');
+            }
+            first = false;
+            builder.append(names[i]);
+            if (numeric[i] && isNumber(val)) {
+                builder.append(val);
+            } else {
+                builder.append('"');
+                escape(val, builder);
+                builder.append('"');
+            }
+        }
+        builder.append('}');
+    }
+
+    @Override
+    public void writeAttribute(RoutingContext exchange, String newValue) throws ReadOnlyAttributeException {
+        throw new ReadOnlyAttributeException("json", newValue);
+    }
+
+    /**
+     * @param token the token of an attribute, e.g. <code>%h</code> or <code>%{i,Referer}</code>
+     * @return the name of the JSON field
+     */
+    public static String fieldName(String token) {
+        String name = SHORT_NAMES.get(token);
+        if (name != null) {
+            return name;
+        }
+        if ((token.startsWith("%{") || token.startsWith("${")) && token.endsWith("}")) {
+            String value = token.substring(2, token.length() - 1);
+            int comma = value.indexOf(',');
+            if (comma != -1) {
+                String prefix = PARAMETERIZED_NAMES.get(value.substring(0, comma));
+                return prefix != null ? prefix + value.substring(comma + 1) : value.substring(0, comma);
+            }
+            return camelCase(value);
+        }
+        return token;
+    }
+
+    private static String camelCase(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        boolean upper = false;
+        for (int i = 0; i < value.length(); ++i) {
+            char c = value.charAt(i);
+            if (c == '_') {
+                upper = sb.length() > 0;
+            } else {
+                sb.append(upper ? Character.toUpperCase(c) : Character.toLowerCase(c));
+                upper = false;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isNumber(String value) {
+        boolean dot = false;
+        for (int i = 0; i < value.length(); ++i) {
+            char c = value.charAt(i);
+            if (c == '.' && !dot && i > 0 && i < value.length() - 1) {
+                dot = true;
+            } else if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static void escape(String value, StringBuilder builder) {
+        for (int i = 0; i < value.length(); ++i) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append("\\u00");
+                        builder.append(Character.forDigit(c >> 4, 16));
+                        builder.append(Character.forDigit(c & 0xF, 16));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private final List<String> names = new ArrayList<>();
+        private final List<ExchangeAttribute> attributes = new ArrayList<>();
+
+        /**
+         * Adds a field for the attribute. If a field with the same name was already added then this attribute is ignored.
+         *
+         * @param token the token the attribute was parsed from, used to derive the name of the field
+         * @param attribute the attribute
+         * @return this builder
+         */
+        public Builder add(String token, ExchangeAttribute attribute) {
+            return addField(fieldName(token), attribute);
+        }
+
+        public Builder addField(String name, ExchangeAttribute attribute) {
+            if (!names.contains(name)) {
+                names.add(name);
+                attributes.add(attribute);
+            }
+            return this;
+        }
+
+        public JsonExchangeAttribute build() {
+            return new JsonExchangeAttribute(names, attributes);
+        }
+    }
+}
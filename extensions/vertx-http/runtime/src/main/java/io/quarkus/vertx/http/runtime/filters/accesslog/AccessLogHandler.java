@@ -21,8 +21,10 @@ package io.quarkus.vertx.http.runtime.filters.accesslog;
 import java.util.Collections;
 import java.util.StringJoiner;
 
+import io.netty.util.concurrent.FastThreadLocal;
 import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
 import io.quarkus.vertx.http.runtime.attribute.ExchangeAttributeParser;
+import io.quarkus.vertx.http.runtime.attribute.JsonExchangeAttribute;
 import io.quarkus.vertx.http.runtime.attribute.SubstituteEmptyWrapper;
 import io.quarkus.vertx.http.runtime.filters.QuarkusRequestWrapper;
 import io.vertx.core.Handler;
@@ -87,15 +89,40 @@ import io.vertx.ext.web.RoutingContext;
  */
 public class AccessLogHandler implements Handler<RoutingContext> {
 
+    /**
+     * Builders larger than this are not reused, so that a single huge message does not stay in memory
+     */
+    private static final int MAX_RETAINED_BUILDER_SIZE = 16 * 1024;
+
+    /**
+     * Messages are formatted into a builder that is reused by the event loop thread
+     */
+    private static final FastThreadLocal<StringBuilder> BUILDERS = new FastThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(256);
+        }
+    };
+
     private final AccessLogReceiver accessLogReceiver;
     private final String formatString;
     private final ExchangeAttribute tokens;
 
     public AccessLogHandler(final AccessLogReceiver accessLogReceiver, final String formatString, ClassLoader classLoader) {
+        this(accessLogReceiver, formatString, false, classLoader);
+    }
+
+    /**
+     * @param json if {@code true} then each message is a JSON object with a field for each attribute of the format
+     *        string, see {@link JsonExchangeAttribute}
+     */
+    public AccessLogHandler(final AccessLogReceiver accessLogReceiver, final String formatString, boolean json,
+            ClassLoader classLoader) {
         this.accessLogReceiver = accessLogReceiver;
         this.formatString = handleCommonNames(formatString);
-        this.tokens = new ExchangeAttributeParser(classLoader, Collections.singletonList(new SubstituteEmptyWrapper("-")))
-                .parse(this.formatString);
+        ExchangeAttributeParser parser = new ExchangeAttributeParser(classLoader,
+                Collections.singletonList(new SubstituteEmptyWrapper("-")));
+        this.tokens = json ? parser.parseJson(this.formatString) : parser.parse(this.formatString);
     }
 
     public AccessLogHandler(final AccessLogReceiver accessLogReceiver, String formatString, final ExchangeAttribute attribute) {
@@ -125,7 +152,13 @@ public class AccessLogHandler implements Handler<RoutingContext> {
         QuarkusRequestWrapper.get(rc.request()).addRequestDoneHandler(new Handler<Void>() {
             @Override
             public void handle(Void event) {
-                accessLogReceiver.logMessage(tokens.readAttribute(rc));
+                StringBuilder builder = BUILDERS.get();
+                builder.setLength(0);
+                tokens.appendAttribute(rc, builder);
+                accessLogReceiver.logMessage(builder);
+                if (builder.capacity() > MAX_RETAINED_BUILDER_SIZE) {
+                    BUILDERS.remove();
+                }
             }
         });
         rc.next();
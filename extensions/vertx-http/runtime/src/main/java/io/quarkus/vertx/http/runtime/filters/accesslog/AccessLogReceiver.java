@@ -29,4 +29,14 @@ public interface AccessLogReceiver {
 
     void logMessage(final String message);
 
+    /**
+     * Logs a message that is held in a reusable buffer. The sequence is reused once this method returns, so
+     * implementations must not keep a reference to it.
+     *
+     * @param message the message
+     */
+    default void logMessage(final CharSequence message) {
+        logMessage(message.toString());
+    }
+
 }
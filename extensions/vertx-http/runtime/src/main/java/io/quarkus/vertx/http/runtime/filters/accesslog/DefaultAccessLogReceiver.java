@@ -21,21 +21,21 @@ package io.quarkus.vertx.http.runtime.filters.accesslog;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
-import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.Deque;
-import java.util.List;
 import java.util.Locale;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jboss.logging.Logger;
 
@@ -46,6 +46,11 @@ import org.jboss.logging.Logger;
  * Web threads do not touch the log file, but simply queue messages to be written later by a worker thread.
  * A lightweight CAS based locking mechanism is used to ensure than only 1 thread is active writing messages at
  * any given time
+ * <p/>
+ * The messages are encoded into a bounded lock-free ring buffer. If the buffer is full then new messages are either
+ * queued in an unbounded overflow queue, or dropped and counted if the receiver is built with
+ * {@link Builder#setDropWhenFull(boolean)}, see {@link #getDroppedMessages()}. The worker writes the messages in
+ * batches, either as soon as the batch size is reached or when {@link #flush()} is called.
  *
  * @author Stuart Douglas
  */
@@ -55,9 +60,28 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
 
     private static final String DEFAULT_LOG_SUFFIX = "log";
 
+    public static final int DEFAULT_QUEUE_SIZE = 8192;
+
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
     private final Executor logWriteExecutor;
 
-    private final Deque<String> pendingMessages;
+    private final MessageQueue pendingMessages;
+
+    /**
+     * The messages that did not fit in the ring buffer, written once the ring buffer is drained
+     */
+    private final Queue<String> overflowMessages = new ConcurrentLinkedQueue<>();
+
+    private final boolean dropWhenFull;
+
+    private final int batchSize;
+
+    private final AtomicLong droppedMessages = new AtomicLong();
+
+    private long reportedDroppedMessages;
 
     //0 = not running
     //1 = queued
@@ -78,7 +102,8 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
     private final String logBaseName;
     private final String logNameSuffix;
 
-    private Writer writer = null;
+    private FileChannel channel = null;
+    private ByteBuffer buffer = null;
 
     private volatile boolean closed = false;
     private boolean initialRun = true;
@@ -110,18 +135,24 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
 
     public DefaultAccessLogReceiver(final Executor logWriteExecutor, final Path outputDirectory, final String logBaseName,
             final String logNameSuffix, boolean rotate) {
-        this(logWriteExecutor, outputDirectory, logBaseName, logNameSuffix, rotate, null);
+        this(logWriteExecutor, outputDirectory, logBaseName, logNameSuffix, rotate, null, DEFAULT_QUEUE_SIZE, 1, false);
     }
 
     private DefaultAccessLogReceiver(final Executor logWriteExecutor, final Path outputDirectory, final String logBaseName,
-            final String logNameSuffix, boolean rotate, LogFileHeaderGenerator fileHeader) {
+            final String logNameSuffix, boolean rotate, LogFileHeaderGenerator fileHeader, int queueSize, int batchSize,
+            boolean dropWhenFull) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be greater than zero: " + batchSize);
+        }
         this.logWriteExecutor = logWriteExecutor;
         this.outputDirectory = outputDirectory;
         this.logBaseName = logBaseName;
         this.rotate = rotate;
         this.fileHeaderGenerator = fileHeader;
         this.logNameSuffix = (logNameSuffix != null) ? logNameSuffix : DEFAULT_LOG_SUFFIX;
-        this.pendingMessages = new ConcurrentLinkedDeque<>();
+        this.pendingMessages = new MessageQueue(queueSize);
+        this.batchSize = Math.min(batchSize, pendingMessages.capacity());
+        this.dropWhenFull = dropWhenFull;
         this.defaultLogFile = outputDirectory.resolve(logBaseName + this.logNameSuffix);
         calculateChangeOverPoint();
     }
@@ -147,7 +178,48 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
 
     @Override
     public void logMessage(final String message) {
-        this.pendingMessages.add(message);
+        logMessage((CharSequence) message);
+    }
+
+    @Override
+    public void logMessage(final CharSequence message) {
+        // Once a message overflowed, the next ones must overflow too so that the order is kept
+        if (overflowMessages.isEmpty() && pendingMessages.offer(message)) {
+            if (batchSize == 1 || pendingMessages.size() >= batchSize) {
+                scheduleWrite();
+            }
+        } else if (dropWhenFull) {
+            // The queue is full, i.e. a write was already scheduled
+            droppedMessages.incrementAndGet();
+        } else {
+            overflowMessages.add(message.toString());
+            scheduleWrite();
+        }
+    }
+
+    /**
+     * Writes the queued messages. This is done asynchronously, you cannot rely on the messages being written
+     * immediately after this method returns.
+     */
+    public void flush() {
+        if (hasPendingMessages()) {
+            scheduleWrite();
+        }
+    }
+
+    /**
+     * @return the number of messages that were dropped because the queue was full, always zero unless the receiver is
+     *         built with {@link Builder#setDropWhenFull(boolean)}
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.get();
+    }
+
+    private boolean hasPendingMessages() {
+        return !pendingMessages.isEmpty() || !overflowMessages.isEmpty();
+    }
+
+    private void scheduleWrite() {
         int state = stateUpdater.get(this);
         if (state == 0) {
             if (stateUpdater.compareAndSet(this, 0, 1)) {
@@ -182,34 +254,24 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
             }
         }
         initialRun = false;
-        List<String> messages = new ArrayList<>();
-        String msg;
-        //only grab at most 1000 messages at a time
-        for (int i = 0; i < 1000; ++i) {
-            msg = pendingMessages.poll();
-            if (msg == null) {
-                break;
-            }
-            messages.add(msg);
-        }
         try {
-            if (!messages.isEmpty()) {
-                writeMessage(messages);
+            if (hasPendingMessages()) {
+                writeMessages();
             }
+            reportDroppedMessages();
         } finally {
             stateUpdater.set(this, 0);
             //check to see if there is still more messages
             //if so then run this again
-            if (!pendingMessages.isEmpty() || forceLogRotation) {
+            if (hasPendingMessages() || forceLogRotation) {
                 if (stateUpdater.compareAndSet(this, 0, 1)) {
                     logWriteExecutor.execute(this);
                 }
             } else if (closed) {
                 try {
-                    if (writer != null) {
-                        writer.flush();
-                        writer.close();
-                        writer = null;
+                    if (channel != null) {
+                        channel.close();
+                        channel = null;
                     }
                 } catch (IOException e) {
                     log.error("Error writing access log", e);
@@ -225,7 +287,8 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
      * DO NOT USE THIS OUTSIDE OF A TEST
      */
     void awaitWrittenForTest() throws InterruptedException {
-        while (!pendingMessages.isEmpty() || forceLogRotation) {
+        while (hasPendingMessages() || forceLogRotation) {
+            flush();
             Thread.sleep(10);
         }
         while (state != 0) {
@@ -233,31 +296,77 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
         }
     }
 
-    private void writeMessage(final List<String> messages) {
+    private void writeMessages() {
         if (System.currentTimeMillis() > changeOverPoint) {
             doRotate();
         }
         try {
-            if (writer == null) {
-                boolean created = !Files.exists(defaultLogFile);
-                writer = Files.newBufferedWriter(defaultLogFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND,
+            if (buffer == null) {
+                buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+            }
+            if (channel == null) {
+                channel = FileChannel.open(defaultLogFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND,
                         StandardOpenOption.CREATE);
-                if (Files.size(defaultLogFile) == 0 && fileHeaderGenerator != null) {
+                if (channel.size() == 0 && fileHeaderGenerator != null) {
                     String header = fileHeaderGenerator.generateHeader();
                     if (header != null) {
-                        writer.write(header);
-                        writer.write("\n");
-                        writer.flush();
+                        byte[] bytes = (header + "\n").getBytes(StandardCharsets.UTF_8);
+                        write(ByteBuffer.wrap(bytes));
                     }
                 }
             }
-            for (String message : messages) {
-                writer.write(message);
-                writer.write('\n');
+            //only grab at most 1000 messages at a time, unless closing
+            for (int i = 0; i < MAX_BATCH_SIZE || closed; ++i) {
+                // the overflow messages are written once the ring buffer is drained
+                MessageQueue.Slot slot = pendingMessages.peek();
+                if (slot != null) {
+                    append(slot.bytes, slot.length);
+                    pendingMessages.release(slot);
+                } else {
+                    String message = overflowMessages.poll();
+                    if (message == null) {
+                        break;
+                    }
+                    byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+                    append(bytes, bytes.length);
+                }
             }
-            writer.flush();
+            buffer.flip();
+            write(buffer);
         } catch (IOException e) {
             log.error("Error writing access log", e);
+        } finally {
+            if (buffer != null) {
+                buffer.clear();
+            }
+        }
+    }
+
+    private void append(byte[] bytes, int length) throws IOException {
+        if (buffer.remaining() < length + 1) {
+            buffer.flip();
+            write(buffer);
+            buffer.clear();
+            if (buffer.remaining() < length + 1) {
+                // larger than the buffer, write it directly
+                write(ByteBuffer.wrap(bytes, 0, length));
+                length = 0;
+            }
+        }
+        buffer.put(bytes, 0, length).put((byte) '\n');
+    }
+
+    private void write(ByteBuffer data) throws IOException {
+        while (data.hasRemaining()) {
+            channel.write(data);
+        }
+    }
+
+    private void reportDroppedMessages() {
+        long dropped = droppedMessages.get();
+        if (dropped > reportedDroppedMessages) {
+            log.warnf("%s access log messages were dropped because the queue was full", dropped - reportedDroppedMessages);
+            reportedDroppedMessages = dropped;
         }
     }
 
@@ -267,10 +376,9 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
             return;
         }
         try {
-            if (writer != null) {
-                writer.flush();
-                writer.close();
-                writer = null;
+            if (channel != null) {
+                channel.close();
+                channel = null;
             }
             if (!Files.exists(defaultLogFile)) {
                 return;
@@ -319,6 +427,9 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
         private String logNameSuffix;
         private boolean rotate;
         private LogFileHeaderGenerator logFileHeaderGenerator;
+        private int queueSize = DEFAULT_QUEUE_SIZE;
+        private int batchSize = 1;
+        private boolean dropWhenFull;
 
         public Executor getLogWriteExecutor() {
             return logWriteExecutor;
@@ -374,9 +485,47 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
             return this;
         }
 
+        public int getQueueSize() {
+            return queueSize;
+        }
+
+        /**
+         * @param queueSize the maximum number of messages waiting to be written, rounded up to a power of two
+         */
+        public Builder setQueueSize(int queueSize) {
+            this.queueSize = queueSize;
+            return this;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        /**
+         * @param batchSize the number of queued messages that triggers a write, if greater than one then
+         *        {@link DefaultAccessLogReceiver#flush()} should be called periodically
+         */
+        public Builder setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public boolean isDropWhenFull() {
+            return dropWhenFull;
+        }
+
+        /**
+         * @param dropWhenFull if new messages should be dropped when the queue is full, by default they are queued in an
+         *        unbounded overflow queue
+         */
+        public Builder setDropWhenFull(boolean dropWhenFull) {
+            this.dropWhenFull = dropWhenFull;
+            return this;
+        }
+
         public DefaultAccessLogReceiver build() {
             return new DefaultAccessLogReceiver(logWriteExecutor, outputDirectory, logBaseName, logNameSuffix, rotate,
-                    logFileHeaderGenerator);
+                    logFileHeaderGenerator, queueSize, batchSize, dropWhenFull);
         }
     }
 }
@@ -0,0 +1,192 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded lock-free queue of UTF-8 encoded messages that supports multiple producers and a single consumer.
+ * <p>
+ * The queue is backed by a ring of slots that are reused, so that the producers encode the messages directly into the
+ * slot buffers and no message objects are allocated. Each slot holds a sequence number that tells whether it can be
+ * written by a producer or read by the consumer.
+ */
+final class MessageQueue {
+
+    /**
+     * Slot buffers larger than this are discarded once read, so that the memory retained by a queue is bounded to about
+     * {@code capacity * MAX_RETAINED_SLOT_SIZE} bytes, e.g. 8MB for the default capacity
+     */
+    static final int MAX_RETAINED_SLOT_SIZE = 1024;
+
+    private static final int INITIAL_SLOT_SIZE = 256;
+
+    private final Slot[] slots;
+    private final int mask;
+
+    /**
+     * The position of the next slot to be written
+     */
+    private final AtomicLong tail;
+
+    /**
+     * The position of the next slot to be read, only updated by the consumer
+     */
+    private volatile long head;
+
+    MessageQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be greater than zero: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot(i);
+        }
+        this.mask = size - 1;
+        this.tail = new AtomicLong();
+    }
+
+    /**
+     * Encodes the message into the next free slot.
+     *
+     * @param message the message
+     * @return {@code false} if the queue is full
+     */
+    boolean offer(CharSequence message) {
+        for (;;) {
+            long position = tail.get();
+            Slot slot = slots[(int) (position & mask)];
+            long diff = slot.sequence - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slot.encode(message);
+                    // Publish the slot to the consumer
+                    slot.sequence = position + 1;
+                    return true;
+                }
+            } else if (diff < 0) {
+                // The slot was not read yet
+                return false;
+            }
+            // Another producer claimed the slot, try again
+        }
+    }
+
+    /**
+     * Must only be called by the consumer.
+     *
+     * @return the next slot to be read, or {@code null} if there is none
+     */
+    Slot peek() {
+        long position = head;
+        Slot slot = slots[(int) (position & mask)];
+        return slot.sequence == position + 1 ? slot : null;
+    }
+
+    /**
+     * Releases the slot returned by {@link #peek()} so that it can be reused by the producers. Must only be called by
+     * the consumer.
+     */
+    void release(Slot slot) {
+        long position = head;
+        if (slot.bytes.length > MAX_RETAINED_SLOT_SIZE) {
+            slot.bytes = new byte[INITIAL_SLOT_SIZE];
+        }
+        slot.length = 0;
+        head = position + 1;
+        slot.sequence = position + slots.length;
+    }
+
+    /**
+     * @return the approximate number of messages in the queue
+     */
+    int size() {
+        long size = tail.get() - head;
+        return size < 0 ? 0 : (int) size;
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    static final class Slot {
+
+        volatile long sequence;
+        byte[] bytes;
+        int length;
+
+        Slot(long sequence) {
+            this.sequence = sequence;
+            this.bytes = new byte[INITIAL_SLOT_SIZE];
+        }
+
+        void encode(CharSequence message) {
+            int count = message.length();
+            // A char is encoded to three bytes at most, the exact length is only computed if the buffer may be too small
+            if (bytes.length < count * 3) {
+                int length = encodedLength(message);
+                if (bytes.length < length) {
+                    bytes = new byte[length];
+                }
+            }
+            byte[] bytes = this.bytes;
+            int pos = 0;
+            for (int i = 0; i < count; i++) {
+                char c = message.charAt(i);
+                if (c < 0x80) {
+                    bytes[pos++] = (byte) c;
+                } else if (c < 0x800) {
+                    bytes[pos++] = (byte) (0xC0 | (c >> 6));
+                    bytes[pos++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    if (Character.isHighSurrogate(c) && i + 1 < count && Character.isLowSurrogate(message.charAt(i + 1))) {
+                        int codePoint = Character.toCodePoint(c, message.charAt(++i));
+                        bytes[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                        bytes[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                        bytes[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                        bytes[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+                    } else {
+                        // Malformed input, same replacement as String#getBytes()
+                        bytes[pos++] = '?';
+                    }
+                } else {
+                    bytes[pos++] = (byte) (0xE0 | (c >> 12));
+                    bytes[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    bytes[pos++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            this.length = pos;
+        }
+
+        static int encodedLength(CharSequence message) {
+            int count = message.length();
+            int length = 0;
+            for (int i = 0; i < count; i++) {
+                char c = message.charAt(i);
+                if (c < 0x80) {
+                    length++;
+                } else if (c < 0x800) {
+                    length += 2;
+                } else if (Character.isSurrogate(c)) {
+                    if (Character.isHighSurrogate(c) && i + 1 < count && Character.isLowSurrogate(message.charAt(i + 1))) {
+                        i++;
+                        length += 4;
+                    } else {
+                        length++;
+                    }
+                } else {
+                    length += 3;
+                }
+            }
+            return length;
+        }
+
+    }
+
+}
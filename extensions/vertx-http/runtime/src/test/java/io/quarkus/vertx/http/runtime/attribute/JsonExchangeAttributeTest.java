@@ -0,0 +1,47 @@
+package io.quarkus.vertx.http.runtime.attribute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+class JsonExchangeAttributeTest {
+
+    @Test
+    void testFieldNames() {
+        assertThat(JsonExchangeAttribute.fieldName("%h")).isEqualTo("remoteHost");
+        assertThat(JsonExchangeAttribute.fieldName("%{REMOTE_HOST}")).isEqualTo("remoteHost");
+        assertThat(JsonExchangeAttribute.fieldName("%s")).isEqualTo("responseCode");
+        assertThat(JsonExchangeAttribute.fieldName("%{RESPONSE_TIME_MICROS}")).isEqualTo("responseTimeMicros");
+        assertThat(JsonExchangeAttribute.fieldName("%{i,User-Agent}")).isEqualTo("requestHeader.User-Agent");
+        assertThat(JsonExchangeAttribute.fieldName("%{o,Content-Type}")).isEqualTo("responseHeader.Content-Type");
+        assertThat(JsonExchangeAttribute.fieldName("%{time,yyyy-MM-dd}")).isEqualTo("time");
+    }
+
+    @Test
+    void testWriteJson() {
+        ExchangeAttribute attribute = JsonExchangeAttribute.builder()
+                .add("%r", new ConstantExchangeAttribute("GET /\"quoted\"\\path\u0001 HTTP/1.1"))
+                .add("%s", new ConstantExchangeAttribute("200"))
+                .add("%{RESPONSE_TIME}", new ConstantExchangeAttribute("12"))
+                .add("%b", new ConstantExchangeAttribute("-"))
+                .add("%u", NullAttribute.INSTANCE)
+                .add("%{i,X-Multi}", new ConstantExchangeAttribute("a\nb"))
+                // Ignored, the field was already added
+                .add("%{RESPONSE_CODE}", new ConstantExchangeAttribute("404"))
+                .build();
+        assertThat(attribute.readAttribute(null)).isEqualTo(
+                "{\"requestLine\":\"GET /\\\"quoted\\\"\\\\path\\u0001 HTTP/1.1\",\"responseCode\":200,\"responseTime\":12,"
+                        + "\"bytesSent\":\"-\",\"requestHeader.X-Multi\":\"a\\nb\"}");
+    }
+
+    @Test
+    void testParseJson() {
+        ExchangeAttribute attribute = new ExchangeAttributeParser(Collections.emptyList())
+                .parseJson("%{NULL} \"100%%\"");
+        // Literal text is not written
+        assertThat(attribute.readAttribute(null)).isEqualTo("{}");
+    }
+
+}
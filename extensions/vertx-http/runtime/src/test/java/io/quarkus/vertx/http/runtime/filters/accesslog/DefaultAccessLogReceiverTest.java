@@ -0,0 +1,171 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DefaultAccessLogReceiverTest {
+
+    @TempDir
+    Path logDirectory;
+
+    @Test
+    void testWriteMessages() throws IOException {
+        DefaultAccessLogReceiver receiver = DefaultAccessLogReceiver.builder()
+                .setLogWriteExecutor(Runnable::run)
+                .setOutputDirectory(logDirectory)
+                .setLogBaseName("server.")
+                .build();
+        StringBuilder builder = new StringBuilder("GET /foo 200");
+        receiver.logMessage(builder);
+        builder.setLength(0);
+        builder.append("GET /čšž/😀 404");
+        receiver.logMessage(builder);
+        receiver.logMessage("POST /bar 500");
+        assertThat(read()).isEqualTo("GET /foo 200\nGET /čšž/😀 404\nPOST /bar 500\n");
+    }
+
+    @Test
+    void testLargeMessage() throws IOException {
+        DefaultAccessLogReceiver receiver = DefaultAccessLogReceiver.builder()
+                .setLogWriteExecutor(Runnable::run)
+                .setOutputDirectory(logDirectory)
+                .setLogBaseName("server.")
+                .build();
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            large.append((char) ('a' + i % 26));
+        }
+        receiver.logMessage("first");
+        receiver.logMessage(large);
+        receiver.logMessage("last");
+        assertThat(read()).isEqualTo("first\n" + large + "\nlast\n");
+    }
+
+    @Test
+    void testBatchAndDropOnOverflow() throws IOException {
+        ManualExecutor executor = new ManualExecutor();
+        DefaultAccessLogReceiver receiver = DefaultAccessLogReceiver.builder()
+                .setLogWriteExecutor(executor)
+                .setOutputDirectory(logDirectory)
+                .setLogBaseName("server.")
+                .setQueueSize(4)
+                .setBatchSize(2)
+                .setDropWhenFull(true)
+                .build();
+        receiver.logMessage("1");
+        assertThat(executor.tasks).isEmpty();
+        receiver.logMessage("2");
+        // The batch size is reached
+        assertThat(executor.tasks).hasSize(1);
+        receiver.logMessage("3");
+        receiver.logMessage("4");
+        receiver.logMessage("5");
+        receiver.logMessage("6");
+        assertThat(receiver.getDroppedMessages()).isEqualTo(2);
+        executor.runAll();
+        assertThat(read()).isEqualTo("1\n2\n3\n4\n");
+
+        receiver.logMessage("7");
+        assertThat(executor.tasks).isEmpty();
+        receiver.flush();
+        executor.runAll();
+        assertThat(read()).isEqualTo("1\n2\n3\n4\n7\n");
+        assertThat(receiver.getDroppedMessages()).isEqualTo(2);
+    }
+
+    @Test
+    void testQueueOnOverflow() throws IOException {
+        ManualExecutor executor = new ManualExecutor();
+        DefaultAccessLogReceiver receiver = DefaultAccessLogReceiver.builder()
+                .setLogWriteExecutor(executor)
+                .setOutputDirectory(logDirectory)
+                .setLogBaseName("server.")
+                .setQueueSize(2)
+                .setBatchSize(2)
+                .build();
+        for (int i = 1; i <= 5; i++) {
+            receiver.logMessage("" + i);
+        }
+        // The messages that do not fit in the queue are kept and written after the queued ones
+        assertThat(executor.tasks).hasSize(1);
+        executor.runAll();
+        assertThat(read()).isEqualTo("1\n2\n3\n4\n5\n");
+        receiver.logMessage("6");
+        receiver.flush();
+        executor.runAll();
+        assertThat(read()).isEqualTo("1\n2\n3\n4\n5\n6\n");
+        assertThat(receiver.getDroppedMessages()).isZero();
+    }
+
+    @Test
+    void testSlotSize() {
+        MessageQueue queue = new MessageQueue(1);
+        StringBuilder message = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            message.append('a');
+        }
+        assertThat(queue.offer(message)).isTrue();
+        MessageQueue.Slot slot = queue.peek();
+        // The slot is not sized for the worst case of three bytes per char
+        assertThat(slot.bytes.length).isEqualTo(1000);
+        queue.release(slot);
+        message.append("čšž😀");
+        assertThat(queue.offer(message)).isTrue();
+        slot = queue.peek();
+        assertThat(slot.length).isEqualTo(1000 + 6 + 4);
+        assertThat(new String(slot.bytes, 0, slot.length, StandardCharsets.UTF_8)).isEqualTo(message.toString());
+        queue.release(slot);
+        // Slots larger than the retention cap are discarded once read
+        assertThat(slot.bytes.length).isLessThanOrEqualTo(MessageQueue.MAX_RETAINED_SLOT_SIZE);
+    }
+
+    @Test
+    void testCloseWritesPendingMessages() throws IOException {
+        ManualExecutor executor = new ManualExecutor();
+        DefaultAccessLogReceiver receiver = DefaultAccessLogReceiver.builder()
+                .setLogWriteExecutor(executor)
+                .setOutputDirectory(logDirectory)
+                .setLogBaseName("server.")
+                .setBatchSize(10)
+                .build();
+        receiver.logMessage("1");
+        receiver.logMessage("2");
+        assertThat(executor.tasks).isEmpty();
+        // The pending batch is written when the receiver is closed, i.e. even if it is never flushed
+        receiver.close();
+        executor.runAll();
+        assertThat(read()).isEqualTo("1\n2\n");
+    }
+
+    private String read() throws IOException {
+        return new String(Files.readAllBytes(logDirectory.resolve("server.log")), StandardCharsets.UTF_8);
+    }
+
+    static class ManualExecutor implements Executor {
+
+        final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.remove(0).run();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,39 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.Components;
+import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.InjectableBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Registers the same number of request scoped beans with and without a request context index, as if the first ones
+ * were generated by the bean processor and the others were custom beans.
+ */
+public class BenchmarkComponentsProvider implements ComponentsProvider {
+
+    static final int BEANS = 10;
+
+    static final List<InjectableBean<?>> INDEXED_BEANS;
+    static final List<InjectableBean<?>> PLAIN_BEANS;
+
+    static {
+        List<InjectableBean<?>> indexed = new ArrayList<>();
+        List<InjectableBean<?>> plain = new ArrayList<>();
+        for (int i = 0; i < BEANS; i++) {
+            indexed.add(new RequestScopedBean("indexed_" + i, i));
+            plain.add(new RequestScopedBean("plain_" + i, -1));
+        }
+        INDEXED_BEANS = Collections.unmodifiableList(indexed);
+        PLAIN_BEANS = Collections.unmodifiableList(plain);
+    }
+
+    @Override
+    public Components getComponents() {
+        List<InjectableBean<?>> beans = new ArrayList<>(INDEXED_BEANS);
+        beans.addAll(PLAIN_BEANS);
+        return new Components(beans, Collections.emptyList(), Collections.emptyList(), Collections.emptyMap());
+    }
+
+}
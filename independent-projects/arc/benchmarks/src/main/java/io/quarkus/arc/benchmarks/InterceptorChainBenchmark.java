@@ -0,0 +1,79 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.impl.InterceptorInvocation;
+import io.quarkus.arc.impl.InvocationContexts;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import javax.interceptor.InvocationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the generic around invoke interceptor chain, where each interceptor gets a new invocation context, with the fused
+ * chain, where all interceptors share a single invocation context and the forwarding function is reused.
+ * <p>
+ * The benchmark methods mimic the code of a generated intercepted subclass method. Run with {@code -prof gc} to see the
+ * allocation per call ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterceptorChainBenchmark {
+
+    @Param({ "1", "4" })
+    int interceptors;
+
+    Method method;
+    List<InterceptorInvocation> chain;
+    Set<Annotation> bindings;
+    Function<InvocationContext, Object> forward;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        method = InterceptorChainBenchmark.class.getDeclaredMethod("ping", String.class);
+        chain = new ArrayList<>();
+        for (int i = 0; i < interceptors; i++) {
+            PassThroughInterceptor interceptor = new PassThroughInterceptor("interceptor_" + i, i);
+            chain.add(InterceptorInvocation.aroundInvoke(interceptor, interceptor));
+        }
+        bindings = Collections.emptySet();
+        // A fused chain shares the forwarding function created in the constructor of the subclass
+        forward = ctx -> ping((String) ctx.getParameters()[0]);
+    }
+
+    @Benchmark
+    public Object generic() throws Exception {
+        Object[] params = new Object[] { "foo" };
+        return InvocationContexts.performAroundInvoke(this, method, ctx -> ping((String) ctx.getParameters()[0]), params,
+                chain, bindings);
+    }
+
+    @Benchmark
+    public Object fused() throws Exception {
+        Object[] params = new Object[] { "foo" };
+        return InvocationContexts.performFusedAroundInvoke(this, method, forward, params, chain, bindings);
+    }
+
+    String ping(String value) {
+        return value;
+    }
+
+}
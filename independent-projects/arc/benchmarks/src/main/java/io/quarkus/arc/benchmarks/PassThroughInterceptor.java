@@ -0,0 +1,76 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.InjectableInterceptor;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Set;
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.InterceptionType;
+import javax.interceptor.InvocationContext;
+
+/**
+ * An around invoke interceptor that only proceeds to the next interceptor in the chain.
+ */
+public class PassThroughInterceptor implements InjectableInterceptor<PassThroughInterceptor> {
+
+    private final String identifier;
+    private final int priority;
+
+    PassThroughInterceptor(String identifier, int priority) {
+        this.identifier = identifier;
+        this.priority = priority;
+    }
+
+    @Override
+    public String getIdentifier() {
+        return identifier;
+    }
+
+    @Override
+    public Set<Type> getTypes() {
+        return Collections.singleton(PassThroughInterceptor.class);
+    }
+
+    @Override
+    public Class<?> getBeanClass() {
+        return PassThroughInterceptor.class;
+    }
+
+    @Override
+    public Set<Annotation> getInterceptorBindings() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public boolean intercepts(InterceptionType type) {
+        return InterceptionType.AROUND_INVOKE == type;
+    }
+
+    @Override
+    public Object intercept(InterceptionType type, PassThroughInterceptor instance, InvocationContext ctx)
+            throws Exception {
+        return ctx.proceed();
+    }
+
+    @Override
+    public int getPriority() {
+        return priority;
+    }
+
+    @Override
+    public PassThroughInterceptor create(CreationalContext<PassThroughInterceptor> creationalContext) {
+        return this;
+    }
+
+    @Override
+    public PassThroughInterceptor get(CreationalContext<PassThroughInterceptor> creationalContext) {
+        return create(creationalContext);
+    }
+
+    @Override
+    public String toString() {
+        return identifier;
+    }
+
+}
@@ -0,0 +1,110 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.impl.ClientProxies;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the cost of the request context operations for the beans that have a request context index, whose instances
+ * are kept in an array, and for the beans that do not, whose instances are kept in a map.
+ * <p>
+ * The states are per thread because the request context is bound to the current thread.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestContextBenchmark {
+
+    @Param({ "true", "false" })
+    boolean indexed;
+
+    ManagedContext requestContext;
+    List<InjectableBean<?>> beans;
+
+    @Setup
+    public void setup() {
+        requestContext = Arc.initialize().requestContext();
+        beans = indexed ? BenchmarkComponentsProvider.INDEXED_BEANS : BenchmarkComponentsProvider.PLAIN_BEANS;
+    }
+
+    @TearDown
+    public void tearDown() {
+        Arc.shutdown();
+    }
+
+    /**
+     * An empty request.
+     */
+    @Benchmark
+    public void activateDestroy() {
+        requestContext.activate();
+        requestContext.terminate();
+    }
+
+    /**
+     * A request that uses all the beans twice, through their client proxies.
+     */
+    @Benchmark
+    public void activateLookupDestroy(Blackhole blackhole) {
+        requestContext.activate();
+        for (InjectableBean<?> bean : beans) {
+            blackhole.consume(ClientProxies.getDelegate(bean));
+        }
+        for (InjectableBean<?> bean : beans) {
+            blackhole.consume(ClientProxies.getDelegate(bean));
+        }
+        requestContext.terminate();
+    }
+
+    /**
+     * The lookup of instances that already exist in the active request context.
+     */
+    @Benchmark
+    public void lookup(ActiveRequest request, Blackhole blackhole) {
+        for (InjectableBean<?> bean : beans) {
+            blackhole.consume(ClientProxies.getDelegate(bean));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ActiveRequest {
+
+        ManagedContext requestContext;
+
+        @Setup(Level.Iteration)
+        public void activate(RequestContextBenchmark benchmark) {
+            requestContext = benchmark.requestContext;
+            requestContext.activate();
+            for (InjectableBean<?> bean : benchmark.beans) {
+                ClientProxies.getDelegate(bean);
+            }
+        }
+
+        @TearDown(Level.Iteration)
+        public void terminate() {
+            requestContext.terminate();
+        }
+
+    }
+
+}
@@ -0,0 +1,64 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.InjectableBean;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Set;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.context.spi.CreationalContext;
+
+/**
+ * A request scoped bean, with or without a request context index, whose instances are plain objects.
+ */
+public class RequestScopedBean implements InjectableBean<Object> {
+
+    private final String identifier;
+    private final int requestContextIndex;
+
+    RequestScopedBean(String identifier, int requestContextIndex) {
+        this.identifier = identifier;
+        this.requestContextIndex = requestContextIndex;
+    }
+
+    @Override
+    public String getIdentifier() {
+        return identifier;
+    }
+
+    @Override
+    public int getRequestContextIndex() {
+        return requestContextIndex;
+    }
+
+    @Override
+    public Class<? extends Annotation> getScope() {
+        return RequestScoped.class;
+    }
+
+    @Override
+    public Set<Type> getTypes() {
+        return Collections.singleton(Object.class);
+    }
+
+    @Override
+    public Class<?> getBeanClass() {
+        return RequestScopedBean.class;
+    }
+
+    @Override
+    public Object create(CreationalContext<Object> creationalContext) {
+        return new Object();
+    }
+
+    @Override
+    public Object get(CreationalContext<Object> creationalContext) {
+        return create(creationalContext);
+    }
+
+    @Override
+    public String toString() {
+        return identifier;
+    }
+
+}
@@ -1,5 +1,6 @@
 package io.quarkus.arc.processor;
 
+import io.quarkus.arc.AsyncObserverExecutor;
 import io.quarkus.arc.Lock;
 import io.quarkus.arc.impl.ActivateRequestContextInterceptor;
 import io.quarkus.arc.impl.InjectableRequestContextController;
@@ -66,6 +67,7 @@ public final class BeanArchives {
         index(indexer, Intercepted.class.getName());
         index(indexer, Model.class.getName());
         index(indexer, Lock.class.getName());
+        index(indexer, AsyncObserverExecutor.class.getName());
         // Arc built-in beans
         index(indexer, ActivateRequestContextInterceptor.class.getName());
         index(indexer, InjectableRequestContextController.class.getName());
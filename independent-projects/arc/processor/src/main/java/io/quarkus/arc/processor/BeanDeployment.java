@@ -281,6 +281,10 @@ public class BeanDeployment {
                 if (!bean.isRemovable()) {
                     continue test;
                 }
+                // Executors of async observers are looked up when an event is fired
+                if (bean.getQualifiers().stream().anyMatch(q -> q.name().equals(DotNames.ASYNC_OBSERVER_EXECUTOR))) {
+                    continue test;
+                }
                 // Custom exclusions
                 for (Predicate<BeanInfo> exclusion : allUnusedExclusions) {
                     if (exclusion.test(bean)) {
@@ -337,6 +341,14 @@ public class BeanDeployment {
 
         buildContext.putInternal(BuildExtension.Key.REMOVED_BEANS.asString(), Collections.unmodifiableSet(removedBeans));
 
+        // Assign a dense index to each request scoped bean so that the request context can use an array
+        int requestContextIndex = 0;
+        for (BeanInfo bean : beans) {
+            if (BuiltinScope.REQUEST.is(bean.getScope())) {
+                bean.setRequestContextIndex(requestContextIndex++);
+            }
+        }
+
         LOGGER.debugf("Bean deployment initialized in %s ms", System.currentTimeMillis() - start);
     }
 
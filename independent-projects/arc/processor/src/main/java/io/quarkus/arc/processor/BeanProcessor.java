@@ -66,6 +66,7 @@ public class BeanProcessor {
     private final boolean generateSources;
     private final boolean allowMocking;
     private final boolean transformUnproxyableClasses;
+    private final List<Predicate<InterceptorInfo>> fusibleInterceptors;
 
     // This predicate is used to filter annotations for InjectionPoint metadata
     // Note that we do create annotation literals for all annotations for an injection point that resolves to a @Dependent bean that injects the InjectionPoint metadata
@@ -82,6 +83,7 @@ public class BeanProcessor {
         this.generateSources = builder.generateSources;
         this.allowMocking = builder.allowMocking;
         this.transformUnproxyableClasses = builder.transformUnproxyableClasses;
+        this.fusibleInterceptors = builder.fusibleInterceptors;
 
         // Initialize all build processors
         buildContext = new BuildContextImpl();
@@ -161,7 +163,7 @@ public class BeanProcessor {
                 privateMembers, generateSources, reflectionRegistration, existingClasses, beanToGeneratedName,
                 injectionPointAnnotationsPredicate);
         SubclassGenerator subclassGenerator = new SubclassGenerator(annotationLiterals, applicationClassPredicate,
-                generateSources, reflectionRegistration, existingClasses);
+                generateSources, reflectionRegistration, existingClasses, fusibleInterceptors);
         ObserverGenerator observerGenerator = new ObserverGenerator(annotationLiterals, applicationClassPredicate,
                 privateMembers, generateSources, reflectionRegistration, existingClasses, observerToGeneratedName,
                 injectionPointAnnotationsPredicate, allowMocking);
@@ -283,6 +285,7 @@ public class BeanProcessor {
 
         AlternativePriorities alternativePriorities;
         final List<Predicate<ClassInfo>> excludeTypes;
+        final List<Predicate<InterceptorInfo>> fusibleInterceptors;
 
         Predicate<DotName> applicationClassPredicate;
 
@@ -312,6 +315,7 @@ public class BeanProcessor {
             allowMocking = false;
 
             excludeTypes = new ArrayList<>();
+            fusibleInterceptors = new ArrayList<>();
 
             applicationClassPredicate = dn -> true;
         }
@@ -519,6 +523,22 @@ public class BeanProcessor {
             return this;
         }
 
+        /**
+         * Interceptors that match the given predicate are considered fusible. A fusible interceptor always invokes
+         * {@link javax.interceptor.InvocationContext#proceed()} synchronously on the calling thread, i.e. it does not
+         * continue the chain asynchronously after it returns.
+         * <p>
+         * If all around invoke interceptors bound to an intercepted method are fusible then the generated subclass uses a
+         * single invocation context for the whole interceptor chain and reuses the forwarding function.
+         *
+         * @param predicate
+         * @return self
+         */
+        public Builder addFusibleInterceptor(Predicate<InterceptorInfo> predicate) {
+            this.fusibleInterceptors.add(predicate);
+            return this;
+        }
+
         public BeanProcessor build() {
             return new BeanProcessor(this);
         }
@@ -7,6 +7,7 @@ import io.quarkus.arc.processor.InjectionTargetInfo.TargetKind;
 import io.quarkus.gizmo.Gizmo;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -39,6 +40,10 @@ final class Beans {
 
     static final Logger LOGGER = Logger.getLogger(Beans.class);
 
+    // Types of the beans that are added by the container at runtime
+    private static final Set<DotName> RUNTIME_BUILTIN_TYPES = new HashSet<>(
+            Arrays.asList(DotNames.OBJECT, DotNames.INSTANCE, DotNames.EVENT, DotNames.BEAN_MANAGER));
+
     private Beans() {
     }
 
@@ -511,6 +516,58 @@ final class Beans {
         message.append(target);
     }
 
+    /**
+     * Resolves the beans of a programmatic lookup the same way the container does at runtime, i.e. if the ambiguity cannot
+     * be resolved all the matching beans are returned.
+     *
+     * @param deployment
+     * @param requiredType
+     * @param requiredQualifiers
+     * @return the resolved beans, or {@code null} if the beans can only be resolved at runtime
+     */
+    static List<BeanInfo> resolveProgrammaticLookup(BeanDeployment deployment, Type requiredType,
+            Set<AnnotationInstance> requiredQualifiers) {
+        if (requiredType.kind() == Kind.WILDCARD_TYPE || containsTypeVariable(requiredType)
+                || RUNTIME_BUILTIN_TYPES.contains(requiredType.name())) {
+            // The built-in beans only exist at runtime
+            return null;
+        }
+        List<BeanInfo> matching = deployment.beanResolver.resolve(new TypeAndQualifiers(requiredType, requiredQualifiers));
+        if (matching.isEmpty()) {
+            // Let the container report the problem
+            return null;
+        } else if (matching.size() > 1) {
+            BeanInfo selected = resolveAmbiguity(matching);
+            if (selected != null) {
+                return Collections.singletonList(selected);
+            }
+        }
+        return matching;
+    }
+
+    private static boolean containsTypeVariable(Type type) {
+        switch (type.kind()) {
+            case TYPE_VARIABLE:
+            case UNRESOLVED_TYPE_VARIABLE:
+                return true;
+            case PARAMETERIZED_TYPE:
+                for (Type argument : type.asParameterizedType().arguments()) {
+                    if (containsTypeVariable(argument)) {
+                        return true;
+                    }
+                }
+                return false;
+            case ARRAY:
+                return containsTypeVariable(type.asArrayType().component());
+            case WILDCARD_TYPE:
+                Type bound = type.asWildcardType().superBound() != null ? type.asWildcardType().superBound()
+                        : type.asWildcardType().extendsBound();
+                return containsTypeVariable(bound);
+            default:
+                return false;
+        }
+    }
+
     static BeanInfo resolveAmbiguity(Collection<BeanInfo> resolved) {
         List<BeanInfo> resolvedAmbiguity = new ArrayList<>(resolved);
         // First eliminate default beans
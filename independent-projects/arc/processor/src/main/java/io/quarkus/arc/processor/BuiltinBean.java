@@ -19,12 +19,14 @@ import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import java.lang.reflect.Member;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type.Kind;
 
 /**
  *
@@ -55,11 +57,28 @@ enum BuiltinBean {
             default:
                 throw new IllegalStateException("Unsupported target info: " + ctx.targetInfo);
         }
+        // If the beans can be resolved at build time, pass their identifiers so that the container does not have to
+        ResultHandle resolvedBeanIdsHandle;
+        List<BeanInfo> resolvedBeans = null;
+        if (ctx.injectionPoint.getRequiredType().kind() == Kind.PARAMETERIZED_TYPE) {
+            resolvedBeans = Beans.resolveProgrammaticLookup(ctx.beanDeployment,
+                    ctx.injectionPoint.getRequiredType().asParameterizedType().arguments().get(0),
+                    ctx.injectionPoint.getRequiredQualifiers());
+        }
+        if (resolvedBeans != null) {
+            resolvedBeanIdsHandle = ctx.constructor.newArray(String.class, resolvedBeans.size());
+            for (int i = 0; i < resolvedBeans.size(); i++) {
+                ctx.constructor.writeArrayValue(resolvedBeanIdsHandle, i,
+                        ctx.constructor.load(resolvedBeans.get(i).getIdentifier()));
+            }
+        } else {
+            resolvedBeanIdsHandle = ctx.constructor.loadNull();
+        }
         ResultHandle instanceProvider = ctx.constructor.newInstance(
                 MethodDescriptor.ofConstructor(InstanceProvider.class, java.lang.reflect.Type.class, Set.class,
-                        InjectableBean.class, Set.class, Member.class, int.class),
+                        InjectableBean.class, Set.class, Member.class, int.class, String[].class),
                 parameterizedType, qualifiers, beanHandle, annotationsHandle, javaMemberHandle,
-                ctx.constructor.load(ctx.injectionPoint.getPosition()));
+                ctx.constructor.load(ctx.injectionPoint.getPosition()), resolvedBeanIdsHandle);
         ResultHandle instanceProviderSupplier = ctx.constructor.newInstance(
                 MethodDescriptors.FIXED_VALUE_SUPPLIER_CONSTRUCTOR, instanceProvider);
         ctx.constructor.writeInstanceField(
@@ -1,6 +1,7 @@
 package io.quarkus.arc.processor;
 
 import io.quarkus.arc.AlternativePriority;
+import io.quarkus.arc.AsyncObserverExecutor;
 import io.quarkus.arc.DefaultBean;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableInstance;
@@ -99,6 +100,7 @@ public final class DotNames {
     public static final DotName OPTIONAL_DOUBLE = create(OptionalDouble.class);
     public static final DotName NAMED = create(Named.class);
     public static final DotName ACTIVATE_REQUEST_CONTEXT = create(ActivateRequestContext.class);
+    public static final DotName ASYNC_OBSERVER_EXECUTOR = create(AsyncObserverExecutor.class);
     public static final DotName TRANSACTION_PHASE = create(TransactionPhase.class);
     public static final DotName INITIALIZED = create(Initialized.class);
     public static final DotName TRANSIENT_REFERENCE = create(TransientReference.class);
@@ -163,6 +163,12 @@ public final class MethodDescriptors {
             Object.class, Object.class, Method.class, Function.class, Object[].class, List.class,
             Set.class);
 
+    public static final MethodDescriptor INVOCATION_CONTEXTS_PERFORM_FUSED_AROUND_INVOKE = MethodDescriptor.ofMethod(
+            InvocationContexts.class,
+            "performFusedAroundInvoke",
+            Object.class, Object.class, Method.class, Function.class, Object[].class, List.class,
+            Set.class);
+
     public static final MethodDescriptor INVOCATION_CONTEXTS_AROUND_CONSTRUCT = MethodDescriptor.ofMethod(
             InvocationContexts.class,
             "aroundConstruct",
@@ -226,6 +232,10 @@ public final class MethodDescriptors {
             InterceptedMethodMetadata.class,
             List.class, Method.class, Set.class);
 
+    public static final MethodDescriptor INTERCEPTED_METHOD_METADATA_FUSED_CONSTRUCTOR = MethodDescriptor.ofConstructor(
+            InterceptedMethodMetadata.class,
+            List.class, Method.class, Set.class, Function.class);
+
     public static final MethodDescriptor CREATIONAL_CTX_HAS_DEPENDENT_INSTANCES = MethodDescriptor.ofMethod(
             CreationalContextImpl.class,
             "hasDependentInstances", boolean.class);
@@ -69,10 +69,13 @@ public class SubclassGenerator extends AbstractGenerator {
             List.class);
     protected static final FieldDescriptor FIELD_METADATA_BINDINGS = FieldDescriptor.of(InterceptedMethodMetadata.class,
             "bindings", Set.class);
+    protected static final FieldDescriptor FIELD_METADATA_FORWARD = FieldDescriptor.of(InterceptedMethodMetadata.class,
+            "forward", Function.class);
 
     private final Predicate<DotName> applicationClassPredicate;
     private final ReflectionRegistration reflectionRegistration;
     private final Set<String> existingClasses;
+    private final List<Predicate<InterceptorInfo>> fusibleInterceptors;
 
     static String generatedName(DotName providerTypeName, String baseName) {
         String packageName = DotNames.internalPackageNameWithTrailingSlash(providerTypeName);
@@ -84,11 +87,19 @@ public class SubclassGenerator extends AbstractGenerator {
     public SubclassGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
             boolean generateSources, ReflectionRegistration reflectionRegistration,
             Set<String> existingClasses) {
+        this(annotationLiterals, applicationClassPredicate, generateSources, reflectionRegistration, existingClasses,
+                Collections.emptyList());
+    }
+
+    public SubclassGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
+            boolean generateSources, ReflectionRegistration reflectionRegistration,
+            Set<String> existingClasses, List<Predicate<InterceptorInfo>> fusibleInterceptors) {
         super(generateSources);
         this.applicationClassPredicate = applicationClassPredicate;
         this.annotationLiterals = annotationLiterals;
         this.reflectionRegistration = reflectionRegistration;
         this.existingClasses = existingClasses;
+        this.fusibleInterceptors = fusibleInterceptors;
     }
 
     /**
@@ -309,10 +320,21 @@ public class SubclassGenerator extends AbstractGenerator {
             ResultHandle bindingsHandle = bindings.computeIfAbsent(
                     interceptedMethod.bindings.stream().map(BindingKey::new).collect(Collectors.toList()), bindingsFun);
 
+            // 4. Fused chains share the forwarding function
+            boolean fused = isFused(interceptedMethod.interceptors);
+
             // Now create metadata for the given intercepted method
-            ResultHandle methodMetadataHandle = constructor.newInstance(
-                    MethodDescriptors.INTERCEPTED_METHOD_METADATA_CONSTRUCTOR,
-                    chainHandle, methodHandle, bindingsHandle);
+            ResultHandle methodMetadataHandle;
+            if (fused) {
+                FunctionCreator forward = createForwardingFunction(constructor, method, providerTypeName);
+                methodMetadataHandle = constructor.newInstance(
+                        MethodDescriptors.INTERCEPTED_METHOD_METADATA_FUSED_CONSTRUCTOR,
+                        chainHandle, methodHandle, bindingsHandle, forward.getInstance());
+            } else {
+                methodMetadataHandle = constructor.newInstance(
+                        MethodDescriptors.INTERCEPTED_METHOD_METADATA_CONSTRUCTOR,
+                        chainHandle, methodHandle, bindingsHandle);
+            }
             // metadata.put("m1", new SubclassMethodMetadata(...))
             constructor.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, metadataHandle, methodIdHandle, methodMetadataHandle);
 
@@ -322,7 +344,7 @@ public class SubclassGenerator extends AbstractGenerator {
             // Finally create the forwarding method
             createForwardingMethod(classOutput, bean, method, methodId, subclass, providerTypeName,
                     metadataField.getFieldDescriptor(),
-                    interceptedMethod);
+                    interceptedMethod, fused);
         }
 
         constructor.returnValue(null);
@@ -332,7 +354,7 @@ public class SubclassGenerator extends AbstractGenerator {
     private void createForwardingMethod(ClassOutput classOutput, BeanInfo bean, MethodInfo method, String methodId,
             ClassCreator subclass,
             String providerTypeName, FieldDescriptor metadataField,
-            InterceptionInfo interceptedMethod) {
+            InterceptionInfo interceptedMethod, boolean fused) {
 
         MethodDescriptor originalMethodDescriptor = MethodDescriptor.of(method);
         MethodCreator forwardMethod = subclass.getMethodCreator(originalMethodDescriptor);
@@ -362,24 +384,9 @@ public class SubclassGenerator extends AbstractGenerator {
         }
 
         // Forwarding function
-        // Function<InvocationContext, Object> forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
-        FunctionCreator func = forwardMethod.createFunction(Function.class);
-        BytecodeCreator funcBytecode = func.getBytecode();
-        ResultHandle ctxHandle = funcBytecode.getMethodParam(0);
-        ResultHandle[] superParamHandles = new ResultHandle[method.parameters().size()];
-        ResultHandle ctxParamsHandle = funcBytecode.invokeInterfaceMethod(
-                MethodDescriptor.ofMethod(InvocationContext.class, "getParameters", Object[].class),
-                ctxHandle);
-        // autoboxing is handled inside Gizmo
-        for (int i = 0; i < superParamHandles.length; i++) {
-            superParamHandles[i] = funcBytecode.readArrayValue(ctxParamsHandle, i);
-        }
-        ResultHandle superResult = funcBytecode.invokeSpecialMethod(
-                MethodDescriptor.ofMethod(providerTypeName, method.name(), method.returnType().name().toString(),
-                        method.parameters().stream().map(p -> p.name().toString()).collect(Collectors.toList())
-                                .toArray(new String[0])),
-                forwardMethod.getThis(), superParamHandles);
-        funcBytecode.returnValue(superResult != null ? superResult : funcBytecode.loadNull());
+        // A fused chain reuses the function created in the constructor
+        FunctionCreator func = fused ? null : createForwardingFunction(forwardMethod, method, providerTypeName);
+        boolean isVoid = method.returnType().kind() == Type.Kind.VOID;
         for (Type declaredException : method.exceptions()) {
             forwardMethod.addException(declaredException.name().toString());
         }
@@ -417,12 +424,57 @@ public class SubclassGenerator extends AbstractGenerator {
         ResultHandle methodIdHandle = tryCatch.load(methodId);
         ResultHandle methodMetadataHandle = tryCatch.invokeInterfaceMethod(MethodDescriptors.MAP_GET,
                 tryCatch.readInstanceField(metadataField, tryCatch.getThis()), methodIdHandle);
-        ResultHandle ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
-                tryCatch.getThis(),
-                tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle), func.getInstance(), paramsHandle,
-                tryCatch.readInstanceField(FIELD_METADATA_CHAIN, methodMetadataHandle),
-                tryCatch.readInstanceField(FIELD_METADATA_BINDINGS, methodMetadataHandle));
-        tryCatch.returnValue(superResult != null ? ret : null);
+        ResultHandle ret;
+        if (fused) {
+            // InvocationContexts.performFusedAroundInvoke(...)
+            ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_FUSED_AROUND_INVOKE,
+                    tryCatch.getThis(),
+                    tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle),
+                    tryCatch.readInstanceField(FIELD_METADATA_FORWARD, methodMetadataHandle), paramsHandle,
+                    tryCatch.readInstanceField(FIELD_METADATA_CHAIN, methodMetadataHandle),
+                    tryCatch.readInstanceField(FIELD_METADATA_BINDINGS, methodMetadataHandle));
+        } else {
+            ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
+                    tryCatch.getThis(),
+                    tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle), func.getInstance(), paramsHandle,
+                    tryCatch.readInstanceField(FIELD_METADATA_CHAIN, methodMetadataHandle),
+                    tryCatch.readInstanceField(FIELD_METADATA_BINDINGS, methodMetadataHandle));
+        }
+        tryCatch.returnValue(isVoid ? null : ret);
+    }
+
+    private boolean isFused(List<InterceptorInfo> interceptors) {
+        if (fusibleInterceptors.isEmpty()) {
+            return false;
+        }
+        for (InterceptorInfo interceptor : interceptors) {
+            if (fusibleInterceptors.stream().noneMatch(p -> p.test(interceptor))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private FunctionCreator createForwardingFunction(MethodCreator creator, MethodInfo method, String providerTypeName) {
+        // Function<InvocationContext, Object> forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
+        FunctionCreator func = creator.createFunction(Function.class);
+        BytecodeCreator funcBytecode = func.getBytecode();
+        ResultHandle ctxHandle = funcBytecode.getMethodParam(0);
+        ResultHandle[] superParamHandles = new ResultHandle[method.parameters().size()];
+        ResultHandle ctxParamsHandle = funcBytecode.invokeInterfaceMethod(
+                MethodDescriptor.ofMethod(InvocationContext.class, "getParameters", Object[].class),
+                ctxHandle);
+        // autoboxing is handled inside Gizmo
+        for (int i = 0; i < superParamHandles.length; i++) {
+            superParamHandles[i] = funcBytecode.readArrayValue(ctxParamsHandle, i);
+        }
+        ResultHandle superResult = funcBytecode.invokeSpecialMethod(
+                MethodDescriptor.ofMethod(providerTypeName, method.name(), method.returnType().name().toString(),
+                        method.parameters().stream().map(p -> p.name().toString()).collect(Collectors.toList())
+                                .toArray(new String[0])),
+                creator.getThis(), superParamHandles);
+        funcBytecode.returnValue(superResult != null ? superResult : funcBytecode.loadNull());
+        return func;
     }
 
     /**
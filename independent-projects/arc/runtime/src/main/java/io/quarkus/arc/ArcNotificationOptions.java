@@ -0,0 +1,102 @@
+package io.quarkus.arc;
+
+import java.util.concurrent.Executor;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.NotificationOptions;
+
+/**
+ * Custom {@link NotificationOptions} recognized by the container when an event is fired asynchronously.
+ * <p>
+ * By default, the asynchronous observers of an event are notified serially, in a single task submitted to the executor.
+ * If the {@link NotificationMode#PARALLEL} mode is used then each observer is notified in a separate task. In that case the
+ * observer ordering is not respected and each notification may happen on a different thread. The returned
+ * {@link java.util.concurrent.CompletionStage} completes when all observers were notified.
+ * <p>
+ * The {@link #METRICS} option can be used to collect the queue depth and the latency of the notifications, in both modes.
+ *
+ * <pre>
+ * <code>
+ *  class Auditor {
+ *
+ *     {@literal @Inject}
+ *     Event&lt;AuditRecord&gt; event;
+ *
+ *     void audit(AuditRecord record) {
+ *        event.fireAsync(record, ArcNotificationOptions.withParallelMode());
+ *     }
+ *  }
+ *  </code>
+ * </pre>
+ *
+ * @see Event#fireAsync(Object, NotificationOptions)
+ * @see AsyncObserverExecutor
+ * @see EventBatcher
+ */
+public final class ArcNotificationOptions {
+
+    /**
+     * The key of the notification mode option. The value may be a {@link NotificationMode} or its name.
+     */
+    public static final String MODE = "io.quarkus.arc.async.notification.mode";
+
+    /**
+     * The key of the metrics option. The value must be an {@link AsyncObserverMetrics}.
+     */
+    public static final String METRICS = "io.quarkus.arc.async.notification.metrics";
+
+    private ArcNotificationOptions() {
+    }
+
+    /**
+     *
+     * @return the options with the parallel notification mode
+     */
+    public static NotificationOptions withParallelMode() {
+        return NotificationOptions.of(MODE, NotificationMode.PARALLEL);
+    }
+
+    /**
+     *
+     * @param executor
+     * @return the options with the parallel notification mode and the given executor
+     */
+    public static NotificationOptions withParallelMode(Executor executor) {
+        return NotificationOptions.builder().setExecutor(executor).set(MODE, NotificationMode.PARALLEL).build();
+    }
+
+    /**
+     *
+     * @param metrics
+     * @return the options with the given metrics
+     */
+    public static NotificationOptions withMetrics(AsyncObserverMetrics metrics) {
+        return NotificationOptions.of(METRICS, metrics);
+    }
+
+    public enum NotificationMode {
+
+        SERIAL,
+        PARALLEL;
+
+        /**
+         *
+         * @param value
+         * @return the notification mode for the given option value, or {@code null}
+         */
+        public static NotificationMode of(Object value) {
+            if (value instanceof NotificationMode) {
+                return (NotificationMode) value;
+            }
+            if (value != null) {
+                for (NotificationMode mode : values()) {
+                    if (mode.toString().equalsIgnoreCase(value.toString())) {
+                        return mode;
+                    }
+                }
+            }
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,55 @@
+package io.quarkus.arc;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Qualifier;
+
+/**
+ * Qualifies a {@link java.util.concurrent.Executor} bean that is used to notify the asynchronous observers of the events
+ * fired with the same qualifiers.
+ * <p>
+ * If no executor is specified in the {@link javax.enterprise.event.NotificationOptions} then the container looks for an
+ * {@link java.util.concurrent.Executor} bean whose qualifiers, apart from this qualifier, {@code @Any} and {@code @Named},
+ * are exactly the qualifiers of the event. If there is no such bean then the default executor is used. The executor bean is
+ * never removed even if it's not injected anywhere, and it should be {@code @Singleton} or {@code @ApplicationScoped}.
+ *
+ * <pre>
+ * <code>
+ *  class Executors {
+ *
+ *     {@literal @Produces}
+ *     {@literal @Singleton}
+ *     {@literal @AsyncObserverExecutor}
+ *     {@literal @Audit}
+ *     ExecutorService auditExecutor() {
+ *        // Used by event.select(Audit.Literal.INSTANCE).fireAsync(record)
+ *        return Executors.newFixedThreadPool(2);
+ *     }
+ *  }
+ *  </code>
+ * </pre>
+ */
+@Qualifier
+@Retention(RUNTIME)
+@Target({ TYPE, METHOD, FIELD, PARAMETER })
+public @interface AsyncObserverExecutor {
+
+    /**
+     * Supports inline instantiation of this qualifier.
+     */
+    public static final class Literal extends AnnotationLiteral<AsyncObserverExecutor> implements AsyncObserverExecutor {
+
+        public static final Literal INSTANCE = new Literal();
+
+        private static final long serialVersionUID = 1L;
+
+    }
+
+}
@@ -0,0 +1,93 @@
+package io.quarkus.arc;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the queue depth and the delivery latency of asynchronous notifications.
+ * <p>
+ * An instance can be passed in the {@link javax.enterprise.event.NotificationOptions} of
+ * {@link javax.enterprise.event.Event#fireAsync(Object, javax.enterprise.event.NotificationOptions)} under the
+ * {@link ArcNotificationOptions#METRICS} key. The same instance may be shared by any number of events, e.g. all the events
+ * routed to the same executor, and its values can be exposed by a metrics library as gauges.
+ * <p>
+ * A notification task is submitted to the executor for each event in the serial mode and for each observer in the parallel
+ * mode. The latency of a task is the time between the {@code fireAsync()} call and the end of the task.
+ *
+ * @see ArcNotificationOptions#withMetrics(AsyncObserverMetrics)
+ */
+public final class AsyncObserverMetrics {
+
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder totalLatency = new LongAdder();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    /**
+     *
+     * @return the number of notification tasks submitted to the executor that did not start yet
+     */
+    public long getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     *
+     * @return the number of completed notification tasks
+     */
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    /**
+     *
+     * @return the average latency of the completed notification tasks
+     */
+    public Duration getAverageLatency() {
+        long count = completed.sum();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalLatency.sum() / count);
+    }
+
+    /**
+     *
+     * @return the maximum latency of the completed notification tasks
+     */
+    public Duration getMaxLatency() {
+        return Duration.ofNanos(maxLatency.get());
+    }
+
+    /**
+     * Invoked by the container when a notification task is submitted to the executor.
+     */
+    public void taskSubmitted() {
+        queueDepth.incrementAndGet();
+    }
+
+    /**
+     * Invoked by the container when a notification task was rejected by the executor.
+     */
+    public void taskRejected() {
+        queueDepth.decrementAndGet();
+    }
+
+    /**
+     * Invoked by the container when a notification task starts.
+     */
+    public void taskStarted() {
+        queueDepth.decrementAndGet();
+    }
+
+    /**
+     * Invoked by the container when a notification task completes, successfully or not.
+     *
+     * @param firedAt the value of {@link System#nanoTime()} when the event was fired
+     */
+    public void taskCompleted(long firedAt) {
+        long latency = System.nanoTime() - firedAt;
+        completed.increment();
+        totalLatency.add(latency);
+        maxLatency.accumulateAndGet(latency, Math::max);
+    }
+
+}
@@ -0,0 +1,218 @@
+package io.quarkus.arc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.NotificationOptions;
+
+/**
+ * Coalesces high-frequency payloads into batches that are fired asynchronously as {@code List<T>} events.
+ * <p>
+ * A batch is fired when it reaches the maximum size, when the maximum delay elapses after its first payload was added, or
+ * when {@link #flush()} is called. The batches are fired with {@link Event#fireAsync(Object, NotificationOptions)} and so
+ * they are delivered to the observers of {@code List<T>} events, i.e. observers that declare a batch parameter. The options
+ * may set the executor, the parallel mode and the metrics as for any other event.
+ *
+ * <pre>
+ * <code>
+ *  {@literal @Singleton}
+ *  class Auditor {
+ *
+ *     final EventBatcher&lt;AuditRecord&gt; batcher;
+ *
+ *     Auditor(Event&lt;List&lt;AuditRecord&gt;&gt; event) {
+ *        this.batcher = EventBatcher.of(event).maxSize(100).build();
+ *     }
+ *
+ *     void audit(AuditRecord record) {
+ *        batcher.add(record);
+ *     }
+ *  }
+ *
+ *  class AuditStore {
+ *
+ *     void store({@literal @ObservesAsync} List&lt;AuditRecord&gt; records) {
+ *        // ...
+ *     }
+ *  }
+ *  </code>
+ * </pre>
+ *
+ * This class is thread-safe.
+ *
+ * @param <T> the type of the batched payloads
+ */
+public final class EventBatcher<T> {
+
+    /**
+     *
+     * @param event the event used to fire the batches
+     * @return a new builder
+     */
+    public static <T> Builder<T> of(Event<List<T>> event) {
+        return new Builder<>(event);
+    }
+
+    private final Event<List<T>> event;
+    private final int maxSize;
+    private final Duration maxDelay;
+    private final ScheduledExecutorService scheduler;
+    private final NotificationOptions options;
+
+    // guarded by this
+    private List<T> batch;
+    private CompletableFuture<List<T>> batchResult;
+
+    private EventBatcher(Builder<T> builder) {
+        this.event = builder.event;
+        this.maxSize = builder.maxSize;
+        this.maxDelay = builder.maxDelay;
+        this.scheduler = builder.scheduler;
+        this.options = builder.options;
+    }
+
+    /**
+     * Adds the payload to the current batch. The batch is fired if it reached the maximum size.
+     *
+     * @param payload
+     * @return the completion stage of the batch the payload was added to
+     */
+    public CompletionStage<List<T>> add(T payload) {
+        Objects.requireNonNull(payload);
+        List<T> full = null;
+        CompletableFuture<List<T>> result;
+        synchronized (this) {
+            if (batch == null) {
+                batch = new ArrayList<>(Math.min(maxSize, 16));
+                batchResult = new CompletableFuture<>();
+                if (maxDelay != null) {
+                    List<T> scheduled = batch;
+                    scheduler.schedule(() -> flush(scheduled), maxDelay.toNanos(), TimeUnit.NANOSECONDS);
+                }
+            }
+            batch.add(payload);
+            result = batchResult;
+            if (batch.size() >= maxSize) {
+                full = batch;
+                batch = null;
+                batchResult = null;
+            }
+        }
+        if (full != null) {
+            fire(full, result);
+        }
+        return result;
+    }
+
+    /**
+     * Fires the current batch, if there is one.
+     *
+     * @return the completion stage of the fired batch
+     */
+    public CompletionStage<List<T>> flush() {
+        return flush(null);
+    }
+
+    /**
+     *
+     * @return the number of payloads in the current batch
+     */
+    public synchronized int size() {
+        return batch != null ? batch.size() : 0;
+    }
+
+    private CompletionStage<List<T>> flush(List<T> expected) {
+        List<T> current;
+        CompletableFuture<List<T>> result;
+        synchronized (this) {
+            // The scheduled flush only fires the batch it was scheduled for
+            if (batch == null || (expected != null && batch != expected)) {
+                return CompletableFuture.completedFuture(Collections.emptyList());
+            }
+            current = batch;
+            result = batchResult;
+            batch = null;
+            batchResult = null;
+        }
+        fire(current, result);
+        return result;
+    }
+
+    private void fire(List<T> batch, CompletableFuture<List<T>> result) {
+        List<T> payload = Collections.unmodifiableList(batch);
+        try {
+            event.fireAsync(payload, options).whenComplete((r, t) -> {
+                if (t != null) {
+                    result.completeExceptionally(t);
+                } else {
+                    result.complete(r);
+                }
+            });
+        } catch (RuntimeException e) {
+            // E.g. the executor rejected the notification
+            result.completeExceptionally(e);
+        }
+    }
+
+    public static final class Builder<T> {
+
+        private final Event<List<T>> event;
+        private int maxSize = 100;
+        private Duration maxDelay;
+        private ScheduledExecutorService scheduler;
+        private NotificationOptions options = NotificationOptions.builder().build();
+
+        private Builder(Event<List<T>> event) {
+            this.event = Objects.requireNonNull(event);
+        }
+
+        /**
+         *
+         * @param maxSize the maximum number of payloads in a batch, 100 by default
+         * @return self
+         */
+        public Builder<T> maxSize(int maxSize) {
+            if (maxSize < 1) {
+                throw new IllegalArgumentException("The maximum size must be positive: " + maxSize);
+            }
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * By default, a batch is only fired when it's full or flushed.
+         *
+         * @param maxDelay the maximum time a payload waits in a batch
+         * @param scheduler the scheduler used to fire the batch after the delay
+         * @return self
+         */
+        public Builder<T> maxDelay(Duration maxDelay, ScheduledExecutorService scheduler) {
+            this.maxDelay = Objects.requireNonNull(maxDelay);
+            this.scheduler = Objects.requireNonNull(scheduler);
+            return this;
+        }
+
+        /**
+         *
+         * @param options the options used to fire the batches
+         * @return self
+         */
+        public Builder<T> options(NotificationOptions options) {
+            this.options = Objects.requireNonNull(options);
+            return this;
+        }
+
+        public EventBatcher<T> build() {
+            return new EventBatcher<>(this);
+        }
+
+    }
+
+}
@@ -114,6 +114,16 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
         return false;
     }
 
+    /**
+     * The index is assigned to each {@link javax.enterprise.context.RequestScoped} bean at build time so that the request
+     * context can keep the instances in an array instead of a map.
+     *
+     * @return the index of the bean in the request context, or {@code -1} if the bean has no index
+     */
+    default int getRequestContextIndex() {
+        return -1;
+    }
+
     enum Kind {
 
         CLASS,
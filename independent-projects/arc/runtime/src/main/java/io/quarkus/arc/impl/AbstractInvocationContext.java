@@ -37,6 +37,20 @@ abstract class AbstractInvocationContext implements ArcInvocationContext, Suppli
         this.chain = chain;
     }
 
+    /**
+     * The context data holder is not initialized; a subclass that uses this constructor must override
+     * {@link #getContextData()}.
+     */
+    protected AbstractInvocationContext(Object target, Method method, Object[] parameters,
+            Set<Annotation> interceptorBindings, List<InterceptorInvocation> chain) {
+        this.target = target;
+        this.method = method;
+        this.constructor = null;
+        this.parameters = parameters;
+        this.interceptorBindings = interceptorBindings;
+        this.chain = chain;
+    }
+
     @Override
     public Map<String, Object> getContextData() {
         return contextData.get();
@@ -14,6 +14,7 @@ import javax.enterprise.context.spi.CreationalContext;
 abstract class AbstractSharedContext implements InjectableContext, InjectableContext.ContextState {
 
     private final ComputingCache<String, ContextInstanceHandle<?>> instances;
+    private volatile BeanCreationReport creationReport;
 
     public AbstractSharedContext() {
         this.instances = new ComputingCache<>();
@@ -90,10 +91,23 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
         }
     }
 
+    void setCreationReport(BeanCreationReport creationReport) {
+        this.creationReport = creationReport;
+    }
+
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    private static <T> ContextInstanceHandle createInstanceHandle(InjectableBean<T> bean,
+    private <T> ContextInstanceHandle createInstanceHandle(InjectableBean<T> bean,
             CreationalContext<T> creationalContext) {
-        return new ContextInstanceHandleImpl(bean, bean.create(creationalContext), creationalContext);
+        BeanCreationReport report = creationReport;
+        if (report == null) {
+            return new ContextInstanceHandleImpl(bean, bean.create(creationalContext), creationalContext);
+        }
+        BeanCreationReport.Creation creation = report.start(bean);
+        try {
+            return new ContextInstanceHandleImpl(bean, bean.create(creationalContext), creationalContext);
+        } finally {
+            report.end(creation);
+        }
     }
 
 }
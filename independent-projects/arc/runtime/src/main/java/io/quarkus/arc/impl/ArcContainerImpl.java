@@ -63,6 +63,7 @@ public class ArcContainerImpl implements ArcContainer {
 
     private static final Logger LOGGER = Logger.getLogger(ArcContainerImpl.class.getPackage().getName());
     private static final AtomicInteger ID_GENERATOR = new AtomicInteger();
+    private static final Annotation[] DEFAULT_QUALIFIERS = new Annotation[] { Default.Literal.INSTANCE };
 
     private final String id;
 
@@ -77,10 +78,12 @@ public class ArcContainerImpl implements ArcContainer {
 
     private final Map<Class<? extends Annotation>, Collection<InjectableContext>> contexts;
     private final ManagedContext requestContext;
-    private final InjectableContext applicationContext;
-    private final InjectableContext singletonContext;
+    private final ApplicationContext applicationContext;
+    private final SingletonContext singletonContext;
 
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
+    // Lookups with no qualifiers, e.g. instance(Foo.class), skip the construction of the Resolvable key
+    private final ComputingCache<Type, Set<InjectableBean<?>>> resolvedDefault;
     private final ComputingCache<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
 
@@ -90,6 +93,8 @@ public class ArcContainerImpl implements ArcContainer {
 
     private volatile ExecutorService executorService;
 
+    private volatile BeanCreationReport creationReport;
+
     public ArcContainerImpl() {
         id = "" + ID_GENERATOR.incrementAndGet();
         running = new AtomicBoolean(true);
@@ -100,13 +105,7 @@ public class ArcContainerImpl implements ArcContainer {
         transitiveInterceptorBindings = new HashMap<>();
         qualifierNonbindingMembers = new HashMap<>();
 
-        applicationContext = new ApplicationContext();
-        singletonContext = new SingletonContext();
-        requestContext = new RequestContext();
-        contexts = new HashMap<>();
-        putContext(requestContext);
-        putContext(applicationContext);
-        putContext(singletonContext);
+        List<InjectableContext> customContexts = new ArrayList<>();
 
         for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
             Components components = componentsProvider.getComponents();
@@ -129,17 +128,30 @@ public class ArcContainerImpl implements ArcContainer {
                     throw new IllegalStateException(
                             "Failed to register a context - built-in singleton context is always active: " + context);
                 }
-                putContext(context);
+                customContexts.add(context);
             }
             transitiveInterceptorBindings.putAll(components.getTransitiveInterceptorBindings());
             qualifierNonbindingMembers.putAll(components.getQualifierNonbindingMembers());
         }
+
+        applicationContext = new ApplicationContext();
+        singletonContext = new SingletonContext();
+        // The request context needs the beans to size its context states
+        requestContext = new RequestContext(beans);
+        contexts = new HashMap<>();
+        putContext(requestContext);
+        putContext(applicationContext);
+        putContext(singletonContext);
+        for (InjectableContext context : customContexts) {
+            putContext(context);
+        }
         // register built-in beans
         addBuiltInBeans();
 
         Collections.sort(interceptors, (i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
 
         resolved = new ComputingCache<>(this::resolve);
+        resolvedDefault = new ComputingCache<>(type -> resolved.getValue(new Resolvable(type, DEFAULT_QUALIFIERS)));
         beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
         resourceProviders = new ArrayList<>();
@@ -239,10 +251,7 @@ public class ArcContainerImpl implements ArcContainer {
     public <T> Supplier<InstanceHandle<T>> instanceSupplier(Class<T> type, Annotation... qualifiers) {
         requireRunning();
 
-        if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
-        }
-        Set<InjectableBean<?>> resolvedBeans = resolved.getValue(new Resolvable(type, qualifiers));
+        Set<InjectableBean<?>> resolvedBeans = getResolvedBeans(type, qualifiers);
         Set<InjectableBean<?>> filteredBean = resolvedBeans;
         if (resolvedBeans.size() > 1) {
             //if there are multiple beans we look for an exact match
@@ -330,6 +339,30 @@ public class ArcContainerImpl implements ArcContainer {
         this.executorService = executor;
     }
 
+    /**
+     * Start recording the creation of application scoped and singleton bean instances. Should be called before any bean
+     * instance is created.
+     *
+     * @return the report
+     */
+    public synchronized BeanCreationReport enableCreationReport() {
+        if (creationReport == null) {
+            creationReport = new BeanCreationReport();
+            applicationContext.setCreationReport(creationReport);
+            singletonContext.setCreationReport(creationReport);
+        }
+        return creationReport;
+    }
+
+    /**
+     *
+     * @return the report or {@code null} if not enabled
+     * @see #enableCreationReport()
+     */
+    public BeanCreationReport getCreationReport() {
+        return creationReport;
+    }
+
     @Override
     public String toString() {
         return "ArcContainerImpl [id=" + id + ", running=" + running + ", beans=" + beans.size() + ", observers="
@@ -375,6 +408,7 @@ public class ArcContainerImpl implements ArcContainer {
             beans.clear();
             removedBeans.clear();
             resolved.clear();
+            resolvedDefault.clear();
             observers.clear();
             running.set(false);
             InterceptedStaticMethods.clear();
@@ -445,12 +479,13 @@ public class ArcContainerImpl implements ArcContainer {
 
     @SuppressWarnings("unchecked")
     private <T> InjectableBean<T> getBean(Type requiredType, Annotation... qualifiers) {
+        Set<InjectableBean<?>> resolvedBeans;
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            resolvedBeans = resolvedDefault.getValue(requiredType);
         } else {
             Qualifiers.verify(qualifiers);
+            resolvedBeans = resolved.getValue(new Resolvable(requiredType, qualifiers));
         }
-        Set<InjectableBean<?>> resolvedBeans = resolved.getValue(new Resolvable(requiredType, qualifiers));
         return resolvedBeans.isEmpty() || resolvedBeans.size() > 1 ? null : (InjectableBean<T>) resolvedBeans.iterator().next();
     }
 
@@ -734,7 +769,7 @@ public class ArcContainerImpl implements ArcContainer {
      */
     Set<InjectableBean<?>> getResolvedBeans(Type requiredType, Annotation... qualifiers) {
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            return resolvedDefault.getValue(requiredType);
         }
         return resolved.getValue(new Resolvable(requiredType, qualifiers));
     }
@@ -0,0 +1,178 @@
+package io.quarkus.arc.impl;
+
+import io.quarkus.arc.InjectableBean;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the creation of {@link javax.enterprise.context.ApplicationScoped} and {@link javax.inject.Singleton} bean
+ * instances.
+ * <p>
+ * A creation is performed during startup unless {@link #startupCompleted()} was called before. The dependency chain of a
+ * creation is made of the creations that were in progress on the same thread, i.e. the bean instances that required the
+ * created instance.
+ */
+public class BeanCreationReport {
+
+    private final Queue<Creation> creations;
+    private final ThreadLocal<Deque<Creation>> inProgress;
+    private volatile boolean startupCompleted;
+
+    BeanCreationReport() {
+        this.creations = new ConcurrentLinkedQueue<>();
+        this.inProgress = ThreadLocal.withInitial(ArrayDeque::new);
+    }
+
+    Creation start(InjectableBean<?> bean) {
+        Deque<Creation> stack = inProgress.get();
+        Creation creation = new Creation(bean, stack.peek(), !startupCompleted);
+        stack.push(creation);
+        return creation;
+    }
+
+    void end(Creation creation) {
+        creation.duration = System.nanoTime() - creation.start;
+        Deque<Creation> stack = inProgress.get();
+        stack.remove(creation);
+        if (stack.isEmpty()) {
+            inProgress.remove();
+        }
+        creations.add(creation);
+    }
+
+    /**
+     * All subsequent creations are considered to happen on first use.
+     */
+    public void startupCompleted() {
+        startupCompleted = true;
+    }
+
+    /**
+     *
+     * @return the completed creations in the order of completion
+     */
+    public List<Creation> getCreations() {
+        return new ArrayList<>(creations);
+    }
+
+    /**
+     *
+     * @param duringStartup
+     * @return the completed creations performed during startup or on first use, the slowest first
+     */
+    public List<Creation> getCreations(boolean duringStartup) {
+        List<Creation> result = new ArrayList<>();
+        for (Creation creation : creations) {
+            if (creation.duringStartup == duringStartup) {
+                result.add(creation);
+            }
+        }
+        result.sort((c1, c2) -> Long.compare(c2.duration, c1.duration));
+        return result;
+    }
+
+    /**
+     *
+     * @param duringStartup
+     * @param limit The max number of creations listed
+     * @return a human-readable report of the creations performed during startup or on first use
+     */
+    public String format(boolean duringStartup, int limit) {
+        List<Creation> selected = getCreations(duringStartup);
+        long total = 0;
+        for (Creation creation : selected) {
+            if (creation.parent == null) {
+                // Nested creations are included in the duration of the parent
+                total += creation.duration;
+            }
+        }
+        StringBuilder builder = new StringBuilder();
+        builder.append(selected.size()).append(duringStartup ? " beans created during startup" : " beans created on first use")
+                .append(" in ").append(TimeUnit.NANOSECONDS.toMillis(total)).append(" ms");
+        int count = 0;
+        for (Creation creation : selected) {
+            if (count++ == limit) {
+                builder.append("\n\t- and ").append(selected.size() - limit).append(" more");
+                break;
+            }
+            builder.append("\n\t- ").append(creation);
+        }
+        return builder.toString();
+    }
+
+    public static final class Creation {
+
+        private final InjectableBean<?> bean;
+        private final Creation parent;
+        private final boolean duringStartup;
+        private final long start;
+        private volatile long duration;
+
+        private Creation(InjectableBean<?> bean, Creation parent, boolean duringStartup) {
+            this.bean = bean;
+            this.parent = parent;
+            this.duringStartup = duringStartup;
+            this.start = System.nanoTime();
+        }
+
+        public InjectableBean<?> getBean() {
+            return bean;
+        }
+
+        /**
+         *
+         * @return the creation that required this creation, or {@code null}
+         */
+        public Creation getParent() {
+            return parent;
+        }
+
+        /**
+         *
+         * @return the list of beans whose creation required this creation, starting with the direct parent
+         */
+        public List<InjectableBean<?>> getDependencyChain() {
+            List<InjectableBean<?>> chain = new ArrayList<>();
+            Creation current = parent;
+            while (current != null) {
+                chain.add(current.bean);
+                current = current.parent;
+            }
+            return chain;
+        }
+
+        public boolean isDuringStartup() {
+            return duringStartup;
+        }
+
+        /**
+         *
+         * @return the duration in nanoseconds, including the nested creations
+         */
+        public long getDuration() {
+            return duration;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            builder.append(TimeUnit.NANOSECONDS.toMicros(duration) / 1000.0).append(" ms ")
+                    .append(bean.getBeanClass().getName()).append(" [").append(bean.getScope().getSimpleName());
+            if (bean.getKind() != InjectableBean.Kind.CLASS) {
+                builder.append(", ").append(bean.getKind());
+            }
+            builder.append("]");
+            for (InjectableBean<?> dependent : getDependencyChain()) {
+                builder.append(" <- ").append(dependent.getBeanClass().getName());
+            }
+            return builder.toString();
+        }
+
+    }
+
+}
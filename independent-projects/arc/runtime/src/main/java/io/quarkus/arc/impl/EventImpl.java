@@ -3,6 +3,11 @@ package io.quarkus.arc.impl;
 import static javax.transaction.Status.STATUS_COMMITTED;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcNotificationOptions;
+import io.quarkus.arc.ArcNotificationOptions.NotificationMode;
+import io.quarkus.arc.AsyncObserverExecutor;
+import io.quarkus.arc.AsyncObserverMetrics;
+import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 import java.lang.annotation.Annotation;
@@ -14,25 +19,32 @@ import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Predicate;
-import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import javax.enterprise.event.Event;
 import javax.enterprise.event.NotificationOptions;
 import javax.enterprise.event.ObserverException;
 import javax.enterprise.event.TransactionPhase;
+import javax.enterprise.inject.AmbiguousResolutionException;
 import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Default;
+import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.EventContext;
 import javax.enterprise.inject.spi.EventMetadata;
 import javax.enterprise.inject.spi.InjectionPoint;
 import javax.enterprise.inject.spi.ObserverMethod;
 import javax.enterprise.util.TypeLiteral;
+import javax.inject.Named;
 import javax.transaction.RollbackException;
 import javax.transaction.Synchronization;
 import javax.transaction.TransactionSynchronizationRegistry;
@@ -53,6 +65,7 @@ class EventImpl<T> implements Event<T> {
     private final Type eventType;
     private final Set<Annotation> qualifiers;
     private final ConcurrentMap<Class<?>, Notifier<? super T>> notifiers;
+    private final LazyValue<Optional<Executor>> asyncObserverExecutor;
 
     private transient volatile Notifier<? super T> lastNotifier;
 
@@ -62,6 +75,7 @@ class EventImpl<T> implements Event<T> {
         this.qualifiers = qualifiers;
         this.qualifiers.add(Any.Literal.INSTANCE);
         this.notifiers = new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
+        this.asyncObserverExecutor = new LazyValue<>(this::findAsyncObserverExecutor);
     }
 
     @Override
@@ -83,27 +97,116 @@ class EventImpl<T> implements Event<T> {
 
         Executor executor = options.getExecutor();
         if (executor == null) {
-            executor = Arc.container().getExecutorService();
+            executor = asyncObserverExecutor.get().orElse(null);
+            if (executor == null) {
+                executor = Arc.container().getExecutorService();
+            }
         }
 
         if (notifier.isEmpty()) {
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
-        Supplier<U> notifyLogic = new Supplier<U>() {
+        Object metrics = options.get(ArcNotificationOptions.METRICS);
+        if (metrics != null && !(metrics instanceof AsyncObserverMetrics)) {
+            throw new IllegalArgumentException("Invalid metrics option value: " + metrics);
+        }
+        long firedAt = System.nanoTime();
+
+        if (NotificationMode.PARALLEL == NotificationMode.of(options.get(ArcNotificationOptions.MODE))) {
+            return fireAsyncParallel(event, notifier, executor, (AsyncObserverMetrics) metrics, firedAt);
+        }
+
+        Runnable notifyLogic = new Runnable() {
             @Override
-            public U get() {
+            public void run() {
                 ObserverExceptionHandler exceptionHandler = new CollectingExceptionHandler();
                 notifier.notify(event, exceptionHandler, true);
                 handleExceptions(exceptionHandler);
-                return event;
             }
         };
 
-        CompletableFuture<U> completableFuture = CompletableFuture.supplyAsync(notifyLogic, executor);
+        CompletableFuture<U> completableFuture = submit(notifyLogic, executor, (AsyncObserverMetrics) metrics, firedAt)
+                .thenApply(ignored -> event);
+        return new AsyncEventDeliveryStage<>(completableFuture, executor);
+    }
+
+    private <U extends T> CompletionStage<U> fireAsyncParallel(U event, Notifier<U> notifier, Executor executor,
+            AsyncObserverMetrics metrics, long firedAt) {
+        List<ObserverMethod<? super U>> asyncObservers = notifier.asyncObserverMethods;
+        if (asyncObservers.isEmpty()) {
+            return AsyncEventDeliveryStage.completed(event, executor);
+        }
+        // Each observer is notified in a separate task, the exceptions are collected from all the tasks
+        ObserverExceptionHandler exceptionHandler = new CollectingExceptionHandler(new CopyOnWriteArrayList<>());
+        CompletableFuture<?>[] notifications = new CompletableFuture<?>[asyncObservers.size()];
+        for (int i = 0; i < notifications.length; i++) {
+            ObserverMethod<? super U> observerMethod = asyncObservers.get(i);
+            notifications[i] = submit(new Runnable() {
+                @Override
+                public void run() {
+                    notifier.notify(observerMethod, event, exceptionHandler);
+                }
+            }, executor, metrics, firedAt);
+        }
+        CompletableFuture<U> completableFuture = CompletableFuture.allOf(notifications).thenApply(ignored -> {
+            handleExceptions(exceptionHandler);
+            return event;
+        });
         return new AsyncEventDeliveryStage<>(completableFuture, executor);
     }
 
+    private static CompletableFuture<Void> submit(Runnable task, Executor executor, AsyncObserverMetrics metrics,
+            long firedAt) {
+        if (metrics == null) {
+            return CompletableFuture.runAsync(task, executor);
+        }
+        metrics.taskSubmitted();
+        try {
+            return CompletableFuture.runAsync(new Runnable() {
+                @Override
+                public void run() {
+                    metrics.taskStarted();
+                    try {
+                        task.run();
+                    } finally {
+                        metrics.taskCompleted(firedAt);
+                    }
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            metrics.taskRejected();
+            throw e;
+        }
+    }
+
+    /**
+     * The executor is an {@link AsyncObserverExecutor} bean with exactly the same qualifiers as this event.
+     */
+    private Optional<Executor> findAsyncObserverExecutor() {
+        Set<Annotation> required = withoutBuiltinQualifiers(qualifiers);
+        required.add(AsyncObserverExecutor.Literal.INSTANCE);
+        ArcContainerImpl container = ArcContainerImpl.instance();
+        InjectableBean<?> match = null;
+        for (Bean<?> bean : container.getBeans(Executor.class, AsyncObserverExecutor.Literal.INSTANCE)) {
+            if (withoutBuiltinQualifiers(bean.getQualifiers()).equals(required)) {
+                if (match != null) {
+                    throw new AmbiguousResolutionException(
+                            "Multiple async observer executors match the qualifiers " + required + ": " + match + ", " + bean);
+                }
+                match = (InjectableBean<?>) bean;
+            }
+        }
+        return match != null ? Optional.of((Executor) container.instance(match).get()) : Optional.empty();
+    }
+
+    private static Set<Annotation> withoutBuiltinQualifiers(Set<Annotation> qualifiers) {
+        Set<Annotation> result = new HashSet<>(qualifiers);
+        result.removeIf(q -> q.annotationType() == Any.class || q.annotationType() == Default.class
+                || q.annotationType() == Named.class);
+        return result;
+    }
+
     private Notifier<? super T> getNotifier(Class<?> runtimeType) {
         Notifier<? super T> notifier = this.lastNotifier;
         if (notifier != null && notifier.runtimeType.equals(runtimeType)) {
@@ -203,12 +306,14 @@ class EventImpl<T> implements Event<T> {
 
         private final Class<?> runtimeType;
         private final List<ObserverMethod<? super T>> observerMethods;
+        private final List<ObserverMethod<? super T>> asyncObserverMethods;
         private final EventMetadata eventMetadata;
         private final boolean hasTxObservers;
 
         Notifier(Class<?> runtimeType, List<ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata) {
             this.runtimeType = runtimeType;
             this.observerMethods = observerMethods;
+            this.asyncObserverMethods = observerMethods.stream().filter(ObserverMethod::isAsync).collect(Collectors.toList());
             this.eventMetadata = eventMetadata;
             this.hasTxObservers = observerMethods.stream().anyMatch(this::isTxObserver);
         }
@@ -272,6 +377,32 @@ class EventImpl<T> implements Event<T> {
             }
         }
 
+        /**
+         * Notify a single observer. The request context is activated if needed.
+         *
+         * @param observerMethod
+         * @param event
+         * @param exceptionHandler
+         */
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        void notify(ObserverMethod<? super T> observerMethod, T event, ObserverExceptionHandler exceptionHandler) {
+            EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
+            ManagedContext requestContext = Arc.container().requestContext();
+            boolean activate = !requestContext.isActive();
+            try {
+                if (activate) {
+                    requestContext.activate();
+                }
+                observerMethod.notify(eventContext);
+            } catch (Throwable e) {
+                exceptionHandler.handle(e);
+            } finally {
+                if (activate) {
+                    requestContext.terminate();
+                }
+            }
+        }
+
         @SuppressWarnings({ "rawtypes", "unchecked" })
         private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler,
                 Predicate<ObserverMethod<? super T>> predicate) {
@@ -0,0 +1,74 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import javax.interceptor.InvocationContext;
+
+/**
+ * InvocationContext for AroundInvoke interceptor chains where all interceptors are fusible, i.e. each interceptor invokes
+ * {@link #proceed()} synchronously on the calling thread before it returns.
+ * <p>
+ * Unlike {@link AroundInvokeInvocationContext} a single instance is shared by all interceptors in the chain and the context
+ * data map is only created if needed. As a consequence, the "asynchronous continuation" of the chain is not supported.
+ */
+class FusedAroundInvokeInvocationContext extends AbstractInvocationContext {
+
+    private final Function<InvocationContext, Object> aroundInvokeForward;
+    private int position;
+    private Map<String, Object> data;
+
+    FusedAroundInvokeInvocationContext(Object target, Method method, Object[] parameters, Set<Annotation> interceptorBindings,
+            List<InterceptorInvocation> chain, Function<InvocationContext, Object> aroundInvokeForward) {
+        super(target, method, parameters, interceptorBindings, chain);
+        this.aroundInvokeForward = aroundInvokeForward;
+    }
+
+    static Object perform(Object target, Method method,
+            Function<InvocationContext, Object> aroundInvokeForward, Object[] parameters,
+            List<InterceptorInvocation> chain,
+            Set<Annotation> interceptorBindings) throws Exception {
+        return new FusedAroundInvokeInvocationContext(target, method, parameters, interceptorBindings, chain,
+                aroundInvokeForward).proceed();
+    }
+
+    @Override
+    public Object proceed() throws Exception {
+        try {
+            if (position < chain.size()) {
+                // Invoke the next interceptor in the chain
+                // The position is restored afterwards so that an interceptor may call proceed() repeatedly
+                try {
+                    return chain.get(position++).invoke(this);
+                } finally {
+                    position--;
+                }
+            } else {
+                // Invoke the target method
+                return aroundInvokeForward.apply(this);
+            }
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    @Override
+    public Map<String, Object> getContextData() {
+        if (data == null) {
+            data = get();
+        }
+        return data;
+    }
+
+}
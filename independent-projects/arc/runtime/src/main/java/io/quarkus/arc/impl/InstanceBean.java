@@ -33,7 +33,8 @@ public class InstanceBean extends BuiltInBean<Instance<?>> {
         // Obtain current IP to get the required type and qualifiers
         InjectionPoint ip = InjectionPointProvider.get();
         InstanceImpl<Instance<?>> instance = new InstanceImpl<Instance<?>>((InjectableBean<?>) ip.getBean(), ip.getType(),
-                ip.getQualifiers(), (CreationalContextImpl<?>) creationalContext, Collections.EMPTY_SET, ip.getMember(), 0);
+                ip.getQualifiers(), (CreationalContextImpl<?>) creationalContext, Collections.EMPTY_SET, ip.getMember(), 0,
+                null);
         CreationalContextImpl.addDependencyToParent((InjectableBean<Instance<?>>) ip.getBean(), instance, creationalContext);
         return instance;
     }
@@ -34,7 +34,7 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
     static <T> InstanceImpl<T> of(Type requiredType, Set<Annotation> requiredQualifiers) {
         return new InstanceImpl<>(null, null, requiredType, requiredQualifiers,
                 new CreationalContextImpl<>(null),
-                Collections.emptySet(), null, -1);
+                Collections.emptySet(), null, -1, null);
     }
 
     private static final Annotation[] EMPTY_ANNOTATION_ARRAY = new Annotation[] {};
@@ -54,23 +54,35 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
 
     private final LazyValue<T> cachedGetResult;
 
+    // Immutable, created when first needed
+    private InjectionPoint injectionPoint;
+
     InstanceImpl(InjectableBean<?> targetBean, Type type, Set<Annotation> qualifiers,
-            CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position) {
-        this(targetBean, type, getRequiredType(type), qualifiers, creationalContext, annotations, javaMember, position);
+            CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position,
+            Set<InjectableBean<?>> resolvedBeans) {
+        this(targetBean, type, getRequiredType(type), qualifiers, creationalContext, annotations, javaMember, position,
+                resolvedBeans);
     }
 
     private InstanceImpl(InstanceImpl<?> parent, Type requiredType, Set<Annotation> requiredQualifiers) {
         this(parent.targetBean, parent.injectionPointType, requiredType, requiredQualifiers, parent.creationalContext,
-                parent.annotations, parent.javaMember, parent.position);
+                parent.annotations, parent.javaMember, parent.position, null);
     }
 
+    /**
+     *
+     * @param resolvedBeans the beans resolved at build time, or {@code null} if they need to be resolved at runtime
+     */
     InstanceImpl(InjectableBean<?> targetBean, Type injectionPointType, Type requiredType, Set<Annotation> requiredQualifiers,
-            CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position) {
+            CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position,
+            Set<InjectableBean<?>> resolvedBeans) {
         this.injectionPointType = injectionPointType;
         this.requiredType = requiredType;
         this.requiredQualifiers = requiredQualifiers != null ? requiredQualifiers : Collections.emptySet();
         this.creationalContext = creationalContext;
-        if (this.requiredQualifiers.isEmpty() && Object.class.equals(requiredType)) {
+        if (resolvedBeans != null) {
+            this.resolvedBeans = resolvedBeans;
+        } else if (this.requiredQualifiers.isEmpty() && Object.class.equals(requiredType)) {
             // Do not prefetch the beans for Instance<Object> with no qualifiers
             this.resolvedBeans = null;
         } else {
@@ -157,9 +169,7 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
 
     @SuppressWarnings("unchecked")
     private <H> InstanceHandle<H> getHandle(InjectableBean<H> bean) {
-        InjectionPoint prev = InjectionPointProvider
-                .set(new InjectionPointImpl(injectionPointType, requiredType, requiredQualifiers, targetBean, annotations,
-                        javaMember, position));
+        InjectionPoint prev = InjectionPointProvider.set(injectionPoint());
         try {
             return ArcContainerImpl.beanInstanceHandle(bean, (CreationalContextImpl<H>) creationalContext, false,
                     this::destroy);
@@ -202,9 +212,7 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
 
     private T getBeanInstance(InjectableBean<T> bean) {
         CreationalContextImpl<T> ctx = creationalContext.child(bean);
-        InjectionPoint prev = InjectionPointProvider
-                .set(new InjectionPointImpl(injectionPointType, requiredType, requiredQualifiers, targetBean, annotations,
-                        javaMember, position));
+        InjectionPoint prev = InjectionPointProvider.set(injectionPoint());
         T instance;
         try {
             instance = bean.get(ctx);
@@ -214,6 +222,16 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
         return instance;
     }
 
+    private InjectionPoint injectionPoint() {
+        InjectionPoint injectionPoint = this.injectionPoint;
+        if (injectionPoint == null) {
+            injectionPoint = new InjectionPointImpl(injectionPointType, requiredType, requiredQualifiers, targetBean,
+                    annotations, javaMember, position);
+            this.injectionPoint = injectionPoint;
+        }
+        return injectionPoint;
+    }
+
     private Set<InjectableBean<?>> beans() {
         return resolvedBeans != null ? resolvedBeans : resolve();
     }
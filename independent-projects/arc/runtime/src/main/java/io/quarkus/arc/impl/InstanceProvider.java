@@ -5,6 +5,8 @@ import io.quarkus.arc.InjectableReferenceProvider;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Member;
 import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.Instance;
@@ -21,15 +23,30 @@ public class InstanceProvider<T> implements InjectableReferenceProvider<Instance
     private final Set<Annotation> annotations;
     private final Member javaMember;
     private final int position;
+    private final String[] resolvedBeanIdentifiers;
+
+    // Immutable, created when first needed
+    private Set<InjectableBean<?>> resolvedBeans;
 
     public InstanceProvider(Type type, Set<Annotation> qualifiers, InjectableBean<?> targetBean, Set<Annotation> annotations,
             Member javaMember, int position) {
+        this(type, qualifiers, targetBean, annotations, javaMember, position, null);
+    }
+
+    /**
+     *
+     * @param resolvedBeanIdentifiers the identifiers of the beans resolved at build time, or {@code null} if the beans need
+     *        to be resolved at runtime
+     */
+    public InstanceProvider(Type type, Set<Annotation> qualifiers, InjectableBean<?> targetBean, Set<Annotation> annotations,
+            Member javaMember, int position, String[] resolvedBeanIdentifiers) {
         this.requiredType = type;
         this.qualifiers = qualifiers;
         this.targetBean = targetBean;
         this.annotations = annotations;
         this.javaMember = javaMember;
         this.position = position;
+        this.resolvedBeanIdentifiers = resolvedBeanIdentifiers;
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -37,10 +54,33 @@ public class InstanceProvider<T> implements InjectableReferenceProvider<Instance
     public Instance<T> get(CreationalContext<Instance<T>> creationalContext) {
         InstanceImpl<T> instance = new InstanceImpl<T>(targetBean, requiredType, qualifiers,
                 CreationalContextImpl.unwrap(creationalContext),
-                annotations, javaMember, position);
+                annotations, javaMember, position, resolvedBeans());
         CreationalContextImpl.addDependencyToParent(InstanceBean.INSTANCE, instance,
                 (CreationalContext) creationalContext);
         return instance;
     }
 
+    private Set<InjectableBean<?>> resolvedBeans() {
+        if (resolvedBeanIdentifiers == null) {
+            return null;
+        }
+        Set<InjectableBean<?>> beans = this.resolvedBeans;
+        if (beans == null) {
+            // The beans cannot be looked up when this provider is created because the container is not initialized yet
+            ArcContainerImpl container = ArcContainerImpl.instance();
+            beans = new LinkedHashSet<>();
+            for (String identifier : resolvedBeanIdentifiers) {
+                InjectableBean<?> bean = container.bean(identifier);
+                if (bean == null) {
+                    // Should never happen - fall back to the runtime resolution
+                    return null;
+                }
+                beans.add(bean);
+            }
+            beans = beans.size() == 1 ? Collections.singleton(beans.iterator().next()) : Collections.unmodifiableSet(beans);
+            this.resolvedBeans = beans;
+        }
+        return beans;
+    }
+
 }
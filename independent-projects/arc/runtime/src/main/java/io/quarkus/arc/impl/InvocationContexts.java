@@ -32,6 +32,27 @@ public final class InvocationContexts {
         return AroundInvokeInvocationContext.perform(target, method, aroundInvokeForward, args, chain, interceptorBindings);
     }
 
+    /**
+     * A single invocation context is used for the whole chain. All interceptors in the chain must invoke
+     * {@link InvocationContext#proceed()} synchronously.
+     *
+     * @param target
+     * @param method
+     * @param aroundInvokeForward
+     * @param args
+     * @param chain
+     * @param interceptorBindings
+     * @return the return value
+     * @throws Exception
+     */
+    public static Object performFusedAroundInvoke(Object target, Method method,
+            Function<InvocationContext, Object> aroundInvokeForward, Object[] args,
+            List<InterceptorInvocation> chain,
+            Set<Annotation> interceptorBindings) throws Exception {
+        return FusedAroundInvokeInvocationContext.perform(target, method, aroundInvokeForward, args, chain,
+                interceptorBindings);
+    }
+
     /**
      *
      * @param target
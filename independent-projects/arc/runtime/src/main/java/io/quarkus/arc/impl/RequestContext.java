@@ -6,13 +6,17 @@ import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.impl.EventImpl.Notifier;
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.context.Destroyed;
@@ -25,6 +29,10 @@ import org.jboss.logging.Logger;
 
 /**
  * The built-in context for {@link RequestScoped}.
+ * <p>
+ * The instances of the beans that were assigned a {@linkplain InjectableBean#getRequestContextIndex() request context
+ * index} at build time are stored in an array indexed by this index. The instances of other contextuals are stored in a
+ * map that is only created when needed.
  *
  * @author Martin Kouba
  */
@@ -33,13 +41,21 @@ class RequestContext implements ManagedContext {
     private static final Logger LOGGER = Logger.getLogger(RequestContext.class.getPackage().getName());
 
     // It's a normal scope so there may be no more than one mapped instance per contextual type per thread
-    private final ThreadLocal<ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>>> currentContext = new ThreadLocal<>();
+    private final ThreadLocal<RequestContextState> currentContext = new ThreadLocal<>();
+
+    // The number of slots of each context state
+    private final int size;
 
     private final LazyValue<Notifier<Object>> initializedNotifier;
     private final LazyValue<Notifier<Object>> beforeDestroyedNotifier;
     private final LazyValue<Notifier<Object>> destroyedNotifier;
 
-    public RequestContext() {
+    /**
+     *
+     * @param beans the beans of the container
+     */
+    public RequestContext(Iterable<InjectableBean<?>> beans) {
+        this.size = computeSize(beans);
         this.initializedNotifier = new LazyValue<>(RequestContext::createInitializedNotifier);
         this.beforeDestroyedNotifier = new LazyValue<>(RequestContext::createBeforeDestroyedNotifier);
         this.destroyedNotifier = new LazyValue<>(RequestContext::createDestroyedNotifier);
@@ -55,18 +71,19 @@ class RequestContext implements ManagedContext {
     public <T> T getIfActive(Contextual<T> contextual, Function<Contextual<T>, CreationalContext<T>> creationalContextFun) {
         Objects.requireNonNull(contextual, "Contextual must not be null");
         Objects.requireNonNull(creationalContextFun, "CreationalContext supplier must not be null");
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             return null;
         }
         ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctx.get(contextual);
         if (instance == null) {
-            CreationalContext<T> creationalContext = creationalContextFun.apply(contextual);
             // Bean instance does not exist - create one if we have CreationalContext
-            instance = new ContextInstanceHandleImpl<T>((InjectableBean<T>) contextual,
-                    contextual.create(creationalContext), creationalContext);
-            ctx.put(contextual, instance);
+            instance = (ContextInstanceHandle<T>) ctx.computeIfAbsent(contextual, () -> {
+                CreationalContext<T> creationalContext = creationalContextFun.apply(contextual);
+                return new ContextInstanceHandleImpl<T>((InjectableBean<T>) contextual,
+                        contextual.create(creationalContext), creationalContext);
+            });
         }
         return instance.get();
     }
@@ -86,7 +103,7 @@ class RequestContext implements ManagedContext {
     @Override
     public <T> T get(Contextual<T> contextual) {
         Objects.requireNonNull(contextual, "Contextual must not be null");
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -102,7 +119,7 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -116,12 +133,12 @@ class RequestContext implements ManagedContext {
     @Override
     public void activate(ContextState initialState) {
         if (initialState == null) {
-            currentContext.set(new ConcurrentHashMap<>());
+            currentContext.set(new RequestContextState(size));
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
             if (initialState instanceof RequestContextState) {
-                currentContext.set(((RequestContextState) initialState).value);
+                currentContext.set((RequestContextState) initialState);
             } else {
                 throw new IllegalArgumentException("Invalid initial state: " + initialState.getClass().getName());
             }
@@ -130,12 +147,12 @@ class RequestContext implements ManagedContext {
 
     @Override
     public ContextState getState() {
-        ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        return new RequestContextState(ctx);
+        return ctx;
     }
 
     @Override
@@ -151,13 +168,13 @@ class RequestContext implements ManagedContext {
     @Override
     public void destroy(ContextState state) {
         if (state instanceof RequestContextState) {
-            destroy(((RequestContextState) state).value);
+            destroy((RequestContextState) state);
         } else {
             throw new IllegalArgumentException("Invalid state: " + state.getClass().getName());
         }
     }
 
-    private void destroy(Map<Contextual<?>, ContextInstanceHandle<?>> currentContext) {
+    private void destroy(RequestContextState currentContext) {
         if (currentContext != null) {
             synchronized (currentContext) {
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
@@ -166,20 +183,18 @@ class RequestContext implements ManagedContext {
                 } catch (Exception e) {
                     LOGGER.warn("An error occurred during delivery of the @BeforeDestroyed(RequestScoped.class) event", e);
                 }
-                //Performance: avoid an iterator on the map elements
-                currentContext.forEach(this::destroyContextElement);
+                currentContext.destroyAll(this::destroyContextElement);
                 // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
                 try {
                     fireIfNotEmpty(destroyedNotifier);
                 } catch (Exception e) {
                     LOGGER.warn("An error occurred during delivery of the @Destroyed(RequestScoped.class) event", e);
                 }
-                currentContext.clear();
             }
         }
     }
 
-    private void destroyContextElement(Contextual<?> contextual, ContextInstanceHandle<?> contextInstanceHandle) {
+    private void destroyContextElement(ContextInstanceHandle<?> contextInstanceHandle) {
         try {
             contextInstanceHandle.destroy();
         } catch (Exception e) {
@@ -212,18 +227,164 @@ class RequestContext implements ManagedContext {
                 ArcContainerImpl.instance());
     }
 
+    /**
+     * The indexes are assigned per bean deployment. If the beans come from several deployments and their indexes clash,
+     * the indexes are not used at all and all the instances are stored in the map.
+     */
+    private static int computeSize(Iterable<InjectableBean<?>> beans) {
+        BitSet indexes = new BitSet();
+        for (InjectableBean<?> bean : beans) {
+            int index = bean.getRequestContextIndex();
+            if (index >= 0) {
+                if (indexes.get(index)) {
+                    LOGGER.debugf("Request context index %s is not unique - indexes are not used", index);
+                    return 0;
+                }
+                indexes.set(index);
+            }
+        }
+        return indexes.length();
+    }
+
+    /**
+     * The state may be propagated to other threads. A {@link LazyValue} is published in the slot of a contextual before its
+     * instance is created, so that the threads which need the same instance concurrently wait for a single creation.
+     */
     static class RequestContextState implements ContextState {
 
-        private final ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value;
+        // Instances of the beans with an index lower than the number of slots
+        private final AtomicReferenceArray<LazyValue<ContextInstanceHandle<?>>> slots;
+        // Instances of other contextuals, created lazily
+        private volatile ConcurrentMap<Contextual<?>, LazyValue<ContextInstanceHandle<?>>> others;
+
+        RequestContextState(int size) {
+            this.slots = new AtomicReferenceArray<>(size);
+        }
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
-            this.value = value;
+        private int slot(Contextual<?> contextual) {
+            if (contextual instanceof InjectableBean) {
+                int index = ((InjectableBean<?>) contextual).getRequestContextIndex();
+                if (index >= 0 && index < slots.length()) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * @return the instance, or {@code null} if it does not exist or is still being created
+         */
+        ContextInstanceHandle<?> get(Contextual<?> contextual) {
+            LazyValue<ContextInstanceHandle<?>> value;
+            int slot = slot(contextual);
+            if (slot >= 0) {
+                value = slots.get(slot);
+            } else {
+                ConcurrentMap<Contextual<?>, LazyValue<ContextInstanceHandle<?>>> others = this.others;
+                value = others == null ? null : others.get(contextual);
+            }
+            return value == null ? null : value.getIfPresent();
+        }
+
+        /**
+         * The supplier is invoked by a single thread at a time, even if several threads share this state, and the other
+         * threads wait for the instance it creates. If the creation fails, the placeholder is removed.
+         */
+        ContextInstanceHandle<?> computeIfAbsent(Contextual<?> contextual, Supplier<ContextInstanceHandle<?>> supplier) {
+            LazyValue<ContextInstanceHandle<?>> value = new LazyValue<>(supplier);
+            int slot = slot(contextual);
+            if (slot >= 0) {
+                while (!slots.compareAndSet(slot, null, value)) {
+                    LazyValue<ContextInstanceHandle<?>> previous = slots.get(slot);
+                    if (previous != null) {
+                        return previous.get();
+                    }
+                }
+                try {
+                    return value.get();
+                } catch (RuntimeException | Error e) {
+                    slots.compareAndSet(slot, value, null);
+                    throw e;
+                }
+            }
+            ConcurrentMap<Contextual<?>, LazyValue<ContextInstanceHandle<?>>> others = others();
+            LazyValue<ContextInstanceHandle<?>> previous = others.putIfAbsent(contextual, value);
+            if (previous != null) {
+                return previous.get();
+            }
+            try {
+                return value.get();
+            } catch (RuntimeException | Error e) {
+                others.remove(contextual, value);
+                throw e;
+            }
+        }
+
+        ContextInstanceHandle<?> remove(Contextual<?> contextual) {
+            LazyValue<ContextInstanceHandle<?>> value;
+            int slot = slot(contextual);
+            if (slot >= 0) {
+                value = slots.getAndSet(slot, null);
+            } else {
+                ConcurrentMap<Contextual<?>, LazyValue<ContextInstanceHandle<?>>> others = this.others;
+                value = others == null ? null : others.remove(contextual);
+            }
+            return value == null ? null : value.getIfPresent();
+        }
+
+        void destroyAll(Consumer<ContextInstanceHandle<?>> destroyAction) {
+            for (int i = 0; i < slots.length(); i++) {
+                LazyValue<ContextInstanceHandle<?>> value = slots.getAndSet(i, null);
+                if (value != null && value.isSet()) {
+                    destroyAction.accept(value.getIfPresent());
+                }
+            }
+            ConcurrentMap<Contextual<?>, LazyValue<ContextInstanceHandle<?>>> others = this.others;
+            if (others != null) {
+                //Performance: avoid an iterator on the map elements
+                others.forEach((contextual, value) -> {
+                    if (value.isSet()) {
+                        destroyAction.accept(value.getIfPresent());
+                    }
+                });
+                others.clear();
+            }
+        }
+
+        private ConcurrentMap<Contextual<?>, LazyValue<ContextInstanceHandle<?>>> others() {
+            ConcurrentMap<Contextual<?>, LazyValue<ContextInstanceHandle<?>>> others = this.others;
+            if (others == null) {
+                synchronized (this) {
+                    others = this.others;
+                    if (others == null) {
+                        others = new ConcurrentHashMap<>();
+                        this.others = others;
+                    }
+                }
+            }
+            return others;
         }
 
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
-            return value.values().stream()
-                    .collect(Collectors.toMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
+            Map<InjectableBean<?>, Object> instances = new HashMap<>();
+            for (int i = 0; i < slots.length(); i++) {
+                LazyValue<ContextInstanceHandle<?>> value = slots.get(i);
+                ContextInstanceHandle<?> instance = value == null ? null : value.getIfPresent();
+                if (instance != null) {
+                    instances.put(instance.getBean(), instance.get());
+                }
+            }
+            ConcurrentMap<Contextual<?>, LazyValue<ContextInstanceHandle<?>>> others = this.others;
+            if (others != null) {
+                for (LazyValue<ContextInstanceHandle<?>> value : others.values()) {
+                    ContextInstanceHandle<?> instance = value.getIfPresent();
+                    if (instance != null) {
+                        instances.put(instance.getBean(), instance.get());
+                    }
+                }
+            }
+            return instances;
         }
 
     }
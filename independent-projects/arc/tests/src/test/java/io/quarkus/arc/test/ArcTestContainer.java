@@ -13,6 +13,7 @@ import io.quarkus.arc.processor.BeanRegistrar;
 import io.quarkus.arc.processor.ContextRegistrar;
 import io.quarkus.arc.processor.InjectionPointsTransformer;
 import io.quarkus.arc.processor.InterceptorBindingRegistrar;
+import io.quarkus.arc.processor.InterceptorInfo;
 import io.quarkus.arc.processor.ObserverRegistrar;
 import io.quarkus.arc.processor.ObserverTransformer;
 import io.quarkus.arc.processor.QualifierRegistrar;
@@ -82,6 +83,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         private boolean removeUnusedBeans = false;
         private final List<Predicate<BeanInfo>> exclusions;
         private AlternativePriorities alternativePriorities;
+        private final List<Predicate<InterceptorInfo>> fusibleInterceptors;
 
         public Builder() {
             resourceReferenceProviders = new ArrayList<>();
@@ -98,6 +100,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
             observerTransformers = new ArrayList<>();
             beanDeploymentValidators = new ArrayList<>();
             exclusions = new ArrayList<>();
+            fusibleInterceptors = new ArrayList<>();
         }
 
         public Builder resourceReferenceProviders(Class<?>... resourceReferenceProviders) {
@@ -186,6 +189,11 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
             return this;
         }
 
+        public Builder addFusibleInterceptor(Predicate<InterceptorInfo> predicate) {
+            this.fusibleInterceptors.add(predicate);
+            return this;
+        }
+
         public ArcTestContainer build() {
             return new ArcTestContainer(this);
         }
@@ -217,6 +225,8 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
 
     private final AlternativePriorities alternativePriorities;
 
+    private final List<Predicate<InterceptorInfo>> fusibleInterceptors;
+
     public ArcTestContainer(Class<?>... beanClasses) {
         this.resourceReferenceProviders = Collections.emptyList();
         this.beanClasses = Arrays.asList(beanClasses);
@@ -236,6 +246,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         this.removeUnusedBeans = false;
         this.exclusions = Collections.emptyList();
         this.alternativePriorities = null;
+        this.fusibleInterceptors = Collections.emptyList();
     }
 
     public ArcTestContainer(Builder builder) {
@@ -257,6 +268,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         this.removeUnusedBeans = builder.removeUnusedBeans;
         this.exclusions = builder.exclusions;
         this.alternativePriorities = builder.alternativePriorities;
+        this.fusibleInterceptors = builder.fusibleInterceptors;
     }
 
     // this is where we start Arc, we operate on a per-method basis
@@ -402,6 +414,9 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
                 builder.addRemovalExclusion(exclusion);
             }
             builder.setAlternativePriorities(alternativePriorities);
+            for (Predicate<InterceptorInfo> predicate : fusibleInterceptors) {
+                builder.addFusibleInterceptor(predicate);
+            }
 
             BeanProcessor beanProcessor = builder.build();
 
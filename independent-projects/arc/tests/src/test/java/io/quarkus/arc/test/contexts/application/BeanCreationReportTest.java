@@ -0,0 +1,97 @@
+package io.quarkus.arc.test.contexts.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.impl.ArcContainerImpl;
+import io.quarkus.arc.impl.BeanCreationReport;
+import io.quarkus.arc.impl.BeanCreationReport.Creation;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class BeanCreationReportTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Alpha.class, Bravo.class, Charlie.class);
+
+    @Test
+    public void testReport() {
+        ArcContainerImpl arc = ArcContainerImpl.instance();
+        assertNull(arc.getCreationReport());
+        BeanCreationReport report = arc.enableCreationReport();
+
+        // Alpha is created during startup and requires Bravo
+        Arc.container().instance(Alpha.class).get().ping();
+        report.startupCompleted();
+        // Charlie is created on first use
+        Arc.container().instance(Charlie.class).get().ping();
+
+        List<Creation> startup = report.getCreations(true);
+        assertEquals(2, startup.size());
+        Creation alpha = find(startup, Alpha.class);
+        Creation bravo = find(startup, Bravo.class);
+        assertTrue(alpha.isDuringStartup());
+        assertTrue(alpha.getDependencyChain().isEmpty());
+        assertEquals(Collections.singletonList(alpha.getBean()), bravo.getDependencyChain());
+        // The duration of a creation includes the nested creations
+        assertTrue(alpha.getDuration() >= bravo.getDuration());
+
+        List<Creation> firstUse = report.getCreations(false);
+        assertEquals(1, firstUse.size());
+        assertEquals(Charlie.class, firstUse.get(0).getBean().getBeanClass());
+        assertFalse(firstUse.get(0).isDuringStartup());
+
+        String formatted = report.format(true, 1);
+        assertTrue(formatted.startsWith("2 beans created during startup"), formatted);
+        assertTrue(formatted.contains("and 1 more"), formatted);
+        assertTrue(report.format(false, 10).contains(Charlie.class.getName()));
+    }
+
+    private static Creation find(List<Creation> creations, Class<?> beanClass) {
+        return creations.stream().filter(c -> c.getBean().getBeanClass().equals(beanClass)).findFirst().get();
+    }
+
+    @Singleton
+    static class Alpha {
+
+        @Inject
+        Bravo bravo;
+
+        @PostConstruct
+        void init() {
+            // Bravo is created when the client proxy is used for the first time
+            bravo.ping();
+        }
+
+        void ping() {
+        }
+
+    }
+
+    @ApplicationScoped
+    static class Bravo {
+
+        void ping() {
+        }
+
+    }
+
+    @ApplicationScoped
+    static class Charlie {
+
+        void ping() {
+        }
+
+    }
+
+}
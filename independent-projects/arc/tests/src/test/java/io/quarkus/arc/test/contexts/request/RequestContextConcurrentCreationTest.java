@@ -0,0 +1,87 @@
+package io.quarkus.arc.test.contexts.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.RequestScoped;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class RequestContextConcurrentCreationTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Slow.class);
+
+    @Test
+    public void testSingleCreation() throws Exception {
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+
+        requestContext.activate();
+        ContextState state = requestContext.getState();
+        try {
+            CompletableFuture<String> other = CompletableFuture.supplyAsync(() -> {
+                requestContext.activate(state);
+                try {
+                    return arc.instance(Slow.class).get().getId();
+                } finally {
+                    requestContext.deactivate();
+                }
+            });
+            // Wait until the other thread is creating the instance
+            Slow.CREATING.await(5, TimeUnit.SECONDS);
+            String id = arc.instance(Slow.class).get().getId();
+            assertEquals(id, other.get(5, TimeUnit.SECONDS));
+            assertEquals(1, Slow.CONSTRUCTED.get());
+            assertEquals(0, Slow.DESTROYED.get());
+        } finally {
+            requestContext.terminate();
+        }
+        assertEquals(1, Slow.DESTROYED.get());
+    }
+
+    @RequestScoped
+    static class Slow {
+
+        static final CountDownLatch CREATING = new CountDownLatch(1);
+        static final AtomicInteger CONSTRUCTED = new AtomicInteger();
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private String id;
+
+        @PostConstruct
+        void init() {
+            CONSTRUCTED.incrementAndGet();
+            CREATING.countDown();
+            try {
+                // Give the main thread some time to look up the instance
+                TimeUnit.MILLISECONDS.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            id = UUID.randomUUID().toString();
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+        String getId() {
+            return id;
+        }
+
+    }
+
+}
@@ -0,0 +1,177 @@
+package io.quarkus.arc.test.contexts.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Produces;
+import javax.enterprise.inject.spi.Bean;
+import javax.inject.Inject;
+import javax.inject.Named;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class RequestContextIndexTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Alpha.class, Bravo.class, Unused.class, Charlie.class, Producers.class, Delta.class)
+            .removeUnusedBeans(true)
+            .build();
+
+    @Test
+    public void testIndexes() {
+        Set<Integer> indexes = new TreeSet<>();
+        for (Bean<?> bean : Arc.container().beanManager().getBeans(Object.class, Any.Literal.INSTANCE)) {
+            int index = ((InjectableBean<?>) bean).getRequestContextIndex();
+            if (RequestScoped.class.equals(bean.getScope())) {
+                indexes.add(index);
+            } else {
+                assertEquals(-1, index);
+            }
+        }
+        // Alpha, Bravo and the produced Delta, the unused bean was removed
+        assertEquals(new TreeSet<>(Arrays.asList(0, 1, 2)), indexes);
+    }
+
+    @Test
+    public void testInstances() throws InterruptedException, ExecutionException {
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        Alpha.DESTROYED.set(0);
+
+        requestContext.activate();
+        Charlie charlie = arc.instance(Charlie.class).get();
+        String alphaId = charlie.getAlphaId();
+        assertEquals(alphaId, arc.instance(Alpha.class).get().getId());
+        assertEquals("bravo", charlie.pingBravo());
+        assertEquals("delta", charlie.pingDelta());
+        ContextState state = requestContext.getState();
+        assertEquals(3, state.getContextualInstances().size());
+
+        // The instances are shared with other threads the state is propagated to
+        String propagatedId = CompletableFuture.supplyAsync(() -> {
+            requestContext.activate(state);
+            try {
+                return arc.instance(Alpha.class).get().getId();
+            } finally {
+                requestContext.deactivate();
+            }
+        }).get();
+        assertEquals(alphaId, propagatedId);
+
+        // Destroy a single instance
+        InjectableBean<Alpha> alphaBean = arc.instance(Alpha.class).getBean();
+        requestContext.destroy(alphaBean);
+        assertEquals(1, Alpha.DESTROYED.get());
+        assertNotEquals(alphaId, arc.instance(Alpha.class).get().getId());
+
+        requestContext.terminate();
+        assertEquals(2, Alpha.DESTROYED.get());
+        assertFalse(requestContext.isActive());
+        assertTrue(state.getContextualInstances().isEmpty());
+    }
+
+    @RequestScoped
+    static class Alpha {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private String id;
+
+        @PostConstruct
+        void init() {
+            id = UUID.randomUUID().toString();
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+        String getId() {
+            return id;
+        }
+
+    }
+
+    @RequestScoped
+    static class Bravo {
+
+        String ping() {
+            return "bravo";
+        }
+
+    }
+
+    @RequestScoped
+    static class Unused {
+
+    }
+
+    @Named
+    @ApplicationScoped
+    static class Charlie {
+
+        @Inject
+        Alpha alpha;
+
+        @Inject
+        Bravo bravo;
+
+        @Inject
+        Delta delta;
+
+        String getAlphaId() {
+            return alpha.getId();
+        }
+
+        String pingBravo() {
+            return bravo.ping();
+        }
+
+        String pingDelta() {
+            return delta.ping();
+        }
+
+    }
+
+    @ApplicationScoped
+    static class Producers {
+
+        @RequestScoped
+        @Produces
+        Delta produce() {
+            return new Delta();
+        }
+
+    }
+
+    static class Delta {
+
+        String ping() {
+            return "delta";
+        }
+
+    }
+
+}
@@ -0,0 +1,187 @@
+package io.quarkus.arc.test.instance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.DefaultBean;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableInstance;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.HashSet;
+import java.util.Set;
+import javax.annotation.Priority;
+import javax.enterprise.inject.Alternative;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * The beans of an injected {@link javax.enterprise.inject.Instance} may be resolved at build time. The result must be the
+ * same as the one of the runtime resolution.
+ */
+public class InstanceResolutionTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Client.class, Alpha.class, Bravo.class, DefaultGreeting.class,
+            CustomGreeting.class, PingLow.class, PingHigh.class, PingPlain.class);
+
+    @Test
+    public void testResolution() {
+        Client client = Arc.container().instance(Client.class).get();
+
+        assertTrue(client.services.isAmbiguous());
+        assertEquals(beans(Arc.container().select(Service.class)), beans(client.services));
+        assertEquals(2, beans(client.services).size());
+        Set<String> ids = new HashSet<>();
+        for (Service service : client.services) {
+            ids.add(service.id());
+        }
+        assertEquals(2, ids.size());
+
+        assertEquals(beans(Arc.container().select(Service.class, Any.Literal.INSTANCE)), beans(client.anyServices));
+
+        assertFalse(client.greeting.isAmbiguous());
+        assertEquals(beans(Arc.container().select(Greeting.class)), beans(client.greeting));
+        assertEquals("custom", client.greeting.get().greet());
+
+        assertFalse(client.ping.isAmbiguous());
+        assertEquals(beans(Arc.container().select(Ping.class)), beans(client.ping));
+        assertEquals("high", client.ping.get().ping());
+
+        // Built-in beans are only resolved at runtime
+        assertFalse(client.beanManager.isUnsatisfied());
+        assertEquals(Alpha.class, client.objects.select(Alpha.class).get().getClass());
+    }
+
+    private static Set<InjectableBean<?>> beans(InjectableInstance<?> instance) {
+        Set<InjectableBean<?>> beans = new HashSet<>();
+        for (InstanceHandle<?> handle : instance.handles()) {
+            beans.add(handle.getBean());
+        }
+        return beans;
+    }
+
+    @Singleton
+    static class Client {
+
+        @Inject
+        InjectableInstance<Service> services;
+
+        @Any
+        @Inject
+        InjectableInstance<Service> anyServices;
+
+        @Inject
+        InjectableInstance<Greeting> greeting;
+
+        @Inject
+        InjectableInstance<Ping> ping;
+
+        @Inject
+        InjectableInstance<BeanManager> beanManager;
+
+        @Inject
+        InjectableInstance<Object> objects;
+
+    }
+
+    interface Service {
+
+        String id();
+
+    }
+
+    @Singleton
+    static class Alpha implements Service {
+
+        @Override
+        public String id() {
+            return "alpha";
+        }
+
+    }
+
+    @Singleton
+    static class Bravo implements Service {
+
+        @Override
+        public String id() {
+            return "bravo";
+        }
+
+    }
+
+    interface Greeting {
+
+        String greet();
+
+    }
+
+    @DefaultBean
+    @Singleton
+    static class DefaultGreeting implements Greeting {
+
+        @Override
+        public String greet() {
+            return "default";
+        }
+
+    }
+
+    @Singleton
+    static class CustomGreeting implements Greeting {
+
+        @Override
+        public String greet() {
+            return "custom";
+        }
+
+    }
+
+    interface Ping {
+
+        String ping();
+
+    }
+
+    @Alternative
+    @Priority(10)
+    @Singleton
+    static class PingLow implements Ping {
+
+        @Override
+        public String ping() {
+            return "low";
+        }
+
+    }
+
+    @Alternative
+    @Priority(20)
+    @Singleton
+    static class PingHigh implements Ping {
+
+        @Override
+        public String ping() {
+            return "high";
+        }
+
+    }
+
+    @Singleton
+    static class PingPlain implements Ping {
+
+        @Override
+        public String ping() {
+            return "plain";
+        }
+
+    }
+
+}
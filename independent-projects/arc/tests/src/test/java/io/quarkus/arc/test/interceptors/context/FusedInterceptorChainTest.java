@@ -0,0 +1,157 @@
+package io.quarkus.arc.test.interceptors.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.interceptors.Logging;
+import io.quarkus.arc.test.interceptors.Simple;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Priority;
+import javax.inject.Singleton;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class FusedInterceptorChainTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Simple.class, Logging.class, SimpleBean.class, AlphaInterceptor.class, BravoInterceptor.class,
+                    CharlieInterceptor.class)
+            .addFusibleInterceptor(i -> !i.getBeanClass().toString().equals(CharlieInterceptor.class.getName()))
+            .build();
+
+    static final List<InvocationContext> CONTEXTS = new ArrayList<>();
+
+    @BeforeEach
+    void reset() {
+        CONTEXTS.clear();
+        SimpleBean.COUNTER.set(0);
+    }
+
+    @Test
+    public void testFusedChain() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        // Bravo proceeds twice and alpha modifies the parameters
+        assertEquals("alpha:ALPHA-1:ALPHA-2", bean.ping("alpha", 1));
+        assertEquals(2, SimpleBean.COUNTER.get());
+        // Alpha, Bravo, Bravo - all interceptors share the same context
+        assertEquals(3, CONTEXTS.size());
+        assertSame(CONTEXTS.get(0), CONTEXTS.get(1));
+        assertSame(CONTEXTS.get(1), CONTEXTS.get(2));
+        // A new context is used for each invocation
+        InvocationContext first = CONTEXTS.get(0);
+        CONTEXTS.clear();
+        bean.ping("bravo", 1);
+        assertEquals(3, CONTEXTS.size());
+        assertNotSame(first, CONTEXTS.get(0));
+    }
+
+    @Test
+    public void testVoidAndExceptions() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        bean.reset();
+        assertEquals(2, SimpleBean.COUNTER.get());
+        assertThrows(IOException.class, () -> bean.fail());
+        assertThrows(IllegalStateException.class, () -> bean.failUnchecked());
+    }
+
+    @Test
+    public void testChainWithNonFusibleInterceptor() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        assertEquals("alpha:charlie:PONG-1:charlie:PONG-2", bean.pong("pong"));
+        // Alpha, Bravo, Charlie, Bravo, Charlie - each interceptor gets a new context
+        assertEquals(5, CONTEXTS.size());
+        assertNotSame(CONTEXTS.get(0), CONTEXTS.get(1));
+        assertNotSame(CONTEXTS.get(1), CONTEXTS.get(2));
+    }
+
+    @Simple
+    @Singleton
+    static class SimpleBean {
+
+        static final AtomicInteger COUNTER = new AtomicInteger();
+
+        String ping(String name, Integer count) {
+            return name + "-" + COUNTER.addAndGet(count);
+        }
+
+        @Logging
+        String pong(String name) {
+            return name + "-" + COUNTER.incrementAndGet();
+        }
+
+        void reset() {
+            COUNTER.incrementAndGet();
+        }
+
+        void fail() throws IOException {
+            throw new IOException();
+        }
+
+        void failUnchecked() {
+            throw new IllegalStateException();
+        }
+
+    }
+
+    @Simple
+    @Priority(1)
+    @Interceptor
+    public static class AlphaInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            CONTEXTS.add(ctx);
+            Object[] params = ctx.getParameters();
+            if (params.length > 0) {
+                params[0] = params[0].toString().toUpperCase();
+                ctx.setParameters(params);
+            }
+            ctx.getContextData().put("alpha", true);
+            return "alpha:" + ctx.proceed();
+        }
+    }
+
+    @Simple
+    @Priority(2)
+    @Interceptor
+    public static class BravoInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            CONTEXTS.add(ctx);
+            if (!Boolean.TRUE.equals(ctx.getContextData().get("alpha"))) {
+                throw new IllegalStateException("Context data not shared");
+            }
+            // Proceed twice, e.g. a retry
+            Object first = ctx.proceed();
+            CONTEXTS.add(ctx);
+            Object second = ctx.proceed();
+            return first == null ? null : first + ":" + second;
+        }
+    }
+
+    @Logging
+    @Priority(3)
+    @Interceptor
+    public static class CharlieInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            CONTEXTS.add(ctx);
+            return "charlie:" + ctx.proceed();
+        }
+    }
+
+}
@@ -0,0 +1,155 @@
+package io.quarkus.arc.test.observers.async;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcNotificationOptions;
+import io.quarkus.arc.AsyncObserverExecutor;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.annotation.PreDestroy;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.NotificationOptions;
+import javax.enterprise.event.ObservesAsync;
+import javax.enterprise.inject.Produces;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Inject;
+import javax.inject.Qualifier;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class AsyncObserverExecutorTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Producer.class, Observer.class, Executors.class, Audit.class, Priority.class)
+            .removeUnusedBeans(true)
+            .addRemovalExclusion(b -> b.getBeanClass().toString().equals(Producer.class.getName()))
+            .build();
+
+    @Test
+    public void testQualifiedExecutors() throws InterruptedException, ExecutionException, TimeoutException {
+        Producer producer = Arc.container().instance(Producer.class).get();
+
+        // The executor with exactly the same qualifiers is used
+        assertEquals("foo", producer.event.fireAsync("foo").toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertTrue(Observer.lastThread.startsWith("default-executor"), Observer.lastThread);
+        assertEquals("foo", producer.event.select(Audit.Literal.INSTANCE).fireAsync("foo").toCompletableFuture()
+                .get(5, TimeUnit.SECONDS));
+        assertTrue(Observer.lastThread.startsWith("audit-executor"), Observer.lastThread);
+        // The parallel mode uses the same executor
+        assertEquals("foo", producer.event.select(Audit.Literal.INSTANCE)
+                .fireAsync("foo", ArcNotificationOptions.withParallelMode()).toCompletableFuture()
+                .get(5, TimeUnit.SECONDS));
+        assertTrue(Observer.lastThread.startsWith("audit-executor"), Observer.lastThread);
+
+        // There is no executor for @Audit @Priority events and so the default executor of the container is used
+        producer.event.select(Audit.Literal.INSTANCE, Priority.Literal.INSTANCE).fireAsync("foo").toCompletableFuture()
+                .get(5, TimeUnit.SECONDS);
+        assertTrue(!Observer.lastThread.startsWith("audit-executor") && !Observer.lastThread.startsWith("default-executor"),
+                Observer.lastThread);
+
+        // The executor from the options takes precedence
+        ExecutorService custom = java.util.concurrent.Executors.newSingleThreadExecutor(r -> new Thread(r, "custom"));
+        try {
+            producer.event.select(Audit.Literal.INSTANCE).fireAsync("foo", NotificationOptions.ofExecutor(custom))
+                    .toCompletableFuture().get(5, TimeUnit.SECONDS);
+            assertEquals("custom", Observer.lastThread);
+        } finally {
+            custom.shutdownNow();
+        }
+    }
+
+    @Singleton
+    static class Producer {
+
+        @Inject
+        Event<String> event;
+
+    }
+
+    @Singleton
+    static class Observer {
+
+        static volatile String lastThread;
+
+        void observe(@ObservesAsync String value) {
+            lastThread = Thread.currentThread().getName();
+        }
+
+    }
+
+    // Not injected anywhere and so removable unless it's an async observer executor
+    @Singleton
+    static class Executors {
+
+        private final ExecutorService defaultExecutor = java.util.concurrent.Executors
+                .newSingleThreadExecutor(r -> new Thread(r, "default-executor"));
+        private final ExecutorService auditExecutor = java.util.concurrent.Executors
+                .newSingleThreadExecutor(r -> new Thread(r, "audit-executor"));
+
+        @Produces
+        @AsyncObserverExecutor
+        ExecutorService defaultExecutor() {
+            return defaultExecutor;
+        }
+
+        @Produces
+        @AsyncObserverExecutor
+        @Audit
+        ExecutorService auditExecutor() {
+            return auditExecutor;
+        }
+
+        @PreDestroy
+        void destroy() {
+            defaultExecutor.shutdownNow();
+            auditExecutor.shutdownNow();
+        }
+
+    }
+
+    @Qualifier
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD, FIELD, PARAMETER })
+    public @interface Audit {
+
+        final class Literal extends AnnotationLiteral<Audit> implements Audit {
+
+            static final Literal INSTANCE = new Literal();
+
+            private static final long serialVersionUID = 1L;
+
+        }
+
+    }
+
+    @Qualifier
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD, FIELD, PARAMETER })
+    public @interface Priority {
+
+        final class Literal extends AnnotationLiteral<Priority> implements Priority {
+
+            static final Literal INSTANCE = new Literal();
+
+            private static final long serialVersionUID = 1L;
+
+        }
+
+    }
+
+}
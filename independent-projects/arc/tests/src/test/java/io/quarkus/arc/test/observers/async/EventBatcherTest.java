@@ -0,0 +1,89 @@
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.EventBatcher;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.ObservesAsync;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class EventBatcherTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Producer.class, BatchObserver.class);
+
+    @Test
+    public void testMaxSize() throws Exception {
+        BatchObserver.BATCHES.clear();
+        EventBatcher<String> batcher = EventBatcher.of(Arc.container().instance(Producer.class).get().event).maxSize(3)
+                .build();
+        CompletionStage<List<String>> first = batcher.add("a");
+        assertSame(first, batcher.add("b"));
+        assertEquals(2, batcher.size());
+        assertSame(first, batcher.add("c"));
+        assertEquals(0, batcher.size());
+        assertEquals(Arrays.asList("a", "b", "c"), first.toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("a", "b", "c"), BatchObserver.BATCHES.poll(5, TimeUnit.SECONDS));
+
+        // An incomplete batch is fired on flush
+        CompletionStage<List<String>> second = batcher.add("d");
+        assertEquals(Collections.singletonList("d"), batcher.flush().toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertTrue(second.toCompletableFuture().isDone());
+        assertEquals(Collections.singletonList("d"), BatchObserver.BATCHES.poll(5, TimeUnit.SECONDS));
+        assertEquals(Collections.emptyList(), batcher.flush().toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertTrue(BatchObserver.BATCHES.isEmpty());
+    }
+
+    @Test
+    public void testMaxDelay() throws Exception {
+        BatchObserver.BATCHES.clear();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            EventBatcher<String> batcher = EventBatcher.of(Arc.container().instance(Producer.class).get().event)
+                    .maxSize(100).maxDelay(Duration.ofMillis(50), scheduler).build();
+            batcher.add("a");
+            batcher.add("b");
+            assertEquals(Arrays.asList("a", "b"), BatchObserver.BATCHES.poll(5, TimeUnit.SECONDS));
+            assertEquals(0, batcher.size());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Singleton
+    static class Producer {
+
+        @Inject
+        Event<List<String>> event;
+
+    }
+
+    @Singleton
+    static class BatchObserver {
+
+        static final BlockingQueue<List<String>> BATCHES = new LinkedBlockingQueue<>();
+
+        void observe(@ObservesAsync List<String> batch) {
+            BATCHES.add(batch);
+        }
+
+    }
+
+}
@@ -0,0 +1,197 @@
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcNotificationOptions;
+import io.quarkus.arc.ArcNotificationOptions.NotificationMode;
+import io.quarkus.arc.AsyncObserverMetrics;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.NotificationOptions;
+import javax.enterprise.event.ObservesAsync;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ParallelAsyncObserverTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Producer.class, Observers.class, RequestFoo.class);
+
+    private static ExecutorService executor;
+
+    @BeforeAll
+    static void init() {
+        executor = Executors.newFixedThreadPool(3);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testParallelNotification() throws InterruptedException, ExecutionException, TimeoutException {
+        Observers.reset(3);
+        Producer producer = Arc.container().instance(Producer.class).get();
+        // All observers wait for each other and so the notification would time out if performed serially
+        assertEquals("foo", producer.event.fireAsync("foo", ArcNotificationOptions.withParallelMode(executor))
+                .toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertEquals(3, Observers.THREADS.size());
+        assertEquals(3, Observers.REQUEST_IDS.size());
+    }
+
+    @Test
+    public void testModeOptionValue() throws InterruptedException, ExecutionException, TimeoutException {
+        Observers.reset(3);
+        Producer producer = Arc.container().instance(Producer.class).get();
+        NotificationOptions options = NotificationOptions.builder().setExecutor(executor)
+                .set(ArcNotificationOptions.MODE, "parallel").build();
+        assertEquals("bar", producer.event.fireAsync("bar", options).toCompletableFuture().get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testExceptions() throws InterruptedException, TimeoutException {
+        Observers.reset(1);
+        Producer producer = Arc.container().instance(Producer.class).get();
+        try {
+            producer.event.fireAsync(Observers.FAIL, ArcNotificationOptions.withParallelMode(executor))
+                    .toCompletableFuture().get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException expected) {
+            assertTrue(expected.getCause() instanceof CompletionException, expected.toString());
+            // All observers were notified, the failures are suppressed
+            assertEquals(3, expected.getCause().getSuppressed().length);
+        }
+    }
+
+    @Test
+    public void testMetrics() throws InterruptedException, ExecutionException, TimeoutException {
+        Observers.reset(3);
+        Producer producer = Arc.container().instance(Producer.class).get();
+        AsyncObserverMetrics metrics = new AsyncObserverMetrics();
+        NotificationOptions options = NotificationOptions.builder().setExecutor(executor)
+                .set(ArcNotificationOptions.MODE, NotificationMode.PARALLEL)
+                .set(ArcNotificationOptions.METRICS, metrics).build();
+        producer.event.fireAsync("foo", options).toCompletableFuture().get(5, TimeUnit.SECONDS);
+        // A task per observer
+        assertEquals(3, metrics.getCompletedCount());
+        assertEquals(0, metrics.getQueueDepth());
+        assertTrue(metrics.getMaxLatency().compareTo(metrics.getAverageLatency()) >= 0);
+        assertTrue(metrics.getAverageLatency().toNanos() > 0);
+
+        // A single task in the serial mode, the observers are not blocked
+        Observers.reset(1);
+        producer.event.fireAsync("bar", ArcNotificationOptions.withMetrics(metrics)).toCompletableFuture().get(5,
+                TimeUnit.SECONDS);
+        assertEquals(4, metrics.getCompletedCount());
+        assertEquals(0, metrics.getQueueDepth());
+
+        // The tasks waiting for a busy executor are queued
+        ExecutorService busy = Executors.newSingleThreadExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            busy.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            Observers.reset(1);
+            CompletableFuture<String> result = producer.event
+                    .fireAsync("baz", NotificationOptions.builder().setExecutor(busy)
+                            .set(ArcNotificationOptions.METRICS, metrics).build())
+                    .toCompletableFuture();
+            assertEquals(1, metrics.getQueueDepth());
+            release.countDown();
+            result.get(5, TimeUnit.SECONDS);
+            assertEquals(0, metrics.getQueueDepth());
+            assertEquals(5, metrics.getCompletedCount());
+        } finally {
+            busy.shutdownNow();
+        }
+    }
+
+    @Singleton
+    static class Producer {
+
+        @Inject
+        Event<String> event;
+
+    }
+
+    @Singleton
+    static class Observers {
+
+        static final String FAIL = "fail";
+        static final Set<Thread> THREADS = ConcurrentHashMap.newKeySet();
+        static final Set<String> REQUEST_IDS = ConcurrentHashMap.newKeySet();
+
+        static volatile CountDownLatch latch;
+
+        static void reset(int parties) {
+            THREADS.clear();
+            REQUEST_IDS.clear();
+            latch = new CountDownLatch(parties);
+        }
+
+        @Inject
+        RequestFoo foo;
+
+        void observeAlpha(@ObservesAsync String value) throws InterruptedException {
+            observe(value);
+        }
+
+        void observeBravo(@ObservesAsync String value) throws InterruptedException {
+            observe(value);
+        }
+
+        void observeCharlie(@ObservesAsync String value) throws InterruptedException {
+            observe(value);
+        }
+
+        private void observe(String value) throws InterruptedException {
+            if (FAIL.equals(value)) {
+                throw new IllegalStateException(value);
+            }
+            THREADS.add(Thread.currentThread());
+            REQUEST_IDS.add(foo.getId());
+            latch.countDown();
+            if (!latch.await(3, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Observers not notified in parallel");
+            }
+        }
+
+    }
+
+    @RequestScoped
+    static class RequestFoo {
+
+        private final String id = UUID.randomUUID().toString();
+
+        String getId() {
+            return id;
+        }
+
+    }
+
+}
@@ -0,0 +1,317 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * A single file that contains the uncompressed entries of several jars, and that is memory mapped at runtime.
+ *
+ * The archive is made of sections, one per jar. Each section has an open addressing hash table that maps the names of
+ * the entries to the offsets of their data, so that an entry can be located directly in the mapped file without
+ * building any index on the heap. The data of each section starts on a page boundary.
+ *
+ * This format is subject to change, and gives no compatibility guarantees, it is only intended to be used
+ * with the same version of Quarkus that created it.
+ */
+public class MappedArchive {
+
+    static final int NOT_MAPPED = -1;
+
+    private static final int MAGIC = 0XF0315433;
+    private static final int VERSION = 1;
+    private static final int PAGE_SIZE = 4096;
+    // Attributes.Name.MULTI_RELEASE is not available on Java 8
+    private static final String MULTI_RELEASE = "Multi-Release";
+    // hash, name offset, name length, data offset, data length
+    private static final int SLOT_SIZE = 5 * Integer.BYTES;
+
+    private final Path path;
+    private final ByteBuffer buffer;
+    private final int[] tableOffsets;
+    private final int[] tableMasks;
+
+    private MappedArchive(Path path, ByteBuffer buffer) {
+        this.path = path;
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC) {
+            throw new RuntimeException("Wrong magic number in " + path);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new RuntimeException("Wrong archive version in " + path);
+        }
+        int sections = buffer.getInt(8);
+        this.tableOffsets = new int[sections];
+        this.tableMasks = new int[sections];
+        for (int i = 0; i < sections; i++) {
+            tableOffsets[i] = buffer.getInt(12 + i * 8);
+            tableMasks[i] = buffer.getInt(16 + i * 8) - 1;
+        }
+    }
+
+    public static MappedArchive open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new MappedArchive(path, buffer);
+        }
+    }
+
+    /**
+     * Writes the entries of the given jars to an archive. Multi-release jars are not written to the archive, as the
+     * entry that is used depends on the runtime version of the JVM.
+     *
+     * @return the index of the section of each jar, or {@link #NOT_MAPPED} if the jar was not written to the archive
+     */
+    public static int[] write(Path path, List<Path> jars) throws IOException {
+        int[] sectionIndexes = new int[jars.size()];
+        List<List<Entry>> sections = new ArrayList<>();
+        for (int i = 0; i < jars.size(); i++) {
+            List<Entry> entries = readEntries(jars.get(i));
+            if (entries == null) {
+                sectionIndexes[i] = NOT_MAPPED;
+            } else {
+                sectionIndexes[i] = sections.size();
+                sections.add(entries);
+            }
+        }
+
+        // first compute the layout: header, then tables and names of all sections, then the data of all sections
+        long position = 12 + sections.size() * 8;
+        int[] tableOffsets = new int[sections.size()];
+        int[] tableSizes = new int[sections.size()];
+        for (int i = 0; i < sections.size(); i++) {
+            List<Entry> entries = sections.get(i);
+            tableOffsets[i] = (int) position;
+            tableSizes[i] = tableSize(entries.size());
+            position += (long) tableSizes[i] * SLOT_SIZE;
+            for (Entry entry : entries) {
+                entry.nameOffset = position;
+                position += entry.name.length;
+            }
+        }
+        for (List<Entry> entries : sections) {
+            position = align(position);
+            for (Entry entry : entries) {
+                entry.dataOffset = position;
+                position += entry.size;
+            }
+        }
+        if (position > Integer.MAX_VALUE) {
+            throw new IOException("The application is too large to be written to a mapped archive: " + position + " bytes");
+        }
+
+        try (OutputStream out = Files.newOutputStream(path);
+                DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, 65536))) {
+            data.writeInt(MAGIC);
+            data.writeInt(VERSION);
+            data.writeInt(sections.size());
+            for (int i = 0; i < sections.size(); i++) {
+                data.writeInt(tableOffsets[i]);
+                data.writeInt(tableSizes[i]);
+            }
+            for (int i = 0; i < sections.size(); i++) {
+                List<Entry> entries = sections.get(i);
+                Entry[] table = new Entry[tableSizes[i]];
+                int mask = table.length - 1;
+                for (Entry entry : entries) {
+                    int slot = entry.hash & mask;
+                    while (table[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+                    table[slot] = entry;
+                }
+                for (Entry entry : table) {
+                    if (entry == null) {
+                        // a zero name offset marks an empty slot, as names are never at the start of the file
+                        for (int j = 0; j < 5; j++) {
+                            data.writeInt(0);
+                        }
+                    } else {
+                        data.writeInt(entry.hash);
+                        data.writeInt((int) entry.nameOffset);
+                        data.writeInt(entry.name.length);
+                        data.writeInt((int) entry.dataOffset);
+                        data.writeInt((int) entry.size);
+                    }
+                }
+                for (Entry entry : entries) {
+                    data.write(entry.name);
+                }
+            }
+            long written = data.size();
+            byte[] buffer = new byte[8192];
+            int section = 0;
+            for (int i = 0; i < jars.size(); i++) {
+                if (sectionIndexes[i] == NOT_MAPPED) {
+                    continue;
+                }
+                long aligned = align(written);
+                while (written < aligned) {
+                    data.write(0);
+                    written++;
+                }
+                try (ZipFile zip = new ZipFile(jars.get(i).toFile())) {
+                    for (Entry entry : sections.get(section++)) {
+                        long remaining = entry.size;
+                        try (InputStream in = zip.getInputStream(zip.getEntry(entry.zipName))) {
+                            while (remaining > 0) {
+                                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                                if (read == -1) {
+                                    throw new IOException(
+                                            "Failed to read all data for " + entry.zipName + " in " + jars.get(i));
+                                }
+                                data.write(buffer, 0, read);
+                                remaining -= read;
+                            }
+                        }
+                        written += entry.size;
+                    }
+                }
+            }
+        }
+        return sectionIndexes;
+    }
+
+    /**
+     * Reads the data of an entry. This method is thread safe and does not block.
+     *
+     * @return the data, or {@code null} if the section does not contain the entry
+     */
+    public byte[] getEntryData(int section, String name) {
+        int slotOffset = findSlot(section, name);
+        if (slotOffset < 0) {
+            return null;
+        }
+        int dataOffset = buffer.getInt(slotOffset + 12);
+        byte[] data = new byte[buffer.getInt(slotOffset + 16)];
+        // the duplicate has its own position, the mapped buffer is never modified
+        ByteBuffer duplicate = buffer.duplicate();
+        duplicate.position(dataOffset);
+        duplicate.get(data);
+        return data;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    private int findSlot(int section, String name) {
+        int hash = name.hashCode();
+        int mask = tableMasks[section];
+        int tableOffset = tableOffsets[section];
+        int slot = hash & mask;
+        while (true) {
+            int slotOffset = tableOffset + slot * SLOT_SIZE;
+            int nameOffset = buffer.getInt(slotOffset + 4);
+            if (nameOffset == 0) {
+                return -1;
+            }
+            if (buffer.getInt(slotOffset) == hash && nameEquals(nameOffset, buffer.getInt(slotOffset + 8), name)) {
+                return slotOffset;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private boolean nameEquals(int offset, int length, String name) {
+        if (length == name.length()) {
+            // fast path for ASCII names, which are encoded with one byte per char
+            int i = 0;
+            for (; i < length; i++) {
+                char c = name.charAt(i);
+                if (c >= 0x80) {
+                    break;
+                }
+                if (buffer.get(offset + i) != c) {
+                    return false;
+                }
+            }
+            if (i == length) {
+                return true;
+            }
+        }
+        byte[] encoded = name.getBytes(StandardCharsets.UTF_8);
+        if (encoded.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(offset + i) != encoded[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Entry> readEntries(Path jar) throws IOException {
+        if (Files.isDirectory(jar)) {
+            return null;
+        }
+        try (JarFile zip = new JarFile(jar.toFile())) {
+            Manifest manifest = zip.getManifest();
+            if (manifest != null && manifest.getMainAttributes() != null
+                    && Boolean.parseBoolean(manifest.getMainAttributes().getValue(MULTI_RELEASE))) {
+                return null;
+            }
+            List<Entry> entries = new ArrayList<>();
+            Enumeration<? extends ZipEntry> zipEntries = zip.entries();
+            while (zipEntries.hasMoreElements()) {
+                ZipEntry zipEntry = zipEntries.nextElement();
+                if (!zipEntry.isDirectory()) {
+                    if (zipEntry.getSize() < 0) {
+                        // the size is always known for the entries of the central directory
+                        throw new IOException("Unknown size of " + zipEntry.getName() + " in " + jar);
+                    }
+                    entries.add(new Entry(zipEntry.getName(), zipEntry.getSize()));
+                }
+            }
+            return entries;
+        }
+    }
+
+    private static int tableSize(int entries) {
+        // keep the load factor under 0.5 so that the probe sequences are short
+        int size = 2;
+        while (size < entries * 2) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    private static long align(long position) {
+        return (position + PAGE_SIZE - 1) & -PAGE_SIZE;
+    }
+
+    private static final class Entry {
+
+        final String zipName;
+        final int hash;
+        final byte[] name;
+        final long size;
+        long nameOffset;
+        long dataOffset;
+
+        Entry(String zipName, long size) {
+            this.zipName = zipName;
+            this.hash = zipName.hashCode();
+            this.name = zipName.getBytes(StandardCharsets.UTF_8);
+            this.size = size;
+        }
+    }
+
+}
@@ -0,0 +1,67 @@
+package io.quarkus.bootstrap.runner;
+
+import java.net.URL;
+import java.nio.file.Path;
+import java.security.ProtectionDomain;
+
+/**
+ * A jar resource whose data is read from a section of a {@link MappedArchive}, without any locking or inflation.
+ *
+ * The jar itself is only opened if the URL of a resource is requested, so that the URLs are the same as with a
+ * {@link JarResource}.
+ */
+public class MappedArchiveResource implements ClassLoadingResource {
+
+    private final MappedArchive archive;
+    private final int section;
+    private final JarResource jarResource;
+
+    public MappedArchiveResource(ManifestInfo manifestInfo, Path jarPath, MappedArchive archive, int section) {
+        this.archive = archive;
+        this.section = section;
+        this.jarResource = new JarResource(manifestInfo, jarPath);
+    }
+
+    @Override
+    public void init(ClassLoader runnerClassLoader) {
+        jarResource.init(runnerClassLoader);
+    }
+
+    @Override
+    public byte[] getResourceData(String resource) {
+        return archive.getEntryData(section, resource);
+    }
+
+    @Override
+    public URL getResourceURL(String resource) {
+        // directories are not stored in the archive, so the jar is always used
+        return jarResource.getResourceURL(resource);
+    }
+
+    @Override
+    public ManifestInfo getManifestInfo() {
+        return jarResource.getManifestInfo();
+    }
+
+    @Override
+    public ProtectionDomain getProtectionDomain() {
+        return jarResource.getProtectionDomain();
+    }
+
+    @Override
+    public void close() {
+        jarResource.close();
+    }
+
+    @Override
+    public void resetInternalCaches() {
+        jarResource.resetInternalCaches();
+    }
+
+    @Override
+    public String toString() {
+        return "MappedArchiveResource{" +
+                jarResource + ", section=" + section +
+                '}';
+    }
+}
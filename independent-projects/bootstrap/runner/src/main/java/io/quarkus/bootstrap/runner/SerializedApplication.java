@@ -38,7 +38,7 @@ public class SerializedApplication {
     private static final Set<String> FULLY_INDEXED_PATHS = new LinkedHashSet<>(Arrays.asList("", "META-INF/services"));
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 2;
+    private static final int VERSION = 3;
 
     private final RunnerClassLoader runnerClassLoader;
     private final String mainClass;
@@ -59,16 +59,33 @@ public class SerializedApplication {
     public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
             List<Path> parentFirst, List<String> nonExistentResources)
             throws IOException {
+        write(outputStream, mainClass, applicationRoot, classPath, parentFirst, nonExistentResources, null);
+    }
+
+    /**
+     * @param mappedArchive if not null, the entries of the class path are also written to a {@link MappedArchive} at
+     *        this location, and are read from this archive at runtime
+     */
+    public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
+            List<Path> parentFirst, List<String> nonExistentResources, Path mappedArchive)
+            throws IOException {
+        int[] sections = null;
+        if (mappedArchive != null) {
+            sections = MappedArchive.write(mappedArchive, classPath);
+        }
         try (DataOutputStream data = new DataOutputStream(outputStream)) {
             data.writeInt(MAGIC);
             data.writeInt(VERSION);
             data.writeUTF(mainClass);
+            writeNullableString(data, mappedArchive == null ? null
+                    : applicationRoot.relativize(mappedArchive).toString().replace('\\', '/'));
             data.writeShort(classPath.size());
             Map<String, List<Integer>> directlyIndexedResourcesToCPJarIndex = new HashMap<>();
             for (int i = 0; i < classPath.size(); i++) {
                 Path jar = classPath.get(i);
                 String relativePath = applicationRoot.relativize(jar).toString().replace('\\', '/');
                 data.writeUTF(relativePath);
+                data.writeShort(sections == null ? MappedArchive.NOT_MAPPED : sections[i]);
                 Collection<String> resources = writeJar(data, jar);
                 for (String resource : resources) {
                     directlyIndexedResourcesToCPJarIndex.computeIfAbsent(resource, s -> new ArrayList<>()).add(i);
@@ -108,19 +125,28 @@ public class SerializedApplication {
                 throw new RuntimeException("Wrong class path version");
             }
             String mainClass = in.readUTF();
+            String mappedArchivePath = readNullableString(in);
+            MappedArchive mappedArchive = mappedArchivePath == null ? null
+                    : MappedArchive.open(appRoot.resolve(mappedArchivePath));
             Map<String, ClassLoadingResource[]> resourceDirectoryMap = new HashMap<>();
             Set<String> parentFirstPackages = new HashSet<>();
             int numPaths = in.readUnsignedShort();
             ClassLoadingResource[] allClassLoadingResources = new ClassLoadingResource[numPaths];
             for (int pathCount = 0; pathCount < numPaths; pathCount++) {
                 String path = in.readUTF();
+                short section = in.readShort();
                 boolean hasManifest = in.readBoolean();
                 ManifestInfo info = null;
                 if (hasManifest) {
                     info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
                             readNullableString(in), readNullableString(in), readNullableString(in));
                 }
-                JarResource resource = new JarResource(info, appRoot.resolve(path));
+                ClassLoadingResource resource;
+                if (section == MappedArchive.NOT_MAPPED) {
+                    resource = new JarResource(info, appRoot.resolve(path));
+                } else {
+                    resource = new MappedArchiveResource(info, appRoot.resolve(path), mappedArchive, section);
+                }
                 allClassLoadingResources[pathCount] = resource;
                 int numDirs = in.readUnsignedShort();
                 for (int i = 0; i < numDirs; ++i) {
@@ -165,7 +191,7 @@ public class SerializedApplication {
         }
     }
 
-    private static void addResourceDir(String dir, JarResource resource,
+    private static void addResourceDir(String dir, ClassLoadingResource resource,
             Map<String, ClassLoadingResource[]> resourceDirectoryMap) {
         ClassLoadingResource[] existing = resourceDirectoryMap.get(dir);
         if (existing == null) {
@@ -0,0 +1,60 @@
+package io.quarkus.bootstrap.runner;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MappedArchive}
+ */
+public class MappedArchiveTest {
+
+    @Test
+    public void testEntriesAreReadFromTheirSection() throws Exception {
+        final Path testDir = Files.createTempDirectory("test");
+        final Path first = createJar(testDir, "first.jar", ShrinkWrap.create(JavaArchive.class)
+                .add(new StringAsset("first"), "a.txt")
+                .add(new StringAsset("only in first"), "org/acme/b.txt")
+                .add(new StringAsset("unicode"), "org/acme/été.txt"));
+        final Path second = createJar(testDir, "second.jar", ShrinkWrap.create(JavaArchive.class)
+                .add(new StringAsset("second"), "a.txt")
+                .add(new StringAsset(""), "empty.txt"));
+        final Path multiRelease = createJar(testDir, "multi-release.jar", ShrinkWrap.create(JavaArchive.class)
+                .add(new StringAsset("Manifest-Version: 1.0\nMulti-Release: true\n"), "META-INF/MANIFEST.MF")
+                .add(new StringAsset("base"), "c.txt")
+                .add(new StringAsset("11"), "META-INF/versions/11/c.txt"));
+
+        final Path archivePath = testDir.resolve("application.archive");
+        final int[] sections = MappedArchive.write(archivePath, Arrays.asList(first, multiRelease, second));
+        Assertions.assertArrayEquals(new int[] { 0, MappedArchive.NOT_MAPPED, 1 }, sections);
+
+        final MappedArchive archive = MappedArchive.open(archivePath);
+        Assertions.assertEquals("first", read(archive, 0, "a.txt"));
+        Assertions.assertEquals("only in first", read(archive, 0, "org/acme/b.txt"));
+        Assertions.assertEquals("unicode", read(archive, 0, "org/acme/été.txt"));
+        Assertions.assertEquals("second", read(archive, 1, "a.txt"));
+        Assertions.assertEquals("", read(archive, 1, "empty.txt"));
+        Assertions.assertNull(archive.getEntryData(1, "org/acme/b.txt"));
+        Assertions.assertNull(archive.getEntryData(0, "org/acme"));
+        Assertions.assertNull(archive.getEntryData(0, "missing.txt"));
+    }
+
+    private static Path createJar(Path dir, String name, JavaArchive jar) {
+        final Path path = dir.resolve(name);
+        jar.as(ZipExporter.class).exportTo(path.toFile(), true);
+        return path;
+    }
+
+    private static String read(MappedArchive archive, int section, String name) {
+        final byte[] data = archive.getEntryData(section, name);
+        Assertions.assertNotNull(data, name + " is missing in section " + section);
+        return new String(data, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,45 @@
+package io.quarkus.qute.benchmarks;
+
+import io.quarkus.qute.Escaper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the escaping of values that do not need to be escaped (the most common case) and of values that do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EscapingBenchmark {
+
+    @Param({ "Lorem ipsum dolor sit amet, consectetur adipiscing elit",
+            "Lorem <b>ipsum</b> & \"dolor\" sit amet, consectetur adipiscing elit" })
+    String value;
+
+    private Escaper escaper;
+
+    @Setup
+    public void setup() {
+        escaper = Escaper.builder().add('"', "&quot;").add('\'', "&#39;").add('&', "&amp;").add('<', "&lt;")
+                .add('>', "&gt;").build();
+    }
+
+    @Benchmark
+    public String escape() {
+        return escaper.escape(value);
+    }
+
+}
@@ -0,0 +1,144 @@
+package io.quarkus.qute.benchmarks;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.HtmlEscaper;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.Utf8Consumer;
+import io.quarkus.qute.Variant;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the render throughput of typical templates - a loop, an include with inserts and nested if sections.
+ * <p>
+ * Build with {@code mvn install -Dbenchmarks} and run with {@code java -jar benchmarks/target/benchmarks.jar}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderBenchmark {
+
+    private static final Variant HTML = new Variant(Locale.ENGLISH, Variant.TEXT_HTML, StandardCharsets.UTF_8.name());
+
+    @Param({ "10", "100" })
+    int size;
+
+    private Template loop;
+    private Template include;
+    private Template nestedIf;
+    private List<Item> items;
+
+    @Setup
+    public void setup() {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addResultMapper(new HtmlEscaper()).build();
+        loop = engine.parse("<ul>\n"
+                + "{#for item in items}\n"
+                + "  <li class=\"{#if item_odd}odd{#else}even{/if}\">{item_count}. {item.name} - {item.price}</li>\n"
+                + "{/for}\n"
+                + "</ul>", HTML);
+        engine.putTemplate("base", engine.parse("<html>\n"
+                + "<head><title>{#insert title}Default title{/insert}</title></head>\n"
+                + "<body>\n"
+                + "{#insert body}No body!{/insert}\n"
+                + "</body>\n"
+                + "</html>", HTML));
+        include = engine.parse("{#include base}\n"
+                + "{#title}Items{/title}\n"
+                + "{#body}\n"
+                + "{#for item in items}<p>{item.name} &lt;{item.description}&gt;</p>\n{/for}\n"
+                + "{/body}\n"
+                + "{/include}", HTML);
+        nestedIf = engine.parse("{#for item in items}\n"
+                + "{#if item.active}\n"
+                + "  {#if item.price > 50}\n"
+                + "    {#if item.name is 'Item 0'}First expensive{#else}Expensive {item.name}{/if}\n"
+                + "  {#else}\n"
+                + "    Cheap {item.name}\n"
+                + "  {/if}\n"
+                + "{#else}\n"
+                + "  Inactive\n"
+                + "{/if}\n"
+                + "{/for}", HTML);
+        items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(new Item("Item " + i, i % 2 == 0 ? "A plain description" : "Tom & Jerry's \"<b>\" description",
+                    i * 7 % 100, i % 3 != 0));
+        }
+    }
+
+    @Benchmark
+    public String loop() {
+        return loop.data("items", items).render();
+    }
+
+    @Benchmark
+    public String include() {
+        return include.data("items", items).render();
+    }
+
+    @Benchmark
+    public String nestedIf() {
+        return nestedIf.data("items", items).render();
+    }
+
+    @Benchmark
+    public byte[] loopUtf8() {
+        BytesConsumer consumer = new BytesConsumer();
+        loop.data("items", items).consume(consumer).toCompletableFuture().join();
+        return consumer.out.toByteArray();
+    }
+
+    static class BytesConsumer implements Utf8Consumer {
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+
+        @Override
+        public void accept(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.write(bytes, 0, bytes.length);
+        }
+
+        @Override
+        public void acceptUtf8(byte[] value) {
+            out.write(value, 0, value.length);
+        }
+
+    }
+
+    public static class Item {
+
+        public final String name;
+        public final String description;
+        public final int price;
+        public final boolean active;
+
+        Item(String name, String description, int price, boolean active) {
+            this.name = name;
+            this.description = description;
+            this.price = price;
+            this.active = active;
+        }
+
+    }
+
+}
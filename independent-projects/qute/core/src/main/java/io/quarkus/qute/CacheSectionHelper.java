@@ -0,0 +1,302 @@
+package io.quarkus.qute;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import io.quarkus.qute.SectionHelperFactory.SectionInitContext;
+
+/**
+ * Caches the rendered output of the main block, e.g. <code>{#cached key=item.id ttl=10m}...{/cached}</code>.
+ * <p>
+ * This section is not registered by default, a {@link Factory} must be registered with the engine builder. Each factory
+ * created with the no-args constructor has its own in-memory cache.
+ * <p>
+ * The optional {@code key} parameter is an expression. Its value, together with the position of the section in the
+ * template, identifies the cached output, see {@link Key}. If not specified the output of the section is cached only once. The
+ * optional
+ * {@code ttl} parameter defines how long the output is cached, e.g. {@code 500ms}, {@code 30s}, {@code 10m}, {@code 1h},
+ * {@code 2d} or an ISO-8601 duration such as {@code PT10M}. If not specified the output is cached until it's evicted.
+ * <p>
+ * Note that the cached output is used regardless of the data that are not part of the key.
+ *
+ * @see Cache
+ */
+public class CacheSectionHelper implements SectionHelper {
+
+    public static final String CACHED = "cached";
+
+    static final String KEY = "key";
+    static final String TTL = "ttl";
+
+    private final SectionBlock main;
+    private final Expression key;
+    private final Duration ttl;
+    private final String sectionId;
+    private final Cache cache;
+
+    CacheSectionHelper(SectionInitContext context, Cache cache) {
+        this.main = context.getBlocks().get(0);
+        this.key = context.getExpression(KEY);
+        this.ttl = context.hasParameter(TTL) ? parseTtl(context.getParameter(TTL)) : null;
+        this.sectionId = main.origin.getTemplateGeneratedId() + ":" + main.origin.getLine() + ":"
+                + main.origin.getLineCharacterStart();
+        this.cache = cache;
+    }
+
+    @Override
+    public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
+        if (key == null) {
+            return cache.getValue(new Key(sectionId, null), ttl, k -> render(context));
+        }
+        return context.resolutionContext().evaluate(key)
+                .thenCompose(value -> cache.getValue(new Key(sectionId, value), ttl, k -> render(context)));
+    }
+
+    private CompletionStage<ResultNode> render(SectionResolutionContext context) {
+        return context.execute().thenApply(node -> {
+            // The output is processed now so that only static text is kept in the cache
+            StringBuilder builder = new StringBuilder();
+            node.process(builder::append);
+            return new TextNode(builder.toString(), main.origin);
+        });
+    }
+
+    static Duration parseTtl(String value) {
+        String ttl = LiteralSupport.isStringLiteralSeparator(value.charAt(0)) ? value.substring(1, value.length() - 1)
+                : value;
+        try {
+            if (ttl.startsWith("P") || ttl.startsWith("p")) {
+                return Duration.parse(ttl);
+            }
+            if (ttl.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(ttl.substring(0, ttl.length() - 2)));
+            }
+            long amount = Long.parseLong(ttl.substring(0, ttl.length() - 1));
+            switch (ttl.charAt(ttl.length() - 1)) {
+                case 's':
+                    return Duration.ofSeconds(amount);
+                case 'm':
+                    return Duration.ofMinutes(amount);
+                case 'h':
+                    return Duration.ofHours(amount);
+                case 'd':
+                    return Duration.ofDays(amount);
+                default:
+                    throw new TemplateException("Invalid ttl value: " + value);
+            }
+        } catch (NumberFormatException | DateTimeParseException | StringIndexOutOfBoundsException e) {
+            throw new TemplateException("Invalid ttl value: " + value);
+        }
+    }
+
+    /**
+     * Identifies the cached output of a section. The values of the {@code key} expression are compared with
+     * {@link Object#equals(Object)}, so {@code null} and {@code "null"} are different keys.
+     */
+    public static final class Key {
+
+        private final String sectionId;
+        private final Object value;
+
+        Key(String sectionId, Object value) {
+            this.sectionId = sectionId;
+            this.value = value;
+        }
+
+        /**
+         * @return the identifier of the section, derived from the template and the position of the section
+         */
+        public String getSectionId() {
+            return sectionId;
+        }
+
+        /**
+         * @return the value of the {@code key} expression, or {@code null}
+         */
+        public Object getValue() {
+            return value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * sectionId.hashCode() + Objects.hashCode(value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return sectionId.equals(other.sectionId) && Objects.equals(value, other.value);
+        }
+
+        @Override
+        public String toString() {
+            return "Key [sectionId=" + sectionId + ", value=" + value + "]";
+        }
+
+    }
+
+    /**
+     * Stores the output of the {@code cached} sections.
+     */
+    public interface Cache {
+
+        /**
+         * The loader renders the section with the data of the current rendering. Therefore, it may only be invoked before
+         * the returned stage completes and must not be retained afterwards, e.g. to refresh the output in the background.
+         *
+         * @param key the key that identifies the cached output
+         * @param ttl how long the output should be cached, or {@code null} if not specified
+         * @param loader used to render the output if not cached yet
+         * @return the cached output
+         */
+        CompletionStage<ResultNode> getValue(Key key, Duration ttl,
+                Function<Key, CompletionStage<ResultNode>> loader);
+
+    }
+
+    /**
+     * A simple in-memory cache. If the maximum size is reached then expired entries are removed first, and if none is
+     * found then an arbitrary entry is evicted.
+     */
+    public static class DefaultCache implements Cache {
+
+        public static final int DEFAULT_MAX_SIZE = 1000;
+
+        private final Map<Key, Entry> entries;
+        private final int maxSize;
+
+        public DefaultCache() {
+            this(DEFAULT_MAX_SIZE);
+        }
+
+        public DefaultCache(int maxSize) {
+            this.entries = new ConcurrentHashMap<>();
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public CompletionStage<ResultNode> getValue(Key key, Duration ttl,
+                Function<Key, CompletionStage<ResultNode>> loader) {
+            long now = System.nanoTime();
+            Entry entry = entries.get(key);
+            if (entry != null && !entry.isExpired(now)) {
+                return entry.value;
+            }
+            CompletableFuture<ResultNode> value = new CompletableFuture<>();
+            Entry newEntry = new Entry(value, ttl != null ? now + ttl.toNanos() : 0);
+            Entry current = entries.compute(key, (k, e) -> e == null || e.isExpired(now) ? newEntry : e);
+            if (current != newEntry) {
+                // Loaded concurrently
+                return current.value;
+            }
+            if (entries.size() > maxSize) {
+                evict(key, now);
+            }
+            loader.apply(key).whenComplete((r, t) -> {
+                if (t == null) {
+                    value.complete(r);
+                } else {
+                    entries.remove(key, newEntry);
+                    value.completeExceptionally(t);
+                }
+            });
+            return value;
+        }
+
+        public void clear() {
+            entries.clear();
+        }
+
+        int size() {
+            return entries.size();
+        }
+
+        private void evict(Key key, long now) {
+            if (entries.values().removeIf(e -> e.isExpired(now)) || entries.size() <= maxSize) {
+                return;
+            }
+            for (Iterator<Key> it = entries.keySet().iterator(); it.hasNext() && entries.size() > maxSize;) {
+                if (!it.next().equals(key)) {
+                    it.remove();
+                }
+            }
+        }
+
+        static final class Entry {
+
+            final CompletableFuture<ResultNode> value;
+            final long expiresAt;
+
+            Entry(CompletableFuture<ResultNode> value, long expiresAt) {
+                this.value = value;
+                this.expiresAt = expiresAt;
+            }
+
+            boolean isExpired(long now) {
+                return expiresAt != 0 && now - expiresAt >= 0;
+            }
+
+        }
+
+    }
+
+    public static class Factory implements SectionHelperFactory<CacheSectionHelper> {
+
+        private final Cache cache;
+
+        public Factory() {
+            this(new DefaultCache());
+        }
+
+        public Factory(Cache cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public List<String> getDefaultAliases() {
+            return ImmutableList.of(CACHED);
+        }
+
+        @Override
+        public ParametersInfo getParameters() {
+            return ParametersInfo.builder().addParameter(new Parameter(KEY, null, true))
+                    .addParameter(new Parameter(TTL, null, true)).build();
+        }
+
+        @Override
+        public CacheSectionHelper initialize(SectionInitContext context) {
+            return new CacheSectionHelper(context, cache);
+        }
+
+        @Override
+        public Scope initializeBlock(Scope previousScope, BlockInfo block) {
+            if (block.getLabel().equals(MAIN_BLOCK_NAME)) {
+                String key = block.getParameter(KEY);
+                if (key != null) {
+                    block.addExpression(KEY, key);
+                }
+                if (block.hasParameter(TTL)) {
+                    // Fail fast
+                    parseTtl(block.getParameter(TTL));
+                }
+            }
+            return previousScope;
+        }
+
+    }
+
+}
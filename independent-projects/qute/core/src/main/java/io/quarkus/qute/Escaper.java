@@ -3,6 +3,7 @@ package io.quarkus.qute;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 
 /**
@@ -10,6 +11,10 @@ import java.util.Objects;
  */
 public final class Escaper {
 
+    // Replacements for characters lower than TABLE_LIMIT are looked up in an array to avoid boxing
+    static final int TABLE_LIMIT = 256;
+
+    private final String[] table;
     private final Map<Character, String> replacements;
 
     /**
@@ -17,8 +22,23 @@ public final class Escaper {
      * @param replacements
      */
     private Escaper(Map<Character, String> replacements) {
-        this.replacements = replacements.isEmpty() ? Collections.emptyMap()
-                : new HashMap<>(replacements);
+        int tableLength = 0;
+        Map<Character, String> others = new HashMap<>();
+        for (Entry<Character, String> entry : replacements.entrySet()) {
+            char c = entry.getKey();
+            if (c < TABLE_LIMIT) {
+                tableLength = Math.max(tableLength, c + 1);
+            } else {
+                others.put(c, entry.getValue());
+            }
+        }
+        this.table = new String[tableLength];
+        for (Entry<Character, String> entry : replacements.entrySet()) {
+            if (entry.getKey() < TABLE_LIMIT) {
+                table[entry.getKey()] = entry.getValue();
+            }
+        }
+        this.replacements = others.isEmpty() ? Collections.emptyMap() : others;
     }
 
     /**
@@ -27,15 +47,12 @@ public final class Escaper {
      * @return an escaped value
      */
     public String escape(CharSequence value) {
-        Objects.requireNonNull(value);
-        if (value.length() == 0) {
-            return value.toString();
-        }
-        for (int i = 0; i < value.length(); i++) {
-            String replacement = replacements.get(value.charAt(i));
+        int length = Objects.requireNonNull(value).length();
+        for (int i = 0; i < length; i++) {
+            String replacement = replacementFor(value.charAt(i));
             if (replacement != null) {
                 // In most cases we will not need to escape the value at all
-                return doEscape(value, i, new StringBuilder(value.subSequence(0, i)).append(replacement));
+                return doEscape(value, i, new StringBuilder(length + 16).append(value, 0, i).append(replacement));
             }
         }
         return value.toString();
@@ -45,7 +62,7 @@ public final class Escaper {
         int length = value.length();
         while (++index < length) {
             char c = value.charAt(index);
-            String replacement = replacements.get(c);
+            String replacement = replacementFor(c);
             if (replacement != null) {
                 builder.append(replacement);
             } else {
@@ -55,6 +72,13 @@ public final class Escaper {
         return builder.toString();
     }
 
+    private String replacementFor(char c) {
+        if (c < table.length) {
+            return table[c];
+        }
+        return replacements.isEmpty() ? null : replacements.get(c);
+    }
+
     /**
      *
      * @return a new builder instance
@@ -6,6 +6,17 @@ import java.util.Optional;
 
 public class HtmlEscaper implements ResultMapper {
 
+    // Replacements indexed by the escaped character, '>' is the highest one
+    private static final String[] REPLACEMENTS = new String['>' + 1];
+
+    static {
+        REPLACEMENTS['"'] = "&quot;";
+        REPLACEMENTS['\''] = "&#39;";
+        REPLACEMENTS['&'] = "&amp;";
+        REPLACEMENTS['<'] = "&lt;";
+        REPLACEMENTS['>'] = "&gt;";
+    }
+
     @Override
     public boolean appliesTo(Origin origin, Object result) {
         if (result instanceof RawString) {
@@ -24,14 +35,12 @@ public class HtmlEscaper implements ResultMapper {
     }
 
     String escape(CharSequence value) {
-        if (Objects.requireNonNull(value).length() == 0) {
-            return value.toString();
-        }
-        for (int i = 0; i < value.length(); i++) {
-            String replacement = replacementFor(value.charAt(i));
-            if (replacement != null) {
+        int length = Objects.requireNonNull(value).length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < REPLACEMENTS.length && REPLACEMENTS[c] != null) {
                 // In most cases we will not need to escape the value at all
-                return doEscape(value, i, new StringBuilder(value.subSequence(0, i)).append(replacement));
+                return doEscape(value, i, new StringBuilder(length + 16).append(value, 0, i).append(REPLACEMENTS[c]));
             }
         }
         return value.toString();
@@ -47,9 +56,8 @@ public class HtmlEscaper implements ResultMapper {
         int length = value.length();
         while (++index < length) {
             char c = value.charAt(index);
-            String replacement = replacementFor(c);
-            if (replacement != null) {
-                builder.append(replacement);
+            if (c < REPLACEMENTS.length && REPLACEMENTS[c] != null) {
+                builder.append(REPLACEMENTS[c]);
             } else {
                 builder.append(c);
             }
@@ -57,21 +65,4 @@ public class HtmlEscaper implements ResultMapper {
         return builder.toString();
     }
 
-    private String replacementFor(char c) {
-        switch (c) {
-            case '"':
-                return "&quot;";
-            case '\'':
-                return "&#39;";
-            case '&':
-                return "&amp;";
-            case '<':
-                return "&lt;";
-            case '>':
-                return "&gt;";
-            default:
-                return null;
-        }
-    }
-
 }
@@ -1,16 +1,21 @@
 package io.quarkus.qute;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 /**
  * Static text.
+ * <p>
+ * The value is encoded in UTF-8 lazily, once it is first consumed by a {@link Utf8Consumer}.
  */
 public class TextNode implements TemplateNode, ResultNode {
 
     private final CompletableFuture<ResultNode> result;
     private final String value;
+    // Racy single-check, the value may be encoded more than once but the result is always the same
+    private volatile byte[] utf8Value;
     private final Origin origin;
 
     public TextNode(String value, Origin origin) {
@@ -37,9 +42,26 @@ public class TextNode implements TemplateNode, ResultNode {
         return value;
     }
 
+    /**
+     * 
+     * @return the UTF-8 encoded value, must not be modified
+     */
+    public byte[] getUtf8Value() {
+        byte[] encoded = utf8Value;
+        if (encoded == null) {
+            encoded = value.getBytes(StandardCharsets.UTF_8);
+            utf8Value = encoded;
+        }
+        return encoded;
+    }
+
     @Override
     public void process(Consumer<String> consumer) {
-        consumer.accept(value);
+        if (consumer instanceof Utf8Consumer) {
+            ((Utf8Consumer) consumer).acceptUtf8(getUtf8Value());
+        } else {
+            consumer.accept(value);
+        }
     }
 
     @Override
@@ -0,0 +1,21 @@
+package io.quarkus.qute;
+
+import java.util.function.Consumer;
+
+/**
+ * A consumer of the rendered output that is able to accept static template text that was already encoded in UTF-8.
+ * <p>
+ * The text of a template is encoded once, when the template is parsed. If a consumer passed to
+ * {@link TemplateInstance#consume(Consumer)} implements this interface the encoded bytes are used instead of the original
+ * string, i.e. the static text does not have to be encoded again and again for every rendering.
+ */
+public interface Utf8Consumer extends Consumer<String> {
+
+    /**
+     * The array is shared by all renderings of the template and must not be modified.
+     * 
+     * @param value The UTF-8 encoded value
+     */
+    void acceptUtf8(byte[] value);
+
+}
@@ -0,0 +1,117 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.qute.CacheSectionHelper.DefaultCache;
+
+public class CacheSectionTest {
+
+    @Test
+    public void testCachedByKey() {
+        Engine engine = Engine.builder().addDefaults().addSectionHelper(new CacheSectionHelper.Factory())
+                .addValueResolver(new ReflectionValueResolver()).build();
+        Template template = engine.parse("{#cached key=id}{name}:{counter.incrementAndGet}{/cached}!");
+        AtomicInteger counter = new AtomicInteger();
+        assertEquals("Lu:1!", template.data("id", 1, "name", "Lu", "counter", counter).render());
+        assertEquals("Lu:1!", template.data("id", 1, "name", "Jo", "counter", counter).render());
+        assertEquals("Jo:2!", template.data("id", 2, "name", "Jo", "counter", counter).render());
+        assertEquals(2, counter.get());
+    }
+
+    @Test
+    public void testCachedWithoutKey() {
+        Engine engine = Engine.builder().addDefaults().addSectionHelper(new CacheSectionHelper.Factory()).build();
+        Template template = engine.parse("{#cached}{name}{/cached} {#cached}{name}{/cached}");
+        assertEquals("Lu Lu", template.data("name", "Lu").render());
+        // Each section is cached separately
+        assertEquals("Lu Lu", template.data("name", "Jo").render());
+        // Sections of another template are cached separately too
+        assertEquals("Jo Jo", engine.parse("{#cached}{name}{/cached} {#cached}{name}{/cached}").data("name", "Jo").render());
+    }
+
+    @Test
+    public void testNullKey() {
+        Engine engine = Engine.builder().addDefaults().addSectionHelper(new CacheSectionHelper.Factory()).build();
+        Template template = engine.parse("{#cached key=id}{name}{/cached}");
+        assertEquals("Lu", template.data("id", null, "name", "Lu").render());
+        assertEquals("Jo", template.data("id", "null", "name", "Jo").render());
+        assertEquals("Lu", template.data("id", null, "name", "Jo").render());
+    }
+
+    @Test
+    public void testNotRegisteredByDefault() {
+        assertThrows(TemplateException.class,
+                () -> Engine.builder().addDefaults().build().parse("{#cached}{name}{/cached}"));
+    }
+
+    @Test
+    public void testEngineCaches() {
+        // Each engine has its own cache
+        String content = "{#cached}{name}{/cached}";
+        Engine engine1 = Engine.builder().addDefaults().addSectionHelper(new CacheSectionHelper.Factory()).build();
+        Engine engine2 = Engine.builder().addDefaults().addSectionHelper(new CacheSectionHelper.Factory()).build();
+        assertEquals("Lu", engine1.parse(content, null, "foo").data("name", "Lu").render());
+        assertEquals("Jo", engine2.parse(content, null, "foo").data("name", "Jo").render());
+    }
+
+    @Test
+    public void testTtl() throws InterruptedException {
+        Engine engine = Engine.builder().addDefaults().addSectionHelper(new CacheSectionHelper.Factory()).build();
+        Template template = engine.parse("{#cached key='foo' ttl=10ms}{name}{/cached}");
+        assertEquals("Lu", template.data("name", "Lu").render());
+        assertEquals("Lu", template.data("name", "Jo").render());
+        Thread.sleep(20);
+        assertEquals("Jo", template.data("name", "Jo").render());
+    }
+
+    @Test
+    public void testParseTtl() {
+        assertEquals(Duration.ofMillis(500), CacheSectionHelper.parseTtl("500ms"));
+        assertEquals(Duration.ofSeconds(30), CacheSectionHelper.parseTtl("30s"));
+        assertEquals(Duration.ofMinutes(10), CacheSectionHelper.parseTtl("'10m'"));
+        assertEquals(Duration.ofHours(1), CacheSectionHelper.parseTtl("1h"));
+        assertEquals(Duration.ofDays(2), CacheSectionHelper.parseTtl("2d"));
+        assertEquals(Duration.ofMinutes(5), CacheSectionHelper.parseTtl("PT5M"));
+        assertThrows(TemplateException.class, () -> CacheSectionHelper.parseTtl("10x"));
+        assertThrows(TemplateException.class, () -> CacheSectionHelper.parseTtl("m"));
+        assertThrows(TemplateException.class,
+                () -> Engine.builder().addDefaults().addSectionHelper(new CacheSectionHelper.Factory()).build()
+                        .parse("{#cached ttl=foo}{name}{/cached}"));
+    }
+
+    @Test
+    public void testMaxSize() {
+        DefaultCache cache = new DefaultCache(2);
+        Engine engine = Engine.builder().addDefaults().addSectionHelper(new CacheSectionHelper.Factory(cache)).build();
+        Template template = engine.parse("{#cached key=id}{name}{/cached}");
+        for (int i = 0; i < 10; i++) {
+            assertEquals("" + i, template.data("id", i, "name", i).render());
+            assertTrue(cache.size() <= 2);
+        }
+        // The last entry is never evicted
+        assertEquals("9", template.data("id", 9, "name", "foo").render());
+    }
+
+    @Test
+    public void testCustomCache() {
+        List<String> keys = new ArrayList<>();
+        Engine engine = Engine.builder().addDefaults()
+                .addSectionHelper(new CacheSectionHelper.Factory((key, ttl, loader) -> {
+                    keys.add(key.getValue() + "|" + ttl);
+                    return loader.apply(key);
+                })).build();
+        assertEquals("Lu", engine.parse("{#cached key=name ttl=1h}{name}{/cached}").data("name", "Lu").render());
+        assertEquals(1, keys.size());
+        assertEquals("Lu|PT1H", keys.get(0));
+    }
+
+}
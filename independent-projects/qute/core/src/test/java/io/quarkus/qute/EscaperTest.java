@@ -21,6 +21,11 @@ public class EscaperTest {
                 .add('&', "&amp;").add('<', "&lt;").add('>', "&gt;").build();
         assertEquals("&lt;strong&gt;Čolek&lt;/strong&gt;", html.escape("<strong>Čolek</strong>"));
         assertEquals("&lt;a&gt;&amp;link&quot;&#39;&lt;/a&gt;", html.escape("<a>&link\"'</a>"));
+
+        Escaper nonAscii = Escaper.builder().add('Č', "C").add('é', "e").build();
+        assertEquals("Colek cafe", nonAscii.escape("Čolek café"));
+        assertEquals("foo", nonAscii.escape("foo"));
+        assertEquals("", nonAscii.escape(""));
     }
 
     @Test
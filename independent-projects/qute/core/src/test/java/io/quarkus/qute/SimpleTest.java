@@ -1,10 +1,14 @@
 package io.quarkus.qute;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import io.quarkus.qute.Results.Result;
 import io.quarkus.qute.TemplateNode.Origin;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -226,4 +230,31 @@ public class SimpleTest {
                 engine.parse("START{#for pet in pets.orEmpty}...{/for}END::START{#for dog in dogs.orEmpty}{dog}{/for}END")
                         .data("pets", null, "dogs", Collections.singleton("Jack")).render());
     }
+
+    @Test
+    public void testUtf8Consumer() {
+        Engine engine = Engine.builder().addDefaults().build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<Object> chunks = new ArrayList<>();
+        engine.parse("Čolek {name}\n{#for i in items}ž{i}{/for}").data("name", "Ý", "items", ImmutableList.of(1, 2))
+                .consume(new Utf8Consumer() {
+
+                    @Override
+                    public void accept(String value) {
+                        chunks.add(value);
+                        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                        out.write(bytes, 0, bytes.length);
+                    }
+
+                    @Override
+                    public void acceptUtf8(byte[] value) {
+                        chunks.add(value);
+                        out.write(value, 0, value.length);
+                    }
+                }).toCompletableFuture().join();
+        assertEquals("Čolek Ý\nž1ž2", new String(out.toByteArray(), StandardCharsets.UTF_8));
+        // Static text is pre-encoded, values are not
+        assertTrue(chunks.get(0) instanceof byte[]);
+        assertEquals("Ý", chunks.get(1));
+    }
 }
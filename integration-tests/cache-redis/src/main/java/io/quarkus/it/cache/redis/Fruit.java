@@ -0,0 +1,24 @@
+package io.quarkus.it.cache.redis;
+
+import java.io.Serializable;
+
+public class Fruit implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+    private final int version;
+
+    public Fruit(String name, int version) {
+        this.name = name;
+        this.version = version;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,32 @@
+package io.quarkus.it.cache.redis;
+
+import javax.inject.Inject;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+@Path("/fruits")
+public class FruitResource {
+
+    @Inject
+    FruitService fruitService;
+
+    @GET
+    @Path("/{name}")
+    public String get(@PathParam("name") String name) {
+        Fruit fruit = fruitService.get(name);
+        return fruit.getName() + ":" + fruit.getVersion();
+    }
+
+    @DELETE
+    @Path("/{name}")
+    public void invalidate(@PathParam("name") String name) {
+        fruitService.invalidate(name);
+    }
+
+    @DELETE
+    public void invalidateAll() {
+        fruitService.invalidateAll();
+    }
+}
@@ -0,0 +1,33 @@
+package io.quarkus.it.cache.redis;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheInvalidateAll;
+import io.quarkus.cache.CacheResult;
+
+@ApplicationScoped
+public class FruitService {
+
+    public static final String CACHE_NAME = "fruits";
+
+    private final Map<String, AtomicInteger> versions = new ConcurrentHashMap<>();
+
+    @CacheResult(cacheName = CACHE_NAME)
+    public Fruit get(String name) {
+        // The version is incremented each time the value is actually loaded.
+        return new Fruit(name, versions.computeIfAbsent(name, n -> new AtomicInteger()).incrementAndGet());
+    }
+
+    @CacheInvalidate(cacheName = CACHE_NAME)
+    public void invalidate(String name) {
+    }
+
+    @CacheInvalidateAll(cacheName = CACHE_NAME)
+    public void invalidateAll() {
+    }
+}
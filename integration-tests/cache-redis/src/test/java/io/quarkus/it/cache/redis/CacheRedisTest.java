@@ -0,0 +1,147 @@
+package io.quarkus.it.cache.redis;
+
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+
+import javax.inject.Inject;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cache.RedisCacheCodec;
+import io.quarkus.redis.client.RedisClient;
+import io.quarkus.test.junit.QuarkusTest;
+import io.vertx.redis.client.Response;
+
+/**
+ * The test methods play the role of another replica of the application: they read and write the Redis keys and publish
+ * invalidation messages directly.
+ */
+@QuarkusTest
+public class CacheRedisTest {
+
+    private static final String KEY_PREFIX = "cache-it:6:fruits:";
+    private static final String CHANNEL = "cache-it:invalidations";
+
+    @Inject
+    RedisClient redisClient;
+
+    @Inject
+    RedisCacheCodec codec;
+
+    @BeforeEach
+    public void invalidateAll() {
+        when().delete("/fruits").then().statusCode(204);
+    }
+
+    @Test
+    public void testEntryStoredInRedis() {
+        when().get("/fruits/apple").then().statusCode(200).body(is("apple:1"));
+        Response stored = redisClient.get(KEY_PREFIX + "s:apple");
+        assertNotNull(stored);
+        Fruit fruit = (Fruit) codec.decodeValue(FruitService.CACHE_NAME, stored.toString());
+        assertEquals("apple", fruit.getName());
+        assertEquals(1, fruit.getVersion());
+
+        // The value is served by the near-cache.
+        when().get("/fruits/apple").then().statusCode(200).body(is("apple:1"));
+
+        when().delete("/fruits/apple").then().statusCode(204);
+        assertNull(redisClient.get(KEY_PREFIX + "s:apple"));
+        when().get("/fruits/apple").then().statusCode(200).body(is("apple:2"));
+    }
+
+    @Test
+    public void testEntryLoadedFromRedis() {
+        redisClient.set(Arrays.asList(KEY_PREFIX + "s:banana",
+                codec.encodeValue(FruitService.CACHE_NAME, new Fruit("banana", 42))));
+        when().get("/fruits/banana").then().statusCode(200).body(is("banana:42"));
+    }
+
+    @Test
+    public void testInvalidationFromAnotherReplica() {
+        when().get("/fruits/cherry").then().statusCode(200).body(is("cherry:1"));
+
+        redisClient.set(Arrays.asList(KEY_PREFIX + "s:cherry",
+                codec.encodeValue(FruitService.CACHE_NAME, new Fruit("cherry", 42))));
+        // The near-cache is not aware of the new value until the entry is invalidated.
+        when().get("/fruits/cherry").then().statusCode(200).body(is("cherry:1"));
+
+        redisClient.publish(CHANNEL, "6:fruitss:cherry");
+        Awaitility.await().atMost(Duration.ofSeconds(10)).untilAsserted(
+                () -> when().get("/fruits/cherry").then().statusCode(200).body(is("cherry:42")));
+
+        redisClient.del(Collections.singletonList(KEY_PREFIX + "s:cherry"));
+        redisClient.publish(CHANNEL, "6:fruits");
+        Awaitility.await().atMost(Duration.ofSeconds(10)).untilAsserted(
+                () -> when().get("/fruits/cherry").then().statusCode(200).body(is("cherry:2")));
+    }
+
+    @Test
+    public void testMalformedInvalidationsIgnored() {
+        when().get("/fruits/date").then().statusCode(200).body(is("date:1"));
+        for (String message : Arrays.asList("", "fruits", "foo:fruits", "60:fruits", "-1:fruits", "6:fruit",
+                "6:fruitsrO0ABXNyABFqYXZhLmxhbmcuSW50ZWdlcg==")) {
+            redisClient.publish(CHANNEL, message);
+        }
+        // A valid message published after the malformed ones is still applied.
+        redisClient.del(Collections.singletonList(KEY_PREFIX + "s:date"));
+        redisClient.publish(CHANNEL, "6:fruitss:date");
+        Awaitility.await().atMost(Duration.ofSeconds(10)).untilAsserted(
+                () -> when().get("/fruits/date").then().statusCode(200).body(is("date:2")));
+    }
+
+    @Test
+    public void testRejectedPayloadIgnored() throws IOException {
+        // A serialized object of a class which is not allowed is never deserialized.
+        redisClient.set(Arrays.asList(KEY_PREFIX + "s:fig", serialize(new NotAllowed())));
+        when().get("/fruits/fig").then().statusCode(200).body(is("fig:1"));
+        assertEquals(1, ((Fruit) codec.decodeValue(FruitService.CACHE_NAME,
+                redisClient.get(KEY_PREFIX + "s:fig").toString())).getVersion());
+
+        redisClient.set(Arrays.asList(KEY_PREFIX + "s:grape", "not a serialized object"));
+        when().get("/fruits/grape").then().statusCode(200).body(is("grape:1"));
+    }
+
+    @Test
+    public void testInvalidateAll() {
+        when().get("/fruits/kiwi").then().statusCode(200).body(is("kiwi:1"));
+        when().get("/fruits/lemon").then().statusCode(200).body(is("lemon:1"));
+        // The keys of another cache whose name starts with the same characters are kept.
+        redisClient.set(Arrays.asList("cache-it:7:fruits2:s:kiwi", "foo"));
+
+        when().delete("/fruits").then().statusCode(204);
+        assertNull(redisClient.get(KEY_PREFIX + "s:kiwi"));
+        assertNull(redisClient.get(KEY_PREFIX + "s:lemon"));
+        assertEquals("foo", redisClient.get("cache-it:7:fruits2:s:kiwi").toString());
+        redisClient.del(Collections.singletonList("cache-it:7:fruits2:s:kiwi"));
+
+        when().get("/fruits/kiwi").then().statusCode(200).body(is("kiwi:2"));
+    }
+
+    private static String serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    public static class NotAllowed implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -381,6 +381,50 @@ public class JarRunnerIT extends MojoTestBase {
 
     }
 
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_13)
+    public void testThatAppCDSFromTrainingRunAreUsable() throws Exception {
+        File testDir = initProject("projects/classic", "projects/project-classic-console-output-appcds-training");
+        RunningInvoker running = new RunningInvoker(testDir, false);
+
+        MavenProcessInvocationResult result = running
+                .execute(Arrays.asList("package", "-DskipTests", "-Dquarkus.package.create-appcds=true",
+                        "-Dquarkus.package.appcds-training-run=true",
+                        "-Dquarkus.package.appcds-training-urls=/app/hello/package"),
+                        Collections.emptyMap());
+
+        await().atMost(2, TimeUnit.MINUTES).until(() -> result.getProcess() != null && !result.getProcess().isAlive());
+        assertThat(running.log()).containsIgnoringCase("BUILD SUCCESS");
+        assertThat(running.log()).contains("AppCDS training run: the application started in");
+        running.stop();
+
+        assertThat(testDir.toPath().resolve("target/appcds/training-run-report.properties")).exists();
+        Path jar = testDir.toPath().toAbsolutePath()
+                .resolve(Paths.get("target/quarkus-app/quarkus-run.jar"));
+        File output = new File(testDir, "target/output.log");
+        output.createNewFile();
+
+        // by using '-Xshare:on' we ensure that the JVM will fail if for any reason is cannot use the AppCDS
+        Process process = doLaunch(jar.getFileName(), output,
+                Arrays.asList("-XX:SharedArchiveFile=app-cds.jsa", "-Xshare:on", "-Xlog:class+path=info"))
+                        .directory(jar.getParent().toFile()).start();
+        try {
+            // Wait until server up
+            dumpFileContentOnFailure(() -> {
+                await()
+                        .pollDelay(1, TimeUnit.SECONDS)
+                        .atMost(1, TimeUnit.MINUTES).until(() -> DevModeTestUtils.getHttpResponse("/app/hello/package", 200));
+                return null;
+            }, output, ConditionTimeoutException.class);
+
+            String logs = FileUtils.readFileToString(output, "UTF-8");
+
+            assertThatOutputWorksCorrectly(logs);
+        } finally {
+            process.destroy();
+        }
+    }
+
     /**
      * Tests that quarkus.arc.exclude-dependency.* can be used for modules in a multimodule project
      */